@@ -0,0 +1,61 @@
+package com.MAVLink.benchmarks;
+
+import com.MAVLink.Messages.CRC;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checksum cost over one frame's worth of bytes, fed one byte at a time (as
+ * the per-byte parser does) and as one block (as encodePacket and the bulk
+ * parser do).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CRCBenchmark {
+
+	// header + payload sizes of a heartbeat, a highres_imu and a full MAVLink 2 frame
+	@Param({"14", "71", "289"})
+	public int length;
+
+	private byte[] data;
+	private CRC crc;
+
+	@Setup
+	public void setup() {
+		data = new byte[length];
+		new Random(SyntheticStreams.SEED).nextBytes(data);
+		crc = new CRC();
+	}
+
+	@Benchmark
+	public int perByte() {
+		crc.start_checksum();
+		for (int i = 0; i < data.length; i++) {
+			crc.update_checksum(data[i] & 0xFF);
+		}
+		return crc.getValue();
+	}
+
+	@Benchmark
+	public int bulk() {
+		crc.start_checksum();
+		crc.update_checksum(data, 0, data.length);
+		return crc.getValue();
+	}
+}
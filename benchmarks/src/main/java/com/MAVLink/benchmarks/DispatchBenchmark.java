@@ -0,0 +1,114 @@
+package com.MAVLink.benchmarks;
+
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.Subscribe;
+import com.yuji.uav.comm.mav.MAVLinkDispatcher;
+import com.yuji.uav.comm.mav.MAVLinkGuavaDispatcher;
+import com.yuji.uav.comm.mav.MAVLinkRingBufferDispatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cost of delivering received messages to the bus subscribers: Guava's
+ * AsyncEventBus on a cached thread pool (the asynchronous bus) against the
+ * ring buffer dispatcher with each wait strategy. Every invocation posts a
+ * batch of messages of the synthetic telemetry mix and waits until each of
+ * the subscribers has handled all of them, so the result is the time per
+ * message from post() to the last subscriber, including the hand-off.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+
+	private static final int BATCH = 1024;
+
+	public enum Dispatcher {
+		GUAVA_ASYNC, RING_BLOCKING, RING_SLEEPING, RING_YIELDING, RING_BUSY_SPIN
+	}
+
+	@Param
+	public Dispatcher dispatcher;
+
+	@Param({ "1", "4" })
+	public int subscribers;
+
+	private MAVLinkDispatcher bus;
+	private MAVLinkMessage[] messages;
+	private final AtomicLong handled = new AtomicLong();
+	private long expected;
+
+	/**
+	 * Counts the messages; a ground station subscriber taking every message
+	 */
+	public class Counter {
+
+		@Subscribe
+		@AllowConcurrentEvents
+		public void receive(MAVLinkMessage message) {
+			handled.incrementAndGet();
+		}
+	}
+
+	@Setup
+	public void setup() {
+		switch (dispatcher) {
+		case GUAVA_ASYNC:
+			bus = new MAVLinkGuavaDispatcher(true, "benchmark");
+			break;
+		default:
+			MAVLinkRingBufferDispatcher.WaitStrategy strategy = MAVLinkRingBufferDispatcher.WaitStrategy
+					.valueOf(dispatcher.name().substring("RING_".length()));
+			bus = new MAVLinkRingBufferDispatcher("benchmark", MAVLinkRingBufferDispatcher.DEFAULT_CAPACITY,
+					subscribers, strategy);
+		}
+		for (int i = 0; i < subscribers; i++) {
+			bus.register(new Counter());
+		}
+		Random random = new Random(SyntheticStreams.SEED);
+		SyntheticStreams.Message[] mix = SyntheticStreams.Message.values();
+		messages = new MAVLinkMessage[BATCH];
+		for (int i = 0; i < BATCH; i++) {
+			MAVLinkPacket packet = SyntheticStreams.packet(mix[i % mix.length].msgid, random);
+			messages[i] = packet.unpack();
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		bus.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public long postBatch() {
+		for (MAVLinkMessage message : messages) {
+			bus.post(message);
+		}
+		expected += (long) BATCH * subscribers;
+		while (handled.get() < expected) {
+			Thread.yield();
+		}
+		return expected;
+	}
+}
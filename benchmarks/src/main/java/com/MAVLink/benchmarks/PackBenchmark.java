@@ -0,0 +1,51 @@
+package com.MAVLink.benchmarks;
+
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkPacket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a message into wire bytes, as done for every command
+ * sent to the vehicle: pack() followed by encodePacket().
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PackBenchmark {
+
+	@Param
+	public SyntheticStreams.Message message;
+
+	@Param({"false", "true"})
+	public boolean mavlink2;
+
+	private MAVLinkMessage source;
+
+	@Setup
+	public void setup() {
+		source = SyntheticStreams.packet(message.msgid, new Random(SyntheticStreams.SEED)).unpack();
+	}
+
+	@Benchmark
+	public byte[] packAndEncode() {
+		MAVLinkPacket packet = source.pack();
+		packet.isMavlink2 = mavlink2;
+		return packet.encodePacket();
+	}
+}
@@ -0,0 +1,81 @@
+package com.MAVLink.benchmarks;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkPacketPool;
+import com.MAVLink.PacketSink;
+import com.MAVLink.Parser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parser throughput over a 64 KiB synthetic telemetry stream, reported per
+ * input byte. parseChar is the byte-at-a-time path used by existing
+ * callers, parseBulk the ByteBuffer path used by the serial readers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(ParserBenchmark.STREAM_SIZE)
+public class ParserBenchmark implements PacketSink {
+
+	static final int STREAM_SIZE = 64 * 1024;
+
+	@Param({"false", "true"})
+	public boolean mavlink2;
+
+	private byte[] stream;
+	private ByteBuffer buffer;
+	private Parser parser;
+	private Blackhole blackhole;
+
+	@Setup
+	public void setup(Blackhole blackhole) {
+		this.blackhole = blackhole;
+		// trim to STREAM_SIZE so the per-byte score is exact; the cut frame at the end is skipped by the parser
+		byte[] generated = SyntheticStreams.telemetry(STREAM_SIZE, mavlink2);
+		stream = new byte[STREAM_SIZE];
+		System.arraycopy(generated, 0, stream, 0, STREAM_SIZE);
+		buffer = ByteBuffer.wrap(stream);
+		parser = new Parser(new MAVLinkPacketPool());
+	}
+
+	@Benchmark
+	public void parseChar() {
+		byte[] bytes = stream;
+		for (int i = 0; i < bytes.length; i++) {
+			MAVLinkPacket packet = parser.mavlink_parse_char(bytes[i] & 0xFF);
+			if (packet != null) {
+				onPacket(packet);
+			}
+		}
+	}
+
+	@Benchmark
+	public void parseBulk() {
+		buffer.clear();
+		parser.parse(buffer, this);
+	}
+
+	@Override
+	public void onPacket(MAVLinkPacket packet) {
+		blackhole.consume(packet.msgid);
+		packet.release();
+	}
+}
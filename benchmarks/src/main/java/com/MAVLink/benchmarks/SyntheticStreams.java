@@ -0,0 +1,99 @@
+package com.MAVLink.benchmarks;
+
+import com.MAVLink.Messages.MAVLinkMessageRegistry;
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.ardupilotmega.msg_attitude;
+import com.MAVLink.Messages.ardupilotmega.msg_encapsulated_data;
+import com.MAVLink.Messages.ardupilotmega.msg_global_position_int;
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+import com.MAVLink.Messages.ardupilotmega.msg_highres_imu;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+
+/**
+ * Generates the synthetic MAVLink traffic the benchmarks run on. Payloads
+ * are random bytes, so the benchmarks need no autopilot and no recorded
+ * logs, and the same seed always gives the same stream.
+ */
+final class SyntheticStreams {
+
+	/**
+	 * The representative messages, from the smallest to the largest payload
+	 */
+	enum Message {
+		HEARTBEAT(msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT),
+		ATTITUDE(msg_attitude.MAVLINK_MSG_ID_ATTITUDE),
+		GLOBAL_POSITION_INT(msg_global_position_int.MAVLINK_MSG_ID_GLOBAL_POSITION_INT),
+		HIGHRES_IMU(msg_highres_imu.MAVLINK_MSG_ID_HIGHRES_IMU),
+		ENCAPSULATED_DATA(msg_encapsulated_data.MAVLINK_MSG_ID_ENCAPSULATED_DATA);
+
+		final int msgid;
+
+		Message(int msgid) {
+			this.msgid = msgid;
+		}
+	}
+
+	static final long SEED = 0x4D41564CL;
+
+	private SyntheticStreams() {
+	}
+
+	/**
+	 * @return an unencoded packet of the given type with a random payload
+	 */
+	static MAVLinkPacket packet(int msgid, Random random) {
+		int length = MAVLinkMessageRegistry.getDefault().getLength(msgid);
+		byte[] data = new byte[length];
+		random.nextBytes(data);
+		MAVLinkPacket packet = new MAVLinkPacket();
+		packet.len = length;
+		packet.sysid = 1;
+		packet.compid = 1;
+		packet.msgid = msgid;
+		packet.payload.putBytes(data);
+		return packet;
+	}
+
+	/**
+	 * @return one encoded frame of the given type with a random payload
+	 */
+	static byte[] frame(int msgid, boolean mavlink2, Random random) {
+		MAVLinkPacket packet = packet(msgid, random);
+		packet.isMavlink2 = mavlink2;
+		return packet.encodePacket();
+	}
+
+	/**
+	 * @return a stream of about the given size holding the representative
+	 *         messages in a telemetry-like mix (mostly attitude and IMU, now
+	 *         and then a heartbeat or a block of encapsulated data)
+	 */
+	static byte[] telemetry(int size, boolean mavlink2) {
+		Random random = new Random(SEED);
+		ByteArrayOutputStream out = new ByteArrayOutputStream(size + 512);
+		int seq = 0;
+		while (out.size() < size) {
+			int pick = random.nextInt(20);
+			Message message;
+			if (pick == 0) {
+				message = Message.HEARTBEAT;
+			} else if (pick == 1) {
+				message = Message.ENCAPSULATED_DATA;
+			} else if (pick < 8) {
+				message = Message.ATTITUDE;
+			} else if (pick < 12) {
+				message = Message.GLOBAL_POSITION_INT;
+			} else {
+				message = Message.HIGHRES_IMU;
+			}
+			MAVLinkPacket packet = packet(message.msgid, random);
+			packet.seq = seq++ & 0xFF;
+			packet.isMavlink2 = mavlink2;
+			byte[] frame = packet.encodePacket();
+			out.write(frame, 0, frame.length);
+		}
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,54 @@
+package com.MAVLink.benchmarks;
+
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageRegistry;
+import com.MAVLink.Messages.MAVLinkPacket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of decoding one received packet into a message: unpack() allocates
+ * a new message per packet, decodeInto() overwrites a reused one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnpackBenchmark {
+
+	@Param
+	public SyntheticStreams.Message message;
+
+	private MAVLinkPacket packet;
+	private MAVLinkMessage reuse;
+
+	@Setup
+	public void setup() {
+		packet = SyntheticStreams.packet(message.msgid, new Random(SyntheticStreams.SEED));
+		reuse = MAVLinkMessageRegistry.getDefault().create(message.msgid);
+	}
+
+	@Benchmark
+	public MAVLinkMessage unpack() {
+		return packet.unpack();
+	}
+
+	@Benchmark
+	public MAVLinkMessage decodeInto() {
+		return MAVLinkMessageRegistry.getDefault().decodeInto(packet, reuse);
+	}
+}
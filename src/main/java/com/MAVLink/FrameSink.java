@@ -0,0 +1,31 @@
+package com.MAVLink;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Receives the frames found by
+ * {@link Parser#parseFrames(java.nio.ByteBuffer, FrameSink)}: the decoded
+ * packet together with the bytes of the frame as received, e.g. to forward
+ * the frame to another link without encoding it again.
+ */
+public interface FrameSink {
+
+	/**
+	 * Called once for every complete, checksum-verified frame, in the order
+	 * the frames appear in the input. If the parser uses a MAVLinkPacketPool
+	 * the packet must be released by the sink when it is no longer needed.
+	 * 
+	 * @param packet
+	 *            the decoded packet (header fields and payload)
+	 * @param frame
+	 *            the buffer holding the frame; its position and limit must
+	 *            not be changed. The bytes are only valid during the call.
+	 * @param offset
+	 *            index of the start sign of the frame in the buffer
+	 * @param length
+	 *            number of bytes of the frame, signature included
+	 */
+	void onFrame(MAVLinkPacket packet, ByteBuffer frame, int offset, int length);
+}
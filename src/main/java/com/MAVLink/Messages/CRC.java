@@ -1,16 +1,107 @@
  package com.MAVLink.Messages;
 
+import java.nio.ByteBuffer;
+
 /**
  * X.25 CRC calculation for MAVlink messages. The checksum must be initialized,
  * updated with witch field of the message, and then finished with the message
  * id.
  * 
+ * The static methods are a stateless, table-driven implementation that take
+ * and return the accumulated checksum, so a checksum can be computed without
+ * creating a CRC object. Instances simply hold the accumulated value.
+ * 
  */
 public class CRC {
-	private final int[] MAVLINK_MESSAGE_CRCS = {50, 124, 137, 0, 237, 217, 104, 119, 0, 0, 0, 89, 0, 0, 0, 0, 0, 0, 0, 0, 214, 159, 220, 168, 24, 23, 170, 144, 67, 115, 39, 246, 185, 104, 237, 244, 222, 212, 9, 254, 230, 28, 28, 132, 221, 232, 11, 153, 41, 39, 214, 223, 141, 33, 15, 3, 100, 24, 239, 238, 30, 240, 183, 130, 130, 118, 148, 21, 0, 243, 124, 0, 0, 0, 20, 0, 152, 143, 0, 0, 127, 106, 0, 0, 0, 0, 0, 0, 0, 231, 183, 63, 54, 0, 0, 0, 0, 0, 0, 0, 175, 102, 158, 208, 56, 93, 211, 108, 32, 185, 235, 93, 124, 124, 119, 4, 76, 128, 56, 116, 134, 237, 203, 250, 87, 203, 220, 0, 0, 0, 29, 223, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 177, 241, 15, 134, 219, 208, 188, 84, 22, 19, 21, 134, 0, 78, 68, 189, 127, 111, 21, 21, 144, 1, 234, 73, 181, 22, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 204, 49, 170, 44, 83, 46, 0};
-	private static final int CRC_INIT_VALUE = 0xffff;
+	private static final int[] MAVLINK_MESSAGE_CRCS = {50, 124, 137, 0, 237, 217, 104, 119, 0, 0, 0, 89, 0, 0, 0, 0, 0, 0, 0, 0, 214, 159, 220, 168, 24, 23, 170, 144, 67, 115, 39, 246, 185, 104, 237, 244, 222, 212, 9, 254, 230, 28, 28, 132, 221, 232, 11, 153, 41, 39, 214, 223, 141, 33, 15, 3, 100, 24, 239, 238, 30, 240, 183, 130, 130, 118, 148, 21, 0, 243, 124, 0, 0, 0, 20, 0, 152, 143, 0, 0, 127, 106, 0, 0, 0, 0, 0, 0, 0, 231, 183, 63, 54, 0, 0, 0, 0, 0, 0, 0, 175, 102, 158, 208, 56, 93, 211, 108, 32, 185, 235, 93, 124, 124, 119, 4, 76, 128, 56, 116, 134, 237, 203, 250, 87, 203, 220, 0, 0, 0, 29, 223, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 177, 241, 15, 134, 219, 208, 188, 84, 22, 19, 21, 134, 0, 78, 68, 189, 127, 111, 21, 21, 144, 1, 234, 73, 181, 22, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 204, 49, 170, 44, 83, 46, 0};
+	public static final int CRC_INIT_VALUE = 0xffff;
+
+	/**
+	 * Lookup table for the reflected CCITT polynomial (0x8408), one entry per
+	 * possible value of the low checksum byte xor the data byte
+	 */
+	private static final int[] CRC_TABLE = new int[256];
+
+	static {
+		for (int i = 0; i < 256; i++) {
+			int crc = i;
+			for (int bit = 0; bit < 8; bit++) {
+				crc = (crc & 1) != 0 ? (crc >>> 1) ^ 0x8408 : crc >>> 1;
+			}
+			CRC_TABLE[i] = crc;
+		}
+	}
+
 	private int CRCvalue;	
 
+	/**
+	 * Accumulate one byte into a X.25 checksum
+	 * 
+	 * @param data
+	 *            new byte to hash, only the low 8 bits are used
+	 * @param crc
+	 *            the already accumulated checksum
+	 * @return the new checksum
+	 */
+	public static int accumulate(int data, int crc) {
+		return (crc >>> 8) ^ CRC_TABLE[(crc ^ data) & 0xff];
+	}
+
+	/**
+	 * Accumulate a range of bytes into a X.25 checksum
+	 * 
+	 * @param crc
+	 *            the already accumulated checksum
+	 * @return the new checksum
+	 */
+	public static int update(int crc, byte[] buf, int off, int len) {
+		int end = off + len;
+		for (int i = off; i < end; i++) {
+			crc = (crc >>> 8) ^ CRC_TABLE[(crc ^ buf[i]) & 0xff];
+		}
+		return crc;
+	}
+
+	/**
+	 * Accumulate the remaining bytes of a buffer into a X.25 checksum. The
+	 * position of the buffer is advanced to its limit.
+	 * 
+	 * @param crc
+	 *            the already accumulated checksum
+	 * @return the new checksum
+	 */
+	public static int update(int crc, ByteBuffer buf) {
+		if (buf.hasArray()) {
+			int pos = buf.position();
+			crc = update(crc, buf.array(), buf.arrayOffset() + pos, buf.limit() - pos);
+			buf.position(buf.limit());
+			return crc;
+		}
+		while (buf.hasRemaining()) {
+			crc = (crc >>> 8) ^ CRC_TABLE[(crc ^ buf.get()) & 0xff];
+		}
+		return crc;
+	}
+
+	/**
+	 * @return the MAVLINK_CRC_EXTRA seed of the given message id, or 0 for an
+	 *         id this library does not know. The MAVLinkMessageRegistry is
+	 *         looked up first, so that a message type registered in place of
+	 *         a built-in one brings its own seed; the built-in table is the
+	 *         fallback for the ids it does not hold.
+	 */
+	public static int crcExtra(int msgid) {
+		MAVLinkMessageRegistry registry = MAVLinkMessageRegistry.getDefault();
+		int crcExtra = registry.getCrcExtra(msgid);
+		if (crcExtra != 0 || registry.isRegistered(msgid)) {
+			return crcExtra;
+		}
+		if (msgid >= 0 && msgid < MAVLINK_MESSAGE_CRCS.length) {
+			return MAVLINK_MESSAGE_CRCS[msgid];
+		}
+		return 0;
+	}
+
 	/**
 	 * Accumulate the X.25 CRC by adding one char at a time.
 	 * 
@@ -19,16 +110,23 @@ public class CRC {
 	 * 
 	 * @param data
 	 *            new char to hash
-	 * @param crcAccum
-	 *            the already accumulated checksum
 	 **/
 	public  void update_checksum(int data) {
-		int tmp;
-		data= data & 0xff;	//cast because we want an unsigned type
-		tmp = data ^ (CRCvalue & 0xff);
-		tmp ^= (tmp << 4) & 0xff;
-		CRCvalue = ((CRCvalue >> 8) & 0xff) ^ (tmp << 8) ^ (tmp << 3)
-				^ ((tmp >> 4) & 0xf);
+		CRCvalue = (CRCvalue >>> 8) ^ CRC_TABLE[(CRCvalue ^ data) & 0xff];
+	}
+
+	/**
+	 * Accumulate a range of bytes
+	 */
+	public void update_checksum(byte[] buf, int off, int len) {
+		CRCvalue = update(CRCvalue, buf, off, len);
+	}
+
+	/**
+	 * Accumulate the remaining bytes of the buffer, advancing its position
+	 */
+	public void update_checksum(ByteBuffer buf) {
+		CRCvalue = update(CRCvalue, buf);
 	}
 
 	/**
@@ -39,7 +137,7 @@ public class CRC {
 	 *            The message id number
 	 */
 	public  void finish_checksum(int msgid) {
-		update_checksum(MAVLINK_MESSAGE_CRCS[msgid]);
+		update_checksum(crcExtra(msgid));
 	}
 
 	/**
@@ -58,6 +156,13 @@ public class CRC {
 		return (CRCvalue & 0xff);
 	}
 
+	/**
+	 * @return the 16 bit checksum
+	 */
+	public int getValue() {
+		return CRCvalue;
+	}
+
 	public CRC() {
 		start_checksum();
 	}
@@ -0,0 +1,205 @@
+package com.MAVLink.Messages;
+
+import com.MAVLink.Messages.ardupilotmega.ArdupilotmegaMessages;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Table of the MAVLink message types known to this library, indexed by
+ * message id. For every id it holds a factory for the message class, the
+ * message length and the MAVLINK_CRC_EXTRA seed.
+ *
+ * The default registry contains the ardupilotmega dialect. Vendors and other
+ * dialects can add message types at runtime with
+ * {@link #register(int, int, int, Supplier)}; the message class only has to
+ * implement MAVLinkMessage.unpack(). Lookups are two array reads, so the table
+ * covers the full 24-bit MAVLink 2 id range without hashing.
+ */
+public class MAVLinkMessageRegistry {
+
+	private static final int PAGE_BITS = 12;
+	private static final int PAGE_SIZE = 1 << PAGE_BITS;
+	private static final int MAX_MSGID = (1 << 24) - 1;
+
+	private static final MAVLinkMessageRegistry DEFAULT = new MAVLinkMessageRegistry();
+
+	static {
+		ArdupilotmegaMessages.register(DEFAULT);
+	}
+
+	/**
+	 * Everything known about one message id
+	 */
+	private static final class Entry {
+		final Supplier<? extends MAVLinkMessage> factory;
+		final int length;
+		final int crcExtra;
+
+		Entry(Supplier<? extends MAVLinkMessage> factory, int length, int crcExtra) {
+			this.factory = factory;
+			this.length = length;
+			this.crcExtra = crcExtra;
+		}
+	}
+
+	// pages of PAGE_SIZE entries, allocated when the first id of the page is registered
+	private volatile Entry[][] pages = new Entry[(MAX_MSGID >> PAGE_BITS) + 1][];
+
+	private final AtomicLong unknownMessageCount = new AtomicLong();
+
+	/**
+	 * @return the registry used by MAVLinkPacket.unpack()
+	 */
+	public static MAVLinkMessageRegistry getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Add (or replace) a message type
+	 *
+	 * @param msgid
+	 *            the message id, 0 to 16777215
+	 * @param length
+	 *            the full payload length of the message
+	 * @param crcExtra
+	 *            the MAVLINK_CRC_EXTRA seed of the message
+	 * @param factory
+	 *            creates an empty message of this type
+	 */
+	public synchronized void register(int msgid, int length, int crcExtra, Supplier<? extends MAVLinkMessage> factory) {
+		if (msgid < 0 || msgid > MAX_MSGID) {
+			throw new IllegalArgumentException("msgid out of range: " + msgid);
+		}
+		Entry[][] table = pages;
+		Entry[] page = table[msgid >> PAGE_BITS];
+		if (page == null) {
+			page = new Entry[PAGE_SIZE];
+			table[msgid >> PAGE_BITS] = page;
+		}
+		page[msgid & (PAGE_SIZE - 1)] = new Entry(factory, length, crcExtra & 0xFF);
+		// volatile write publishes the new entry to readers
+		pages = table;
+	}
+
+	/**
+	 * Remove a message type; packets with this id are unknown again (or,
+	 * for an id of the generated dialect, checked against its built-in
+	 * CRC_EXTRA seed, see CRC.crcExtra())
+	 *
+	 * @param msgid
+	 *            the message id
+	 * @return true if a message type was registered for the id
+	 */
+	public synchronized boolean unregister(int msgid) {
+		if (msgid < 0 || msgid > MAX_MSGID) {
+			return false;
+		}
+		Entry[][] table = pages;
+		Entry[] page = table[msgid >> PAGE_BITS];
+		if (page == null || page[msgid & (PAGE_SIZE - 1)] == null) {
+			return false;
+		}
+		page[msgid & (PAGE_SIZE - 1)] = null;
+		// volatile write publishes the removal to readers
+		pages = table;
+		return true;
+	}
+
+	private Entry entry(int msgid) {
+		if (msgid < 0 || msgid > MAX_MSGID) {
+			return null;
+		}
+		Entry[] page = pages[msgid >> PAGE_BITS];
+		return page == null ? null : page[msgid & (PAGE_SIZE - 1)];
+	}
+
+	/**
+	 * @return true if the message id has a registered type
+	 */
+	public boolean isRegistered(int msgid) {
+		return entry(msgid) != null;
+	}
+
+	/**
+	 * @return the payload length of the message, or -1 if it is not registered
+	 */
+	public int getLength(int msgid) {
+		Entry entry = entry(msgid);
+		return entry == null ? -1 : entry.length;
+	}
+
+	/**
+	 * @return the MAVLINK_CRC_EXTRA seed of the message, or 0 if it is not
+	 *         registered
+	 */
+	public int getCrcExtra(int msgid) {
+		Entry entry = entry(msgid);
+		return entry == null ? 0 : entry.crcExtra;
+	}
+
+	/**
+	 * @return a new, empty message of the given type, or null if it is not
+	 *         registered
+	 */
+	public MAVLinkMessage create(int msgid) {
+		Entry entry = entry(msgid);
+		if (entry == null) {
+			return null;
+		}
+		MAVLinkMessage message = entry.factory.get();
+		message.msgid = msgid;
+		return message;
+	}
+
+	/**
+	 * Decode a packet into a new message of the matching type
+	 *
+	 * @return the message, or null if the message id is not registered. Such
+	 *         packets are counted in {@link #getUnknownMessageCount()}.
+	 */
+	public MAVLinkMessage decode(MAVLinkPacket packet) {
+		Entry entry = entry(packet.msgid);
+		if (entry == null) {
+			unknownMessageCount.incrementAndGet();
+			return null;
+		}
+		MAVLinkMessage message = entry.factory.get();
+		return fill(packet, message);
+	}
+
+	/**
+	 * Decode a packet into an existing message, so a receive loop can reuse
+	 * one instance per message type instead of allocating one per packet
+	 *
+	 * @param packet
+	 *            the packet to decode
+	 * @param reuse
+	 *            the message to overwrite; must be of the packet's type
+	 * @return reuse, holding the packet's fields
+	 * @throws IllegalArgumentException
+	 *             if the message is not of the packet's type
+	 */
+	public <T extends MAVLinkMessage> T decodeInto(MAVLinkPacket packet, T reuse) {
+		if (reuse.msgid != packet.msgid) {
+			throw new IllegalArgumentException("cannot decode msgid " + packet.msgid + " into " + reuse.getClass().getName());
+		}
+		return fill(packet, reuse);
+	}
+
+	private static <T extends MAVLinkMessage> T fill(MAVLinkPacket packet, T message) {
+		message.sysid = packet.sysid;
+		message.compid = packet.compid;
+		message.msgid = packet.msgid;
+		message.unpack(packet.payload);
+		return message;
+	}
+
+	/**
+	 * @return the number of packets passed to decode() whose message id was
+	 *         not registered
+	 */
+	public long getUnknownMessageCount() {
+		return unknownMessageCount.get();
+	}
+}
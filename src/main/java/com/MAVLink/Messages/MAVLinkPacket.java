@@ -2,10 +2,6 @@ package com.MAVLink.Messages;
 
 import java.io.Serializable;
 
-//import android.util.Log;
-
-import com.MAVLink.Messages.ardupilotmega.*;
-
 /**
  * Common interface for all MAVLink Messages
  * Packet Anatomy
@@ -25,12 +21,39 @@ import com.MAVLink.Messages.ardupilotmega.*;
  * The minimum packet length is 8 bytes for acknowledgement packets without payload
  * The maximum packet length is 263 bytes for full payload
  * 
+ * MAVLink 2 packets start with 0xFD and have a 10 byte header
+ * 0            Packet start sign  v2.0: 0xFD
+ * 1            Payload length      0 - 255     Length of the payload after trailing zero bytes have been removed
+ * 2            Incompat flags                  Flags that must be understood to parse the packet (0x01: signed)
+ * 3            Compat flags                    Flags that can be ignored if not understood
+ * 4            Packet sequence     0 - 255
+ * 5            System ID           1 - 255
+ * 6            Component ID        0 - 255
+ * 7 to 9       Message ID          0 - 16777215 (low byte first)
+ * 10 to (n+10) Payload
+ * (n+10)to(n+11) Checksum
+ * (n+12)to(n+24) Signature (only if the signed incompat flag is set)
  *
  */
 public class MAVLinkPacket implements Serializable {
 	private static final long serialVersionUID = 2095947771227815314L;
 	
 	public static final int MAVLINK_STX = 254;
+	public static final int MAVLINK_STX_MAVLINK2 = 253;
+
+	public static final int MAVLINK_HEADER_LEN = 6;
+	public static final int MAVLINK2_HEADER_LEN = 10;
+	public static final int MAVLINK_SIGNATURE_BLOCK_LEN = 13;
+
+	/**
+	 * The longest encoded packet: a signed MAVLink 2 packet with a 255 byte payload
+	 */
+	public static final int MAVLINK_MAX_PACKET_LEN = MAVLINK2_HEADER_LEN + 255 + 2 + MAVLINK_SIGNATURE_BLOCK_LEN;
+
+	/**
+	 * Incompat flag of a MAVLink 2 packet that carries a signature
+	 */
+	public static final int MAVLINK_IFLAG_SIGNED = 0x01;
 	
 	/**
 	 * Message length. NOT counting STX, LENGTH, SEQ, SYSID, COMPID, MSGID, CRC1 and CRC2
@@ -55,6 +78,23 @@ public class MAVLinkPacket implements Serializable {
 	 * should be correctly decoded.
 	 */
 	public int msgid;
+	/**
+	 * True if this packet is (or will be encoded as) a MAVLink 2 packet
+	 */
+	public boolean isMavlink2;
+	/**
+	 * MAVLink 2 flags that must be understood to parse the packet
+	 */
+	public int incompatFlags;
+	/**
+	 * MAVLink 2 flags that may be ignored
+	 */
+	public int compatFlags;
+	/**
+	 * The 13 byte MAVLink 2 signature block (link id, timestamp, signature)
+	 * of a received signed packet, or null if none has been received
+	 */
+	public byte[] signature;
 	/**
 	 * Data of the message, depends on the message id.
 	 */
@@ -66,9 +106,46 @@ public class MAVLinkPacket implements Serializable {
 	 * the same packet but with different variables).
 	 */
 	public CRC crc;	
+
+	/**
+	 * Pool this packet belongs to, or null for a plain packet
+	 */
+	transient MAVLinkPacketPool pool;
+	/**
+	 * True while this packet is borrowed from its pool
+	 */
+	transient boolean pooled;
 	
 	public MAVLinkPacket(){
 		payload = new MAVLinkPayload();
+		crc = new CRC();
+	}
+
+	/**
+	 * Clear this packet so it can hold a new frame
+	 */
+	public void reset() {
+		len = 0;
+		seq = 0;
+		sysid = 0;
+		compid = 0;
+		msgid = 0;
+		isMavlink2 = false;
+		incompatFlags = 0;
+		compatFlags = 0;
+		payload.reset();
+		crc.start_checksum();
+	}
+
+	/**
+	 * Give this packet back to the pool it was borrowed from. The packet (and
+	 * its payload) must not be used after this call. Does nothing for packets
+	 * that were not borrowed from a MAVLinkPacketPool.
+	 */
+	public void release() {
+		if (pool != null) {
+			pool.release(this);
+		}
 	}
 	
 	/**
@@ -87,309 +164,210 @@ public class MAVLinkPacket implements Serializable {
 	 * Update CRC for this packet.
 	 */
 	public void generateCRC(){
-		crc = new CRC();
-		crc.update_checksum(len);
+		generateCRC(len);
+	}
+
+	/**
+	 * Update CRC for this packet, hashing only the first payloadLength bytes
+	 * of the payload
+	 */
+	private void generateCRC(int payloadLength){
+		if (crc == null) {
+			crc = new CRC();
+		} else {
+			crc.start_checksum();
+		}
+		crc.update_checksum(payloadLength);
+		if (isMavlink2) {
+			crc.update_checksum(incompatFlags);
+			crc.update_checksum(compatFlags);
+		}
 		crc.update_checksum(seq);
 		crc.update_checksum(sysid);
 		crc.update_checksum(compid);
 		crc.update_checksum(msgid);
-		payload.resetIndex();
-		for (int i = 0; i < payload.size(); i++) {
-			crc.update_checksum(payload.getByte());
+		if (isMavlink2) {
+			crc.update_checksum(msgid >> 8);
+			crc.update_checksum(msgid >> 16);
 		}
+		crc.update_checksum(payload.payload.array(), payload.payload.arrayOffset(), payloadLength);
 		crc.finish_checksum(msgid);
     }
 
+	/**
+	 * @return the number of payload bytes sent on the wire. MAVLink 2 removes
+	 *         trailing zero bytes from the payload, but always keeps the
+	 *         first byte.
+	 */
+	private int wirePayloadLength() {
+		return wirePayloadLength(isMavlink2);
+	}
+
+	private int wirePayloadLength(boolean mavlink2) {
+		int length = len;
+		if (mavlink2) {
+			byte[] data = payload.payload.array();
+			int offset = payload.payload.arrayOffset();
+			while (length > 1 && data[offset + length - 1] == 0) {
+				length--;
+			}
+		}
+		return length;
+	}
+
 	/**
 	 * Encode this packet for transmission. 
 	 * 
 	 * @return Array with bytes to be transmitted
 	 */
 	public byte[] encodePacket() {
-		byte[] buffer = new byte[6 + len + 2];
-		int i = 0;
-		buffer[i++] = (byte) MAVLINK_STX;
-		buffer[i++] = (byte) len;
-		buffer[i++] = (byte) seq;
-		buffer[i++] = (byte) sysid;
-		buffer[i++] = (byte) compid;
-		buffer[i++] = (byte) msgid;
-		for (int j = 0; j < payload.size(); j++) {
-			buffer[i++] = payload.payload.get(j);
+		return encodePacket(null);
+	}
+
+	/**
+	 * Encode this packet for transmission, signing it if signing is given.
+	 * Signed packets are always sent as MAVLink 2 packets.
+	 * 
+	 * @param signing
+	 *            the signing key and state, or null to send the packet
+	 *            unsigned
+	 * @return Array with bytes to be transmitted
+	 */
+	public byte[] encodePacket(MAVLinkSigning signing) {
+		prepareSigning(signing);
+		byte[] buffer = new byte[encodedLength(signing)];
+		encodeInto(signing, buffer, 0);
+		return buffer;
+	}
+
+	/**
+	 * Encode this packet for transmission into the given buffer, signing it
+	 * if signing is given. Lets a writer put several packets in one reused
+	 * buffer; at most MAVLINK_MAX_PACKET_LEN bytes are written.
+	 * 
+	 * @param signing
+	 *            the signing key and state, or null to send the packet
+	 *            unsigned
+	 * @param buffer
+	 *            the buffer to encode into
+	 * @param offset
+	 *            where the packet starts in the buffer
+	 * @return the number of bytes written
+	 * @throws IndexOutOfBoundsException
+	 *             if the packet does not fit in the buffer
+	 */
+	public int encodePacket(MAVLinkSigning signing, byte[] buffer, int offset) {
+		prepareSigning(signing);
+		int length = encodedLength(signing);
+		if (offset < 0 || offset + length > buffer.length) {
+			throw new IndexOutOfBoundsException("packet of " + length + " bytes at offset " + offset + " does not fit in " + buffer.length + " bytes");
+		}
+		encodeInto(signing, buffer, offset);
+		return length;
+	}
+
+	/**
+	 * Encode this packet exactly as it was received: with its own payload
+	 * length and flags, and its signature if it is signed. Lets a router
+	 * forward a frame it received in pieces byte for byte.
+	 * 
+	 * @param buffer
+	 *            the buffer to encode into
+	 * @param offset
+	 *            where the frame starts in the buffer
+	 * @return the number of bytes written
+	 * @throws IndexOutOfBoundsException
+	 *             if the frame does not fit in the buffer
+	 */
+	public int encodeFrame(byte[] buffer, int offset) {
+		boolean signed = isMavlink2 && (incompatFlags & MAVLINK_IFLAG_SIGNED) != 0 && signature != null;
+		int length = (isMavlink2 ? MAVLINK2_HEADER_LEN : MAVLINK_HEADER_LEN) + len + 2
+				+ (signed ? MAVLINK_SIGNATURE_BLOCK_LEN : 0);
+		if (offset < 0 || offset + length > buffer.length) {
+			throw new IndexOutOfBoundsException("frame of " + length + " bytes at offset " + offset + " does not fit in " + buffer.length + " bytes");
+		}
+		int i = encodeUnsigned(buffer, offset, len);
+		if (signed) {
+			System.arraycopy(signature, 0, buffer, i, MAVLINK_SIGNATURE_BLOCK_LEN);
 		}
-		generateCRC();
+		return length;
+	}
+
+	/**
+	 * Signed packets are always sent as MAVLink 2 packets
+	 */
+	private void prepareSigning(MAVLinkSigning signing) {
+		if (signing != null) {
+			isMavlink2 = true;
+			incompatFlags |= MAVLINK_IFLAG_SIGNED;
+		} else {
+			incompatFlags &= ~MAVLINK_IFLAG_SIGNED;
+		}
+	}
+
+	/**
+	 * @param signing
+	 *            the signing key and state the packet will be encoded with,
+	 *            or null
+	 * @return the number of bytes encodePacket(signing) produces, e.g. to
+	 *         budget link bandwidth before encoding
+	 */
+	public int encodedLength(MAVLinkSigning signing) {
+		boolean mavlink2 = isMavlink2 || signing != null;
+		int headerLength = mavlink2 ? MAVLINK2_HEADER_LEN : MAVLINK_HEADER_LEN;
+		int signatureLength = signing != null ? MAVLINK_SIGNATURE_BLOCK_LEN : 0;
+		return headerLength + wirePayloadLength(mavlink2) + 2 + signatureLength;
+	}
+
+	private void encodeInto(MAVLinkSigning signing, byte[] buffer, int i) {
+		int payloadLength = wirePayloadLength();
+		i = encodeUnsigned(buffer, i, payloadLength);
+		if (signing != null) {
+			signing.sign(this, payloadLength, buffer, i);
+		}
+	}
+
+	/**
+	 * Write the header, payload and checksum
+	 * 
+	 * @return the index after the checksum
+	 */
+	private int encodeUnsigned(byte[] buffer, int i, int payloadLength) {
+		if (isMavlink2) {
+			buffer[i++] = (byte) MAVLINK_STX_MAVLINK2;
+			buffer[i++] = (byte) payloadLength;
+			buffer[i++] = (byte) incompatFlags;
+			buffer[i++] = (byte) compatFlags;
+			buffer[i++] = (byte) seq;
+			buffer[i++] = (byte) sysid;
+			buffer[i++] = (byte) compid;
+			buffer[i++] = (byte) msgid;
+			buffer[i++] = (byte) (msgid >> 8);
+			buffer[i++] = (byte) (msgid >> 16);
+		} else {
+			buffer[i++] = (byte) MAVLINK_STX;
+			buffer[i++] = (byte) payloadLength;
+			buffer[i++] = (byte) seq;
+			buffer[i++] = (byte) sysid;
+			buffer[i++] = (byte) compid;
+			buffer[i++] = (byte) msgid;
+		}
+		System.arraycopy(payload.payload.array(), payload.payload.arrayOffset(), buffer, i, payloadLength);
+		i += payloadLength;
+		generateCRC(payloadLength);
 		buffer[i++] = (byte) (crc.getLSB());
 		buffer[i++] = (byte) (crc.getMSB());
-		return buffer;
+		return i;
 	}
 	
 	/**
 	 * Unpack the data in this packet and return a MAVLink message
 	 * 
-	 * @return MAVLink message decoded from this packet
+	 * @return MAVLink message decoded from this packet, or null if the message
+	 *         id is not in the MAVLinkMessageRegistry
 	 */
 	public MAVLinkMessage unpack() {
-		switch (msgid) {
-		case msg_sensor_offsets.MAVLINK_MSG_ID_SENSOR_OFFSETS:
-			return  new msg_sensor_offsets(this);
-		case msg_set_mag_offsets.MAVLINK_MSG_ID_SET_MAG_OFFSETS:
-			return  new msg_set_mag_offsets(this);
-		case msg_meminfo.MAVLINK_MSG_ID_MEMINFO:
-			return  new msg_meminfo(this);
-		case msg_ap_adc.MAVLINK_MSG_ID_AP_ADC:
-			return  new msg_ap_adc(this);
-		case msg_digicam_configure.MAVLINK_MSG_ID_DIGICAM_CONFIGURE:
-			return  new msg_digicam_configure(this);
-		case msg_digicam_control.MAVLINK_MSG_ID_DIGICAM_CONTROL:
-			return  new msg_digicam_control(this);
-		case msg_mount_configure.MAVLINK_MSG_ID_MOUNT_CONFIGURE:
-			return  new msg_mount_configure(this);
-		case msg_mount_control.MAVLINK_MSG_ID_MOUNT_CONTROL:
-			return  new msg_mount_control(this);
-		case msg_mount_status.MAVLINK_MSG_ID_MOUNT_STATUS:
-			return  new msg_mount_status(this);
-		case msg_fence_point.MAVLINK_MSG_ID_FENCE_POINT:
-			return  new msg_fence_point(this);
-		case msg_fence_fetch_point.MAVLINK_MSG_ID_FENCE_FETCH_POINT:
-			return  new msg_fence_fetch_point(this);
-		case msg_fence_status.MAVLINK_MSG_ID_FENCE_STATUS:
-			return  new msg_fence_status(this);
-		case msg_ahrs.MAVLINK_MSG_ID_AHRS:
-			return  new msg_ahrs(this);
-		case msg_simstate.MAVLINK_MSG_ID_SIMSTATE:
-			return  new msg_simstate(this);
-		case msg_hwstatus.MAVLINK_MSG_ID_HWSTATUS:
-			return  new msg_hwstatus(this);
-		case msg_radio.MAVLINK_MSG_ID_RADIO:
-			return  new msg_radio(this);
-		case msg_limits_status.MAVLINK_MSG_ID_LIMITS_STATUS:
-			return  new msg_limits_status(this);
-		case msg_wind.MAVLINK_MSG_ID_WIND:
-			return  new msg_wind(this);
-		case msg_data16.MAVLINK_MSG_ID_DATA16:
-			return  new msg_data16(this);
-		case msg_data32.MAVLINK_MSG_ID_DATA32:
-			return  new msg_data32(this);
-		case msg_data64.MAVLINK_MSG_ID_DATA64:
-			return  new msg_data64(this);
-		case msg_data96.MAVLINK_MSG_ID_DATA96:
-			return  new msg_data96(this);
-		case msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT:
-			return  new msg_heartbeat(this);
-		case msg_sys_status.MAVLINK_MSG_ID_SYS_STATUS:
-			return  new msg_sys_status(this);
-		case msg_system_time.MAVLINK_MSG_ID_SYSTEM_TIME:
-			return  new msg_system_time(this);
-		case msg_ping.MAVLINK_MSG_ID_PING:
-			return  new msg_ping(this);
-		case msg_change_operator_control.MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL:
-			return  new msg_change_operator_control(this);
-		case msg_change_operator_control_ack.MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL_ACK:
-			return  new msg_change_operator_control_ack(this);
-		case msg_auth_key.MAVLINK_MSG_ID_AUTH_KEY:
-			return  new msg_auth_key(this);
-		case msg_set_mode.MAVLINK_MSG_ID_SET_MODE:
-			return  new msg_set_mode(this);
-		case msg_param_request_read.MAVLINK_MSG_ID_PARAM_REQUEST_READ:
-			return  new msg_param_request_read(this);
-		case msg_param_request_list.MAVLINK_MSG_ID_PARAM_REQUEST_LIST:
-			return  new msg_param_request_list(this);
-		case msg_param_value.MAVLINK_MSG_ID_PARAM_VALUE:
-			return  new msg_param_value(this);
-		case msg_param_set.MAVLINK_MSG_ID_PARAM_SET:
-			return  new msg_param_set(this);
-		case msg_gps_raw_int.MAVLINK_MSG_ID_GPS_RAW_INT:
-			return  new msg_gps_raw_int(this);
-		case msg_gps_status.MAVLINK_MSG_ID_GPS_STATUS:
-			return  new msg_gps_status(this);
-		case msg_scaled_imu.MAVLINK_MSG_ID_SCALED_IMU:
-			return  new msg_scaled_imu(this);
-		case msg_raw_imu.MAVLINK_MSG_ID_RAW_IMU:
-			return  new msg_raw_imu(this);
-		case msg_raw_pressure.MAVLINK_MSG_ID_RAW_PRESSURE:
-			return  new msg_raw_pressure(this);
-		case msg_scaled_pressure.MAVLINK_MSG_ID_SCALED_PRESSURE:
-			return  new msg_scaled_pressure(this);
-		case msg_attitude.MAVLINK_MSG_ID_ATTITUDE:
-			return  new msg_attitude(this);
-		case msg_attitude_quaternion.MAVLINK_MSG_ID_ATTITUDE_QUATERNION:
-			return  new msg_attitude_quaternion(this);
-		case msg_local_position_ned.MAVLINK_MSG_ID_LOCAL_POSITION_NED:
-			return  new msg_local_position_ned(this);
-		case msg_global_position_int.MAVLINK_MSG_ID_GLOBAL_POSITION_INT:
-			return  new msg_global_position_int(this);
-		case msg_rc_channels_scaled.MAVLINK_MSG_ID_RC_CHANNELS_SCALED:
-			return  new msg_rc_channels_scaled(this);
-		case msg_rc_channels_raw.MAVLINK_MSG_ID_RC_CHANNELS_RAW:
-			return  new msg_rc_channels_raw(this);
-		case msg_servo_output_raw.MAVLINK_MSG_ID_SERVO_OUTPUT_RAW:
-			return  new msg_servo_output_raw(this);
-		case msg_mission_request_partial_list.MAVLINK_MSG_ID_MISSION_REQUEST_PARTIAL_LIST:
-			return  new msg_mission_request_partial_list(this);
-		case msg_mission_write_partial_list.MAVLINK_MSG_ID_MISSION_WRITE_PARTIAL_LIST:
-			return  new msg_mission_write_partial_list(this);
-		case msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM:
-			return  new msg_mission_item(this);
-		case msg_mission_request.MAVLINK_MSG_ID_MISSION_REQUEST:
-			return  new msg_mission_request(this);
-		case msg_mission_set_current.MAVLINK_MSG_ID_MISSION_SET_CURRENT:
-			return  new msg_mission_set_current(this);
-		case msg_mission_current.MAVLINK_MSG_ID_MISSION_CURRENT:
-			return  new msg_mission_current(this);
-		case msg_mission_request_list.MAVLINK_MSG_ID_MISSION_REQUEST_LIST:
-			return  new msg_mission_request_list(this);
-		case msg_mission_count.MAVLINK_MSG_ID_MISSION_COUNT:
-			return  new msg_mission_count(this);
-		case msg_mission_clear_all.MAVLINK_MSG_ID_MISSION_CLEAR_ALL:
-			return  new msg_mission_clear_all(this);
-		case msg_mission_item_reached.MAVLINK_MSG_ID_MISSION_ITEM_REACHED:
-			return  new msg_mission_item_reached(this);
-		case msg_mission_ack.MAVLINK_MSG_ID_MISSION_ACK:
-			return  new msg_mission_ack(this);
-		case msg_set_gps_global_origin.MAVLINK_MSG_ID_SET_GPS_GLOBAL_ORIGIN:
-			return  new msg_set_gps_global_origin(this);
-		case msg_gps_global_origin.MAVLINK_MSG_ID_GPS_GLOBAL_ORIGIN:
-			return  new msg_gps_global_origin(this);
-		case msg_set_local_position_setpoint.MAVLINK_MSG_ID_SET_LOCAL_POSITION_SETPOINT:
-			return  new msg_set_local_position_setpoint(this);
-		case msg_local_position_setpoint.MAVLINK_MSG_ID_LOCAL_POSITION_SETPOINT:
-			return  new msg_local_position_setpoint(this);
-		case msg_global_position_setpoint_int.MAVLINK_MSG_ID_GLOBAL_POSITION_SETPOINT_INT:
-			return  new msg_global_position_setpoint_int(this);
-		case msg_set_global_position_setpoint_int.MAVLINK_MSG_ID_SET_GLOBAL_POSITION_SETPOINT_INT:
-			return  new msg_set_global_position_setpoint_int(this);
-		case msg_safety_set_allowed_area.MAVLINK_MSG_ID_SAFETY_SET_ALLOWED_AREA:
-			return  new msg_safety_set_allowed_area(this);
-		case msg_safety_allowed_area.MAVLINK_MSG_ID_SAFETY_ALLOWED_AREA:
-			return  new msg_safety_allowed_area(this);
-		case msg_set_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_ROLL_PITCH_YAW_THRUST:
-			return  new msg_set_roll_pitch_yaw_thrust(this);
-		case msg_set_roll_pitch_yaw_speed_thrust.MAVLINK_MSG_ID_SET_ROLL_PITCH_YAW_SPEED_THRUST:
-			return  new msg_set_roll_pitch_yaw_speed_thrust(this);
-		case msg_roll_pitch_yaw_thrust_setpoint.MAVLINK_MSG_ID_ROLL_PITCH_YAW_THRUST_SETPOINT:
-			return  new msg_roll_pitch_yaw_thrust_setpoint(this);
-		case msg_roll_pitch_yaw_speed_thrust_setpoint.MAVLINK_MSG_ID_ROLL_PITCH_YAW_SPEED_THRUST_SETPOINT:
-			return  new msg_roll_pitch_yaw_speed_thrust_setpoint(this);
-		case msg_set_quad_motors_setpoint.MAVLINK_MSG_ID_SET_QUAD_MOTORS_SETPOINT:
-			return  new msg_set_quad_motors_setpoint(this);
-		case msg_set_quad_swarm_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_QUAD_SWARM_ROLL_PITCH_YAW_THRUST:
-			return  new msg_set_quad_swarm_roll_pitch_yaw_thrust(this);
-		case msg_nav_controller_output.MAVLINK_MSG_ID_NAV_CONTROLLER_OUTPUT:
-			return  new msg_nav_controller_output(this);
-		case msg_set_quad_swarm_led_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_QUAD_SWARM_LED_ROLL_PITCH_YAW_THRUST:
-			return  new msg_set_quad_swarm_led_roll_pitch_yaw_thrust(this);
-		case msg_state_correction.MAVLINK_MSG_ID_STATE_CORRECTION:
-			return  new msg_state_correction(this);
-		case msg_rc_channels.MAVLINK_MSG_ID_RC_CHANNELS:
-			return  new msg_rc_channels(this);
-		case msg_request_data_stream.MAVLINK_MSG_ID_REQUEST_DATA_STREAM:
-			return  new msg_request_data_stream(this);
-		case msg_data_stream.MAVLINK_MSG_ID_DATA_STREAM:
-			return  new msg_data_stream(this);
-		case msg_manual_control.MAVLINK_MSG_ID_MANUAL_CONTROL:
-			return  new msg_manual_control(this);
-		case msg_rc_channels_override.MAVLINK_MSG_ID_RC_CHANNELS_OVERRIDE:
-			return  new msg_rc_channels_override(this);
-		case msg_vfr_hud.MAVLINK_MSG_ID_VFR_HUD:
-			return  new msg_vfr_hud(this);
-		case msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG:
-			return  new msg_command_long(this);
-		case msg_command_ack.MAVLINK_MSG_ID_COMMAND_ACK:
-			return  new msg_command_ack(this);
-		case msg_roll_pitch_yaw_rates_thrust_setpoint.MAVLINK_MSG_ID_ROLL_PITCH_YAW_RATES_THRUST_SETPOINT:
-			return  new msg_roll_pitch_yaw_rates_thrust_setpoint(this);
-		case msg_manual_setpoint.MAVLINK_MSG_ID_MANUAL_SETPOINT:
-			return  new msg_manual_setpoint(this);
-		case msg_local_position_ned_system_global_offset.MAVLINK_MSG_ID_LOCAL_POSITION_NED_SYSTEM_GLOBAL_OFFSET:
-			return  new msg_local_position_ned_system_global_offset(this);
-		case msg_hil_state.MAVLINK_MSG_ID_HIL_STATE:
-			return  new msg_hil_state(this);
-		case msg_hil_controls.MAVLINK_MSG_ID_HIL_CONTROLS:
-			return  new msg_hil_controls(this);
-		case msg_hil_rc_inputs_raw.MAVLINK_MSG_ID_HIL_RC_INPUTS_RAW:
-			return  new msg_hil_rc_inputs_raw(this);
-		case msg_optical_flow.MAVLINK_MSG_ID_OPTICAL_FLOW:
-			return  new msg_optical_flow(this);
-		case msg_global_vision_position_estimate.MAVLINK_MSG_ID_GLOBAL_VISION_POSITION_ESTIMATE:
-			return  new msg_global_vision_position_estimate(this);
-		case msg_vision_position_estimate.MAVLINK_MSG_ID_VISION_POSITION_ESTIMATE:
-			return  new msg_vision_position_estimate(this);
-		case msg_vision_speed_estimate.MAVLINK_MSG_ID_VISION_SPEED_ESTIMATE:
-			return  new msg_vision_speed_estimate(this);
-		case msg_vicon_position_estimate.MAVLINK_MSG_ID_VICON_POSITION_ESTIMATE:
-			return  new msg_vicon_position_estimate(this);
-		case msg_highres_imu.MAVLINK_MSG_ID_HIGHRES_IMU:
-			return  new msg_highres_imu(this);
-		case msg_omnidirectional_flow.MAVLINK_MSG_ID_OMNIDIRECTIONAL_FLOW:
-			return  new msg_omnidirectional_flow(this);
-		case msg_hil_sensor.MAVLINK_MSG_ID_HIL_SENSOR:
-			return  new msg_hil_sensor(this);
-		case msg_sim_state.MAVLINK_MSG_ID_SIM_STATE:
-			return  new msg_sim_state(this);
-		case msg_radio_status.MAVLINK_MSG_ID_RADIO_STATUS:
-			return  new msg_radio_status(this);
-		case msg_file_transfer_start.MAVLINK_MSG_ID_FILE_TRANSFER_START:
-			return  new msg_file_transfer_start(this);
-		case msg_file_transfer_dir_list.MAVLINK_MSG_ID_FILE_TRANSFER_DIR_LIST:
-			return  new msg_file_transfer_dir_list(this);
-		case msg_file_transfer_res.MAVLINK_MSG_ID_FILE_TRANSFER_RES:
-			return  new msg_file_transfer_res(this);
-		case msg_hil_gps.MAVLINK_MSG_ID_HIL_GPS:
-			return  new msg_hil_gps(this);
-		case msg_hil_optical_flow.MAVLINK_MSG_ID_HIL_OPTICAL_FLOW:
-			return  new msg_hil_optical_flow(this);
-		case msg_hil_state_quaternion.MAVLINK_MSG_ID_HIL_STATE_QUATERNION:
-			return  new msg_hil_state_quaternion(this);
-		case msg_scaled_imu2.MAVLINK_MSG_ID_SCALED_IMU2:
-			return  new msg_scaled_imu2(this);
-		case msg_log_request_list.MAVLINK_MSG_ID_LOG_REQUEST_LIST:
-			return  new msg_log_request_list(this);
-		case msg_log_entry.MAVLINK_MSG_ID_LOG_ENTRY:
-			return  new msg_log_entry(this);
-		case msg_log_request_data.MAVLINK_MSG_ID_LOG_REQUEST_DATA:
-			return  new msg_log_request_data(this);
-		case msg_log_data.MAVLINK_MSG_ID_LOG_DATA:
-			return  new msg_log_data(this);
-		case msg_log_erase.MAVLINK_MSG_ID_LOG_ERASE:
-			return  new msg_log_erase(this);
-		case msg_log_request_end.MAVLINK_MSG_ID_LOG_REQUEST_END:
-			return  new msg_log_request_end(this);
-		case msg_gps_inject_data.MAVLINK_MSG_ID_GPS_INJECT_DATA:
-			return  new msg_gps_inject_data(this);
-		case msg_gps2_raw.MAVLINK_MSG_ID_GPS2_RAW:
-			return  new msg_gps2_raw(this);
-		case msg_power_status.MAVLINK_MSG_ID_POWER_STATUS:
-			return  new msg_power_status(this);
-		case msg_serial_control.MAVLINK_MSG_ID_SERIAL_CONTROL:
-			return  new msg_serial_control(this);
-		case msg_data_transmission_handshake.MAVLINK_MSG_ID_DATA_TRANSMISSION_HANDSHAKE:
-			return  new msg_data_transmission_handshake(this);
-		case msg_encapsulated_data.MAVLINK_MSG_ID_ENCAPSULATED_DATA:
-			return  new msg_encapsulated_data(this);
-		case msg_battery_status.MAVLINK_MSG_ID_BATTERY_STATUS:
-			return  new msg_battery_status(this);
-		case msg_setpoint_8dof.MAVLINK_MSG_ID_SETPOINT_8DOF:
-			return  new msg_setpoint_8dof(this);
-		case msg_setpoint_6dof.MAVLINK_MSG_ID_SETPOINT_6DOF:
-			return  new msg_setpoint_6dof(this);
-		case msg_memory_vect.MAVLINK_MSG_ID_MEMORY_VECT:
-			return  new msg_memory_vect(this);
-		case msg_debug_vect.MAVLINK_MSG_ID_DEBUG_VECT:
-			return  new msg_debug_vect(this);
-		case msg_named_value_float.MAVLINK_MSG_ID_NAMED_VALUE_FLOAT:
-			return  new msg_named_value_float(this);
-		case msg_named_value_int.MAVLINK_MSG_ID_NAMED_VALUE_INT:
-			return  new msg_named_value_int(this);
-		case msg_statustext.MAVLINK_MSG_ID_STATUSTEXT:
-			return  new msg_statustext(this);
-		case msg_debug.MAVLINK_MSG_ID_DEBUG:
-			return  new msg_debug(this);
-		default:
-			//Log.d("MAVLink", "UNKNOW MESSAGE - " + msgid);
-            System.out.println("MAVLink UNKNOW MESSAGE - " + msgid);
-			return null;
-		}
+		return MAVLinkMessageRegistry.getDefault().decode(this);
 	}
 
 }
-	
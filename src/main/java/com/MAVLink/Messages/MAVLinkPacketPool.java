@@ -0,0 +1,96 @@
+package com.MAVLink.Messages;
+
+/**
+ * A fixed size pool of recyclable MAVLink packets.
+ *
+ * Packets are borrowed by the Parser when a new frame starts and are handed
+ * to the caller once the frame is complete. The caller gives the packet back
+ * with {@link MAVLinkPacket#release()} (or {@link #release(MAVLinkPacket)})
+ * once it is done with it, so that a steady-state receive loop never
+ * allocates. When the pool runs dry a new packet is created, and packets
+ * released into a full pool are simply left to the garbage collector.
+ *
+ * Borrow and release may happen on different threads.
+ */
+public class MAVLinkPacketPool {
+
+	public static final int DEFAULT_CAPACITY = 64;
+
+	private final MAVLinkPacket[] free;
+	private int count;
+
+	private int createdCount;
+
+	public MAVLinkPacketPool() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param capacity
+	 *            the maximum number of idle packets kept by this pool. The
+	 *            pool is filled up front so no allocation happens later.
+	 */
+	public MAVLinkPacketPool(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive: " + capacity);
+		}
+		free = new MAVLinkPacket[capacity];
+		for (int i = 0; i < capacity; i++) {
+			free[i] = newPacket();
+		}
+		count = capacity;
+	}
+
+	/**
+	 * Borrow a reset packet from this pool
+	 */
+	public synchronized MAVLinkPacket borrow() {
+		MAVLinkPacket packet;
+		if (count > 0) {
+			packet = free[--count];
+			free[count] = null;
+		} else {
+			packet = newPacket();
+		}
+		packet.pooled = true;
+		return packet;
+	}
+
+	/**
+	 * Give a packet back to this pool. Releasing a packet that is not
+	 * currently borrowed is ignored.
+	 */
+	public synchronized void release(MAVLinkPacket packet) {
+		if (packet == null || packet.pool != this || !packet.pooled) {
+			return;
+		}
+		packet.pooled = false;
+		packet.reset();
+		if (count < free.length) {
+			free[count++] = packet;
+		}
+	}
+
+	/**
+	 * @return the number of idle packets currently held by this pool
+	 */
+	public synchronized int available() {
+		return count;
+	}
+
+	/**
+	 * @return the number of packets ever created by this pool, including the
+	 *         initial fill. A value that keeps growing means packets are not
+	 *         being released.
+	 */
+	public synchronized int created() {
+		return createdCount;
+	}
+
+	private MAVLinkPacket newPacket() {
+		MAVLinkPacket packet = new MAVLinkPacket();
+		packet.pool = this;
+		createdCount++;
+		return packet;
+	}
+}
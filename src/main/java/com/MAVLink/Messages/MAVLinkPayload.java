@@ -1,6 +1,8 @@
 package com.MAVLink.Messages;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 
 public class MAVLinkPayload {
 
@@ -10,7 +12,8 @@ public class MAVLinkPayload {
 	public int index;
 
 	public MAVLinkPayload() {
-		payload = ByteBuffer.allocate(MAX_PAYLOAD_SIZE);
+		// MAVLink fields are little-endian, so every get/put below is a single buffer access
+		payload = ByteBuffer.allocate(MAX_PAYLOAD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
 	}
 
 	public ByteBuffer getData() {
@@ -25,97 +28,101 @@ public class MAVLinkPayload {
 		payload.put(c);
 	}
 
+	/**
+	 * Empty this payload so it can be filled again. The used bytes are zeroed
+	 * so that reading fields past the end of a truncated MAVLink 2 payload
+	 * returns zero.
+	 */
+	public void reset() {
+		Arrays.fill(payload.array(), payload.arrayOffset(), payload.arrayOffset() + payload.position(), (byte) 0);
+		payload.clear();
+		index = 0;
+	}
+
 	public void resetIndex() {
 		index = 0;
 	}
 
 	public byte getByte() {
-		byte result = 0;
-		result |= (payload.get(index + 0) & 0xFF);
+		byte result = payload.get(index);
 		index += 1;
-		return (byte) result;
+		return result;
 	}
 
 	public short getShort() {
-		short result = 0;
-		result |= (payload.get(index + 1) & 0xFF) << 8;
-		result |= (payload.get(index + 0) & 0xFF);
+		short result = payload.getShort(index);
 		index += 2;
-		return (short) result;
+		return result;
 	}
 
 	public int getInt() {
-		int result = 0;
-		result |= (payload.get(index + 3) & (int)0xFF) << 24;
-		result |= (payload.get(index + 2) & (int)0xFF) << 16;
-		result |= (payload.get(index + 1) & (int)0xFF) << 8;
-		result |= (payload.get(index + 0) & (int)0xFF);
+		int result = payload.getInt(index);
 		index += 4;
-		return (int) result;
+		return result;
 	}
 
 	public long getLong() {
-		long result = 0;
-		result |= (payload.get(index + 7) & (long)0xFF) << 56;
-		result |= (payload.get(index + 6) & (long)0xFF) << 48;
-		result |= (payload.get(index + 5) & (long)0xFF) << 40;
-		result |= (payload.get(index + 4) & (long)0xFF) << 32;
-		result |= (payload.get(index + 3) & (long)0xFF) << 24;
-		result |= (payload.get(index + 2) & (long)0xFF) << 16;
-		result |= (payload.get(index + 1) & (long)0xFF) << 8;
-		result |= (payload.get(index + 0) & (long)0xFF);
+		long result = payload.getLong(index);
 		index += 8;
-		return (long) result;
+		return result;
 	}
-	
 
 	public long getLongReverse() {
-                long result = 0;
-                result |= (payload.get(index + 0) & (long)0xFF) << 56;
-                result |= (payload.get(index + 1) & (long)0xFF) << 48;
-                result |= (payload.get(index + 2) & (long)0xFF) << 40;
-                result |= (payload.get(index + 3) & (long)0xFF) << 32;
-                result |= (payload.get(index + 4) & (long)0xFF) << 24;
-                result |= (payload.get(index + 5) & (long)0xFF) << 16;
-                result |= (payload.get(index + 6) & (long)0xFF) << 8;
-                result |= (payload.get(index + 7) & (long)0xFF);
-                index += 8;
-                return (long) result;
-        }
+		long result = Long.reverseBytes(payload.getLong(index));
+		index += 8;
+		return result;
+	}
 
 	public float getFloat() {
-		return Float.intBitsToFloat(getInt());
+		float result = payload.getFloat(index);
+		index += 4;
+		return result;
 	}
-	
+
+	/**
+	 * Read data.length bytes, for the byte array fields of a message
+	 */
+	public void getBytes(byte[] data) {
+		getBytes(data, 0, data.length);
+	}
+
+	public void getBytes(byte[] data, int offset, int length) {
+		if (index + length > payload.limit()) {
+			throw new IndexOutOfBoundsException();
+		}
+		System.arraycopy(payload.array(), payload.arrayOffset() + index, data, offset, length);
+		index += length;
+	}
+
 	public void putByte(byte data) {
-		add(data);
+		payload.put(data);
 	}
 
 	public void putShort(short data) {
-		add((byte) (data >> 0));
-		add((byte) (data >> 8));
+		payload.putShort(data);
 	}
 
 	public void putInt(int data) {
-		add((byte) (data >> 0));
-		add((byte) (data >> 8));
-		add((byte) (data >> 16));
-		add((byte) (data >> 24));
+		payload.putInt(data);
 	}
 
 	public void putLong(long data) {
-		add((byte) (data >> 0));
-		add((byte) (data >> 8));
-		add((byte) (data >> 16));
-		add((byte) (data >> 24));
-		add((byte) (data >> 32));
-		add((byte) (data >> 40));
-		add((byte) (data >> 48));
-		add((byte) (data >> 56));
+		payload.putLong(data);
 	}
 
 	public void putFloat(float data) {
-		putInt(Float.floatToIntBits(data));
+		payload.putFloat(data);
+	}
+
+	/**
+	 * Write all of data, for the byte array fields of a message
+	 */
+	public void putBytes(byte[] data) {
+		payload.put(data);
+	}
+
+	public void putBytes(byte[] data, int offset, int length) {
+		payload.put(data, offset, length);
 	}
 
 }
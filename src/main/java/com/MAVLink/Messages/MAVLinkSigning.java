@@ -0,0 +1,258 @@
+package com.MAVLink.Messages;
+
+import com.MAVLink.Messages.ardupilotmega.msg_radio_status;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * MAVLink 2 packet signing.
+ *
+ * The signature of a packet is the first 48 bits of
+ * SHA-256(secret key + header + payload + checksum + link id + timestamp),
+ * where the timestamp counts units of 10 microseconds since 1 January 2015
+ * GMT. The 13 byte signature block appended to a signed packet holds the
+ * link id (1 byte), the timestamp (6 bytes) and the signature (6 bytes).
+ *
+ * To stop replayed packets, the last timestamp seen on every stream
+ * (sysid, compid, link id) is remembered and a packet is only accepted if
+ * its timestamp is newer. A stream seen for the first time is accepted if
+ * its timestamp is less than one minute behind the local clock.
+ *
+ * One instance can be shared by several links and threads. Every thread
+ * uses its own MessageDigest.
+ */
+public class MAVLinkSigning {
+
+	public static final int SECRET_KEY_LEN = 32;
+	public static final int SIGNATURE_LEN = 6;
+
+	// 2015-01-01T00:00:00Z in milliseconds since the Unix epoch
+	private static final long EPOCH_2015_MILLIS = 1420070400000L;
+	// the timestamp of a new stream may lag the local clock by one minute
+	private static final long NEW_STREAM_WINDOW = 60L * 100000L;
+
+	private static final ThreadLocal<MessageDigest> SHA256 = new ThreadLocal<MessageDigest>() {
+		@Override
+		protected MessageDigest initialValue() {
+			try {
+				return MessageDigest.getInstance("SHA-256");
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException("SHA-256 is not available", e);
+			}
+		}
+	};
+
+	private static final ThreadLocal<byte[]> SCRATCH = new ThreadLocal<byte[]>() {
+		@Override
+		protected byte[] initialValue() {
+			return new byte[32];
+		}
+	};
+
+	private final byte[] secretKey;
+	private final int linkId;
+	private boolean acceptUnsigned;
+
+	// last timestamp used when signing, or seen when verifying
+	private long timestamp;
+
+	// open addressing map from stream key + 1 (0 marks a free slot) to the last timestamp of the stream
+	private int[] streamKeys = new int[64];
+	private long[] streamTimestamps = new long[64];
+	private int streamCount;
+
+	public int signatureErrorCount;
+	public int replayErrorCount;
+	public int unsignedRejectCount;
+
+	/**
+	 * @param secretKey
+	 *            the 32 byte secret shared with the vehicle
+	 * @param linkId
+	 *            the link id written into outgoing signatures
+	 */
+	public MAVLinkSigning(byte[] secretKey, int linkId) {
+		if (secretKey == null || secretKey.length != SECRET_KEY_LEN) {
+			throw new IllegalArgumentException("secret key must be " + SECRET_KEY_LEN + " bytes");
+		}
+		this.secretKey = Arrays.copyOf(secretKey, SECRET_KEY_LEN);
+		this.linkId = linkId & 0xFF;
+	}
+
+	/**
+	 * @param acceptUnsigned
+	 *            true to let unsigned packets through. Unsigned RADIO_STATUS
+	 *            packets, which are generated by the radio itself, are always
+	 *            accepted.
+	 */
+	public void setAcceptUnsigned(boolean acceptUnsigned) {
+		this.acceptUnsigned = acceptUnsigned;
+	}
+
+	public int getLinkId() {
+		return linkId;
+	}
+
+	/**
+	 * @return true if an unsigned packet with this message id may be accepted
+	 */
+	public boolean acceptsUnsigned(int msgid) {
+		if (acceptUnsigned || msgid == msg_radio_status.MAVLINK_MSG_ID_RADIO_STATUS) {
+			return true;
+		}
+		synchronized (this) {
+			unsignedRejectCount++;
+		}
+		return false;
+	}
+
+	/**
+	 * @return the current time in MAVLink signing units (10 microseconds
+	 *         since 1 January 2015 GMT)
+	 */
+	public static long currentTimestamp() {
+		return (System.currentTimeMillis() - EPOCH_2015_MILLIS) * 100;
+	}
+
+	/**
+	 * @return the timestamp for the next outgoing packet, which is never
+	 *         lower than any timestamp used or seen before
+	 */
+	synchronized long nextTimestamp() {
+		timestamp = Math.max(currentTimestamp(), timestamp + 1);
+		return timestamp;
+	}
+
+	/**
+	 * Write the 13 byte signature block of the packet. The packet must be a
+	 * MAVLink 2 packet with the signed incompat flag set and its checksum
+	 * generated over the given payload length.
+	 */
+	void sign(MAVLinkPacket packet, int payloadLength, byte[] out, int offset) {
+		long ts = nextTimestamp();
+		out[offset] = (byte) linkId;
+		for (int i = 0; i < 6; i++) {
+			out[offset + 1 + i] = (byte) (ts >>> (8 * i));
+		}
+		byte[] hash = digest(packet, payloadLength, out, offset);
+		System.arraycopy(hash, 0, out, offset + 7, SIGNATURE_LEN);
+	}
+
+	/**
+	 * Check the signature and the timestamp of a received signed packet.
+	 * Failures are counted in signatureErrorCount and replayErrorCount.
+	 *
+	 * @return true if the packet is authentic and not a replay
+	 */
+	public boolean verify(MAVLinkPacket packet) {
+		byte[] block = packet.signature;
+		byte[] hash = digest(packet, packet.len, block, 0);
+		for (int i = 0; i < SIGNATURE_LEN; i++) {
+			if (hash[i] != block[7 + i]) {
+				synchronized (this) {
+					signatureErrorCount++;
+				}
+				return false;
+			}
+		}
+		long ts = 0;
+		for (int i = 0; i < 6; i++) {
+			ts |= (block[1 + i] & 0xFFL) << (8 * i);
+		}
+		int key = (packet.sysid << 16) | (packet.compid << 8) | (block[0] & 0xFF);
+		if (!acceptTimestamp(key, ts)) {
+			synchronized (this) {
+				replayErrorCount++;
+			}
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Compute SHA-256(secret key + header + payload + checksum + link id +
+	 * timestamp) in the thread's scratch buffer
+	 */
+	private byte[] digest(MAVLinkPacket packet, int payloadLength, byte[] block, int offset) {
+		MessageDigest sha = SHA256.get();
+		sha.update(secretKey);
+		sha.update((byte) MAVLinkPacket.MAVLINK_STX_MAVLINK2);
+		sha.update((byte) payloadLength);
+		sha.update((byte) packet.incompatFlags);
+		sha.update((byte) packet.compatFlags);
+		sha.update((byte) packet.seq);
+		sha.update((byte) packet.sysid);
+		sha.update((byte) packet.compid);
+		sha.update((byte) packet.msgid);
+		sha.update((byte) (packet.msgid >> 8));
+		sha.update((byte) (packet.msgid >> 16));
+		sha.update(packet.payload.payload.array(), packet.payload.payload.arrayOffset(), payloadLength);
+		sha.update((byte) packet.crc.getLSB());
+		sha.update((byte) packet.crc.getMSB());
+		sha.update(block, offset, 7);
+		byte[] scratch = SCRATCH.get();
+		try {
+			sha.digest(scratch, 0, scratch.length);
+		} catch (DigestException e) {
+			throw new IllegalStateException(e);
+		}
+		return scratch;
+	}
+
+	/**
+	 * Replay check for one stream, updating its last timestamp when accepted
+	 */
+	private synchronized boolean acceptTimestamp(int key, long ts) {
+		int slot = findSlot(key);
+		if (streamKeys[slot] != 0) {
+			if (ts <= streamTimestamps[slot]) {
+				return false;
+			}
+		} else {
+			long local = Math.max(currentTimestamp(), timestamp);
+			if (ts + NEW_STREAM_WINDOW < local) {
+				return false;
+			}
+			if (streamCount * 2 >= streamKeys.length) {
+				grow();
+				slot = findSlot(key);
+			}
+			streamKeys[slot] = key + 1;
+			streamCount++;
+		}
+		streamTimestamps[slot] = ts;
+		if (ts > timestamp) {
+			timestamp = ts;
+		}
+		return true;
+	}
+
+	/**
+	 * @return the slot holding the key, or the free slot where it belongs
+	 */
+	private int findSlot(int key) {
+		int mask = streamKeys.length - 1;
+		int slot = (key * 0x9E3779B1) >>> 16 & mask;
+		while (streamKeys[slot] != 0 && streamKeys[slot] != key + 1) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	private void grow() {
+		int[] oldKeys = streamKeys;
+		long[] oldTimestamps = streamTimestamps;
+		streamKeys = new int[oldKeys.length * 2];
+		streamTimestamps = new long[oldKeys.length * 2];
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != 0) {
+				int slot = findSlot(oldKeys[i] - 1);
+				streamKeys[slot] = oldKeys[i];
+				streamTimestamps[slot] = oldTimestamps[i];
+			}
+		}
+	}
+}
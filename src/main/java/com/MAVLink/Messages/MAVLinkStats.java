@@ -12,6 +12,10 @@ public class MAVLinkStats /* implements Serializable */{
 
 	public int lostPacketCount;
 
+	public int incompatFlagsErrorCount;
+
+	public int unknownMessageCount;
+
 	private int lastPacketSeq;
 
 	/**
@@ -30,6 +34,24 @@ public class MAVLinkStats /* implements Serializable */{
 		receivedPacketCount++;
 	}
 
+	/**
+	 * Check if the packet is a copy of one already counted, e.g. received
+	 * again over a redundant link: it has the sequence number of the last
+	 * packet or of one of the 127 before it. Such a packet should not be
+	 * passed to newPacket(), which would count it as 254 lost packets.
+	 * 
+	 * @param packet
+	 *            Packet that should be checked
+	 * @return true if the packet repeats an earlier one
+	 */
+	public boolean isRepeated(MAVLinkPacket packet) {
+		if (lastPacketSeq < 0) {
+			return false;
+		}
+		int ahead = (packet.seq - lastPacketSeq) & 0xFF;
+		return ahead == 0 || ahead >= 128;
+	}
+
 	private void updateLostPacketCount(MAVLinkPacket packet) {
 		int lostPackets;
 		if (packet.seq - lastPacketSeq < 0) {
@@ -56,6 +78,22 @@ public class MAVLinkStats /* implements Serializable */{
 		crcErrorCount++;
 	}
 
+	/**
+	 * Called when the parser drops a MAVLink 2 packet because it has incompat
+	 * flags that are not understood
+	 */
+	public void incompatFlagsError() {
+		incompatFlagsErrorCount++;
+	}
+
+	/**
+	 * Called when a valid packet carries a message id that no message type is
+	 * registered for
+	 */
+	public void unknownMessage() {
+		unknownMessageCount++;
+	}
+
 	/**
 	 * Resets statistics for this MAVLink.
 	 */
@@ -63,6 +101,8 @@ public class MAVLinkStats /* implements Serializable */{
 		lastPacketSeq = -1;
 		lostPacketCount = 0;
 		crcErrorCount = 0;
+		incompatFlagsErrorCount = 0;
+		unknownMessageCount = 0;
 		receivedPacketCount = 0;
 	}
 
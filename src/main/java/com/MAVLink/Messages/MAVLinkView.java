@@ -0,0 +1,108 @@
+package com.MAVLink.Messages;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Common base of the read-only message views.
+ *
+ * A view is a flyweight over the payload bytes of one message, wherever they
+ * are (a packet's payload, a received frame, a recorded log). Its accessors
+ * read the little-endian fields straight from the buffer, so a subscriber
+ * that only needs one or two fields of a high rate message does not have to
+ * decode (or allocate) the whole MAVLinkMessage. A view can be re-pointed at
+ * the next payload with one of the reset methods, so one instance per
+ * message type is enough.
+ *
+ * Fields past the end of a truncated MAVLink 2 payload read as zero. Views
+ * do not copy, so the values change if the underlying buffer does.
+ *
+ * The generated views are named after their message class (msg_attitude is
+ * read by AttitudeView). A name that only differs in case from one already
+ * generated gets a number, so that no two files collide on a case-insensitive
+ * file system: msg_sim_state is read by SimStateView and msg_simstate by
+ * Simstate2View.
+ */
+public abstract class MAVLinkView {
+
+	private ByteBuffer buffer;
+	private int offset;
+	private int length;
+	private boolean littleEndian;
+
+	/**
+	 * Point this view at a payload
+	 *
+	 * @param buffer
+	 *            the buffer holding the payload, in any byte order. Its
+	 *            position and limit are not used or changed.
+	 * @param offset
+	 *            index of the first payload byte in the buffer
+	 * @param length
+	 *            number of payload bytes present in the buffer
+	 */
+	public void reset(ByteBuffer buffer, int offset, int length) {
+		this.buffer = buffer;
+		this.offset = offset;
+		this.length = length;
+		this.littleEndian = buffer.order() == ByteOrder.LITTLE_ENDIAN;
+	}
+
+	/**
+	 * Point this view at the payload of a packet
+	 */
+	public void reset(MAVLinkPacket packet) {
+		reset(packet.payload.payload, 0, packet.len);
+	}
+
+	/**
+	 * @return the number of payload bytes this view reads from
+	 */
+	public int length() {
+		return length;
+	}
+
+	protected final byte getByte(int at) {
+		return at < length ? buffer.get(offset + at) : 0;
+	}
+
+	protected final short getShort(int at) {
+		if (at + 2 > length) {
+			return (short) getTruncated(at, 2);
+		}
+		short value = buffer.getShort(offset + at);
+		return littleEndian ? value : Short.reverseBytes(value);
+	}
+
+	protected final int getInt(int at) {
+		if (at + 4 > length) {
+			return (int) getTruncated(at, 4);
+		}
+		int value = buffer.getInt(offset + at);
+		return littleEndian ? value : Integer.reverseBytes(value);
+	}
+
+	protected final long getLong(int at) {
+		if (at + 8 > length) {
+			return getTruncated(at, 8);
+		}
+		long value = buffer.getLong(offset + at);
+		return littleEndian ? value : Long.reverseBytes(value);
+	}
+
+	protected final float getFloat(int at) {
+		return Float.intBitsToFloat(getInt(at));
+	}
+
+	/**
+	 * Assemble a field that is cut off by the end of the payload; the missing
+	 * bytes are zero
+	 */
+	private long getTruncated(int at, int size) {
+		long value = 0;
+		for (int i = 0; i < size && at + i < length; i++) {
+			value |= (buffer.get(offset + at + i) & 0xFFL) << (8 * i);
+		}
+		return value;
+	}
+}
@@ -0,0 +1,146 @@
+// MESSAGE TABLE
+package com.MAVLink.Messages.ardupilotmega;
+
+import com.MAVLink.Messages.MAVLinkMessageRegistry;
+
+/**
+* Registers every message of the ardupilotmega dialect: message id, payload length, CRC extra and factory.
+*/
+public class ArdupilotmegaMessages {
+
+	private ArdupilotmegaMessages() {
+	}
+
+	/**
+	 * Adds all ardupilotmega message types to the given registry
+	 */
+	public static void register(MAVLinkMessageRegistry registry) {
+		registry.register(msg_sensor_offsets.MAVLINK_MSG_ID_SENSOR_OFFSETS, msg_sensor_offsets.MAVLINK_MSG_LENGTH, 134, msg_sensor_offsets::new);
+		registry.register(msg_set_mag_offsets.MAVLINK_MSG_ID_SET_MAG_OFFSETS, msg_set_mag_offsets.MAVLINK_MSG_LENGTH, 219, msg_set_mag_offsets::new);
+		registry.register(msg_meminfo.MAVLINK_MSG_ID_MEMINFO, msg_meminfo.MAVLINK_MSG_LENGTH, 208, msg_meminfo::new);
+		registry.register(msg_ap_adc.MAVLINK_MSG_ID_AP_ADC, msg_ap_adc.MAVLINK_MSG_LENGTH, 188, msg_ap_adc::new);
+		registry.register(msg_digicam_configure.MAVLINK_MSG_ID_DIGICAM_CONFIGURE, msg_digicam_configure.MAVLINK_MSG_LENGTH, 84, msg_digicam_configure::new);
+		registry.register(msg_digicam_control.MAVLINK_MSG_ID_DIGICAM_CONTROL, msg_digicam_control.MAVLINK_MSG_LENGTH, 22, msg_digicam_control::new);
+		registry.register(msg_mount_configure.MAVLINK_MSG_ID_MOUNT_CONFIGURE, msg_mount_configure.MAVLINK_MSG_LENGTH, 19, msg_mount_configure::new);
+		registry.register(msg_mount_control.MAVLINK_MSG_ID_MOUNT_CONTROL, msg_mount_control.MAVLINK_MSG_LENGTH, 21, msg_mount_control::new);
+		registry.register(msg_mount_status.MAVLINK_MSG_ID_MOUNT_STATUS, msg_mount_status.MAVLINK_MSG_LENGTH, 134, msg_mount_status::new);
+		registry.register(msg_fence_point.MAVLINK_MSG_ID_FENCE_POINT, msg_fence_point.MAVLINK_MSG_LENGTH, 78, msg_fence_point::new);
+		registry.register(msg_fence_fetch_point.MAVLINK_MSG_ID_FENCE_FETCH_POINT, msg_fence_fetch_point.MAVLINK_MSG_LENGTH, 68, msg_fence_fetch_point::new);
+		registry.register(msg_fence_status.MAVLINK_MSG_ID_FENCE_STATUS, msg_fence_status.MAVLINK_MSG_LENGTH, 189, msg_fence_status::new);
+		registry.register(msg_ahrs.MAVLINK_MSG_ID_AHRS, msg_ahrs.MAVLINK_MSG_LENGTH, 127, msg_ahrs::new);
+		registry.register(msg_simstate.MAVLINK_MSG_ID_SIMSTATE, msg_simstate.MAVLINK_MSG_LENGTH, 111, msg_simstate::new);
+		registry.register(msg_hwstatus.MAVLINK_MSG_ID_HWSTATUS, msg_hwstatus.MAVLINK_MSG_LENGTH, 21, msg_hwstatus::new);
+		registry.register(msg_radio.MAVLINK_MSG_ID_RADIO, msg_radio.MAVLINK_MSG_LENGTH, 21, msg_radio::new);
+		registry.register(msg_limits_status.MAVLINK_MSG_ID_LIMITS_STATUS, msg_limits_status.MAVLINK_MSG_LENGTH, 144, msg_limits_status::new);
+		registry.register(msg_wind.MAVLINK_MSG_ID_WIND, msg_wind.MAVLINK_MSG_LENGTH, 1, msg_wind::new);
+		registry.register(msg_data16.MAVLINK_MSG_ID_DATA16, msg_data16.MAVLINK_MSG_LENGTH, 234, msg_data16::new);
+		registry.register(msg_data32.MAVLINK_MSG_ID_DATA32, msg_data32.MAVLINK_MSG_LENGTH, 73, msg_data32::new);
+		registry.register(msg_data64.MAVLINK_MSG_ID_DATA64, msg_data64.MAVLINK_MSG_LENGTH, 181, msg_data64::new);
+		registry.register(msg_data96.MAVLINK_MSG_ID_DATA96, msg_data96.MAVLINK_MSG_LENGTH, 22, msg_data96::new);
+		registry.register(msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT, msg_heartbeat.MAVLINK_MSG_LENGTH, 50, msg_heartbeat::new);
+		registry.register(msg_sys_status.MAVLINK_MSG_ID_SYS_STATUS, msg_sys_status.MAVLINK_MSG_LENGTH, 124, msg_sys_status::new);
+		registry.register(msg_system_time.MAVLINK_MSG_ID_SYSTEM_TIME, msg_system_time.MAVLINK_MSG_LENGTH, 137, msg_system_time::new);
+		registry.register(msg_ping.MAVLINK_MSG_ID_PING, msg_ping.MAVLINK_MSG_LENGTH, 237, msg_ping::new);
+		registry.register(msg_change_operator_control.MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL, msg_change_operator_control.MAVLINK_MSG_LENGTH, 217, msg_change_operator_control::new);
+		registry.register(msg_change_operator_control_ack.MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL_ACK, msg_change_operator_control_ack.MAVLINK_MSG_LENGTH, 104, msg_change_operator_control_ack::new);
+		registry.register(msg_auth_key.MAVLINK_MSG_ID_AUTH_KEY, msg_auth_key.MAVLINK_MSG_LENGTH, 119, msg_auth_key::new);
+		registry.register(msg_set_mode.MAVLINK_MSG_ID_SET_MODE, msg_set_mode.MAVLINK_MSG_LENGTH, 89, msg_set_mode::new);
+		registry.register(msg_param_request_read.MAVLINK_MSG_ID_PARAM_REQUEST_READ, msg_param_request_read.MAVLINK_MSG_LENGTH, 214, msg_param_request_read::new);
+		registry.register(msg_param_request_list.MAVLINK_MSG_ID_PARAM_REQUEST_LIST, msg_param_request_list.MAVLINK_MSG_LENGTH, 159, msg_param_request_list::new);
+		registry.register(msg_param_value.MAVLINK_MSG_ID_PARAM_VALUE, msg_param_value.MAVLINK_MSG_LENGTH, 220, msg_param_value::new);
+		registry.register(msg_param_set.MAVLINK_MSG_ID_PARAM_SET, msg_param_set.MAVLINK_MSG_LENGTH, 168, msg_param_set::new);
+		registry.register(msg_gps_raw_int.MAVLINK_MSG_ID_GPS_RAW_INT, msg_gps_raw_int.MAVLINK_MSG_LENGTH, 24, msg_gps_raw_int::new);
+		registry.register(msg_gps_status.MAVLINK_MSG_ID_GPS_STATUS, msg_gps_status.MAVLINK_MSG_LENGTH, 23, msg_gps_status::new);
+		registry.register(msg_scaled_imu.MAVLINK_MSG_ID_SCALED_IMU, msg_scaled_imu.MAVLINK_MSG_LENGTH, 170, msg_scaled_imu::new);
+		registry.register(msg_raw_imu.MAVLINK_MSG_ID_RAW_IMU, msg_raw_imu.MAVLINK_MSG_LENGTH, 144, msg_raw_imu::new);
+		registry.register(msg_raw_pressure.MAVLINK_MSG_ID_RAW_PRESSURE, msg_raw_pressure.MAVLINK_MSG_LENGTH, 67, msg_raw_pressure::new);
+		registry.register(msg_scaled_pressure.MAVLINK_MSG_ID_SCALED_PRESSURE, msg_scaled_pressure.MAVLINK_MSG_LENGTH, 115, msg_scaled_pressure::new);
+		registry.register(msg_attitude.MAVLINK_MSG_ID_ATTITUDE, msg_attitude.MAVLINK_MSG_LENGTH, 39, msg_attitude::new);
+		registry.register(msg_attitude_quaternion.MAVLINK_MSG_ID_ATTITUDE_QUATERNION, msg_attitude_quaternion.MAVLINK_MSG_LENGTH, 246, msg_attitude_quaternion::new);
+		registry.register(msg_local_position_ned.MAVLINK_MSG_ID_LOCAL_POSITION_NED, msg_local_position_ned.MAVLINK_MSG_LENGTH, 185, msg_local_position_ned::new);
+		registry.register(msg_global_position_int.MAVLINK_MSG_ID_GLOBAL_POSITION_INT, msg_global_position_int.MAVLINK_MSG_LENGTH, 104, msg_global_position_int::new);
+		registry.register(msg_rc_channels_scaled.MAVLINK_MSG_ID_RC_CHANNELS_SCALED, msg_rc_channels_scaled.MAVLINK_MSG_LENGTH, 237, msg_rc_channels_scaled::new);
+		registry.register(msg_rc_channels_raw.MAVLINK_MSG_ID_RC_CHANNELS_RAW, msg_rc_channels_raw.MAVLINK_MSG_LENGTH, 244, msg_rc_channels_raw::new);
+		registry.register(msg_servo_output_raw.MAVLINK_MSG_ID_SERVO_OUTPUT_RAW, msg_servo_output_raw.MAVLINK_MSG_LENGTH, 222, msg_servo_output_raw::new);
+		registry.register(msg_mission_request_partial_list.MAVLINK_MSG_ID_MISSION_REQUEST_PARTIAL_LIST, msg_mission_request_partial_list.MAVLINK_MSG_LENGTH, 212, msg_mission_request_partial_list::new);
+		registry.register(msg_mission_write_partial_list.MAVLINK_MSG_ID_MISSION_WRITE_PARTIAL_LIST, msg_mission_write_partial_list.MAVLINK_MSG_LENGTH, 9, msg_mission_write_partial_list::new);
+		registry.register(msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM, msg_mission_item.MAVLINK_MSG_LENGTH, 254, msg_mission_item::new);
+		registry.register(msg_mission_request.MAVLINK_MSG_ID_MISSION_REQUEST, msg_mission_request.MAVLINK_MSG_LENGTH, 230, msg_mission_request::new);
+		registry.register(msg_mission_set_current.MAVLINK_MSG_ID_MISSION_SET_CURRENT, msg_mission_set_current.MAVLINK_MSG_LENGTH, 28, msg_mission_set_current::new);
+		registry.register(msg_mission_current.MAVLINK_MSG_ID_MISSION_CURRENT, msg_mission_current.MAVLINK_MSG_LENGTH, 28, msg_mission_current::new);
+		registry.register(msg_mission_request_list.MAVLINK_MSG_ID_MISSION_REQUEST_LIST, msg_mission_request_list.MAVLINK_MSG_LENGTH, 132, msg_mission_request_list::new);
+		registry.register(msg_mission_count.MAVLINK_MSG_ID_MISSION_COUNT, msg_mission_count.MAVLINK_MSG_LENGTH, 221, msg_mission_count::new);
+		registry.register(msg_mission_clear_all.MAVLINK_MSG_ID_MISSION_CLEAR_ALL, msg_mission_clear_all.MAVLINK_MSG_LENGTH, 232, msg_mission_clear_all::new);
+		registry.register(msg_mission_item_reached.MAVLINK_MSG_ID_MISSION_ITEM_REACHED, msg_mission_item_reached.MAVLINK_MSG_LENGTH, 11, msg_mission_item_reached::new);
+		registry.register(msg_mission_ack.MAVLINK_MSG_ID_MISSION_ACK, msg_mission_ack.MAVLINK_MSG_LENGTH, 153, msg_mission_ack::new);
+		registry.register(msg_set_gps_global_origin.MAVLINK_MSG_ID_SET_GPS_GLOBAL_ORIGIN, msg_set_gps_global_origin.MAVLINK_MSG_LENGTH, 41, msg_set_gps_global_origin::new);
+		registry.register(msg_gps_global_origin.MAVLINK_MSG_ID_GPS_GLOBAL_ORIGIN, msg_gps_global_origin.MAVLINK_MSG_LENGTH, 39, msg_gps_global_origin::new);
+		registry.register(msg_set_local_position_setpoint.MAVLINK_MSG_ID_SET_LOCAL_POSITION_SETPOINT, msg_set_local_position_setpoint.MAVLINK_MSG_LENGTH, 214, msg_set_local_position_setpoint::new);
+		registry.register(msg_local_position_setpoint.MAVLINK_MSG_ID_LOCAL_POSITION_SETPOINT, msg_local_position_setpoint.MAVLINK_MSG_LENGTH, 223, msg_local_position_setpoint::new);
+		registry.register(msg_global_position_setpoint_int.MAVLINK_MSG_ID_GLOBAL_POSITION_SETPOINT_INT, msg_global_position_setpoint_int.MAVLINK_MSG_LENGTH, 141, msg_global_position_setpoint_int::new);
+		registry.register(msg_set_global_position_setpoint_int.MAVLINK_MSG_ID_SET_GLOBAL_POSITION_SETPOINT_INT, msg_set_global_position_setpoint_int.MAVLINK_MSG_LENGTH, 33, msg_set_global_position_setpoint_int::new);
+		registry.register(msg_safety_set_allowed_area.MAVLINK_MSG_ID_SAFETY_SET_ALLOWED_AREA, msg_safety_set_allowed_area.MAVLINK_MSG_LENGTH, 15, msg_safety_set_allowed_area::new);
+		registry.register(msg_safety_allowed_area.MAVLINK_MSG_ID_SAFETY_ALLOWED_AREA, msg_safety_allowed_area.MAVLINK_MSG_LENGTH, 3, msg_safety_allowed_area::new);
+		registry.register(msg_set_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_ROLL_PITCH_YAW_THRUST, msg_set_roll_pitch_yaw_thrust.MAVLINK_MSG_LENGTH, 100, msg_set_roll_pitch_yaw_thrust::new);
+		registry.register(msg_set_roll_pitch_yaw_speed_thrust.MAVLINK_MSG_ID_SET_ROLL_PITCH_YAW_SPEED_THRUST, msg_set_roll_pitch_yaw_speed_thrust.MAVLINK_MSG_LENGTH, 24, msg_set_roll_pitch_yaw_speed_thrust::new);
+		registry.register(msg_roll_pitch_yaw_thrust_setpoint.MAVLINK_MSG_ID_ROLL_PITCH_YAW_THRUST_SETPOINT, msg_roll_pitch_yaw_thrust_setpoint.MAVLINK_MSG_LENGTH, 239, msg_roll_pitch_yaw_thrust_setpoint::new);
+		registry.register(msg_roll_pitch_yaw_speed_thrust_setpoint.MAVLINK_MSG_ID_ROLL_PITCH_YAW_SPEED_THRUST_SETPOINT, msg_roll_pitch_yaw_speed_thrust_setpoint.MAVLINK_MSG_LENGTH, 238, msg_roll_pitch_yaw_speed_thrust_setpoint::new);
+		registry.register(msg_set_quad_motors_setpoint.MAVLINK_MSG_ID_SET_QUAD_MOTORS_SETPOINT, msg_set_quad_motors_setpoint.MAVLINK_MSG_LENGTH, 30, msg_set_quad_motors_setpoint::new);
+		registry.register(msg_set_quad_swarm_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_QUAD_SWARM_ROLL_PITCH_YAW_THRUST, msg_set_quad_swarm_roll_pitch_yaw_thrust.MAVLINK_MSG_LENGTH, 240, msg_set_quad_swarm_roll_pitch_yaw_thrust::new);
+		registry.register(msg_nav_controller_output.MAVLINK_MSG_ID_NAV_CONTROLLER_OUTPUT, msg_nav_controller_output.MAVLINK_MSG_LENGTH, 183, msg_nav_controller_output::new);
+		registry.register(msg_set_quad_swarm_led_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_QUAD_SWARM_LED_ROLL_PITCH_YAW_THRUST, msg_set_quad_swarm_led_roll_pitch_yaw_thrust.MAVLINK_MSG_LENGTH, 130, msg_set_quad_swarm_led_roll_pitch_yaw_thrust::new);
+		registry.register(msg_state_correction.MAVLINK_MSG_ID_STATE_CORRECTION, msg_state_correction.MAVLINK_MSG_LENGTH, 130, msg_state_correction::new);
+		registry.register(msg_rc_channels.MAVLINK_MSG_ID_RC_CHANNELS, msg_rc_channels.MAVLINK_MSG_LENGTH, 118, msg_rc_channels::new);
+		registry.register(msg_request_data_stream.MAVLINK_MSG_ID_REQUEST_DATA_STREAM, msg_request_data_stream.MAVLINK_MSG_LENGTH, 148, msg_request_data_stream::new);
+		registry.register(msg_data_stream.MAVLINK_MSG_ID_DATA_STREAM, msg_data_stream.MAVLINK_MSG_LENGTH, 21, msg_data_stream::new);
+		registry.register(msg_manual_control.MAVLINK_MSG_ID_MANUAL_CONTROL, msg_manual_control.MAVLINK_MSG_LENGTH, 243, msg_manual_control::new);
+		registry.register(msg_rc_channels_override.MAVLINK_MSG_ID_RC_CHANNELS_OVERRIDE, msg_rc_channels_override.MAVLINK_MSG_LENGTH, 124, msg_rc_channels_override::new);
+		registry.register(msg_vfr_hud.MAVLINK_MSG_ID_VFR_HUD, msg_vfr_hud.MAVLINK_MSG_LENGTH, 20, msg_vfr_hud::new);
+		registry.register(msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG, msg_command_long.MAVLINK_MSG_LENGTH, 152, msg_command_long::new);
+		registry.register(msg_command_ack.MAVLINK_MSG_ID_COMMAND_ACK, msg_command_ack.MAVLINK_MSG_LENGTH, 143, msg_command_ack::new);
+		registry.register(msg_roll_pitch_yaw_rates_thrust_setpoint.MAVLINK_MSG_ID_ROLL_PITCH_YAW_RATES_THRUST_SETPOINT, msg_roll_pitch_yaw_rates_thrust_setpoint.MAVLINK_MSG_LENGTH, 127, msg_roll_pitch_yaw_rates_thrust_setpoint::new);
+		registry.register(msg_manual_setpoint.MAVLINK_MSG_ID_MANUAL_SETPOINT, msg_manual_setpoint.MAVLINK_MSG_LENGTH, 106, msg_manual_setpoint::new);
+		registry.register(msg_local_position_ned_system_global_offset.MAVLINK_MSG_ID_LOCAL_POSITION_NED_SYSTEM_GLOBAL_OFFSET, msg_local_position_ned_system_global_offset.MAVLINK_MSG_LENGTH, 231, msg_local_position_ned_system_global_offset::new);
+		registry.register(msg_hil_state.MAVLINK_MSG_ID_HIL_STATE, msg_hil_state.MAVLINK_MSG_LENGTH, 183, msg_hil_state::new);
+		registry.register(msg_hil_controls.MAVLINK_MSG_ID_HIL_CONTROLS, msg_hil_controls.MAVLINK_MSG_LENGTH, 63, msg_hil_controls::new);
+		registry.register(msg_hil_rc_inputs_raw.MAVLINK_MSG_ID_HIL_RC_INPUTS_RAW, msg_hil_rc_inputs_raw.MAVLINK_MSG_LENGTH, 54, msg_hil_rc_inputs_raw::new);
+		registry.register(msg_optical_flow.MAVLINK_MSG_ID_OPTICAL_FLOW, msg_optical_flow.MAVLINK_MSG_LENGTH, 175, msg_optical_flow::new);
+		registry.register(msg_global_vision_position_estimate.MAVLINK_MSG_ID_GLOBAL_VISION_POSITION_ESTIMATE, msg_global_vision_position_estimate.MAVLINK_MSG_LENGTH, 102, msg_global_vision_position_estimate::new);
+		registry.register(msg_vision_position_estimate.MAVLINK_MSG_ID_VISION_POSITION_ESTIMATE, msg_vision_position_estimate.MAVLINK_MSG_LENGTH, 158, msg_vision_position_estimate::new);
+		registry.register(msg_vision_speed_estimate.MAVLINK_MSG_ID_VISION_SPEED_ESTIMATE, msg_vision_speed_estimate.MAVLINK_MSG_LENGTH, 208, msg_vision_speed_estimate::new);
+		registry.register(msg_vicon_position_estimate.MAVLINK_MSG_ID_VICON_POSITION_ESTIMATE, msg_vicon_position_estimate.MAVLINK_MSG_LENGTH, 56, msg_vicon_position_estimate::new);
+		registry.register(msg_highres_imu.MAVLINK_MSG_ID_HIGHRES_IMU, msg_highres_imu.MAVLINK_MSG_LENGTH, 93, msg_highres_imu::new);
+		registry.register(msg_omnidirectional_flow.MAVLINK_MSG_ID_OMNIDIRECTIONAL_FLOW, msg_omnidirectional_flow.MAVLINK_MSG_LENGTH, 211, msg_omnidirectional_flow::new);
+		registry.register(msg_hil_sensor.MAVLINK_MSG_ID_HIL_SENSOR, msg_hil_sensor.MAVLINK_MSG_LENGTH, 108, msg_hil_sensor::new);
+		registry.register(msg_sim_state.MAVLINK_MSG_ID_SIM_STATE, msg_sim_state.MAVLINK_MSG_LENGTH, 32, msg_sim_state::new);
+		registry.register(msg_radio_status.MAVLINK_MSG_ID_RADIO_STATUS, msg_radio_status.MAVLINK_MSG_LENGTH, 185, msg_radio_status::new);
+		registry.register(msg_file_transfer_start.MAVLINK_MSG_ID_FILE_TRANSFER_START, msg_file_transfer_start.MAVLINK_MSG_LENGTH, 235, msg_file_transfer_start::new);
+		registry.register(msg_file_transfer_dir_list.MAVLINK_MSG_ID_FILE_TRANSFER_DIR_LIST, msg_file_transfer_dir_list.MAVLINK_MSG_LENGTH, 93, msg_file_transfer_dir_list::new);
+		registry.register(msg_file_transfer_res.MAVLINK_MSG_ID_FILE_TRANSFER_RES, msg_file_transfer_res.MAVLINK_MSG_LENGTH, 124, msg_file_transfer_res::new);
+		registry.register(msg_hil_gps.MAVLINK_MSG_ID_HIL_GPS, msg_hil_gps.MAVLINK_MSG_LENGTH, 124, msg_hil_gps::new);
+		registry.register(msg_hil_optical_flow.MAVLINK_MSG_ID_HIL_OPTICAL_FLOW, msg_hil_optical_flow.MAVLINK_MSG_LENGTH, 119, msg_hil_optical_flow::new);
+		registry.register(msg_hil_state_quaternion.MAVLINK_MSG_ID_HIL_STATE_QUATERNION, msg_hil_state_quaternion.MAVLINK_MSG_LENGTH, 4, msg_hil_state_quaternion::new);
+		registry.register(msg_scaled_imu2.MAVLINK_MSG_ID_SCALED_IMU2, msg_scaled_imu2.MAVLINK_MSG_LENGTH, 76, msg_scaled_imu2::new);
+		registry.register(msg_log_request_list.MAVLINK_MSG_ID_LOG_REQUEST_LIST, msg_log_request_list.MAVLINK_MSG_LENGTH, 128, msg_log_request_list::new);
+		registry.register(msg_log_entry.MAVLINK_MSG_ID_LOG_ENTRY, msg_log_entry.MAVLINK_MSG_LENGTH, 56, msg_log_entry::new);
+		registry.register(msg_log_request_data.MAVLINK_MSG_ID_LOG_REQUEST_DATA, msg_log_request_data.MAVLINK_MSG_LENGTH, 116, msg_log_request_data::new);
+		registry.register(msg_log_data.MAVLINK_MSG_ID_LOG_DATA, msg_log_data.MAVLINK_MSG_LENGTH, 134, msg_log_data::new);
+		registry.register(msg_log_erase.MAVLINK_MSG_ID_LOG_ERASE, msg_log_erase.MAVLINK_MSG_LENGTH, 237, msg_log_erase::new);
+		registry.register(msg_log_request_end.MAVLINK_MSG_ID_LOG_REQUEST_END, msg_log_request_end.MAVLINK_MSG_LENGTH, 203, msg_log_request_end::new);
+		registry.register(msg_gps_inject_data.MAVLINK_MSG_ID_GPS_INJECT_DATA, msg_gps_inject_data.MAVLINK_MSG_LENGTH, 250, msg_gps_inject_data::new);
+		registry.register(msg_gps2_raw.MAVLINK_MSG_ID_GPS2_RAW, msg_gps2_raw.MAVLINK_MSG_LENGTH, 87, msg_gps2_raw::new);
+		registry.register(msg_power_status.MAVLINK_MSG_ID_POWER_STATUS, msg_power_status.MAVLINK_MSG_LENGTH, 203, msg_power_status::new);
+		registry.register(msg_serial_control.MAVLINK_MSG_ID_SERIAL_CONTROL, msg_serial_control.MAVLINK_MSG_LENGTH, 220, msg_serial_control::new);
+		registry.register(msg_data_transmission_handshake.MAVLINK_MSG_ID_DATA_TRANSMISSION_HANDSHAKE, msg_data_transmission_handshake.MAVLINK_MSG_LENGTH, 29, msg_data_transmission_handshake::new);
+		registry.register(msg_encapsulated_data.MAVLINK_MSG_ID_ENCAPSULATED_DATA, msg_encapsulated_data.MAVLINK_MSG_LENGTH, 223, msg_encapsulated_data::new);
+		registry.register(msg_battery_status.MAVLINK_MSG_ID_BATTERY_STATUS, msg_battery_status.MAVLINK_MSG_LENGTH, 177, msg_battery_status::new);
+		registry.register(msg_setpoint_8dof.MAVLINK_MSG_ID_SETPOINT_8DOF, msg_setpoint_8dof.MAVLINK_MSG_LENGTH, 241, msg_setpoint_8dof::new);
+		registry.register(msg_setpoint_6dof.MAVLINK_MSG_ID_SETPOINT_6DOF, msg_setpoint_6dof.MAVLINK_MSG_LENGTH, 15, msg_setpoint_6dof::new);
+		registry.register(msg_memory_vect.MAVLINK_MSG_ID_MEMORY_VECT, msg_memory_vect.MAVLINK_MSG_LENGTH, 204, msg_memory_vect::new);
+		registry.register(msg_debug_vect.MAVLINK_MSG_ID_DEBUG_VECT, msg_debug_vect.MAVLINK_MSG_LENGTH, 49, msg_debug_vect::new);
+		registry.register(msg_named_value_float.MAVLINK_MSG_ID_NAMED_VALUE_FLOAT, msg_named_value_float.MAVLINK_MSG_LENGTH, 170, msg_named_value_float::new);
+		registry.register(msg_named_value_int.MAVLINK_MSG_ID_NAMED_VALUE_INT, msg_named_value_int.MAVLINK_MSG_LENGTH, 44, msg_named_value_int::new);
+		registry.register(msg_statustext.MAVLINK_MSG_ID_STATUSTEXT, msg_statustext.MAVLINK_MSG_LENGTH, 83, msg_statustext::new);
+		registry.register(msg_debug.MAVLINK_MSG_ID_DEBUG, msg_debug.MAVLINK_MSG_LENGTH, 46, msg_debug::new);
+	}
+}
@@ -36,9 +36,7 @@ public class msg_encapsulated_data extends MAVLinkMessage{
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_ENCAPSULATED_DATA;
 		packet.payload.putShort(seqnr);
-		 for (int i = 0; i < data.length; i++) {
-                        packet.payload.putByte(data[i]);
-            }
+		packet.payload.putBytes(data);
 		return packet;		
 	}
 
@@ -50,9 +48,7 @@ public class msg_encapsulated_data extends MAVLinkMessage{
     public void unpack(MAVLinkPayload payload) {
         payload.resetIndex();
 	    seqnr = payload.getShort();
-	     for (int i = 0; i < data.length; i++) {
-			data[i] = payload.getByte();
-		}    
+	    payload.getBytes(data);
     }
 
      /**
@@ -46,9 +46,7 @@ public class msg_gps_inject_data extends MAVLinkMessage{
 		packet.payload.putByte(target_system);
 		packet.payload.putByte(target_component);
 		packet.payload.putByte(len);
-		 for (int i = 0; i < data.length; i++) {
-                        packet.payload.putByte(data[i]);
-            }
+		packet.payload.putBytes(data);
 		return packet;		
 	}
 
@@ -62,9 +60,7 @@ public class msg_gps_inject_data extends MAVLinkMessage{
 	    target_system = payload.getByte();
 	    target_component = payload.getByte();
 	    len = payload.getByte();
-	     for (int i = 0; i < data.length; i++) {
-			data[i] = payload.getByte();
-		}    
+	    payload.getBytes(data);
     }
 
      /**
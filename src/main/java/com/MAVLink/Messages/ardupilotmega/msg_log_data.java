@@ -46,9 +46,7 @@ public class msg_log_data extends MAVLinkMessage{
 		packet.payload.putInt(ofs);
 		packet.payload.putShort(id);
 		packet.payload.putByte(count);
-		 for (int i = 0; i < data.length; i++) {
-                        packet.payload.putByte(data[i]);
-            }
+		packet.payload.putBytes(data);
 		return packet;		
 	}
 
@@ -62,9 +60,7 @@ public class msg_log_data extends MAVLinkMessage{
 	    ofs = payload.getInt();
 	    id = payload.getShort();
 	    count = payload.getByte();
-	     for (int i = 0; i < data.length; i++) {
-			data[i] = payload.getByte();
-		}    
+	    payload.getBytes(data);
     }
 
      /**
@@ -36,9 +36,7 @@ public class msg_statustext extends MAVLinkMessage{
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_STATUSTEXT;
 		packet.payload.putByte(severity);
-		 for (int i = 0; i < text.length; i++) {
-                        packet.payload.putByte(text[i]);
-            }
+		packet.payload.putBytes(text);
 		return packet;		
 	}
 
@@ -50,9 +48,7 @@ public class msg_statustext extends MAVLinkMessage{
     public void unpack(MAVLinkPayload payload) {
         payload.resetIndex();
 	    severity = payload.getByte();
-	     for (int i = 0; i < text.length; i++) {
-			text[i] = payload.getByte();
-		}    
+	    payload.getBytes(text);
     }
 
      /**
@@ -0,0 +1,85 @@
+// MESSAGE AHRS VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_ahrs;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the AHRS payload (see msg_ahrs).
+* Status of DCM attitude estimator
+*/
+public class AhrsView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_ahrs.MAVLINK_MSG_ID_AHRS;
+	public static final int MAVLINK_MSG_LENGTH = msg_ahrs.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete AHRS payload that starts at offset
+	 */
+	public static AhrsView wrap(ByteBuffer buffer, int offset) {
+		AhrsView view = new AhrsView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received AHRS packet
+	 */
+	public static AhrsView wrap(MAVLinkPacket packet) {
+		AhrsView view = new AhrsView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* X gyro drift estimate rad/s
+	*/
+	public float omegaIx() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* Y gyro drift estimate rad/s
+	*/
+	public float omegaIy() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* Z gyro drift estimate rad/s
+	*/
+	public float omegaIz() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* average accel_weight
+	*/
+	public float accel_weight() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* average renormalisation value
+	*/
+	public float renorm_val() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* average error_roll_pitch value
+	*/
+	public float error_rp() {
+		return getFloat(20);
+	}
+
+ 	/**
+	* average error_yaw value
+	*/
+	public float error_yaw() {
+		return getFloat(24);
+	}
+}
@@ -0,0 +1,78 @@
+// MESSAGE AP_ADC VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_ap_adc;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the AP_ADC payload (see msg_ap_adc).
+* raw ADC output
+*/
+public class ApAdcView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_ap_adc.MAVLINK_MSG_ID_AP_ADC;
+	public static final int MAVLINK_MSG_LENGTH = msg_ap_adc.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete AP_ADC payload that starts at offset
+	 */
+	public static ApAdcView wrap(ByteBuffer buffer, int offset) {
+		ApAdcView view = new ApAdcView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received AP_ADC packet
+	 */
+	public static ApAdcView wrap(MAVLinkPacket packet) {
+		ApAdcView view = new ApAdcView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* ADC output 1
+	*/
+	public short adc1() {
+		return getShort(0);
+	}
+
+ 	/**
+	* ADC output 2
+	*/
+	public short adc2() {
+		return getShort(2);
+	}
+
+ 	/**
+	* ADC output 3
+	*/
+	public short adc3() {
+		return getShort(4);
+	}
+
+ 	/**
+	* ADC output 4
+	*/
+	public short adc4() {
+		return getShort(6);
+	}
+
+ 	/**
+	* ADC output 5
+	*/
+	public short adc5() {
+		return getShort(8);
+	}
+
+ 	/**
+	* ADC output 6
+	*/
+	public short adc6() {
+		return getShort(10);
+	}
+}
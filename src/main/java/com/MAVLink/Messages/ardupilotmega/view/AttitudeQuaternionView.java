@@ -0,0 +1,92 @@
+// MESSAGE ATTITUDE_QUATERNION VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_attitude_quaternion;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the ATTITUDE_QUATERNION payload (see msg_attitude_quaternion).
+* The attitude in the aeronautical frame (right-handed, Z-down, X-front, Y-right), expressed as quaternion.
+*/
+public class AttitudeQuaternionView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_attitude_quaternion.MAVLINK_MSG_ID_ATTITUDE_QUATERNION;
+	public static final int MAVLINK_MSG_LENGTH = msg_attitude_quaternion.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete ATTITUDE_QUATERNION payload that starts at offset
+	 */
+	public static AttitudeQuaternionView wrap(ByteBuffer buffer, int offset) {
+		AttitudeQuaternionView view = new AttitudeQuaternionView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received ATTITUDE_QUATERNION packet
+	 */
+	public static AttitudeQuaternionView wrap(MAVLinkPacket packet) {
+		AttitudeQuaternionView view = new AttitudeQuaternionView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (milliseconds since system boot)
+	*/
+	public int time_boot_ms() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Quaternion component 1
+	*/
+	public float q1() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* Quaternion component 2
+	*/
+	public float q2() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Quaternion component 3
+	*/
+	public float q3() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Quaternion component 4
+	*/
+	public float q4() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* Roll angular speed (rad/s)
+	*/
+	public float rollspeed() {
+		return getFloat(20);
+	}
+
+ 	/**
+	* Pitch angular speed (rad/s)
+	*/
+	public float pitchspeed() {
+		return getFloat(24);
+	}
+
+ 	/**
+	* Yaw angular speed (rad/s)
+	*/
+	public float yawspeed() {
+		return getFloat(28);
+	}
+}
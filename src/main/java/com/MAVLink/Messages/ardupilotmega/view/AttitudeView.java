@@ -0,0 +1,85 @@
+// MESSAGE ATTITUDE VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_attitude;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the ATTITUDE payload (see msg_attitude).
+* The attitude in the aeronautical frame (right-handed, Z-down, X-front, Y-right).
+*/
+public class AttitudeView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_attitude.MAVLINK_MSG_ID_ATTITUDE;
+	public static final int MAVLINK_MSG_LENGTH = msg_attitude.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete ATTITUDE payload that starts at offset
+	 */
+	public static AttitudeView wrap(ByteBuffer buffer, int offset) {
+		AttitudeView view = new AttitudeView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received ATTITUDE packet
+	 */
+	public static AttitudeView wrap(MAVLinkPacket packet) {
+		AttitudeView view = new AttitudeView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (milliseconds since system boot)
+	*/
+	public int time_boot_ms() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Roll angle (rad, -pi..+pi)
+	*/
+	public float roll() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* Pitch angle (rad, -pi..+pi)
+	*/
+	public float pitch() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Yaw angle (rad, -pi..+pi)
+	*/
+	public float yaw() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Roll angular speed (rad/s)
+	*/
+	public float rollspeed() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* Pitch angular speed (rad/s)
+	*/
+	public float pitchspeed() {
+		return getFloat(20);
+	}
+
+ 	/**
+	* Yaw angular speed (rad/s)
+	*/
+	public float yawspeed() {
+		return getFloat(24);
+	}
+}
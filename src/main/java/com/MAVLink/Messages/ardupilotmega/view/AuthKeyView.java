@@ -0,0 +1,47 @@
+// MESSAGE AUTH_KEY VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_auth_key;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the AUTH_KEY payload (see msg_auth_key).
+* Emit an encrypted signature / key identifying this system. PLEASE NOTE: This protocol has been kept simple, so transmitting the key requires an encrypted channel for true safety.
+*/
+public class AuthKeyView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_auth_key.MAVLINK_MSG_ID_AUTH_KEY;
+	public static final int MAVLINK_MSG_LENGTH = msg_auth_key.MAVLINK_MSG_LENGTH;
+	public static final int KEY_LENGTH = 32;
+
+	/**
+	 * Wrap a complete AUTH_KEY payload that starts at offset
+	 */
+	public static AuthKeyView wrap(ByteBuffer buffer, int offset) {
+		AuthKeyView view = new AuthKeyView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received AUTH_KEY packet
+	 */
+	public static AuthKeyView wrap(MAVLinkPacket packet) {
+		AuthKeyView view = new AuthKeyView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* key
+	*/
+	public byte key(int index) {
+		if (index < 0 || index >= KEY_LENGTH) {
+			throw new IndexOutOfBoundsException("key[" + index + "]");
+		}
+		return getByte(0 + index);
+	}
+}
@@ -0,0 +1,113 @@
+// MESSAGE BATTERY_STATUS VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_battery_status;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the BATTERY_STATUS payload (see msg_battery_status).
+* Transmitte battery informations for a accu pack.
+*/
+public class BatteryStatusView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_battery_status.MAVLINK_MSG_ID_BATTERY_STATUS;
+	public static final int MAVLINK_MSG_LENGTH = msg_battery_status.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete BATTERY_STATUS payload that starts at offset
+	 */
+	public static BatteryStatusView wrap(ByteBuffer buffer, int offset) {
+		BatteryStatusView view = new BatteryStatusView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received BATTERY_STATUS packet
+	 */
+	public static BatteryStatusView wrap(MAVLinkPacket packet) {
+		BatteryStatusView view = new BatteryStatusView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Consumed charge, in milliampere hours (1 = 1 mAh), -1: autopilot does not provide mAh consumption estimate
+	*/
+	public int current_consumed() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Consumed energy, in 100*Joules (intergrated U*I*dt)  (1 = 100 Joule), -1: autopilot does not provide energy consumption estimate
+	*/
+	public int energy_consumed() {
+		return getInt(4);
+	}
+
+ 	/**
+	* Battery voltage of cell 1, in millivolts (1 = 1 millivolt)
+	*/
+	public short voltage_cell_1() {
+		return getShort(8);
+	}
+
+ 	/**
+	* Battery voltage of cell 2, in millivolts (1 = 1 millivolt), -1: no cell
+	*/
+	public short voltage_cell_2() {
+		return getShort(10);
+	}
+
+ 	/**
+	* Battery voltage of cell 3, in millivolts (1 = 1 millivolt), -1: no cell
+	*/
+	public short voltage_cell_3() {
+		return getShort(12);
+	}
+
+ 	/**
+	* Battery voltage of cell 4, in millivolts (1 = 1 millivolt), -1: no cell
+	*/
+	public short voltage_cell_4() {
+		return getShort(14);
+	}
+
+ 	/**
+	* Battery voltage of cell 5, in millivolts (1 = 1 millivolt), -1: no cell
+	*/
+	public short voltage_cell_5() {
+		return getShort(16);
+	}
+
+ 	/**
+	* Battery voltage of cell 6, in millivolts (1 = 1 millivolt), -1: no cell
+	*/
+	public short voltage_cell_6() {
+		return getShort(18);
+	}
+
+ 	/**
+	* Battery current, in 10*milliamperes (1 = 10 milliampere), -1: autopilot does not measure the current
+	*/
+	public short current_battery() {
+		return getShort(20);
+	}
+
+ 	/**
+	* Accupack ID
+	*/
+	public byte accu_id() {
+		return getByte(22);
+	}
+
+ 	/**
+	* Remaining battery energy: (0%: 0, 100%: 100), -1: autopilot does not estimate the remaining battery
+	*/
+	public byte battery_remaining() {
+		return getByte(23);
+	}
+}
@@ -0,0 +1,57 @@
+// MESSAGE CHANGE_OPERATOR_CONTROL_ACK VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_change_operator_control_ack;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the CHANGE_OPERATOR_CONTROL_ACK payload (see msg_change_operator_control_ack).
+* Accept / deny control of this MAV
+*/
+public class ChangeOperatorControlAckView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_change_operator_control_ack.MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL_ACK;
+	public static final int MAVLINK_MSG_LENGTH = msg_change_operator_control_ack.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete CHANGE_OPERATOR_CONTROL_ACK payload that starts at offset
+	 */
+	public static ChangeOperatorControlAckView wrap(ByteBuffer buffer, int offset) {
+		ChangeOperatorControlAckView view = new ChangeOperatorControlAckView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received CHANGE_OPERATOR_CONTROL_ACK packet
+	 */
+	public static ChangeOperatorControlAckView wrap(MAVLinkPacket packet) {
+		ChangeOperatorControlAckView view = new ChangeOperatorControlAckView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* ID of the GCS this message 
+	*/
+	public byte gcs_system_id() {
+		return getByte(0);
+	}
+
+ 	/**
+	* 0: request control of this MAV, 1: Release control of this MAV
+	*/
+	public byte control_request() {
+		return getByte(1);
+	}
+
+ 	/**
+	* 0: ACK, 1: NACK: Wrong passkey, 2: NACK: Unsupported passkey encryption method, 3: NACK: Already under control
+	*/
+	public byte ack() {
+		return getByte(2);
+	}
+}
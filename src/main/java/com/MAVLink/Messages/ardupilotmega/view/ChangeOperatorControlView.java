@@ -0,0 +1,68 @@
+// MESSAGE CHANGE_OPERATOR_CONTROL VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_change_operator_control;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the CHANGE_OPERATOR_CONTROL payload (see msg_change_operator_control).
+* Request to control this MAV
+*/
+public class ChangeOperatorControlView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_change_operator_control.MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL;
+	public static final int MAVLINK_MSG_LENGTH = msg_change_operator_control.MAVLINK_MSG_LENGTH;
+	public static final int PASSKEY_LENGTH = 25;
+
+	/**
+	 * Wrap a complete CHANGE_OPERATOR_CONTROL payload that starts at offset
+	 */
+	public static ChangeOperatorControlView wrap(ByteBuffer buffer, int offset) {
+		ChangeOperatorControlView view = new ChangeOperatorControlView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received CHANGE_OPERATOR_CONTROL packet
+	 */
+	public static ChangeOperatorControlView wrap(MAVLinkPacket packet) {
+		ChangeOperatorControlView view = new ChangeOperatorControlView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* System the GCS requests control for
+	*/
+	public byte target_system() {
+		return getByte(0);
+	}
+
+ 	/**
+	* 0: request control of this MAV, 1: Release control of this MAV
+	*/
+	public byte control_request() {
+		return getByte(1);
+	}
+
+ 	/**
+	* 0: key as plaintext, 1-255: future, different hashing/encryption variants. The GCS should in general use the safest mode possible initially and then gradually move down the encryption level if it gets a NACK message indicating an encryption mismatch.
+	*/
+	public byte version() {
+		return getByte(2);
+	}
+
+ 	/**
+	* Password / Key, depending on version plaintext or encrypted. 25 or less characters, NULL terminated. The characters may involve A-Z, a-z, 0-9, and "!?,.-"
+	*/
+	public byte passkey(int index) {
+		if (index < 0 || index >= PASSKEY_LENGTH) {
+			throw new IndexOutOfBoundsException("passkey[" + index + "]");
+		}
+		return getByte(3 + index);
+	}
+}
@@ -0,0 +1,50 @@
+// MESSAGE COMMAND_ACK VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_command_ack;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the COMMAND_ACK payload (see msg_command_ack).
+* Report status of a command. Includes feedback wether the command was executed.
+*/
+public class CommandAckView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_command_ack.MAVLINK_MSG_ID_COMMAND_ACK;
+	public static final int MAVLINK_MSG_LENGTH = msg_command_ack.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete COMMAND_ACK payload that starts at offset
+	 */
+	public static CommandAckView wrap(ByteBuffer buffer, int offset) {
+		CommandAckView view = new CommandAckView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received COMMAND_ACK packet
+	 */
+	public static CommandAckView wrap(MAVLinkPacket packet) {
+		CommandAckView view = new CommandAckView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Command ID, as defined by MAV_CMD enum.
+	*/
+	public short command() {
+		return getShort(0);
+	}
+
+ 	/**
+	* See MAV_RESULT enum
+	*/
+	public byte result() {
+		return getByte(2);
+	}
+}
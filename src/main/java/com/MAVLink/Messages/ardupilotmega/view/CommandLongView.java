@@ -0,0 +1,113 @@
+// MESSAGE COMMAND_LONG VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_command_long;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the COMMAND_LONG payload (see msg_command_long).
+* Send a command with up to seven parameters to the MAV
+*/
+public class CommandLongView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG;
+	public static final int MAVLINK_MSG_LENGTH = msg_command_long.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete COMMAND_LONG payload that starts at offset
+	 */
+	public static CommandLongView wrap(ByteBuffer buffer, int offset) {
+		CommandLongView view = new CommandLongView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received COMMAND_LONG packet
+	 */
+	public static CommandLongView wrap(MAVLinkPacket packet) {
+		CommandLongView view = new CommandLongView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Parameter 1, as defined by MAV_CMD enum.
+	*/
+	public float param1() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* Parameter 2, as defined by MAV_CMD enum.
+	*/
+	public float param2() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* Parameter 3, as defined by MAV_CMD enum.
+	*/
+	public float param3() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Parameter 4, as defined by MAV_CMD enum.
+	*/
+	public float param4() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Parameter 5, as defined by MAV_CMD enum.
+	*/
+	public float param5() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* Parameter 6, as defined by MAV_CMD enum.
+	*/
+	public float param6() {
+		return getFloat(20);
+	}
+
+ 	/**
+	* Parameter 7, as defined by MAV_CMD enum.
+	*/
+	public float param7() {
+		return getFloat(24);
+	}
+
+ 	/**
+	* Command ID, as defined by MAV_CMD enum.
+	*/
+	public short command() {
+		return getShort(28);
+	}
+
+ 	/**
+	* System which should execute the command
+	*/
+	public byte target_system() {
+		return getByte(30);
+	}
+
+ 	/**
+	* Component which should execute the command, 0 for all components
+	*/
+	public byte target_component() {
+		return getByte(31);
+	}
+
+ 	/**
+	* 0: First transmission of this command. 1-255: Confirmation transmissions (e.g. for kill command)
+	*/
+	public byte confirmation() {
+		return getByte(32);
+	}
+}
@@ -0,0 +1,61 @@
+// MESSAGE DATA16 VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_data16;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the DATA16 payload (see msg_data16).
+* Data packet, size 16
+*/
+public class Data16View extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_data16.MAVLINK_MSG_ID_DATA16;
+	public static final int MAVLINK_MSG_LENGTH = msg_data16.MAVLINK_MSG_LENGTH;
+	public static final int DATA_LENGTH = 16;
+
+	/**
+	 * Wrap a complete DATA16 payload that starts at offset
+	 */
+	public static Data16View wrap(ByteBuffer buffer, int offset) {
+		Data16View view = new Data16View();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received DATA16 packet
+	 */
+	public static Data16View wrap(MAVLinkPacket packet) {
+		Data16View view = new Data16View();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* data type
+	*/
+	public byte type() {
+		return getByte(0);
+	}
+
+ 	/**
+	* data length
+	*/
+	public byte len() {
+		return getByte(1);
+	}
+
+ 	/**
+	* raw data
+	*/
+	public byte data(int index) {
+		if (index < 0 || index >= DATA_LENGTH) {
+			throw new IndexOutOfBoundsException("data[" + index + "]");
+		}
+		return getByte(2 + index);
+	}
+}
@@ -0,0 +1,61 @@
+// MESSAGE DATA32 VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_data32;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the DATA32 payload (see msg_data32).
+* Data packet, size 32
+*/
+public class Data32View extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_data32.MAVLINK_MSG_ID_DATA32;
+	public static final int MAVLINK_MSG_LENGTH = msg_data32.MAVLINK_MSG_LENGTH;
+	public static final int DATA_LENGTH = 32;
+
+	/**
+	 * Wrap a complete DATA32 payload that starts at offset
+	 */
+	public static Data32View wrap(ByteBuffer buffer, int offset) {
+		Data32View view = new Data32View();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received DATA32 packet
+	 */
+	public static Data32View wrap(MAVLinkPacket packet) {
+		Data32View view = new Data32View();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* data type
+	*/
+	public byte type() {
+		return getByte(0);
+	}
+
+ 	/**
+	* data length
+	*/
+	public byte len() {
+		return getByte(1);
+	}
+
+ 	/**
+	* raw data
+	*/
+	public byte data(int index) {
+		if (index < 0 || index >= DATA_LENGTH) {
+			throw new IndexOutOfBoundsException("data[" + index + "]");
+		}
+		return getByte(2 + index);
+	}
+}
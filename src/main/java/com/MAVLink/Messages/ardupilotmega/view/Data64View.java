@@ -0,0 +1,61 @@
+// MESSAGE DATA64 VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_data64;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the DATA64 payload (see msg_data64).
+* Data packet, size 64
+*/
+public class Data64View extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_data64.MAVLINK_MSG_ID_DATA64;
+	public static final int MAVLINK_MSG_LENGTH = msg_data64.MAVLINK_MSG_LENGTH;
+	public static final int DATA_LENGTH = 64;
+
+	/**
+	 * Wrap a complete DATA64 payload that starts at offset
+	 */
+	public static Data64View wrap(ByteBuffer buffer, int offset) {
+		Data64View view = new Data64View();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received DATA64 packet
+	 */
+	public static Data64View wrap(MAVLinkPacket packet) {
+		Data64View view = new Data64View();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* data type
+	*/
+	public byte type() {
+		return getByte(0);
+	}
+
+ 	/**
+	* data length
+	*/
+	public byte len() {
+		return getByte(1);
+	}
+
+ 	/**
+	* raw data
+	*/
+	public byte data(int index) {
+		if (index < 0 || index >= DATA_LENGTH) {
+			throw new IndexOutOfBoundsException("data[" + index + "]");
+		}
+		return getByte(2 + index);
+	}
+}
@@ -0,0 +1,61 @@
+// MESSAGE DATA96 VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_data96;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the DATA96 payload (see msg_data96).
+* Data packet, size 96
+*/
+public class Data96View extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_data96.MAVLINK_MSG_ID_DATA96;
+	public static final int MAVLINK_MSG_LENGTH = msg_data96.MAVLINK_MSG_LENGTH;
+	public static final int DATA_LENGTH = 96;
+
+	/**
+	 * Wrap a complete DATA96 payload that starts at offset
+	 */
+	public static Data96View wrap(ByteBuffer buffer, int offset) {
+		Data96View view = new Data96View();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received DATA96 packet
+	 */
+	public static Data96View wrap(MAVLinkPacket packet) {
+		Data96View view = new Data96View();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* data type
+	*/
+	public byte type() {
+		return getByte(0);
+	}
+
+ 	/**
+	* data length
+	*/
+	public byte len() {
+		return getByte(1);
+	}
+
+ 	/**
+	* raw data
+	*/
+	public byte data(int index) {
+		if (index < 0 || index >= DATA_LENGTH) {
+			throw new IndexOutOfBoundsException("data[" + index + "]");
+		}
+		return getByte(2 + index);
+	}
+}
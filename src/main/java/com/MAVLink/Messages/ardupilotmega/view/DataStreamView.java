@@ -0,0 +1,57 @@
+// MESSAGE DATA_STREAM VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_data_stream;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the DATA_STREAM payload (see msg_data_stream).
+* 
+*/
+public class DataStreamView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_data_stream.MAVLINK_MSG_ID_DATA_STREAM;
+	public static final int MAVLINK_MSG_LENGTH = msg_data_stream.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete DATA_STREAM payload that starts at offset
+	 */
+	public static DataStreamView wrap(ByteBuffer buffer, int offset) {
+		DataStreamView view = new DataStreamView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received DATA_STREAM packet
+	 */
+	public static DataStreamView wrap(MAVLinkPacket packet) {
+		DataStreamView view = new DataStreamView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* The requested interval between two messages of this type
+	*/
+	public short message_rate() {
+		return getShort(0);
+	}
+
+ 	/**
+	* The ID of the requested data stream
+	*/
+	public byte stream_id() {
+		return getByte(2);
+	}
+
+ 	/**
+	* 1 stream is enabled, 0 stream is stopped.
+	*/
+	public byte on_off() {
+		return getByte(3);
+	}
+}
@@ -0,0 +1,85 @@
+// MESSAGE DATA_TRANSMISSION_HANDSHAKE VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_data_transmission_handshake;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the DATA_TRANSMISSION_HANDSHAKE payload (see msg_data_transmission_handshake).
+* 
+*/
+public class DataTransmissionHandshakeView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_data_transmission_handshake.MAVLINK_MSG_ID_DATA_TRANSMISSION_HANDSHAKE;
+	public static final int MAVLINK_MSG_LENGTH = msg_data_transmission_handshake.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete DATA_TRANSMISSION_HANDSHAKE payload that starts at offset
+	 */
+	public static DataTransmissionHandshakeView wrap(ByteBuffer buffer, int offset) {
+		DataTransmissionHandshakeView view = new DataTransmissionHandshakeView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received DATA_TRANSMISSION_HANDSHAKE packet
+	 */
+	public static DataTransmissionHandshakeView wrap(MAVLinkPacket packet) {
+		DataTransmissionHandshakeView view = new DataTransmissionHandshakeView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* total data size in bytes (set on ACK only)
+	*/
+	public int size() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Width of a matrix or image
+	*/
+	public short width() {
+		return getShort(4);
+	}
+
+ 	/**
+	* Height of a matrix or image
+	*/
+	public short height() {
+		return getShort(6);
+	}
+
+ 	/**
+	* number of packets beeing sent (set on ACK only)
+	*/
+	public short packets() {
+		return getShort(8);
+	}
+
+ 	/**
+	* type of requested/acknowledged data (as defined in ENUM DATA_TYPES in mavlink/include/mavlink_types.h)
+	*/
+	public byte type() {
+		return getByte(10);
+	}
+
+ 	/**
+	* payload size per packet (normally 253 byte, see DATA field size in message ENCAPSULATED_DATA) (set on ACK only)
+	*/
+	public byte payload() {
+		return getByte(11);
+	}
+
+ 	/**
+	* JPEG quality out of [1,100]
+	*/
+	public byte jpg_quality() {
+		return getByte(12);
+	}
+}
@@ -0,0 +1,75 @@
+// MESSAGE DEBUG_VECT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_debug_vect;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the DEBUG_VECT payload (see msg_debug_vect).
+* 
+*/
+public class DebugVectView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_debug_vect.MAVLINK_MSG_ID_DEBUG_VECT;
+	public static final int MAVLINK_MSG_LENGTH = msg_debug_vect.MAVLINK_MSG_LENGTH;
+	public static final int NAME_LENGTH = 10;
+
+	/**
+	 * Wrap a complete DEBUG_VECT payload that starts at offset
+	 */
+	public static DebugVectView wrap(ByteBuffer buffer, int offset) {
+		DebugVectView view = new DebugVectView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received DEBUG_VECT packet
+	 */
+	public static DebugVectView wrap(MAVLinkPacket packet) {
+		DebugVectView view = new DebugVectView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp
+	*/
+	public long time_usec() {
+		return getLong(0);
+	}
+
+ 	/**
+	* x
+	*/
+	public float x() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* y
+	*/
+	public float y() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* z
+	*/
+	public float z() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* Name
+	*/
+	public byte name(int index) {
+		if (index < 0 || index >= NAME_LENGTH) {
+			throw new IndexOutOfBoundsException("name[" + index + "]");
+		}
+		return getByte(20 + index);
+	}
+}
@@ -0,0 +1,57 @@
+// MESSAGE DEBUG VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_debug;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the DEBUG payload (see msg_debug).
+* Send a debug value. The index is used to discriminate between values. These values show up in the plot of QGroundControl as DEBUG N.
+*/
+public class DebugView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_debug.MAVLINK_MSG_ID_DEBUG;
+	public static final int MAVLINK_MSG_LENGTH = msg_debug.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete DEBUG payload that starts at offset
+	 */
+	public static DebugView wrap(ByteBuffer buffer, int offset) {
+		DebugView view = new DebugView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received DEBUG packet
+	 */
+	public static DebugView wrap(MAVLinkPacket packet) {
+		DebugView view = new DebugView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (milliseconds since system boot)
+	*/
+	public int time_boot_ms() {
+		return getInt(0);
+	}
+
+ 	/**
+	* DEBUG value
+	*/
+	public float value() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* index of debug variable
+	*/
+	public byte ind() {
+		return getByte(8);
+	}
+}
@@ -0,0 +1,113 @@
+// MESSAGE DIGICAM_CONFIGURE VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_digicam_configure;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the DIGICAM_CONFIGURE payload (see msg_digicam_configure).
+* Configure on-board Camera Control System.
+*/
+public class DigicamConfigureView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_digicam_configure.MAVLINK_MSG_ID_DIGICAM_CONFIGURE;
+	public static final int MAVLINK_MSG_LENGTH = msg_digicam_configure.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete DIGICAM_CONFIGURE payload that starts at offset
+	 */
+	public static DigicamConfigureView wrap(ByteBuffer buffer, int offset) {
+		DigicamConfigureView view = new DigicamConfigureView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received DIGICAM_CONFIGURE packet
+	 */
+	public static DigicamConfigureView wrap(MAVLinkPacket packet) {
+		DigicamConfigureView view = new DigicamConfigureView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Correspondent value to given extra_param
+	*/
+	public float extra_value() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* Divisor number //e.g. 1000 means 1/1000 (0 means ignore)
+	*/
+	public short shutter_speed() {
+		return getShort(4);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(6);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(7);
+	}
+
+ 	/**
+	* Mode enumeration from 1 to N //P, TV, AV, M, Etc (0 means ignore)
+	*/
+	public byte mode() {
+		return getByte(8);
+	}
+
+ 	/**
+	* F stop number x 10 //e.g. 28 means 2.8 (0 means ignore)
+	*/
+	public byte aperture() {
+		return getByte(9);
+	}
+
+ 	/**
+	* ISO enumeration from 1 to N //e.g. 80, 100, 200, Etc (0 means ignore)
+	*/
+	public byte iso() {
+		return getByte(10);
+	}
+
+ 	/**
+	* Exposure type enumeration from 1 to N (0 means ignore)
+	*/
+	public byte exposure_type() {
+		return getByte(11);
+	}
+
+ 	/**
+	* Command Identity (incremental loop: 0 to 255)//A command sent multiple times will be executed or pooled just once
+	*/
+	public byte command_id() {
+		return getByte(12);
+	}
+
+ 	/**
+	* Main engine cut-off time before camera trigger in seconds/10 (0 means no cut-off)
+	*/
+	public byte engine_cut_off() {
+		return getByte(13);
+	}
+
+ 	/**
+	* Extra parameters enumeration (0 means ignore)
+	*/
+	public byte extra_param() {
+		return getByte(14);
+	}
+}
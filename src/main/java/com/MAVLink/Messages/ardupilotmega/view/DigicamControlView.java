@@ -0,0 +1,106 @@
+// MESSAGE DIGICAM_CONTROL VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_digicam_control;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the DIGICAM_CONTROL payload (see msg_digicam_control).
+* Control on-board Camera Control System to take shots.
+*/
+public class DigicamControlView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_digicam_control.MAVLINK_MSG_ID_DIGICAM_CONTROL;
+	public static final int MAVLINK_MSG_LENGTH = msg_digicam_control.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete DIGICAM_CONTROL payload that starts at offset
+	 */
+	public static DigicamControlView wrap(ByteBuffer buffer, int offset) {
+		DigicamControlView view = new DigicamControlView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received DIGICAM_CONTROL packet
+	 */
+	public static DigicamControlView wrap(MAVLinkPacket packet) {
+		DigicamControlView view = new DigicamControlView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Correspondent value to given extra_param
+	*/
+	public float extra_value() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(4);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(5);
+	}
+
+ 	/**
+	* 0: stop, 1: start or keep it up //Session control e.g. show/hide lens
+	*/
+	public byte session() {
+		return getByte(6);
+	}
+
+ 	/**
+	* 1 to N //Zoom's absolute position (0 means ignore)
+	*/
+	public byte zoom_pos() {
+		return getByte(7);
+	}
+
+ 	/**
+	* -100 to 100 //Zooming step value to offset zoom from the current position
+	*/
+	public byte zoom_step() {
+		return getByte(8);
+	}
+
+ 	/**
+	* 0: unlock focus or keep unlocked, 1: lock focus or keep locked, 3: re-lock focus
+	*/
+	public byte focus_lock() {
+		return getByte(9);
+	}
+
+ 	/**
+	* 0: ignore, 1: shot or start filming
+	*/
+	public byte shot() {
+		return getByte(10);
+	}
+
+ 	/**
+	* Command Identity (incremental loop: 0 to 255)//A command sent multiple times will be executed or pooled just once
+	*/
+	public byte command_id() {
+		return getByte(11);
+	}
+
+ 	/**
+	* Extra parameters enumeration (0 means ignore)
+	*/
+	public byte extra_param() {
+		return getByte(12);
+	}
+}
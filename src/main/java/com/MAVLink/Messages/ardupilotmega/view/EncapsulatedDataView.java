@@ -0,0 +1,54 @@
+// MESSAGE ENCAPSULATED_DATA VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_encapsulated_data;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the ENCAPSULATED_DATA payload (see msg_encapsulated_data).
+* 
+*/
+public class EncapsulatedDataView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_encapsulated_data.MAVLINK_MSG_ID_ENCAPSULATED_DATA;
+	public static final int MAVLINK_MSG_LENGTH = msg_encapsulated_data.MAVLINK_MSG_LENGTH;
+	public static final int DATA_LENGTH = 253;
+
+	/**
+	 * Wrap a complete ENCAPSULATED_DATA payload that starts at offset
+	 */
+	public static EncapsulatedDataView wrap(ByteBuffer buffer, int offset) {
+		EncapsulatedDataView view = new EncapsulatedDataView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received ENCAPSULATED_DATA packet
+	 */
+	public static EncapsulatedDataView wrap(MAVLinkPacket packet) {
+		EncapsulatedDataView view = new EncapsulatedDataView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* sequence number (starting with 0 on every transmission)
+	*/
+	public short seqnr() {
+		return getShort(0);
+	}
+
+ 	/**
+	* image data bytes
+	*/
+	public byte data(int index) {
+		if (index < 0 || index >= DATA_LENGTH) {
+			throw new IndexOutOfBoundsException("data[" + index + "]");
+		}
+		return getByte(2 + index);
+	}
+}
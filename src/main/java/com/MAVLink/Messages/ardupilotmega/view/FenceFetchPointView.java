@@ -0,0 +1,57 @@
+// MESSAGE FENCE_FETCH_POINT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_fence_fetch_point;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the FENCE_FETCH_POINT payload (see msg_fence_fetch_point).
+* Request a current fence point from MAV
+*/
+public class FenceFetchPointView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_fence_fetch_point.MAVLINK_MSG_ID_FENCE_FETCH_POINT;
+	public static final int MAVLINK_MSG_LENGTH = msg_fence_fetch_point.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete FENCE_FETCH_POINT payload that starts at offset
+	 */
+	public static FenceFetchPointView wrap(ByteBuffer buffer, int offset) {
+		FenceFetchPointView view = new FenceFetchPointView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received FENCE_FETCH_POINT packet
+	 */
+	public static FenceFetchPointView wrap(MAVLinkPacket packet) {
+		FenceFetchPointView view = new FenceFetchPointView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(0);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(1);
+	}
+
+ 	/**
+	* point index (first point is 1, 0 is for return point)
+	*/
+	public byte idx() {
+		return getByte(2);
+	}
+}
@@ -0,0 +1,79 @@
+// MESSAGE FENCE_POINT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_fence_point;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the FENCE_POINT payload (see msg_fence_point).
+* A fence point. Used to set a point when from
+	      GCS -> MAV. Also used to return a point from MAV -> GCS
+*/
+public class FencePointView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_fence_point.MAVLINK_MSG_ID_FENCE_POINT;
+	public static final int MAVLINK_MSG_LENGTH = msg_fence_point.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete FENCE_POINT payload that starts at offset
+	 */
+	public static FencePointView wrap(ByteBuffer buffer, int offset) {
+		FencePointView view = new FencePointView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received FENCE_POINT packet
+	 */
+	public static FencePointView wrap(MAVLinkPacket packet) {
+		FencePointView view = new FencePointView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Latitude of point
+	*/
+	public float lat() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* Longitude of point
+	*/
+	public float lng() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(8);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(9);
+	}
+
+ 	/**
+	* point index (first point is 1, 0 is for return point)
+	*/
+	public byte idx() {
+		return getByte(10);
+	}
+
+ 	/**
+	* total number of points (for sanity checking)
+	*/
+	public byte count() {
+		return getByte(11);
+	}
+}
@@ -0,0 +1,65 @@
+// MESSAGE FENCE_STATUS VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_fence_status;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the FENCE_STATUS payload (see msg_fence_status).
+* Status of geo-fencing. Sent in extended
+	    status stream when fencing enabled
+*/
+public class FenceStatusView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_fence_status.MAVLINK_MSG_ID_FENCE_STATUS;
+	public static final int MAVLINK_MSG_LENGTH = msg_fence_status.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete FENCE_STATUS payload that starts at offset
+	 */
+	public static FenceStatusView wrap(ByteBuffer buffer, int offset) {
+		FenceStatusView view = new FenceStatusView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received FENCE_STATUS packet
+	 */
+	public static FenceStatusView wrap(MAVLinkPacket packet) {
+		FenceStatusView view = new FenceStatusView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* time of last breach in milliseconds since boot
+	*/
+	public int breach_time() {
+		return getInt(0);
+	}
+
+ 	/**
+	* number of fence breaches
+	*/
+	public short breach_count() {
+		return getShort(4);
+	}
+
+ 	/**
+	* 0 if currently inside fence, 1 if outside
+	*/
+	public byte breach_status() {
+		return getByte(6);
+	}
+
+ 	/**
+	* last breach type (see FENCE_BREACH_* enum)
+	*/
+	public byte breach_type() {
+		return getByte(7);
+	}
+}
@@ -0,0 +1,61 @@
+// MESSAGE FILE_TRANSFER_DIR_LIST VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_file_transfer_dir_list;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the FILE_TRANSFER_DIR_LIST payload (see msg_file_transfer_dir_list).
+* Get directory listing
+*/
+public class FileTransferDirListView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_file_transfer_dir_list.MAVLINK_MSG_ID_FILE_TRANSFER_DIR_LIST;
+	public static final int MAVLINK_MSG_LENGTH = msg_file_transfer_dir_list.MAVLINK_MSG_LENGTH;
+	public static final int DIR_PATH_LENGTH = 240;
+
+	/**
+	 * Wrap a complete FILE_TRANSFER_DIR_LIST payload that starts at offset
+	 */
+	public static FileTransferDirListView wrap(ByteBuffer buffer, int offset) {
+		FileTransferDirListView view = new FileTransferDirListView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received FILE_TRANSFER_DIR_LIST packet
+	 */
+	public static FileTransferDirListView wrap(MAVLinkPacket packet) {
+		FileTransferDirListView view = new FileTransferDirListView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Unique transfer ID
+	*/
+	public long transfer_uid() {
+		return getLong(0);
+	}
+
+ 	/**
+	* Directory path to list
+	*/
+	public byte dir_path(int index) {
+		if (index < 0 || index >= DIR_PATH_LENGTH) {
+			throw new IndexOutOfBoundsException("dir_path[" + index + "]");
+		}
+		return getByte(8 + index);
+	}
+
+ 	/**
+	* RESERVED
+	*/
+	public byte flags() {
+		return getByte(248);
+	}
+}
@@ -0,0 +1,50 @@
+// MESSAGE FILE_TRANSFER_RES VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_file_transfer_res;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the FILE_TRANSFER_RES payload (see msg_file_transfer_res).
+* File transfer result
+*/
+public class FileTransferResView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_file_transfer_res.MAVLINK_MSG_ID_FILE_TRANSFER_RES;
+	public static final int MAVLINK_MSG_LENGTH = msg_file_transfer_res.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete FILE_TRANSFER_RES payload that starts at offset
+	 */
+	public static FileTransferResView wrap(ByteBuffer buffer, int offset) {
+		FileTransferResView view = new FileTransferResView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received FILE_TRANSFER_RES packet
+	 */
+	public static FileTransferResView wrap(MAVLinkPacket packet) {
+		FileTransferResView view = new FileTransferResView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Unique transfer ID
+	*/
+	public long transfer_uid() {
+		return getLong(0);
+	}
+
+ 	/**
+	* 0: OK, 1: not permitted, 2: bad path / file name, 3: no space left on device
+	*/
+	public byte result() {
+		return getByte(8);
+	}
+}
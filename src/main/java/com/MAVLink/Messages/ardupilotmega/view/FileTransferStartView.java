@@ -0,0 +1,75 @@
+// MESSAGE FILE_TRANSFER_START VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_file_transfer_start;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the FILE_TRANSFER_START payload (see msg_file_transfer_start).
+* Begin file transfer
+*/
+public class FileTransferStartView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_file_transfer_start.MAVLINK_MSG_ID_FILE_TRANSFER_START;
+	public static final int MAVLINK_MSG_LENGTH = msg_file_transfer_start.MAVLINK_MSG_LENGTH;
+	public static final int DEST_PATH_LENGTH = 240;
+
+	/**
+	 * Wrap a complete FILE_TRANSFER_START payload that starts at offset
+	 */
+	public static FileTransferStartView wrap(ByteBuffer buffer, int offset) {
+		FileTransferStartView view = new FileTransferStartView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received FILE_TRANSFER_START packet
+	 */
+	public static FileTransferStartView wrap(MAVLinkPacket packet) {
+		FileTransferStartView view = new FileTransferStartView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Unique transfer ID
+	*/
+	public long transfer_uid() {
+		return getLong(0);
+	}
+
+ 	/**
+	* File size in bytes
+	*/
+	public int file_size() {
+		return getInt(8);
+	}
+
+ 	/**
+	* Destination path
+	*/
+	public byte dest_path(int index) {
+		if (index < 0 || index >= DEST_PATH_LENGTH) {
+			throw new IndexOutOfBoundsException("dest_path[" + index + "]");
+		}
+		return getByte(12 + index);
+	}
+
+ 	/**
+	* Transfer direction: 0: from requester, 1: to requester
+	*/
+	public byte direction() {
+		return getByte(252);
+	}
+
+ 	/**
+	* RESERVED
+	*/
+	public byte flags() {
+		return getByte(253);
+	}
+}
@@ -0,0 +1,100 @@
+// MESSAGE GLOBAL_POSITION_INT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_global_position_int;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the GLOBAL_POSITION_INT payload (see msg_global_position_int).
+* The filtered global position (e.g. fused GPS and accelerometers). The position is in GPS-frame (right-handed, Z-up). It
+               is designed as scaled integer message since the resolution of float is not sufficient.
+*/
+public class GlobalPositionIntView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_global_position_int.MAVLINK_MSG_ID_GLOBAL_POSITION_INT;
+	public static final int MAVLINK_MSG_LENGTH = msg_global_position_int.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete GLOBAL_POSITION_INT payload that starts at offset
+	 */
+	public static GlobalPositionIntView wrap(ByteBuffer buffer, int offset) {
+		GlobalPositionIntView view = new GlobalPositionIntView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received GLOBAL_POSITION_INT packet
+	 */
+	public static GlobalPositionIntView wrap(MAVLinkPacket packet) {
+		GlobalPositionIntView view = new GlobalPositionIntView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (milliseconds since system boot)
+	*/
+	public int time_boot_ms() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Latitude, expressed as * 1E7
+	*/
+	public int lat() {
+		return getInt(4);
+	}
+
+ 	/**
+	* Longitude, expressed as * 1E7
+	*/
+	public int lon() {
+		return getInt(8);
+	}
+
+ 	/**
+	* Altitude in meters, expressed as * 1000 (millimeters), above MSL
+	*/
+	public int alt() {
+		return getInt(12);
+	}
+
+ 	/**
+	* Altitude above ground in meters, expressed as * 1000 (millimeters)
+	*/
+	public int relative_alt() {
+		return getInt(16);
+	}
+
+ 	/**
+	* Ground X Speed (Latitude), expressed as m/s * 100
+	*/
+	public short vx() {
+		return getShort(20);
+	}
+
+ 	/**
+	* Ground Y Speed (Longitude), expressed as m/s * 100
+	*/
+	public short vy() {
+		return getShort(22);
+	}
+
+ 	/**
+	* Ground Z Speed (Altitude), expressed as m/s * 100
+	*/
+	public short vz() {
+		return getShort(24);
+	}
+
+ 	/**
+	* Compass heading in degrees * 100, 0.0..359.99 degrees. If unknown, set to: UINT16_MAX
+	*/
+	public short hdg() {
+		return getShort(26);
+	}
+}
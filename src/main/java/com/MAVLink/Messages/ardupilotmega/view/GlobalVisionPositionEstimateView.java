@@ -0,0 +1,85 @@
+// MESSAGE GLOBAL_VISION_POSITION_ESTIMATE VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_global_vision_position_estimate;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the GLOBAL_VISION_POSITION_ESTIMATE payload (see msg_global_vision_position_estimate).
+* 
+*/
+public class GlobalVisionPositionEstimateView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_global_vision_position_estimate.MAVLINK_MSG_ID_GLOBAL_VISION_POSITION_ESTIMATE;
+	public static final int MAVLINK_MSG_LENGTH = msg_global_vision_position_estimate.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete GLOBAL_VISION_POSITION_ESTIMATE payload that starts at offset
+	 */
+	public static GlobalVisionPositionEstimateView wrap(ByteBuffer buffer, int offset) {
+		GlobalVisionPositionEstimateView view = new GlobalVisionPositionEstimateView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received GLOBAL_VISION_POSITION_ESTIMATE packet
+	 */
+	public static GlobalVisionPositionEstimateView wrap(MAVLinkPacket packet) {
+		GlobalVisionPositionEstimateView view = new GlobalVisionPositionEstimateView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (microseconds, synced to UNIX time or since system boot)
+	*/
+	public long usec() {
+		return getLong(0);
+	}
+
+ 	/**
+	* Global X position
+	*/
+	public float x() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Global Y position
+	*/
+	public float y() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Global Z position
+	*/
+	public float z() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* Roll angle in rad
+	*/
+	public float roll() {
+		return getFloat(20);
+	}
+
+ 	/**
+	* Pitch angle in rad
+	*/
+	public float pitch() {
+		return getFloat(24);
+	}
+
+ 	/**
+	* Yaw angle in rad
+	*/
+	public float yaw() {
+		return getFloat(28);
+	}
+}
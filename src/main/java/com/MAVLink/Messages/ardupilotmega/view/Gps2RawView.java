@@ -0,0 +1,120 @@
+// MESSAGE GPS2_RAW VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_gps2_raw;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the GPS2_RAW payload (see msg_gps2_raw).
+* Second GPS data. Coordinate frame is right-handed, Z-axis up (GPS frame).
+*/
+public class Gps2RawView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_gps2_raw.MAVLINK_MSG_ID_GPS2_RAW;
+	public static final int MAVLINK_MSG_LENGTH = msg_gps2_raw.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete GPS2_RAW payload that starts at offset
+	 */
+	public static Gps2RawView wrap(ByteBuffer buffer, int offset) {
+		Gps2RawView view = new Gps2RawView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received GPS2_RAW packet
+	 */
+	public static Gps2RawView wrap(MAVLinkPacket packet) {
+		Gps2RawView view = new Gps2RawView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+	*/
+	public long time_usec() {
+		return getLong(0);
+	}
+
+ 	/**
+	* Latitude (WGS84), in degrees * 1E7
+	*/
+	public int lat() {
+		return getInt(8);
+	}
+
+ 	/**
+	* Longitude (WGS84), in degrees * 1E7
+	*/
+	public int lon() {
+		return getInt(12);
+	}
+
+ 	/**
+	* Altitude (WGS84), in meters * 1000 (positive for up)
+	*/
+	public int alt() {
+		return getInt(16);
+	}
+
+ 	/**
+	* Age of DGPS info
+	*/
+	public int dgps_age() {
+		return getInt(20);
+	}
+
+ 	/**
+	* GPS HDOP horizontal dilution of position in cm (m*100). If unknown, set to: UINT16_MAX
+	*/
+	public short eph() {
+		return getShort(24);
+	}
+
+ 	/**
+	* GPS VDOP vertical dilution of position in cm (m*100). If unknown, set to: UINT16_MAX
+	*/
+	public short epv() {
+		return getShort(26);
+	}
+
+ 	/**
+	* GPS ground speed (m/s * 100). If unknown, set to: UINT16_MAX
+	*/
+	public short vel() {
+		return getShort(28);
+	}
+
+ 	/**
+	* Course over ground (NOT heading, but direction of movement) in degrees * 100, 0.0..359.99 degrees. If unknown, set to: UINT16_MAX
+	*/
+	public short cog() {
+		return getShort(30);
+	}
+
+ 	/**
+	* 0-1: no fix, 2: 2D fix, 3: 3D fix. Some applications will not use the value of this field unless it is at least two, so always correctly fill in the fix.
+	*/
+	public byte fix_type() {
+		return getByte(32);
+	}
+
+ 	/**
+	* Number of satellites visible. If unknown, set to 255
+	*/
+	public byte satellites_visible() {
+		return getByte(33);
+	}
+
+ 	/**
+	* Number of DGPS satellites
+	*/
+	public byte dgps_numch() {
+		return getByte(34);
+	}
+}
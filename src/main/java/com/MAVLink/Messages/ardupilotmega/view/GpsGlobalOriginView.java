@@ -0,0 +1,57 @@
+// MESSAGE GPS_GLOBAL_ORIGIN VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_gps_global_origin;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the GPS_GLOBAL_ORIGIN payload (see msg_gps_global_origin).
+* Once the MAV sets a new GPS-Local correspondence, this message announces the origin (0,0,0) position
+*/
+public class GpsGlobalOriginView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_gps_global_origin.MAVLINK_MSG_ID_GPS_GLOBAL_ORIGIN;
+	public static final int MAVLINK_MSG_LENGTH = msg_gps_global_origin.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete GPS_GLOBAL_ORIGIN payload that starts at offset
+	 */
+	public static GpsGlobalOriginView wrap(ByteBuffer buffer, int offset) {
+		GpsGlobalOriginView view = new GpsGlobalOriginView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received GPS_GLOBAL_ORIGIN packet
+	 */
+	public static GpsGlobalOriginView wrap(MAVLinkPacket packet) {
+		GpsGlobalOriginView view = new GpsGlobalOriginView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Latitude (WGS84), in degrees * 1E7
+	*/
+	public int latitude() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Longitude (WGS84), in degrees * 1E7
+	*/
+	public int longitude() {
+		return getInt(4);
+	}
+
+ 	/**
+	* Altitude (WGS84), in meters * 1000 (positive for up)
+	*/
+	public int altitude() {
+		return getInt(8);
+	}
+}
@@ -0,0 +1,68 @@
+// MESSAGE GPS_INJECT_DATA VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_gps_inject_data;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the GPS_INJECT_DATA payload (see msg_gps_inject_data).
+* data for injecting into the onboard GPS (used for DGPS)
+*/
+public class GpsInjectDataView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_gps_inject_data.MAVLINK_MSG_ID_GPS_INJECT_DATA;
+	public static final int MAVLINK_MSG_LENGTH = msg_gps_inject_data.MAVLINK_MSG_LENGTH;
+	public static final int DATA_LENGTH = 110;
+
+	/**
+	 * Wrap a complete GPS_INJECT_DATA payload that starts at offset
+	 */
+	public static GpsInjectDataView wrap(ByteBuffer buffer, int offset) {
+		GpsInjectDataView view = new GpsInjectDataView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received GPS_INJECT_DATA packet
+	 */
+	public static GpsInjectDataView wrap(MAVLinkPacket packet) {
+		GpsInjectDataView view = new GpsInjectDataView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(0);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(1);
+	}
+
+ 	/**
+	* data length
+	*/
+	public byte len() {
+		return getByte(2);
+	}
+
+ 	/**
+	* raw data (110 is enough for 12 satellites of RTCMv2)
+	*/
+	public byte data(int index) {
+		if (index < 0 || index >= DATA_LENGTH) {
+			throw new IndexOutOfBoundsException("data[" + index + "]");
+		}
+		return getByte(3 + index);
+	}
+}
@@ -0,0 +1,107 @@
+// MESSAGE GPS_RAW_INT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_gps_raw_int;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the GPS_RAW_INT payload (see msg_gps_raw_int).
+* The global position, as returned by the Global Positioning System (GPS). This is
+                NOT the global position estimate of the sytem, but rather a RAW sensor value. See message GLOBAL_POSITION for the global position estimate. Coordinate frame is right-handed, Z-axis up (GPS frame).
+*/
+public class GpsRawIntView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_gps_raw_int.MAVLINK_MSG_ID_GPS_RAW_INT;
+	public static final int MAVLINK_MSG_LENGTH = msg_gps_raw_int.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete GPS_RAW_INT payload that starts at offset
+	 */
+	public static GpsRawIntView wrap(ByteBuffer buffer, int offset) {
+		GpsRawIntView view = new GpsRawIntView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received GPS_RAW_INT packet
+	 */
+	public static GpsRawIntView wrap(MAVLinkPacket packet) {
+		GpsRawIntView view = new GpsRawIntView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+	*/
+	public long time_usec() {
+		return getLong(0);
+	}
+
+ 	/**
+	* Latitude (WGS84), in degrees * 1E7
+	*/
+	public int lat() {
+		return getInt(8);
+	}
+
+ 	/**
+	* Longitude (WGS84), in degrees * 1E7
+	*/
+	public int lon() {
+		return getInt(12);
+	}
+
+ 	/**
+	* Altitude (WGS84), in meters * 1000 (positive for up)
+	*/
+	public int alt() {
+		return getInt(16);
+	}
+
+ 	/**
+	* GPS HDOP horizontal dilution of position in cm (m*100). If unknown, set to: UINT16_MAX
+	*/
+	public short eph() {
+		return getShort(20);
+	}
+
+ 	/**
+	* GPS VDOP vertical dilution of position in cm (m*100). If unknown, set to: UINT16_MAX
+	*/
+	public short epv() {
+		return getShort(22);
+	}
+
+ 	/**
+	* GPS ground speed (m/s * 100). If unknown, set to: UINT16_MAX
+	*/
+	public short vel() {
+		return getShort(24);
+	}
+
+ 	/**
+	* Course over ground (NOT heading, but direction of movement) in degrees * 100, 0.0..359.99 degrees. If unknown, set to: UINT16_MAX
+	*/
+	public short cog() {
+		return getShort(26);
+	}
+
+ 	/**
+	* 0-1: no fix, 2: 2D fix, 3: 3D fix. Some applications will not use the value of this field unless it is at least two, so always correctly fill in the fix.
+	*/
+	public byte fix_type() {
+		return getByte(28);
+	}
+
+ 	/**
+	* Number of satellites visible. If unknown, set to 255
+	*/
+	public byte satellites_visible() {
+		return getByte(29);
+	}
+}
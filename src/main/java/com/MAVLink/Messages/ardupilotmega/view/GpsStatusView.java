@@ -0,0 +1,98 @@
+// MESSAGE GPS_STATUS VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_gps_status;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the GPS_STATUS payload (see msg_gps_status).
+* The positioning status, as reported by GPS. This message is intended to display status information about each satellite visible to the receiver. See message GLOBAL_POSITION for the global position estimate. This message can contain information for up to 20 satellites.
+*/
+public class GpsStatusView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_gps_status.MAVLINK_MSG_ID_GPS_STATUS;
+	public static final int MAVLINK_MSG_LENGTH = msg_gps_status.MAVLINK_MSG_LENGTH;
+	public static final int SATELLITE_PRN_LENGTH = 20;
+	public static final int SATELLITE_USED_LENGTH = 20;
+	public static final int SATELLITE_ELEVATION_LENGTH = 20;
+	public static final int SATELLITE_AZIMUTH_LENGTH = 20;
+	public static final int SATELLITE_SNR_LENGTH = 20;
+
+	/**
+	 * Wrap a complete GPS_STATUS payload that starts at offset
+	 */
+	public static GpsStatusView wrap(ByteBuffer buffer, int offset) {
+		GpsStatusView view = new GpsStatusView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received GPS_STATUS packet
+	 */
+	public static GpsStatusView wrap(MAVLinkPacket packet) {
+		GpsStatusView view = new GpsStatusView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Number of satellites visible
+	*/
+	public byte satellites_visible() {
+		return getByte(0);
+	}
+
+ 	/**
+	* Global satellite ID
+	*/
+	public byte satellite_prn(int index) {
+		if (index < 0 || index >= SATELLITE_PRN_LENGTH) {
+			throw new IndexOutOfBoundsException("satellite_prn[" + index + "]");
+		}
+		return getByte(1 + index);
+	}
+
+ 	/**
+	* 0: Satellite not used, 1: used for localization
+	*/
+	public byte satellite_used(int index) {
+		if (index < 0 || index >= SATELLITE_USED_LENGTH) {
+			throw new IndexOutOfBoundsException("satellite_used[" + index + "]");
+		}
+		return getByte(21 + index);
+	}
+
+ 	/**
+	* Elevation (0: right on top of receiver, 90: on the horizon) of satellite
+	*/
+	public byte satellite_elevation(int index) {
+		if (index < 0 || index >= SATELLITE_ELEVATION_LENGTH) {
+			throw new IndexOutOfBoundsException("satellite_elevation[" + index + "]");
+		}
+		return getByte(41 + index);
+	}
+
+ 	/**
+	* Direction of satellite, 0: 0 deg, 255: 360 deg.
+	*/
+	public byte satellite_azimuth(int index) {
+		if (index < 0 || index >= SATELLITE_AZIMUTH_LENGTH) {
+			throw new IndexOutOfBoundsException("satellite_azimuth[" + index + "]");
+		}
+		return getByte(61 + index);
+	}
+
+ 	/**
+	* Signal to noise ratio of satellite
+	*/
+	public byte satellite_snr(int index) {
+		if (index < 0 || index >= SATELLITE_SNR_LENGTH) {
+			throw new IndexOutOfBoundsException("satellite_snr[" + index + "]");
+		}
+		return getByte(81 + index);
+	}
+}
@@ -0,0 +1,78 @@
+// MESSAGE HEARTBEAT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the HEARTBEAT payload (see msg_heartbeat).
+* The heartbeat message shows that a system is present and responding. The type of the MAV and Autopilot hardware allow the receiving system to treat further messages from this system appropriate (e.g. by laying out the user interface based on the autopilot).
+*/
+public class HeartbeatView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT;
+	public static final int MAVLINK_MSG_LENGTH = msg_heartbeat.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete HEARTBEAT payload that starts at offset
+	 */
+	public static HeartbeatView wrap(ByteBuffer buffer, int offset) {
+		HeartbeatView view = new HeartbeatView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received HEARTBEAT packet
+	 */
+	public static HeartbeatView wrap(MAVLinkPacket packet) {
+		HeartbeatView view = new HeartbeatView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* A bitfield for use for autopilot-specific flags.
+	*/
+	public int custom_mode() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Type of the MAV (quadrotor, helicopter, etc., up to 15 types, defined in MAV_TYPE ENUM)
+	*/
+	public byte type() {
+		return getByte(4);
+	}
+
+ 	/**
+	* Autopilot type / class. defined in MAV_AUTOPILOT ENUM
+	*/
+	public byte autopilot() {
+		return getByte(5);
+	}
+
+ 	/**
+	* System mode bitfield, see MAV_MODE_FLAGS ENUM in mavlink/include/mavlink_types.h
+	*/
+	public byte base_mode() {
+		return getByte(6);
+	}
+
+ 	/**
+	* System status flag, see MAV_STATE ENUM
+	*/
+	public byte system_status() {
+		return getByte(7);
+	}
+
+ 	/**
+	* MAVLink version, not writable by user, gets added by protocol because of magic data type: uint8_t_mavlink_version
+	*/
+	public byte mavlink_version() {
+		return getByte(8);
+	}
+}
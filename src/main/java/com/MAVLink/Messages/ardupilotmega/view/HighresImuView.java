@@ -0,0 +1,141 @@
+// MESSAGE HIGHRES_IMU VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_highres_imu;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the HIGHRES_IMU payload (see msg_highres_imu).
+* The IMU readings in SI units in NED body frame
+*/
+public class HighresImuView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_highres_imu.MAVLINK_MSG_ID_HIGHRES_IMU;
+	public static final int MAVLINK_MSG_LENGTH = msg_highres_imu.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete HIGHRES_IMU payload that starts at offset
+	 */
+	public static HighresImuView wrap(ByteBuffer buffer, int offset) {
+		HighresImuView view = new HighresImuView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received HIGHRES_IMU packet
+	 */
+	public static HighresImuView wrap(MAVLinkPacket packet) {
+		HighresImuView view = new HighresImuView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (microseconds, synced to UNIX time or since system boot)
+	*/
+	public long time_usec() {
+		return getLong(0);
+	}
+
+ 	/**
+	* X acceleration (m/s^2)
+	*/
+	public float xacc() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Y acceleration (m/s^2)
+	*/
+	public float yacc() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Z acceleration (m/s^2)
+	*/
+	public float zacc() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* Angular speed around X axis (rad / sec)
+	*/
+	public float xgyro() {
+		return getFloat(20);
+	}
+
+ 	/**
+	* Angular speed around Y axis (rad / sec)
+	*/
+	public float ygyro() {
+		return getFloat(24);
+	}
+
+ 	/**
+	* Angular speed around Z axis (rad / sec)
+	*/
+	public float zgyro() {
+		return getFloat(28);
+	}
+
+ 	/**
+	* X Magnetic field (Gauss)
+	*/
+	public float xmag() {
+		return getFloat(32);
+	}
+
+ 	/**
+	* Y Magnetic field (Gauss)
+	*/
+	public float ymag() {
+		return getFloat(36);
+	}
+
+ 	/**
+	* Z Magnetic field (Gauss)
+	*/
+	public float zmag() {
+		return getFloat(40);
+	}
+
+ 	/**
+	* Absolute pressure in millibar
+	*/
+	public float abs_pressure() {
+		return getFloat(44);
+	}
+
+ 	/**
+	* Differential pressure in millibar
+	*/
+	public float diff_pressure() {
+		return getFloat(48);
+	}
+
+ 	/**
+	* Altitude calculated from pressure
+	*/
+	public float pressure_alt() {
+		return getFloat(52);
+	}
+
+ 	/**
+	* Temperature in degrees celsius
+	*/
+	public float temperature() {
+		return getFloat(56);
+	}
+
+ 	/**
+	* Bitmask for fields that have updated since last message, bit 0 = xacc, bit 12: temperature
+	*/
+	public short fields_updated() {
+		return getShort(60);
+	}
+}
@@ -0,0 +1,113 @@
+// MESSAGE HIL_CONTROLS VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_hil_controls;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the HIL_CONTROLS payload (see msg_hil_controls).
+* Sent from autopilot to simulation. Hardware in the loop control outputs
+*/
+public class HilControlsView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_hil_controls.MAVLINK_MSG_ID_HIL_CONTROLS;
+	public static final int MAVLINK_MSG_LENGTH = msg_hil_controls.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete HIL_CONTROLS payload that starts at offset
+	 */
+	public static HilControlsView wrap(ByteBuffer buffer, int offset) {
+		HilControlsView view = new HilControlsView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received HIL_CONTROLS packet
+	 */
+	public static HilControlsView wrap(MAVLinkPacket packet) {
+		HilControlsView view = new HilControlsView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+	*/
+	public long time_usec() {
+		return getLong(0);
+	}
+
+ 	/**
+	* Control output -1 .. 1
+	*/
+	public float roll_ailerons() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Control output -1 .. 1
+	*/
+	public float pitch_elevator() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Control output -1 .. 1
+	*/
+	public float yaw_rudder() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* Throttle 0 .. 1
+	*/
+	public float throttle() {
+		return getFloat(20);
+	}
+
+ 	/**
+	* Aux 1, -1 .. 1
+	*/
+	public float aux1() {
+		return getFloat(24);
+	}
+
+ 	/**
+	* Aux 2, -1 .. 1
+	*/
+	public float aux2() {
+		return getFloat(28);
+	}
+
+ 	/**
+	* Aux 3, -1 .. 1
+	*/
+	public float aux3() {
+		return getFloat(32);
+	}
+
+ 	/**
+	* Aux 4, -1 .. 1
+	*/
+	public float aux4() {
+		return getFloat(36);
+	}
+
+ 	/**
+	* System mode (MAV_MODE)
+	*/
+	public byte mode() {
+		return getByte(40);
+	}
+
+ 	/**
+	* Navigation mode (MAV_NAV_MODE)
+	*/
+	public byte nav_mode() {
+		return getByte(41);
+	}
+}
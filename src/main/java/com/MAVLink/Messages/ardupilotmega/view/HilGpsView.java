@@ -0,0 +1,128 @@
+// MESSAGE HIL_GPS VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_hil_gps;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the HIL_GPS payload (see msg_hil_gps).
+* The global position, as returned by the Global Positioning System (GPS). This is
+                 NOT the global position estimate of the sytem, but rather a RAW sensor value. See message GLOBAL_POSITION for the global position estimate. Coordinate frame is right-handed, Z-axis up (GPS frame).
+*/
+public class HilGpsView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_hil_gps.MAVLINK_MSG_ID_HIL_GPS;
+	public static final int MAVLINK_MSG_LENGTH = msg_hil_gps.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete HIL_GPS payload that starts at offset
+	 */
+	public static HilGpsView wrap(ByteBuffer buffer, int offset) {
+		HilGpsView view = new HilGpsView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received HIL_GPS packet
+	 */
+	public static HilGpsView wrap(MAVLinkPacket packet) {
+		HilGpsView view = new HilGpsView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+	*/
+	public long time_usec() {
+		return getLong(0);
+	}
+
+ 	/**
+	* Latitude (WGS84), in degrees * 1E7
+	*/
+	public int lat() {
+		return getInt(8);
+	}
+
+ 	/**
+	* Longitude (WGS84), in degrees * 1E7
+	*/
+	public int lon() {
+		return getInt(12);
+	}
+
+ 	/**
+	* Altitude (WGS84), in meters * 1000 (positive for up)
+	*/
+	public int alt() {
+		return getInt(16);
+	}
+
+ 	/**
+	* GPS HDOP horizontal dilution of position in cm (m*100). If unknown, set to: 65535
+	*/
+	public short eph() {
+		return getShort(20);
+	}
+
+ 	/**
+	* GPS VDOP vertical dilution of position in cm (m*100). If unknown, set to: 65535
+	*/
+	public short epv() {
+		return getShort(22);
+	}
+
+ 	/**
+	* GPS ground speed (m/s * 100). If unknown, set to: 65535
+	*/
+	public short vel() {
+		return getShort(24);
+	}
+
+ 	/**
+	* GPS velocity in cm/s in NORTH direction in earth-fixed NED frame
+	*/
+	public short vn() {
+		return getShort(26);
+	}
+
+ 	/**
+	* GPS velocity in cm/s in EAST direction in earth-fixed NED frame
+	*/
+	public short ve() {
+		return getShort(28);
+	}
+
+ 	/**
+	* GPS velocity in cm/s in DOWN direction in earth-fixed NED frame
+	*/
+	public short vd() {
+		return getShort(30);
+	}
+
+ 	/**
+	* Course over ground (NOT heading, but direction of movement) in degrees * 100, 0.0..359.99 degrees. If unknown, set to: 65535
+	*/
+	public short cog() {
+		return getShort(32);
+	}
+
+ 	/**
+	* 0-1: no fix, 2: 2D fix, 3: 3D fix. Some applications will not use the value of this field unless it is at least two, so always correctly fill in the fix.
+	*/
+	public byte fix_type() {
+		return getByte(34);
+	}
+
+ 	/**
+	* Number of satellites visible. If unknown, set to 255
+	*/
+	public byte satellites_visible() {
+		return getByte(35);
+	}
+}
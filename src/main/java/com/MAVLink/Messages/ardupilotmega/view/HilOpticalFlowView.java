@@ -0,0 +1,92 @@
+// MESSAGE HIL_OPTICAL_FLOW VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_hil_optical_flow;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the HIL_OPTICAL_FLOW payload (see msg_hil_optical_flow).
+* Simulated optical flow from a flow sensor (e.g. optical mouse sensor)
+*/
+public class HilOpticalFlowView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_hil_optical_flow.MAVLINK_MSG_ID_HIL_OPTICAL_FLOW;
+	public static final int MAVLINK_MSG_LENGTH = msg_hil_optical_flow.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete HIL_OPTICAL_FLOW payload that starts at offset
+	 */
+	public static HilOpticalFlowView wrap(ByteBuffer buffer, int offset) {
+		HilOpticalFlowView view = new HilOpticalFlowView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received HIL_OPTICAL_FLOW packet
+	 */
+	public static HilOpticalFlowView wrap(MAVLinkPacket packet) {
+		HilOpticalFlowView view = new HilOpticalFlowView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (UNIX)
+	*/
+	public long time_usec() {
+		return getLong(0);
+	}
+
+ 	/**
+	* Flow in meters in x-sensor direction, angular-speed compensated
+	*/
+	public float flow_comp_m_x() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Flow in meters in y-sensor direction, angular-speed compensated
+	*/
+	public float flow_comp_m_y() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Ground distance in meters. Positive value: distance known. Negative value: Unknown distance
+	*/
+	public float ground_distance() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* Flow in pixels in x-sensor direction
+	*/
+	public short flow_x() {
+		return getShort(20);
+	}
+
+ 	/**
+	* Flow in pixels in y-sensor direction
+	*/
+	public short flow_y() {
+		return getShort(22);
+	}
+
+ 	/**
+	* Sensor ID
+	*/
+	public byte sensor_id() {
+		return getByte(24);
+	}
+
+ 	/**
+	* Optical flow quality / confidence. 0: bad, 255: maximum quality
+	*/
+	public byte quality() {
+		return getByte(25);
+	}
+}
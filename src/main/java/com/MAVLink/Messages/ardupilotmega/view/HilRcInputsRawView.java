@@ -0,0 +1,134 @@
+// MESSAGE HIL_RC_INPUTS_RAW VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_hil_rc_inputs_raw;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the HIL_RC_INPUTS_RAW payload (see msg_hil_rc_inputs_raw).
+* Sent from simulation to autopilot. The RAW values of the RC channels received. The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%. Individual receivers/transmitters might violate this specification.
+*/
+public class HilRcInputsRawView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_hil_rc_inputs_raw.MAVLINK_MSG_ID_HIL_RC_INPUTS_RAW;
+	public static final int MAVLINK_MSG_LENGTH = msg_hil_rc_inputs_raw.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete HIL_RC_INPUTS_RAW payload that starts at offset
+	 */
+	public static HilRcInputsRawView wrap(ByteBuffer buffer, int offset) {
+		HilRcInputsRawView view = new HilRcInputsRawView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received HIL_RC_INPUTS_RAW packet
+	 */
+	public static HilRcInputsRawView wrap(MAVLinkPacket packet) {
+		HilRcInputsRawView view = new HilRcInputsRawView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+	*/
+	public long time_usec() {
+		return getLong(0);
+	}
+
+ 	/**
+	* RC channel 1 value, in microseconds
+	*/
+	public short chan1_raw() {
+		return getShort(8);
+	}
+
+ 	/**
+	* RC channel 2 value, in microseconds
+	*/
+	public short chan2_raw() {
+		return getShort(10);
+	}
+
+ 	/**
+	* RC channel 3 value, in microseconds
+	*/
+	public short chan3_raw() {
+		return getShort(12);
+	}
+
+ 	/**
+	* RC channel 4 value, in microseconds
+	*/
+	public short chan4_raw() {
+		return getShort(14);
+	}
+
+ 	/**
+	* RC channel 5 value, in microseconds
+	*/
+	public short chan5_raw() {
+		return getShort(16);
+	}
+
+ 	/**
+	* RC channel 6 value, in microseconds
+	*/
+	public short chan6_raw() {
+		return getShort(18);
+	}
+
+ 	/**
+	* RC channel 7 value, in microseconds
+	*/
+	public short chan7_raw() {
+		return getShort(20);
+	}
+
+ 	/**
+	* RC channel 8 value, in microseconds
+	*/
+	public short chan8_raw() {
+		return getShort(22);
+	}
+
+ 	/**
+	* RC channel 9 value, in microseconds
+	*/
+	public short chan9_raw() {
+		return getShort(24);
+	}
+
+ 	/**
+	* RC channel 10 value, in microseconds
+	*/
+	public short chan10_raw() {
+		return getShort(26);
+	}
+
+ 	/**
+	* RC channel 11 value, in microseconds
+	*/
+	public short chan11_raw() {
+		return getShort(28);
+	}
+
+ 	/**
+	* RC channel 12 value, in microseconds
+	*/
+	public short chan12_raw() {
+		return getShort(30);
+	}
+
+ 	/**
+	* Receive signal strength indicator, 0: 0%, 255: 100%
+	*/
+	public byte rssi() {
+		return getByte(32);
+	}
+}
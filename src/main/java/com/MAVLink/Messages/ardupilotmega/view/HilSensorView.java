@@ -0,0 +1,141 @@
+// MESSAGE HIL_SENSOR VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_hil_sensor;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the HIL_SENSOR payload (see msg_hil_sensor).
+* The IMU readings in SI units in NED body frame
+*/
+public class HilSensorView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_hil_sensor.MAVLINK_MSG_ID_HIL_SENSOR;
+	public static final int MAVLINK_MSG_LENGTH = msg_hil_sensor.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete HIL_SENSOR payload that starts at offset
+	 */
+	public static HilSensorView wrap(ByteBuffer buffer, int offset) {
+		HilSensorView view = new HilSensorView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received HIL_SENSOR packet
+	 */
+	public static HilSensorView wrap(MAVLinkPacket packet) {
+		HilSensorView view = new HilSensorView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (microseconds, synced to UNIX time or since system boot)
+	*/
+	public long time_usec() {
+		return getLong(0);
+	}
+
+ 	/**
+	* X acceleration (m/s^2)
+	*/
+	public float xacc() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Y acceleration (m/s^2)
+	*/
+	public float yacc() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Z acceleration (m/s^2)
+	*/
+	public float zacc() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* Angular speed around X axis in body frame (rad / sec)
+	*/
+	public float xgyro() {
+		return getFloat(20);
+	}
+
+ 	/**
+	* Angular speed around Y axis in body frame (rad / sec)
+	*/
+	public float ygyro() {
+		return getFloat(24);
+	}
+
+ 	/**
+	* Angular speed around Z axis in body frame (rad / sec)
+	*/
+	public float zgyro() {
+		return getFloat(28);
+	}
+
+ 	/**
+	* X Magnetic field (Gauss)
+	*/
+	public float xmag() {
+		return getFloat(32);
+	}
+
+ 	/**
+	* Y Magnetic field (Gauss)
+	*/
+	public float ymag() {
+		return getFloat(36);
+	}
+
+ 	/**
+	* Z Magnetic field (Gauss)
+	*/
+	public float zmag() {
+		return getFloat(40);
+	}
+
+ 	/**
+	* Absolute pressure in millibar
+	*/
+	public float abs_pressure() {
+		return getFloat(44);
+	}
+
+ 	/**
+	* Differential pressure (airspeed) in millibar
+	*/
+	public float diff_pressure() {
+		return getFloat(48);
+	}
+
+ 	/**
+	* Altitude calculated from pressure
+	*/
+	public float pressure_alt() {
+		return getFloat(52);
+	}
+
+ 	/**
+	* Temperature in degrees celsius
+	*/
+	public float temperature() {
+		return getFloat(56);
+	}
+
+ 	/**
+	* Bitmask for fields that have updated since last message, bit 0 = xacc, bit 12: temperature
+	*/
+	public int fields_updated() {
+		return getInt(60);
+	}
+}
@@ -0,0 +1,152 @@
+// MESSAGE HIL_STATE_QUATERNION VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_hil_state_quaternion;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the HIL_STATE_QUATERNION payload (see msg_hil_state_quaternion).
+* Sent from simulation to autopilot, avoids in contrast to HIL_STATE singularities. This packet is useful for high throughput applications such as hardware in the loop simulations.
+*/
+public class HilStateQuaternionView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_hil_state_quaternion.MAVLINK_MSG_ID_HIL_STATE_QUATERNION;
+	public static final int MAVLINK_MSG_LENGTH = msg_hil_state_quaternion.MAVLINK_MSG_LENGTH;
+	public static final int ATTITUDE_QUATERNION_LENGTH = 4;
+
+	/**
+	 * Wrap a complete HIL_STATE_QUATERNION payload that starts at offset
+	 */
+	public static HilStateQuaternionView wrap(ByteBuffer buffer, int offset) {
+		HilStateQuaternionView view = new HilStateQuaternionView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received HIL_STATE_QUATERNION packet
+	 */
+	public static HilStateQuaternionView wrap(MAVLinkPacket packet) {
+		HilStateQuaternionView view = new HilStateQuaternionView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+	*/
+	public long time_usec() {
+		return getLong(0);
+	}
+
+ 	/**
+	* Vehicle attitude expressed as normalized quaternion
+	*/
+	public float attitude_quaternion(int index) {
+		if (index < 0 || index >= ATTITUDE_QUATERNION_LENGTH) {
+			throw new IndexOutOfBoundsException("attitude_quaternion[" + index + "]");
+		}
+		return getFloat(8 + 4 * index);
+	}
+
+ 	/**
+	* Body frame roll / phi angular speed (rad/s)
+	*/
+	public float rollspeed() {
+		return getFloat(24);
+	}
+
+ 	/**
+	* Body frame pitch / theta angular speed (rad/s)
+	*/
+	public float pitchspeed() {
+		return getFloat(28);
+	}
+
+ 	/**
+	* Body frame yaw / psi angular speed (rad/s)
+	*/
+	public float yawspeed() {
+		return getFloat(32);
+	}
+
+ 	/**
+	* Latitude, expressed as * 1E7
+	*/
+	public int lat() {
+		return getInt(36);
+	}
+
+ 	/**
+	* Longitude, expressed as * 1E7
+	*/
+	public int lon() {
+		return getInt(40);
+	}
+
+ 	/**
+	* Altitude in meters, expressed as * 1000 (millimeters)
+	*/
+	public int alt() {
+		return getInt(44);
+	}
+
+ 	/**
+	* Ground X Speed (Latitude), expressed as m/s * 100
+	*/
+	public short vx() {
+		return getShort(48);
+	}
+
+ 	/**
+	* Ground Y Speed (Longitude), expressed as m/s * 100
+	*/
+	public short vy() {
+		return getShort(50);
+	}
+
+ 	/**
+	* Ground Z Speed (Altitude), expressed as m/s * 100
+	*/
+	public short vz() {
+		return getShort(52);
+	}
+
+ 	/**
+	* Indicated airspeed, expressed as m/s * 100
+	*/
+	public short ind_airspeed() {
+		return getShort(54);
+	}
+
+ 	/**
+	* True airspeed, expressed as m/s * 100
+	*/
+	public short true_airspeed() {
+		return getShort(56);
+	}
+
+ 	/**
+	* X acceleration (mg)
+	*/
+	public short xacc() {
+		return getShort(58);
+	}
+
+ 	/**
+	* Y acceleration (mg)
+	*/
+	public short yacc() {
+		return getShort(60);
+	}
+
+ 	/**
+	* Z acceleration (mg)
+	*/
+	public short zacc() {
+		return getShort(62);
+	}
+}
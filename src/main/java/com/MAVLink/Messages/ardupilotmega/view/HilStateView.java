@@ -0,0 +1,148 @@
+// MESSAGE HIL_STATE VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_hil_state;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the HIL_STATE payload (see msg_hil_state).
+* DEPRECATED PACKET! Suffers from missing airspeed fields and singularities due to Euler angles. Please use HIL_STATE_QUATERNION instead. Sent from simulation to autopilot. This packet is useful for high throughput applications such as hardware in the loop simulations.
+*/
+public class HilStateView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_hil_state.MAVLINK_MSG_ID_HIL_STATE;
+	public static final int MAVLINK_MSG_LENGTH = msg_hil_state.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete HIL_STATE payload that starts at offset
+	 */
+	public static HilStateView wrap(ByteBuffer buffer, int offset) {
+		HilStateView view = new HilStateView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received HIL_STATE packet
+	 */
+	public static HilStateView wrap(MAVLinkPacket packet) {
+		HilStateView view = new HilStateView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+	*/
+	public long time_usec() {
+		return getLong(0);
+	}
+
+ 	/**
+	* Roll angle (rad)
+	*/
+	public float roll() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Pitch angle (rad)
+	*/
+	public float pitch() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Yaw angle (rad)
+	*/
+	public float yaw() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* Body frame roll / phi angular speed (rad/s)
+	*/
+	public float rollspeed() {
+		return getFloat(20);
+	}
+
+ 	/**
+	* Body frame pitch / theta angular speed (rad/s)
+	*/
+	public float pitchspeed() {
+		return getFloat(24);
+	}
+
+ 	/**
+	* Body frame yaw / psi angular speed (rad/s)
+	*/
+	public float yawspeed() {
+		return getFloat(28);
+	}
+
+ 	/**
+	* Latitude, expressed as * 1E7
+	*/
+	public int lat() {
+		return getInt(32);
+	}
+
+ 	/**
+	* Longitude, expressed as * 1E7
+	*/
+	public int lon() {
+		return getInt(36);
+	}
+
+ 	/**
+	* Altitude in meters, expressed as * 1000 (millimeters)
+	*/
+	public int alt() {
+		return getInt(40);
+	}
+
+ 	/**
+	* Ground X Speed (Latitude), expressed as m/s * 100
+	*/
+	public short vx() {
+		return getShort(44);
+	}
+
+ 	/**
+	* Ground Y Speed (Longitude), expressed as m/s * 100
+	*/
+	public short vy() {
+		return getShort(46);
+	}
+
+ 	/**
+	* Ground Z Speed (Altitude), expressed as m/s * 100
+	*/
+	public short vz() {
+		return getShort(48);
+	}
+
+ 	/**
+	* X acceleration (mg)
+	*/
+	public short xacc() {
+		return getShort(50);
+	}
+
+ 	/**
+	* Y acceleration (mg)
+	*/
+	public short yacc() {
+		return getShort(52);
+	}
+
+ 	/**
+	* Z acceleration (mg)
+	*/
+	public short zacc() {
+		return getShort(54);
+	}
+}
@@ -0,0 +1,50 @@
+// MESSAGE HWSTATUS VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_hwstatus;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the HWSTATUS payload (see msg_hwstatus).
+* Status of key hardware
+*/
+public class HwstatusView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_hwstatus.MAVLINK_MSG_ID_HWSTATUS;
+	public static final int MAVLINK_MSG_LENGTH = msg_hwstatus.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete HWSTATUS payload that starts at offset
+	 */
+	public static HwstatusView wrap(ByteBuffer buffer, int offset) {
+		HwstatusView view = new HwstatusView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received HWSTATUS packet
+	 */
+	public static HwstatusView wrap(MAVLinkPacket packet) {
+		HwstatusView view = new HwstatusView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* board voltage (mV)
+	*/
+	public short Vcc() {
+		return getShort(0);
+	}
+
+ 	/**
+	* I2C error count
+	*/
+	public byte I2Cerr() {
+		return getByte(2);
+	}
+}
@@ -0,0 +1,100 @@
+// MESSAGE LIMITS_STATUS VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_limits_status;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the LIMITS_STATUS payload (see msg_limits_status).
+* Status of AP_Limits. Sent in extended
+	    status stream when AP_Limits is enabled
+*/
+public class LimitsStatusView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_limits_status.MAVLINK_MSG_ID_LIMITS_STATUS;
+	public static final int MAVLINK_MSG_LENGTH = msg_limits_status.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete LIMITS_STATUS payload that starts at offset
+	 */
+	public static LimitsStatusView wrap(ByteBuffer buffer, int offset) {
+		LimitsStatusView view = new LimitsStatusView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received LIMITS_STATUS packet
+	 */
+	public static LimitsStatusView wrap(MAVLinkPacket packet) {
+		LimitsStatusView view = new LimitsStatusView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* time of last breach in milliseconds since boot
+	*/
+	public int last_trigger() {
+		return getInt(0);
+	}
+
+ 	/**
+	* time of last recovery action in milliseconds since boot
+	*/
+	public int last_action() {
+		return getInt(4);
+	}
+
+ 	/**
+	* time of last successful recovery in milliseconds since boot
+	*/
+	public int last_recovery() {
+		return getInt(8);
+	}
+
+ 	/**
+	* time of last all-clear in milliseconds since boot
+	*/
+	public int last_clear() {
+		return getInt(12);
+	}
+
+ 	/**
+	* number of fence breaches
+	*/
+	public short breach_count() {
+		return getShort(16);
+	}
+
+ 	/**
+	* state of AP_Limits, (see enum LimitState, LIMITS_STATE)
+	*/
+	public byte limits_state() {
+		return getByte(18);
+	}
+
+ 	/**
+	* AP_Limit_Module bitfield of enabled modules, (see enum moduleid or LIMIT_MODULE)
+	*/
+	public byte mods_enabled() {
+		return getByte(19);
+	}
+
+ 	/**
+	* AP_Limit_Module bitfield of required modules, (see enum moduleid or LIMIT_MODULE)
+	*/
+	public byte mods_required() {
+		return getByte(20);
+	}
+
+ 	/**
+	* AP_Limit_Module bitfield of triggered modules, (see enum moduleid or LIMIT_MODULE)
+	*/
+	public byte mods_triggered() {
+		return getByte(21);
+	}
+}
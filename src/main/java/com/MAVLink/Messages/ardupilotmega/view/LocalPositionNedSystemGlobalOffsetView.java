@@ -0,0 +1,85 @@
+// MESSAGE LOCAL_POSITION_NED_SYSTEM_GLOBAL_OFFSET VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_local_position_ned_system_global_offset;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the LOCAL_POSITION_NED_SYSTEM_GLOBAL_OFFSET payload (see msg_local_position_ned_system_global_offset).
+* The offset in X, Y, Z and yaw between the LOCAL_POSITION_NED messages of MAV X and the global coordinate frame in NED coordinates. Coordinate frame is right-handed, Z-axis down (aeronautical frame, NED / north-east-down convention)
+*/
+public class LocalPositionNedSystemGlobalOffsetView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_local_position_ned_system_global_offset.MAVLINK_MSG_ID_LOCAL_POSITION_NED_SYSTEM_GLOBAL_OFFSET;
+	public static final int MAVLINK_MSG_LENGTH = msg_local_position_ned_system_global_offset.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete LOCAL_POSITION_NED_SYSTEM_GLOBAL_OFFSET payload that starts at offset
+	 */
+	public static LocalPositionNedSystemGlobalOffsetView wrap(ByteBuffer buffer, int offset) {
+		LocalPositionNedSystemGlobalOffsetView view = new LocalPositionNedSystemGlobalOffsetView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received LOCAL_POSITION_NED_SYSTEM_GLOBAL_OFFSET packet
+	 */
+	public static LocalPositionNedSystemGlobalOffsetView wrap(MAVLinkPacket packet) {
+		LocalPositionNedSystemGlobalOffsetView view = new LocalPositionNedSystemGlobalOffsetView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (milliseconds since system boot)
+	*/
+	public int time_boot_ms() {
+		return getInt(0);
+	}
+
+ 	/**
+	* X Position
+	*/
+	public float x() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* Y Position
+	*/
+	public float y() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Z Position
+	*/
+	public float z() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Roll
+	*/
+	public float roll() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* Pitch
+	*/
+	public float pitch() {
+		return getFloat(20);
+	}
+
+ 	/**
+	* Yaw
+	*/
+	public float yaw() {
+		return getFloat(24);
+	}
+}
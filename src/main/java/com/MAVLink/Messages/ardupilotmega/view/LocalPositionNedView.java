@@ -0,0 +1,85 @@
+// MESSAGE LOCAL_POSITION_NED VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_local_position_ned;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the LOCAL_POSITION_NED payload (see msg_local_position_ned).
+* The filtered local position (e.g. fused computer vision and accelerometers). Coordinate frame is right-handed, Z-axis down (aeronautical frame, NED / north-east-down convention)
+*/
+public class LocalPositionNedView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_local_position_ned.MAVLINK_MSG_ID_LOCAL_POSITION_NED;
+	public static final int MAVLINK_MSG_LENGTH = msg_local_position_ned.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete LOCAL_POSITION_NED payload that starts at offset
+	 */
+	public static LocalPositionNedView wrap(ByteBuffer buffer, int offset) {
+		LocalPositionNedView view = new LocalPositionNedView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received LOCAL_POSITION_NED packet
+	 */
+	public static LocalPositionNedView wrap(MAVLinkPacket packet) {
+		LocalPositionNedView view = new LocalPositionNedView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (milliseconds since system boot)
+	*/
+	public int time_boot_ms() {
+		return getInt(0);
+	}
+
+ 	/**
+	* X Position
+	*/
+	public float x() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* Y Position
+	*/
+	public float y() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Z Position
+	*/
+	public float z() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* X Speed
+	*/
+	public float vx() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* Y Speed
+	*/
+	public float vy() {
+		return getFloat(20);
+	}
+
+ 	/**
+	* Z Speed
+	*/
+	public float vz() {
+		return getFloat(24);
+	}
+}
@@ -0,0 +1,71 @@
+// MESSAGE LOCAL_POSITION_SETPOINT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_local_position_setpoint;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the LOCAL_POSITION_SETPOINT payload (see msg_local_position_setpoint).
+* Transmit the current local setpoint of the controller to other MAVs (collision avoidance) and to the GCS.
+*/
+public class LocalPositionSetpointView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_local_position_setpoint.MAVLINK_MSG_ID_LOCAL_POSITION_SETPOINT;
+	public static final int MAVLINK_MSG_LENGTH = msg_local_position_setpoint.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete LOCAL_POSITION_SETPOINT payload that starts at offset
+	 */
+	public static LocalPositionSetpointView wrap(ByteBuffer buffer, int offset) {
+		LocalPositionSetpointView view = new LocalPositionSetpointView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received LOCAL_POSITION_SETPOINT packet
+	 */
+	public static LocalPositionSetpointView wrap(MAVLinkPacket packet) {
+		LocalPositionSetpointView view = new LocalPositionSetpointView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* x position
+	*/
+	public float x() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* y position
+	*/
+	public float y() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* z position
+	*/
+	public float z() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Desired yaw angle
+	*/
+	public float yaw() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Coordinate frame - valid values are only MAV_FRAME_LOCAL_NED or MAV_FRAME_LOCAL_ENU
+	*/
+	public byte coordinate_frame() {
+		return getByte(16);
+	}
+}
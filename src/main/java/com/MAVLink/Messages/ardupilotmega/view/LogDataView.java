@@ -0,0 +1,68 @@
+// MESSAGE LOG_DATA VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_log_data;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the LOG_DATA payload (see msg_log_data).
+* Reply to LOG_REQUEST_DATA
+*/
+public class LogDataView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_log_data.MAVLINK_MSG_ID_LOG_DATA;
+	public static final int MAVLINK_MSG_LENGTH = msg_log_data.MAVLINK_MSG_LENGTH;
+	public static final int DATA_LENGTH = 90;
+
+	/**
+	 * Wrap a complete LOG_DATA payload that starts at offset
+	 */
+	public static LogDataView wrap(ByteBuffer buffer, int offset) {
+		LogDataView view = new LogDataView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received LOG_DATA packet
+	 */
+	public static LogDataView wrap(MAVLinkPacket packet) {
+		LogDataView view = new LogDataView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Offset into the log
+	*/
+	public int ofs() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Log id (from LOG_ENTRY reply)
+	*/
+	public short id() {
+		return getShort(4);
+	}
+
+ 	/**
+	* Number of bytes (zero for end of log)
+	*/
+	public byte count() {
+		return getByte(6);
+	}
+
+ 	/**
+	* log data
+	*/
+	public byte data(int index) {
+		if (index < 0 || index >= DATA_LENGTH) {
+			throw new IndexOutOfBoundsException("data[" + index + "]");
+		}
+		return getByte(7 + index);
+	}
+}
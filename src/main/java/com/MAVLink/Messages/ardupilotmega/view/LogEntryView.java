@@ -0,0 +1,71 @@
+// MESSAGE LOG_ENTRY VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_log_entry;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the LOG_ENTRY payload (see msg_log_entry).
+* Reply to LOG_REQUEST_LIST
+*/
+public class LogEntryView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_log_entry.MAVLINK_MSG_ID_LOG_ENTRY;
+	public static final int MAVLINK_MSG_LENGTH = msg_log_entry.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete LOG_ENTRY payload that starts at offset
+	 */
+	public static LogEntryView wrap(ByteBuffer buffer, int offset) {
+		LogEntryView view = new LogEntryView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received LOG_ENTRY packet
+	 */
+	public static LogEntryView wrap(MAVLinkPacket packet) {
+		LogEntryView view = new LogEntryView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* UTC timestamp of log in seconds since 1970, or 0 if not available
+	*/
+	public int time_utc() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Size of the log (may be approximate) in bytes
+	*/
+	public int size() {
+		return getInt(4);
+	}
+
+ 	/**
+	* Log id
+	*/
+	public short id() {
+		return getShort(8);
+	}
+
+ 	/**
+	* Total number of logs
+	*/
+	public short num_logs() {
+		return getShort(10);
+	}
+
+ 	/**
+	* High log number
+	*/
+	public short last_log_num() {
+		return getShort(12);
+	}
+}
@@ -0,0 +1,50 @@
+// MESSAGE LOG_ERASE VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_log_erase;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the LOG_ERASE payload (see msg_log_erase).
+* Erase all logs
+*/
+public class LogEraseView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_log_erase.MAVLINK_MSG_ID_LOG_ERASE;
+	public static final int MAVLINK_MSG_LENGTH = msg_log_erase.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete LOG_ERASE payload that starts at offset
+	 */
+	public static LogEraseView wrap(ByteBuffer buffer, int offset) {
+		LogEraseView view = new LogEraseView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received LOG_ERASE packet
+	 */
+	public static LogEraseView wrap(MAVLinkPacket packet) {
+		LogEraseView view = new LogEraseView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(0);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(1);
+	}
+}
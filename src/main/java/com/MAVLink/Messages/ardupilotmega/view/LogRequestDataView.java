@@ -0,0 +1,71 @@
+// MESSAGE LOG_REQUEST_DATA VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_log_request_data;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the LOG_REQUEST_DATA payload (see msg_log_request_data).
+* Request a chunk of a log
+*/
+public class LogRequestDataView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_log_request_data.MAVLINK_MSG_ID_LOG_REQUEST_DATA;
+	public static final int MAVLINK_MSG_LENGTH = msg_log_request_data.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete LOG_REQUEST_DATA payload that starts at offset
+	 */
+	public static LogRequestDataView wrap(ByteBuffer buffer, int offset) {
+		LogRequestDataView view = new LogRequestDataView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received LOG_REQUEST_DATA packet
+	 */
+	public static LogRequestDataView wrap(MAVLinkPacket packet) {
+		LogRequestDataView view = new LogRequestDataView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Offset into the log
+	*/
+	public int ofs() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Number of bytes
+	*/
+	public int count() {
+		return getInt(4);
+	}
+
+ 	/**
+	* Log id (from LOG_ENTRY reply)
+	*/
+	public short id() {
+		return getShort(8);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(10);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(11);
+	}
+}
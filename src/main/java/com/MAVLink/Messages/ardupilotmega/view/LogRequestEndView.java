@@ -0,0 +1,50 @@
+// MESSAGE LOG_REQUEST_END VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_log_request_end;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the LOG_REQUEST_END payload (see msg_log_request_end).
+* Stop log transfer and resume normal logging
+*/
+public class LogRequestEndView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_log_request_end.MAVLINK_MSG_ID_LOG_REQUEST_END;
+	public static final int MAVLINK_MSG_LENGTH = msg_log_request_end.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete LOG_REQUEST_END payload that starts at offset
+	 */
+	public static LogRequestEndView wrap(ByteBuffer buffer, int offset) {
+		LogRequestEndView view = new LogRequestEndView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received LOG_REQUEST_END packet
+	 */
+	public static LogRequestEndView wrap(MAVLinkPacket packet) {
+		LogRequestEndView view = new LogRequestEndView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(0);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(1);
+	}
+}
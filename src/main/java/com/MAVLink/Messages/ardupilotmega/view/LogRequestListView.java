@@ -0,0 +1,64 @@
+// MESSAGE LOG_REQUEST_LIST VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_log_request_list;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the LOG_REQUEST_LIST payload (see msg_log_request_list).
+* Request a list of available logs. On some systems calling this may stop on-board logging until LOG_REQUEST_END is called.
+*/
+public class LogRequestListView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_log_request_list.MAVLINK_MSG_ID_LOG_REQUEST_LIST;
+	public static final int MAVLINK_MSG_LENGTH = msg_log_request_list.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete LOG_REQUEST_LIST payload that starts at offset
+	 */
+	public static LogRequestListView wrap(ByteBuffer buffer, int offset) {
+		LogRequestListView view = new LogRequestListView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received LOG_REQUEST_LIST packet
+	 */
+	public static LogRequestListView wrap(MAVLinkPacket packet) {
+		LogRequestListView view = new LogRequestListView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* First log id (0 for first available)
+	*/
+	public short start() {
+		return getShort(0);
+	}
+
+ 	/**
+	* Last log id (0xffff for last available)
+	*/
+	public short end() {
+		return getShort(2);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(4);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(5);
+	}
+}
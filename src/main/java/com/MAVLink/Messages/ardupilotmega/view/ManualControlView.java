@@ -0,0 +1,78 @@
+// MESSAGE MANUAL_CONTROL VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_manual_control;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the MANUAL_CONTROL payload (see msg_manual_control).
+* This message provides an API for manually controlling the vehicle using standard joystick axes nomenclature, along with a joystick-like input device. Unused axes can be disabled an buttons are also transmit as boolean values of their 
+*/
+public class ManualControlView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_manual_control.MAVLINK_MSG_ID_MANUAL_CONTROL;
+	public static final int MAVLINK_MSG_LENGTH = msg_manual_control.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete MANUAL_CONTROL payload that starts at offset
+	 */
+	public static ManualControlView wrap(ByteBuffer buffer, int offset) {
+		ManualControlView view = new ManualControlView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received MANUAL_CONTROL packet
+	 */
+	public static ManualControlView wrap(MAVLinkPacket packet) {
+		ManualControlView view = new ManualControlView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* X-axis, normalized to the range [-1000,1000]. A value of INT16_MAX indicates that this axis is invalid. Generally corresponds to forward(1000)-backward(-1000) movement on a joystick and the pitch of a vehicle.
+	*/
+	public short x() {
+		return getShort(0);
+	}
+
+ 	/**
+	* Y-axis, normalized to the range [-1000,1000]. A value of INT16_MAX indicates that this axis is invalid. Generally corresponds to left(-1000)-right(1000) movement on a joystick and the roll of a vehicle.
+	*/
+	public short y() {
+		return getShort(2);
+	}
+
+ 	/**
+	* Z-axis, normalized to the range [-1000,1000]. A value of INT16_MAX indicates that this axis is invalid. Generally corresponds to a separate slider movement with maximum being 1000 and minimum being -1000 on a joystick and the thrust of a vehicle.
+	*/
+	public short z() {
+		return getShort(4);
+	}
+
+ 	/**
+	* R-axis, normalized to the range [-1000,1000]. A value of INT16_MAX indicates that this axis is invalid. Generally corresponds to a twisting of the joystick, with counter-clockwise being 1000 and clockwise being -1000, and the yaw of a vehicle.
+	*/
+	public short r() {
+		return getShort(6);
+	}
+
+ 	/**
+	* A bitfield corresponding to the joystick buttons' current state, 1 for pressed, 0 for released. The lowest bit corresponds to Button 1.
+	*/
+	public short buttons() {
+		return getShort(8);
+	}
+
+ 	/**
+	* The system to be controlled.
+	*/
+	public byte target() {
+		return getByte(10);
+	}
+}
@@ -0,0 +1,85 @@
+// MESSAGE MANUAL_SETPOINT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_manual_setpoint;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the MANUAL_SETPOINT payload (see msg_manual_setpoint).
+* Setpoint in roll, pitch, yaw and thrust from the operator
+*/
+public class ManualSetpointView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_manual_setpoint.MAVLINK_MSG_ID_MANUAL_SETPOINT;
+	public static final int MAVLINK_MSG_LENGTH = msg_manual_setpoint.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete MANUAL_SETPOINT payload that starts at offset
+	 */
+	public static ManualSetpointView wrap(ByteBuffer buffer, int offset) {
+		ManualSetpointView view = new ManualSetpointView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received MANUAL_SETPOINT packet
+	 */
+	public static ManualSetpointView wrap(MAVLinkPacket packet) {
+		ManualSetpointView view = new ManualSetpointView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp in milliseconds since system boot
+	*/
+	public int time_boot_ms() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Desired roll rate in radians per second
+	*/
+	public float roll() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* Desired pitch rate in radians per second
+	*/
+	public float pitch() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Desired yaw rate in radians per second
+	*/
+	public float yaw() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Collective thrust, normalized to 0 .. 1
+	*/
+	public float thrust() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* Flight mode switch position, 0.. 255
+	*/
+	public byte mode_switch() {
+		return getByte(20);
+	}
+
+ 	/**
+	* Override mode switch position, 0.. 255
+	*/
+	public byte manual_override_switch() {
+		return getByte(21);
+	}
+}
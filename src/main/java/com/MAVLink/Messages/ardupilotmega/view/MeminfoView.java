@@ -0,0 +1,50 @@
+// MESSAGE MEMINFO VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_meminfo;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the MEMINFO payload (see msg_meminfo).
+* state of APM memory
+*/
+public class MeminfoView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_meminfo.MAVLINK_MSG_ID_MEMINFO;
+	public static final int MAVLINK_MSG_LENGTH = msg_meminfo.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete MEMINFO payload that starts at offset
+	 */
+	public static MeminfoView wrap(ByteBuffer buffer, int offset) {
+		MeminfoView view = new MeminfoView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received MEMINFO packet
+	 */
+	public static MeminfoView wrap(MAVLinkPacket packet) {
+		MeminfoView view = new MeminfoView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* heap top
+	*/
+	public short brkval() {
+		return getShort(0);
+	}
+
+ 	/**
+	* free memory
+	*/
+	public short freemem() {
+		return getShort(2);
+	}
+}
@@ -0,0 +1,68 @@
+// MESSAGE MEMORY_VECT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_memory_vect;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the MEMORY_VECT payload (see msg_memory_vect).
+* Send raw controller memory. The use of this message is discouraged for normal packets, but a quite efficient way for testing new messages and getting experimental debug output.
+*/
+public class MemoryVectView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_memory_vect.MAVLINK_MSG_ID_MEMORY_VECT;
+	public static final int MAVLINK_MSG_LENGTH = msg_memory_vect.MAVLINK_MSG_LENGTH;
+	public static final int VALUE_LENGTH = 32;
+
+	/**
+	 * Wrap a complete MEMORY_VECT payload that starts at offset
+	 */
+	public static MemoryVectView wrap(ByteBuffer buffer, int offset) {
+		MemoryVectView view = new MemoryVectView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received MEMORY_VECT packet
+	 */
+	public static MemoryVectView wrap(MAVLinkPacket packet) {
+		MemoryVectView view = new MemoryVectView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Starting address of the debug variables
+	*/
+	public short address() {
+		return getShort(0);
+	}
+
+ 	/**
+	* Version code of the type variable. 0=unknown, type ignored and assumed int16_t. 1=as below
+	*/
+	public byte ver() {
+		return getByte(2);
+	}
+
+ 	/**
+	* Type code of the memory variables. for ver = 1: 0=16 x int16_t, 1=16 x uint16_t, 2=16 x Q15, 3=16 x 1Q14
+	*/
+	public byte type() {
+		return getByte(3);
+	}
+
+ 	/**
+	* Memory contents at specified address
+	*/
+	public byte value(int index) {
+		if (index < 0 || index >= VALUE_LENGTH) {
+			throw new IndexOutOfBoundsException("value[" + index + "]");
+		}
+		return getByte(4 + index);
+	}
+}
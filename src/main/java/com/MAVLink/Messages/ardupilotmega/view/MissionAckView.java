@@ -0,0 +1,57 @@
+// MESSAGE MISSION_ACK VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_ack;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the MISSION_ACK payload (see msg_mission_ack).
+* Ack message during MISSION handling. The type field states if this message is a positive ack (type=0) or if an error happened (type=non-zero).
+*/
+public class MissionAckView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_mission_ack.MAVLINK_MSG_ID_MISSION_ACK;
+	public static final int MAVLINK_MSG_LENGTH = msg_mission_ack.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete MISSION_ACK payload that starts at offset
+	 */
+	public static MissionAckView wrap(ByteBuffer buffer, int offset) {
+		MissionAckView view = new MissionAckView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received MISSION_ACK packet
+	 */
+	public static MissionAckView wrap(MAVLinkPacket packet) {
+		MissionAckView view = new MissionAckView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(0);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(1);
+	}
+
+ 	/**
+	* See MAV_MISSION_RESULT enum
+	*/
+	public byte type() {
+		return getByte(2);
+	}
+}
@@ -0,0 +1,50 @@
+// MESSAGE MISSION_CLEAR_ALL VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_clear_all;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the MISSION_CLEAR_ALL payload (see msg_mission_clear_all).
+* Delete all mission items at once.
+*/
+public class MissionClearAllView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_mission_clear_all.MAVLINK_MSG_ID_MISSION_CLEAR_ALL;
+	public static final int MAVLINK_MSG_LENGTH = msg_mission_clear_all.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete MISSION_CLEAR_ALL payload that starts at offset
+	 */
+	public static MissionClearAllView wrap(ByteBuffer buffer, int offset) {
+		MissionClearAllView view = new MissionClearAllView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received MISSION_CLEAR_ALL packet
+	 */
+	public static MissionClearAllView wrap(MAVLinkPacket packet) {
+		MissionClearAllView view = new MissionClearAllView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(0);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(1);
+	}
+}
@@ -0,0 +1,57 @@
+// MESSAGE MISSION_COUNT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_count;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the MISSION_COUNT payload (see msg_mission_count).
+* This message is emitted as response to MISSION_REQUEST_LIST by the MAV and to initiate a write transaction. The GCS can then request the individual mission item based on the knowledge of the total number of MISSIONs.
+*/
+public class MissionCountView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_mission_count.MAVLINK_MSG_ID_MISSION_COUNT;
+	public static final int MAVLINK_MSG_LENGTH = msg_mission_count.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete MISSION_COUNT payload that starts at offset
+	 */
+	public static MissionCountView wrap(ByteBuffer buffer, int offset) {
+		MissionCountView view = new MissionCountView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received MISSION_COUNT packet
+	 */
+	public static MissionCountView wrap(MAVLinkPacket packet) {
+		MissionCountView view = new MissionCountView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Number of mission items in the sequence
+	*/
+	public short count() {
+		return getShort(0);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(2);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(3);
+	}
+}
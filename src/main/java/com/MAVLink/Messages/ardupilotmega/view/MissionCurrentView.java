@@ -0,0 +1,43 @@
+// MESSAGE MISSION_CURRENT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_current;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the MISSION_CURRENT payload (see msg_mission_current).
+* Message that announces the sequence number of the current active mission item. The MAV will fly towards this mission item.
+*/
+public class MissionCurrentView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_mission_current.MAVLINK_MSG_ID_MISSION_CURRENT;
+	public static final int MAVLINK_MSG_LENGTH = msg_mission_current.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete MISSION_CURRENT payload that starts at offset
+	 */
+	public static MissionCurrentView wrap(ByteBuffer buffer, int offset) {
+		MissionCurrentView view = new MissionCurrentView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received MISSION_CURRENT packet
+	 */
+	public static MissionCurrentView wrap(MAVLinkPacket packet) {
+		MissionCurrentView view = new MissionCurrentView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Sequence
+	*/
+	public short seq() {
+		return getShort(0);
+	}
+}
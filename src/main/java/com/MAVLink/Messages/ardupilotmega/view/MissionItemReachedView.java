@@ -0,0 +1,43 @@
+// MESSAGE MISSION_ITEM_REACHED VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_item_reached;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the MISSION_ITEM_REACHED payload (see msg_mission_item_reached).
+* A certain mission item has been reached. The system will either hold this position (or circle on the orbit) or (if the autocontinue on the WP was set) continue to the next MISSION.
+*/
+public class MissionItemReachedView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_mission_item_reached.MAVLINK_MSG_ID_MISSION_ITEM_REACHED;
+	public static final int MAVLINK_MSG_LENGTH = msg_mission_item_reached.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete MISSION_ITEM_REACHED payload that starts at offset
+	 */
+	public static MissionItemReachedView wrap(ByteBuffer buffer, int offset) {
+		MissionItemReachedView view = new MissionItemReachedView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received MISSION_ITEM_REACHED packet
+	 */
+	public static MissionItemReachedView wrap(MAVLinkPacket packet) {
+		MissionItemReachedView view = new MissionItemReachedView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Sequence
+	*/
+	public short seq() {
+		return getShort(0);
+	}
+}
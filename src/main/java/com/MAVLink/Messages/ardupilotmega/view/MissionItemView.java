@@ -0,0 +1,135 @@
+// MESSAGE MISSION_ITEM VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_item;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the MISSION_ITEM payload (see msg_mission_item).
+* Message encoding a mission item. This message is emitted to announce
+                the presence of a mission item and to set a mission item on the system. The mission item can be either in x, y, z meters (type: LOCAL) or x:lat, y:lon, z:altitude. Local frame is Z-down, right handed (NED), global frame is Z-up, right handed (ENU). See also http://qgroundcontrol.org/mavlink/waypoint_protocol.
+*/
+public class MissionItemView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM;
+	public static final int MAVLINK_MSG_LENGTH = msg_mission_item.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete MISSION_ITEM payload that starts at offset
+	 */
+	public static MissionItemView wrap(ByteBuffer buffer, int offset) {
+		MissionItemView view = new MissionItemView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received MISSION_ITEM packet
+	 */
+	public static MissionItemView wrap(MAVLinkPacket packet) {
+		MissionItemView view = new MissionItemView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* PARAM1, see MAV_CMD enum
+	*/
+	public float param1() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* PARAM2, see MAV_CMD enum
+	*/
+	public float param2() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* PARAM3, see MAV_CMD enum
+	*/
+	public float param3() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* PARAM4, see MAV_CMD enum
+	*/
+	public float param4() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* PARAM5 / local: x position, global: latitude
+	*/
+	public float x() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* PARAM6 / y position: global: longitude
+	*/
+	public float y() {
+		return getFloat(20);
+	}
+
+ 	/**
+	* PARAM7 / z position: global: altitude (relative or absolute, depending on frame.
+	*/
+	public float z() {
+		return getFloat(24);
+	}
+
+ 	/**
+	* Sequence
+	*/
+	public short seq() {
+		return getShort(28);
+	}
+
+ 	/**
+	* The scheduled action for the MISSION. see MAV_CMD in common.xml MAVLink specs
+	*/
+	public short command() {
+		return getShort(30);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(32);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(33);
+	}
+
+ 	/**
+	* The coordinate system of the MISSION. see MAV_FRAME in mavlink_types.h
+	*/
+	public byte frame() {
+		return getByte(34);
+	}
+
+ 	/**
+	* false:0, true:1
+	*/
+	public byte current() {
+		return getByte(35);
+	}
+
+ 	/**
+	* autocontinue to next wp
+	*/
+	public byte autocontinue() {
+		return getByte(36);
+	}
+}
@@ -0,0 +1,50 @@
+// MESSAGE MISSION_REQUEST_LIST VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_request_list;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the MISSION_REQUEST_LIST payload (see msg_mission_request_list).
+* Request the overall list of mission items from the system/component.
+*/
+public class MissionRequestListView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_mission_request_list.MAVLINK_MSG_ID_MISSION_REQUEST_LIST;
+	public static final int MAVLINK_MSG_LENGTH = msg_mission_request_list.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete MISSION_REQUEST_LIST payload that starts at offset
+	 */
+	public static MissionRequestListView wrap(ByteBuffer buffer, int offset) {
+		MissionRequestListView view = new MissionRequestListView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received MISSION_REQUEST_LIST packet
+	 */
+	public static MissionRequestListView wrap(MAVLinkPacket packet) {
+		MissionRequestListView view = new MissionRequestListView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(0);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(1);
+	}
+}
@@ -0,0 +1,64 @@
+// MESSAGE MISSION_REQUEST_PARTIAL_LIST VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_request_partial_list;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the MISSION_REQUEST_PARTIAL_LIST payload (see msg_mission_request_partial_list).
+* Request a partial list of mission items from the system/component. http://qgroundcontrol.org/mavlink/waypoint_protocol. If start and end index are the same, just send one waypoint.
+*/
+public class MissionRequestPartialListView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_mission_request_partial_list.MAVLINK_MSG_ID_MISSION_REQUEST_PARTIAL_LIST;
+	public static final int MAVLINK_MSG_LENGTH = msg_mission_request_partial_list.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete MISSION_REQUEST_PARTIAL_LIST payload that starts at offset
+	 */
+	public static MissionRequestPartialListView wrap(ByteBuffer buffer, int offset) {
+		MissionRequestPartialListView view = new MissionRequestPartialListView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received MISSION_REQUEST_PARTIAL_LIST packet
+	 */
+	public static MissionRequestPartialListView wrap(MAVLinkPacket packet) {
+		MissionRequestPartialListView view = new MissionRequestPartialListView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Start index, 0 by default
+	*/
+	public short start_index() {
+		return getShort(0);
+	}
+
+ 	/**
+	* End index, -1 by default (-1: send list to end). Else a valid index of the list
+	*/
+	public short end_index() {
+		return getShort(2);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(4);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(5);
+	}
+}
@@ -0,0 +1,57 @@
+// MESSAGE MISSION_REQUEST VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_request;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the MISSION_REQUEST payload (see msg_mission_request).
+* Request the information of the mission item with the sequence number seq. The response of the system to this message should be a MISSION_ITEM message. http://qgroundcontrol.org/mavlink/waypoint_protocol
+*/
+public class MissionRequestView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_mission_request.MAVLINK_MSG_ID_MISSION_REQUEST;
+	public static final int MAVLINK_MSG_LENGTH = msg_mission_request.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete MISSION_REQUEST payload that starts at offset
+	 */
+	public static MissionRequestView wrap(ByteBuffer buffer, int offset) {
+		MissionRequestView view = new MissionRequestView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received MISSION_REQUEST packet
+	 */
+	public static MissionRequestView wrap(MAVLinkPacket packet) {
+		MissionRequestView view = new MissionRequestView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Sequence
+	*/
+	public short seq() {
+		return getShort(0);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(2);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(3);
+	}
+}
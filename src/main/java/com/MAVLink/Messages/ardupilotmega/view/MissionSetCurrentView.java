@@ -0,0 +1,57 @@
+// MESSAGE MISSION_SET_CURRENT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_set_current;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the MISSION_SET_CURRENT payload (see msg_mission_set_current).
+* Set the mission item with sequence number seq as current item. This means that the MAV will continue to this mission item on the shortest path (not following the mission items in-between).
+*/
+public class MissionSetCurrentView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_mission_set_current.MAVLINK_MSG_ID_MISSION_SET_CURRENT;
+	public static final int MAVLINK_MSG_LENGTH = msg_mission_set_current.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete MISSION_SET_CURRENT payload that starts at offset
+	 */
+	public static MissionSetCurrentView wrap(ByteBuffer buffer, int offset) {
+		MissionSetCurrentView view = new MissionSetCurrentView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received MISSION_SET_CURRENT packet
+	 */
+	public static MissionSetCurrentView wrap(MAVLinkPacket packet) {
+		MissionSetCurrentView view = new MissionSetCurrentView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Sequence
+	*/
+	public short seq() {
+		return getShort(0);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(2);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(3);
+	}
+}
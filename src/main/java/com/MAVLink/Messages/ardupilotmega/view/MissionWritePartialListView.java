@@ -0,0 +1,64 @@
+// MESSAGE MISSION_WRITE_PARTIAL_LIST VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_write_partial_list;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the MISSION_WRITE_PARTIAL_LIST payload (see msg_mission_write_partial_list).
+* This message is sent to the MAV to write a partial list. If start index == end index, only one item will be transmitted / updated. If the start index is NOT 0 and above the current list size, this request should be REJECTED!
+*/
+public class MissionWritePartialListView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_mission_write_partial_list.MAVLINK_MSG_ID_MISSION_WRITE_PARTIAL_LIST;
+	public static final int MAVLINK_MSG_LENGTH = msg_mission_write_partial_list.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete MISSION_WRITE_PARTIAL_LIST payload that starts at offset
+	 */
+	public static MissionWritePartialListView wrap(ByteBuffer buffer, int offset) {
+		MissionWritePartialListView view = new MissionWritePartialListView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received MISSION_WRITE_PARTIAL_LIST packet
+	 */
+	public static MissionWritePartialListView wrap(MAVLinkPacket packet) {
+		MissionWritePartialListView view = new MissionWritePartialListView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Start index, 0 by default and smaller / equal to the largest index of the current onboard list.
+	*/
+	public short start_index() {
+		return getShort(0);
+	}
+
+ 	/**
+	* End index, equal or greater than start index.
+	*/
+	public short end_index() {
+		return getShort(2);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(4);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(5);
+	}
+}
@@ -0,0 +1,78 @@
+// MESSAGE MOUNT_CONFIGURE VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mount_configure;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the MOUNT_CONFIGURE payload (see msg_mount_configure).
+* Message to configure a camera mount, directional antenna, etc.
+*/
+public class MountConfigureView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_mount_configure.MAVLINK_MSG_ID_MOUNT_CONFIGURE;
+	public static final int MAVLINK_MSG_LENGTH = msg_mount_configure.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete MOUNT_CONFIGURE payload that starts at offset
+	 */
+	public static MountConfigureView wrap(ByteBuffer buffer, int offset) {
+		MountConfigureView view = new MountConfigureView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received MOUNT_CONFIGURE packet
+	 */
+	public static MountConfigureView wrap(MAVLinkPacket packet) {
+		MountConfigureView view = new MountConfigureView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(0);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(1);
+	}
+
+ 	/**
+	* mount operating mode (see MAV_MOUNT_MODE enum)
+	*/
+	public byte mount_mode() {
+		return getByte(2);
+	}
+
+ 	/**
+	* (1 = yes, 0 = no)
+	*/
+	public byte stab_roll() {
+		return getByte(3);
+	}
+
+ 	/**
+	* (1 = yes, 0 = no)
+	*/
+	public byte stab_pitch() {
+		return getByte(4);
+	}
+
+ 	/**
+	* (1 = yes, 0 = no)
+	*/
+	public byte stab_yaw() {
+		return getByte(5);
+	}
+}
@@ -0,0 +1,78 @@
+// MESSAGE MOUNT_CONTROL VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mount_control;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the MOUNT_CONTROL payload (see msg_mount_control).
+* Message to control a camera mount, directional antenna, etc.
+*/
+public class MountControlView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_mount_control.MAVLINK_MSG_ID_MOUNT_CONTROL;
+	public static final int MAVLINK_MSG_LENGTH = msg_mount_control.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete MOUNT_CONTROL payload that starts at offset
+	 */
+	public static MountControlView wrap(ByteBuffer buffer, int offset) {
+		MountControlView view = new MountControlView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received MOUNT_CONTROL packet
+	 */
+	public static MountControlView wrap(MAVLinkPacket packet) {
+		MountControlView view = new MountControlView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* pitch(deg*100) or lat, depending on mount mode
+	*/
+	public int input_a() {
+		return getInt(0);
+	}
+
+ 	/**
+	* roll(deg*100) or lon depending on mount mode
+	*/
+	public int input_b() {
+		return getInt(4);
+	}
+
+ 	/**
+	* yaw(deg*100) or alt (in cm) depending on mount mode
+	*/
+	public int input_c() {
+		return getInt(8);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(12);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(13);
+	}
+
+ 	/**
+	* if "1" it will save current trimmed position on EEPROM (just valid for NEUTRAL and LANDING)
+	*/
+	public byte save_position() {
+		return getByte(14);
+	}
+}
@@ -0,0 +1,71 @@
+// MESSAGE MOUNT_STATUS VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mount_status;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the MOUNT_STATUS payload (see msg_mount_status).
+* Message with some status from APM to GCS about camera or antenna mount
+*/
+public class MountStatusView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_mount_status.MAVLINK_MSG_ID_MOUNT_STATUS;
+	public static final int MAVLINK_MSG_LENGTH = msg_mount_status.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete MOUNT_STATUS payload that starts at offset
+	 */
+	public static MountStatusView wrap(ByteBuffer buffer, int offset) {
+		MountStatusView view = new MountStatusView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received MOUNT_STATUS packet
+	 */
+	public static MountStatusView wrap(MAVLinkPacket packet) {
+		MountStatusView view = new MountStatusView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* pitch(deg*100) or lat, depending on mount mode
+	*/
+	public int pointing_a() {
+		return getInt(0);
+	}
+
+ 	/**
+	* roll(deg*100) or lon depending on mount mode
+	*/
+	public int pointing_b() {
+		return getInt(4);
+	}
+
+ 	/**
+	* yaw(deg*100) or alt (in cm) depending on mount mode
+	*/
+	public int pointing_c() {
+		return getInt(8);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(12);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(13);
+	}
+}
@@ -0,0 +1,61 @@
+// MESSAGE NAMED_VALUE_FLOAT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_named_value_float;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the NAMED_VALUE_FLOAT payload (see msg_named_value_float).
+* Send a key-value pair as float. The use of this message is discouraged for normal packets, but a quite efficient way for testing new messages and getting experimental debug output.
+*/
+public class NamedValueFloatView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_named_value_float.MAVLINK_MSG_ID_NAMED_VALUE_FLOAT;
+	public static final int MAVLINK_MSG_LENGTH = msg_named_value_float.MAVLINK_MSG_LENGTH;
+	public static final int NAME_LENGTH = 10;
+
+	/**
+	 * Wrap a complete NAMED_VALUE_FLOAT payload that starts at offset
+	 */
+	public static NamedValueFloatView wrap(ByteBuffer buffer, int offset) {
+		NamedValueFloatView view = new NamedValueFloatView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received NAMED_VALUE_FLOAT packet
+	 */
+	public static NamedValueFloatView wrap(MAVLinkPacket packet) {
+		NamedValueFloatView view = new NamedValueFloatView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (milliseconds since system boot)
+	*/
+	public int time_boot_ms() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Floating point value
+	*/
+	public float value() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* Name of the debug variable
+	*/
+	public byte name(int index) {
+		if (index < 0 || index >= NAME_LENGTH) {
+			throw new IndexOutOfBoundsException("name[" + index + "]");
+		}
+		return getByte(8 + index);
+	}
+}
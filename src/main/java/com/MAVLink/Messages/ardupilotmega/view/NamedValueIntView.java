@@ -0,0 +1,61 @@
+// MESSAGE NAMED_VALUE_INT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_named_value_int;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the NAMED_VALUE_INT payload (see msg_named_value_int).
+* Send a key-value pair as integer. The use of this message is discouraged for normal packets, but a quite efficient way for testing new messages and getting experimental debug output.
+*/
+public class NamedValueIntView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_named_value_int.MAVLINK_MSG_ID_NAMED_VALUE_INT;
+	public static final int MAVLINK_MSG_LENGTH = msg_named_value_int.MAVLINK_MSG_LENGTH;
+	public static final int NAME_LENGTH = 10;
+
+	/**
+	 * Wrap a complete NAMED_VALUE_INT payload that starts at offset
+	 */
+	public static NamedValueIntView wrap(ByteBuffer buffer, int offset) {
+		NamedValueIntView view = new NamedValueIntView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received NAMED_VALUE_INT packet
+	 */
+	public static NamedValueIntView wrap(MAVLinkPacket packet) {
+		NamedValueIntView view = new NamedValueIntView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (milliseconds since system boot)
+	*/
+	public int time_boot_ms() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Signed integer value
+	*/
+	public int value() {
+		return getInt(4);
+	}
+
+ 	/**
+	* Name of the debug variable
+	*/
+	public byte name(int index) {
+		if (index < 0 || index >= NAME_LENGTH) {
+			throw new IndexOutOfBoundsException("name[" + index + "]");
+		}
+		return getByte(8 + index);
+	}
+}
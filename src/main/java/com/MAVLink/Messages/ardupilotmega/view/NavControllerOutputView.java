@@ -0,0 +1,92 @@
+// MESSAGE NAV_CONTROLLER_OUTPUT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_nav_controller_output;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the NAV_CONTROLLER_OUTPUT payload (see msg_nav_controller_output).
+* Outputs of the APM navigation controller. The primary use of this message is to check the response and signs of the controller before actual flight and to assist with tuning controller parameters.
+*/
+public class NavControllerOutputView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_nav_controller_output.MAVLINK_MSG_ID_NAV_CONTROLLER_OUTPUT;
+	public static final int MAVLINK_MSG_LENGTH = msg_nav_controller_output.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete NAV_CONTROLLER_OUTPUT payload that starts at offset
+	 */
+	public static NavControllerOutputView wrap(ByteBuffer buffer, int offset) {
+		NavControllerOutputView view = new NavControllerOutputView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received NAV_CONTROLLER_OUTPUT packet
+	 */
+	public static NavControllerOutputView wrap(MAVLinkPacket packet) {
+		NavControllerOutputView view = new NavControllerOutputView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Current desired roll in degrees
+	*/
+	public float nav_roll() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* Current desired pitch in degrees
+	*/
+	public float nav_pitch() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* Current altitude error in meters
+	*/
+	public float alt_error() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Current airspeed error in meters/second
+	*/
+	public float aspd_error() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Current crosstrack error on x-y plane in meters
+	*/
+	public float xtrack_error() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* Current desired heading in degrees
+	*/
+	public short nav_bearing() {
+		return getShort(20);
+	}
+
+ 	/**
+	* Bearing to current MISSION/target in degrees
+	*/
+	public short target_bearing() {
+		return getShort(22);
+	}
+
+ 	/**
+	* Distance to active MISSION in meters
+	*/
+	public short wp_dist() {
+		return getShort(24);
+	}
+}
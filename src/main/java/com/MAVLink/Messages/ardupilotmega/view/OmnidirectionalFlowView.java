@@ -0,0 +1,86 @@
+// MESSAGE OMNIDIRECTIONAL_FLOW VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_omnidirectional_flow;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the OMNIDIRECTIONAL_FLOW payload (see msg_omnidirectional_flow).
+* Optical flow from an omnidirectional flow sensor (e.g. PX4FLOW with wide angle lens)
+*/
+public class OmnidirectionalFlowView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_omnidirectional_flow.MAVLINK_MSG_ID_OMNIDIRECTIONAL_FLOW;
+	public static final int MAVLINK_MSG_LENGTH = msg_omnidirectional_flow.MAVLINK_MSG_LENGTH;
+	public static final int LEFT_LENGTH = 10;
+	public static final int RIGHT_LENGTH = 10;
+
+	/**
+	 * Wrap a complete OMNIDIRECTIONAL_FLOW payload that starts at offset
+	 */
+	public static OmnidirectionalFlowView wrap(ByteBuffer buffer, int offset) {
+		OmnidirectionalFlowView view = new OmnidirectionalFlowView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received OMNIDIRECTIONAL_FLOW packet
+	 */
+	public static OmnidirectionalFlowView wrap(MAVLinkPacket packet) {
+		OmnidirectionalFlowView view = new OmnidirectionalFlowView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (microseconds, synced to UNIX time or since system boot)
+	*/
+	public long time_usec() {
+		return getLong(0);
+	}
+
+ 	/**
+	* Front distance in meters. Positive value (including zero): distance known. Negative value: Unknown distance
+	*/
+	public float front_distance_m() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Flow in deci pixels (1 = 0.1 pixel) on left hemisphere
+	*/
+	public short left(int index) {
+		if (index < 0 || index >= LEFT_LENGTH) {
+			throw new IndexOutOfBoundsException("left[" + index + "]");
+		}
+		return getShort(12 + 2 * index);
+	}
+
+ 	/**
+	* Flow in deci pixels (1 = 0.1 pixel) on right hemisphere
+	*/
+	public short right(int index) {
+		if (index < 0 || index >= RIGHT_LENGTH) {
+			throw new IndexOutOfBoundsException("right[" + index + "]");
+		}
+		return getShort(32 + 2 * index);
+	}
+
+ 	/**
+	* Sensor ID
+	*/
+	public byte sensor_id() {
+		return getByte(52);
+	}
+
+ 	/**
+	* Optical flow quality / confidence. 0: bad, 255: maximum quality
+	*/
+	public byte quality() {
+		return getByte(53);
+	}
+}
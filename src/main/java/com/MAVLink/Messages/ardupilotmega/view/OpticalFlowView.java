@@ -0,0 +1,92 @@
+// MESSAGE OPTICAL_FLOW VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_optical_flow;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the OPTICAL_FLOW payload (see msg_optical_flow).
+* Optical flow from a flow sensor (e.g. optical mouse sensor)
+*/
+public class OpticalFlowView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_optical_flow.MAVLINK_MSG_ID_OPTICAL_FLOW;
+	public static final int MAVLINK_MSG_LENGTH = msg_optical_flow.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete OPTICAL_FLOW payload that starts at offset
+	 */
+	public static OpticalFlowView wrap(ByteBuffer buffer, int offset) {
+		OpticalFlowView view = new OpticalFlowView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received OPTICAL_FLOW packet
+	 */
+	public static OpticalFlowView wrap(MAVLinkPacket packet) {
+		OpticalFlowView view = new OpticalFlowView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (UNIX)
+	*/
+	public long time_usec() {
+		return getLong(0);
+	}
+
+ 	/**
+	* Flow in meters in x-sensor direction, angular-speed compensated
+	*/
+	public float flow_comp_m_x() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Flow in meters in y-sensor direction, angular-speed compensated
+	*/
+	public float flow_comp_m_y() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Ground distance in meters. Positive value: distance known. Negative value: Unknown distance
+	*/
+	public float ground_distance() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* Flow in pixels * 10 in x-sensor direction (dezi-pixels)
+	*/
+	public short flow_x() {
+		return getShort(20);
+	}
+
+ 	/**
+	* Flow in pixels * 10 in y-sensor direction (dezi-pixels)
+	*/
+	public short flow_y() {
+		return getShort(22);
+	}
+
+ 	/**
+	* Sensor ID
+	*/
+	public byte sensor_id() {
+		return getByte(24);
+	}
+
+ 	/**
+	* Optical flow quality / confidence. 0: bad, 255: maximum quality
+	*/
+	public byte quality() {
+		return getByte(25);
+	}
+}
@@ -0,0 +1,50 @@
+// MESSAGE PARAM_REQUEST_LIST VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_param_request_list;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the PARAM_REQUEST_LIST payload (see msg_param_request_list).
+* Request all parameters of this component. After his request, all parameters are emitted.
+*/
+public class ParamRequestListView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_param_request_list.MAVLINK_MSG_ID_PARAM_REQUEST_LIST;
+	public static final int MAVLINK_MSG_LENGTH = msg_param_request_list.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete PARAM_REQUEST_LIST payload that starts at offset
+	 */
+	public static ParamRequestListView wrap(ByteBuffer buffer, int offset) {
+		ParamRequestListView view = new ParamRequestListView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received PARAM_REQUEST_LIST packet
+	 */
+	public static ParamRequestListView wrap(MAVLinkPacket packet) {
+		ParamRequestListView view = new ParamRequestListView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(0);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(1);
+	}
+}
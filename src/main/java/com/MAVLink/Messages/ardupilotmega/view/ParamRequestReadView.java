@@ -0,0 +1,68 @@
+// MESSAGE PARAM_REQUEST_READ VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_param_request_read;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the PARAM_REQUEST_READ payload (see msg_param_request_read).
+* Request to read the onboard parameter with the param_id string id. Onboard parameters are stored as key[const char*] -> value[float]. This allows to send a parameter to any other component (such as the GCS) without the need of previous knowledge of possible parameter names. Thus the same GCS can store different parameters for different autopilots. See also http://qgroundcontrol.org/parameter_interface for a full documentation of QGroundControl and IMU code.
+*/
+public class ParamRequestReadView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_param_request_read.MAVLINK_MSG_ID_PARAM_REQUEST_READ;
+	public static final int MAVLINK_MSG_LENGTH = msg_param_request_read.MAVLINK_MSG_LENGTH;
+	public static final int PARAM_ID_LENGTH = 16;
+
+	/**
+	 * Wrap a complete PARAM_REQUEST_READ payload that starts at offset
+	 */
+	public static ParamRequestReadView wrap(ByteBuffer buffer, int offset) {
+		ParamRequestReadView view = new ParamRequestReadView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received PARAM_REQUEST_READ packet
+	 */
+	public static ParamRequestReadView wrap(MAVLinkPacket packet) {
+		ParamRequestReadView view = new ParamRequestReadView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Parameter index. Send -1 to use the param ID field as identifier (else the param id will be ignored)
+	*/
+	public short param_index() {
+		return getShort(0);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(2);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(3);
+	}
+
+ 	/**
+	* Onboard parameter id, terminated by NULL if the length is less than 16 human-readable chars and WITHOUT null termination (NULL) byte if the length is exactly 16 chars - applications have to provide 16+1 bytes storage if the ID is stored as string
+	*/
+	public byte param_id(int index) {
+		if (index < 0 || index >= PARAM_ID_LENGTH) {
+			throw new IndexOutOfBoundsException("param_id[" + index + "]");
+		}
+		return getByte(4 + index);
+	}
+}
@@ -0,0 +1,75 @@
+// MESSAGE PARAM_SET VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_param_set;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the PARAM_SET payload (see msg_param_set).
+* Set a parameter value TEMPORARILY to RAM. It will be reset to default on system reboot. Send the ACTION MAV_ACTION_STORAGE_WRITE to PERMANENTLY write the RAM contents to EEPROM. IMPORTANT: The receiving component should acknowledge the new parameter value by sending a param_value message to all communication partners. This will also ensure that multiple GCS all have an up-to-date list of all parameters. If the sending GCS did not receive a PARAM_VALUE message within its timeout time, it should re-send the PARAM_SET message.
+*/
+public class ParamSetView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_param_set.MAVLINK_MSG_ID_PARAM_SET;
+	public static final int MAVLINK_MSG_LENGTH = msg_param_set.MAVLINK_MSG_LENGTH;
+	public static final int PARAM_ID_LENGTH = 16;
+
+	/**
+	 * Wrap a complete PARAM_SET payload that starts at offset
+	 */
+	public static ParamSetView wrap(ByteBuffer buffer, int offset) {
+		ParamSetView view = new ParamSetView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received PARAM_SET packet
+	 */
+	public static ParamSetView wrap(MAVLinkPacket packet) {
+		ParamSetView view = new ParamSetView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Onboard parameter value
+	*/
+	public float param_value() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(4);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(5);
+	}
+
+ 	/**
+	* Onboard parameter id, terminated by NULL if the length is less than 16 human-readable chars and WITHOUT null termination (NULL) byte if the length is exactly 16 chars - applications have to provide 16+1 bytes storage if the ID is stored as string
+	*/
+	public byte param_id(int index) {
+		if (index < 0 || index >= PARAM_ID_LENGTH) {
+			throw new IndexOutOfBoundsException("param_id[" + index + "]");
+		}
+		return getByte(6 + index);
+	}
+
+ 	/**
+	* Onboard parameter type: see the MAV_PARAM_TYPE enum for supported data types.
+	*/
+	public byte param_type() {
+		return getByte(22);
+	}
+}
@@ -0,0 +1,75 @@
+// MESSAGE PARAM_VALUE VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_param_value;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the PARAM_VALUE payload (see msg_param_value).
+* Emit the value of a onboard parameter. The inclusion of param_count and param_index in the message allows the recipient to keep track of received parameters and allows him to re-request missing parameters after a loss or timeout.
+*/
+public class ParamValueView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_param_value.MAVLINK_MSG_ID_PARAM_VALUE;
+	public static final int MAVLINK_MSG_LENGTH = msg_param_value.MAVLINK_MSG_LENGTH;
+	public static final int PARAM_ID_LENGTH = 16;
+
+	/**
+	 * Wrap a complete PARAM_VALUE payload that starts at offset
+	 */
+	public static ParamValueView wrap(ByteBuffer buffer, int offset) {
+		ParamValueView view = new ParamValueView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received PARAM_VALUE packet
+	 */
+	public static ParamValueView wrap(MAVLinkPacket packet) {
+		ParamValueView view = new ParamValueView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Onboard parameter value
+	*/
+	public float param_value() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* Total number of onboard parameters
+	*/
+	public short param_count() {
+		return getShort(4);
+	}
+
+ 	/**
+	* Index of this onboard parameter
+	*/
+	public short param_index() {
+		return getShort(6);
+	}
+
+ 	/**
+	* Onboard parameter id, terminated by NULL if the length is less than 16 human-readable chars and WITHOUT null termination (NULL) byte if the length is exactly 16 chars - applications have to provide 16+1 bytes storage if the ID is stored as string
+	*/
+	public byte param_id(int index) {
+		if (index < 0 || index >= PARAM_ID_LENGTH) {
+			throw new IndexOutOfBoundsException("param_id[" + index + "]");
+		}
+		return getByte(8 + index);
+	}
+
+ 	/**
+	* Onboard parameter type: see the MAV_PARAM_TYPE enum for supported data types.
+	*/
+	public byte param_type() {
+		return getByte(24);
+	}
+}
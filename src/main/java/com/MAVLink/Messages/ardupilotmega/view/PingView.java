@@ -0,0 +1,64 @@
+// MESSAGE PING VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_ping;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the PING payload (see msg_ping).
+* A ping message either requesting or responding to a ping. This allows to measure the system latencies, including serial port, radio modem and UDP connections.
+*/
+public class PingView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_ping.MAVLINK_MSG_ID_PING;
+	public static final int MAVLINK_MSG_LENGTH = msg_ping.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete PING payload that starts at offset
+	 */
+	public static PingView wrap(ByteBuffer buffer, int offset) {
+		PingView view = new PingView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received PING packet
+	 */
+	public static PingView wrap(MAVLinkPacket packet) {
+		PingView view = new PingView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Unix timestamp in microseconds
+	*/
+	public long time_usec() {
+		return getLong(0);
+	}
+
+ 	/**
+	* PING sequence
+	*/
+	public int seq() {
+		return getInt(8);
+	}
+
+ 	/**
+	* 0: request ping from all receiving systems, if greater than 0: message is a ping response and number is the system id of the requesting system
+	*/
+	public byte target_system() {
+		return getByte(12);
+	}
+
+ 	/**
+	* 0: request ping from all receiving components, if greater than 0: message is a ping response and number is the system id of the requesting system
+	*/
+	public byte target_component() {
+		return getByte(13);
+	}
+}
@@ -0,0 +1,57 @@
+// MESSAGE POWER_STATUS VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_power_status;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the POWER_STATUS payload (see msg_power_status).
+* Power supply status
+*/
+public class PowerStatusView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_power_status.MAVLINK_MSG_ID_POWER_STATUS;
+	public static final int MAVLINK_MSG_LENGTH = msg_power_status.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete POWER_STATUS payload that starts at offset
+	 */
+	public static PowerStatusView wrap(ByteBuffer buffer, int offset) {
+		PowerStatusView view = new PowerStatusView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received POWER_STATUS packet
+	 */
+	public static PowerStatusView wrap(MAVLinkPacket packet) {
+		PowerStatusView view = new PowerStatusView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* 5V rail voltage in millivolts
+	*/
+	public short Vcc() {
+		return getShort(0);
+	}
+
+ 	/**
+	* servo rail voltage in millivolts
+	*/
+	public short Vservo() {
+		return getShort(2);
+	}
+
+ 	/**
+	* power supply status flags (see MAV_POWER_STATUS enum)
+	*/
+	public short flags() {
+		return getShort(4);
+	}
+}
@@ -0,0 +1,85 @@
+// MESSAGE RADIO_STATUS VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_radio_status;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the RADIO_STATUS payload (see msg_radio_status).
+* Status generated by radio
+*/
+public class RadioStatusView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_radio_status.MAVLINK_MSG_ID_RADIO_STATUS;
+	public static final int MAVLINK_MSG_LENGTH = msg_radio_status.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete RADIO_STATUS payload that starts at offset
+	 */
+	public static RadioStatusView wrap(ByteBuffer buffer, int offset) {
+		RadioStatusView view = new RadioStatusView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received RADIO_STATUS packet
+	 */
+	public static RadioStatusView wrap(MAVLinkPacket packet) {
+		RadioStatusView view = new RadioStatusView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* receive errors
+	*/
+	public short rxerrors() {
+		return getShort(0);
+	}
+
+ 	/**
+	* count of error corrected packets
+	*/
+	public short fixed() {
+		return getShort(2);
+	}
+
+ 	/**
+	* local signal strength
+	*/
+	public byte rssi() {
+		return getByte(4);
+	}
+
+ 	/**
+	* remote signal strength
+	*/
+	public byte remrssi() {
+		return getByte(5);
+	}
+
+ 	/**
+	* how full the tx buffer is as a percentage
+	*/
+	public byte txbuf() {
+		return getByte(6);
+	}
+
+ 	/**
+	* background noise level
+	*/
+	public byte noise() {
+		return getByte(7);
+	}
+
+ 	/**
+	* remote background noise level
+	*/
+	public byte remnoise() {
+		return getByte(8);
+	}
+}
@@ -0,0 +1,85 @@
+// MESSAGE RADIO VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_radio;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the RADIO payload (see msg_radio).
+* Status generated by radio
+*/
+public class RadioView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_radio.MAVLINK_MSG_ID_RADIO;
+	public static final int MAVLINK_MSG_LENGTH = msg_radio.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete RADIO payload that starts at offset
+	 */
+	public static RadioView wrap(ByteBuffer buffer, int offset) {
+		RadioView view = new RadioView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received RADIO packet
+	 */
+	public static RadioView wrap(MAVLinkPacket packet) {
+		RadioView view = new RadioView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* receive errors
+	*/
+	public short rxerrors() {
+		return getShort(0);
+	}
+
+ 	/**
+	* count of error corrected packets
+	*/
+	public short fixed() {
+		return getShort(2);
+	}
+
+ 	/**
+	* local signal strength
+	*/
+	public byte rssi() {
+		return getByte(4);
+	}
+
+ 	/**
+	* remote signal strength
+	*/
+	public byte remrssi() {
+		return getByte(5);
+	}
+
+ 	/**
+	* how full the tx buffer is as a percentage
+	*/
+	public byte txbuf() {
+		return getByte(6);
+	}
+
+ 	/**
+	* background noise level
+	*/
+	public byte noise() {
+		return getByte(7);
+	}
+
+ 	/**
+	* remote background noise level
+	*/
+	public byte remnoise() {
+		return getByte(8);
+	}
+}
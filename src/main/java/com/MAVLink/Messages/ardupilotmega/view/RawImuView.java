@@ -0,0 +1,106 @@
+// MESSAGE RAW_IMU VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_raw_imu;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the RAW_IMU payload (see msg_raw_imu).
+* The RAW IMU readings for the usual 9DOF sensor setup. This message should always contain the true raw values without any scaling to allow data capture and system debugging.
+*/
+public class RawImuView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_raw_imu.MAVLINK_MSG_ID_RAW_IMU;
+	public static final int MAVLINK_MSG_LENGTH = msg_raw_imu.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete RAW_IMU payload that starts at offset
+	 */
+	public static RawImuView wrap(ByteBuffer buffer, int offset) {
+		RawImuView view = new RawImuView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received RAW_IMU packet
+	 */
+	public static RawImuView wrap(MAVLinkPacket packet) {
+		RawImuView view = new RawImuView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+	*/
+	public long time_usec() {
+		return getLong(0);
+	}
+
+ 	/**
+	* X acceleration (raw)
+	*/
+	public short xacc() {
+		return getShort(8);
+	}
+
+ 	/**
+	* Y acceleration (raw)
+	*/
+	public short yacc() {
+		return getShort(10);
+	}
+
+ 	/**
+	* Z acceleration (raw)
+	*/
+	public short zacc() {
+		return getShort(12);
+	}
+
+ 	/**
+	* Angular speed around X axis (raw)
+	*/
+	public short xgyro() {
+		return getShort(14);
+	}
+
+ 	/**
+	* Angular speed around Y axis (raw)
+	*/
+	public short ygyro() {
+		return getShort(16);
+	}
+
+ 	/**
+	* Angular speed around Z axis (raw)
+	*/
+	public short zgyro() {
+		return getShort(18);
+	}
+
+ 	/**
+	* X Magnetic field (raw)
+	*/
+	public short xmag() {
+		return getShort(20);
+	}
+
+ 	/**
+	* Y Magnetic field (raw)
+	*/
+	public short ymag() {
+		return getShort(22);
+	}
+
+ 	/**
+	* Z Magnetic field (raw)
+	*/
+	public short zmag() {
+		return getShort(24);
+	}
+}
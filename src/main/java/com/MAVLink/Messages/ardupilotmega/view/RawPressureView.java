@@ -0,0 +1,71 @@
+// MESSAGE RAW_PRESSURE VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_raw_pressure;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the RAW_PRESSURE payload (see msg_raw_pressure).
+* The RAW pressure readings for the typical setup of one absolute pressure and one differential pressure sensor. The sensor values should be the raw, UNSCALED ADC values.
+*/
+public class RawPressureView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_raw_pressure.MAVLINK_MSG_ID_RAW_PRESSURE;
+	public static final int MAVLINK_MSG_LENGTH = msg_raw_pressure.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete RAW_PRESSURE payload that starts at offset
+	 */
+	public static RawPressureView wrap(ByteBuffer buffer, int offset) {
+		RawPressureView view = new RawPressureView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received RAW_PRESSURE packet
+	 */
+	public static RawPressureView wrap(MAVLinkPacket packet) {
+		RawPressureView view = new RawPressureView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+	*/
+	public long time_usec() {
+		return getLong(0);
+	}
+
+ 	/**
+	* Absolute pressure (raw)
+	*/
+	public short press_abs() {
+		return getShort(8);
+	}
+
+ 	/**
+	* Differential pressure 1 (raw)
+	*/
+	public short press_diff1() {
+		return getShort(10);
+	}
+
+ 	/**
+	* Differential pressure 2 (raw)
+	*/
+	public short press_diff2() {
+		return getShort(12);
+	}
+
+ 	/**
+	* Raw Temperature measurement (raw)
+	*/
+	public short temperature() {
+		return getShort(14);
+	}
+}
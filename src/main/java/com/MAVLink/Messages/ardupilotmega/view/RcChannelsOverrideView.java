@@ -0,0 +1,106 @@
+// MESSAGE RC_CHANNELS_OVERRIDE VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_rc_channels_override;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the RC_CHANNELS_OVERRIDE payload (see msg_rc_channels_override).
+* The RAW values of the RC channels sent to the MAV to override info received from the RC radio. A value of UINT16_MAX means no change to that channel. A value of 0 means control of that channel should be released back to the RC radio. The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%. Individual receivers/transmitters might violate this specification.
+*/
+public class RcChannelsOverrideView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_rc_channels_override.MAVLINK_MSG_ID_RC_CHANNELS_OVERRIDE;
+	public static final int MAVLINK_MSG_LENGTH = msg_rc_channels_override.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete RC_CHANNELS_OVERRIDE payload that starts at offset
+	 */
+	public static RcChannelsOverrideView wrap(ByteBuffer buffer, int offset) {
+		RcChannelsOverrideView view = new RcChannelsOverrideView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received RC_CHANNELS_OVERRIDE packet
+	 */
+	public static RcChannelsOverrideView wrap(MAVLinkPacket packet) {
+		RcChannelsOverrideView view = new RcChannelsOverrideView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* RC channel 1 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+	*/
+	public short chan1_raw() {
+		return getShort(0);
+	}
+
+ 	/**
+	* RC channel 2 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+	*/
+	public short chan2_raw() {
+		return getShort(2);
+	}
+
+ 	/**
+	* RC channel 3 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+	*/
+	public short chan3_raw() {
+		return getShort(4);
+	}
+
+ 	/**
+	* RC channel 4 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+	*/
+	public short chan4_raw() {
+		return getShort(6);
+	}
+
+ 	/**
+	* RC channel 5 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+	*/
+	public short chan5_raw() {
+		return getShort(8);
+	}
+
+ 	/**
+	* RC channel 6 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+	*/
+	public short chan6_raw() {
+		return getShort(10);
+	}
+
+ 	/**
+	* RC channel 7 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+	*/
+	public short chan7_raw() {
+		return getShort(12);
+	}
+
+ 	/**
+	* RC channel 8 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+	*/
+	public short chan8_raw() {
+		return getShort(14);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(16);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(17);
+	}
+}
@@ -0,0 +1,113 @@
+// MESSAGE RC_CHANNELS_RAW VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_rc_channels_raw;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the RC_CHANNELS_RAW payload (see msg_rc_channels_raw).
+* The RAW values of the RC channels received. The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%. Individual receivers/transmitters might violate this specification.
+*/
+public class RcChannelsRawView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_rc_channels_raw.MAVLINK_MSG_ID_RC_CHANNELS_RAW;
+	public static final int MAVLINK_MSG_LENGTH = msg_rc_channels_raw.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete RC_CHANNELS_RAW payload that starts at offset
+	 */
+	public static RcChannelsRawView wrap(ByteBuffer buffer, int offset) {
+		RcChannelsRawView view = new RcChannelsRawView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received RC_CHANNELS_RAW packet
+	 */
+	public static RcChannelsRawView wrap(MAVLinkPacket packet) {
+		RcChannelsRawView view = new RcChannelsRawView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (milliseconds since system boot)
+	*/
+	public int time_boot_ms() {
+		return getInt(0);
+	}
+
+ 	/**
+	* RC channel 1 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan1_raw() {
+		return getShort(4);
+	}
+
+ 	/**
+	* RC channel 2 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan2_raw() {
+		return getShort(6);
+	}
+
+ 	/**
+	* RC channel 3 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan3_raw() {
+		return getShort(8);
+	}
+
+ 	/**
+	* RC channel 4 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan4_raw() {
+		return getShort(10);
+	}
+
+ 	/**
+	* RC channel 5 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan5_raw() {
+		return getShort(12);
+	}
+
+ 	/**
+	* RC channel 6 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan6_raw() {
+		return getShort(14);
+	}
+
+ 	/**
+	* RC channel 7 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan7_raw() {
+		return getShort(16);
+	}
+
+ 	/**
+	* RC channel 8 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan8_raw() {
+		return getShort(18);
+	}
+
+ 	/**
+	* Servo output port (set of 8 outputs = 1 port). Most MAVs will just use one, but this allows for more than 8 servos.
+	*/
+	public byte port() {
+		return getByte(20);
+	}
+
+ 	/**
+	* Receive signal strength indicator, 0: 0%, 100: 100%, 255: invalid/unknown.
+	*/
+	public byte rssi() {
+		return getByte(21);
+	}
+}
@@ -0,0 +1,113 @@
+// MESSAGE RC_CHANNELS_SCALED VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_rc_channels_scaled;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the RC_CHANNELS_SCALED payload (see msg_rc_channels_scaled).
+* The scaled values of the RC channels received. (-100%) -10000, (0%) 0, (100%) 10000. Channels that are inactive should be set to UINT16_MAX.
+*/
+public class RcChannelsScaledView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_rc_channels_scaled.MAVLINK_MSG_ID_RC_CHANNELS_SCALED;
+	public static final int MAVLINK_MSG_LENGTH = msg_rc_channels_scaled.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete RC_CHANNELS_SCALED payload that starts at offset
+	 */
+	public static RcChannelsScaledView wrap(ByteBuffer buffer, int offset) {
+		RcChannelsScaledView view = new RcChannelsScaledView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received RC_CHANNELS_SCALED packet
+	 */
+	public static RcChannelsScaledView wrap(MAVLinkPacket packet) {
+		RcChannelsScaledView view = new RcChannelsScaledView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (milliseconds since system boot)
+	*/
+	public int time_boot_ms() {
+		return getInt(0);
+	}
+
+ 	/**
+	* RC channel 1 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+	*/
+	public short chan1_scaled() {
+		return getShort(4);
+	}
+
+ 	/**
+	* RC channel 2 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+	*/
+	public short chan2_scaled() {
+		return getShort(6);
+	}
+
+ 	/**
+	* RC channel 3 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+	*/
+	public short chan3_scaled() {
+		return getShort(8);
+	}
+
+ 	/**
+	* RC channel 4 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+	*/
+	public short chan4_scaled() {
+		return getShort(10);
+	}
+
+ 	/**
+	* RC channel 5 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+	*/
+	public short chan5_scaled() {
+		return getShort(12);
+	}
+
+ 	/**
+	* RC channel 6 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+	*/
+	public short chan6_scaled() {
+		return getShort(14);
+	}
+
+ 	/**
+	* RC channel 7 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+	*/
+	public short chan7_scaled() {
+		return getShort(16);
+	}
+
+ 	/**
+	* RC channel 8 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+	*/
+	public short chan8_scaled() {
+		return getShort(18);
+	}
+
+ 	/**
+	* Servo output port (set of 8 outputs = 1 port). Most MAVs will just use one, but this allows for more than 8 servos.
+	*/
+	public byte port() {
+		return getByte(20);
+	}
+
+ 	/**
+	* Receive signal strength indicator, 0: 0%, 100: 100%, 255: invalid/unknown.
+	*/
+	public byte rssi() {
+		return getByte(21);
+	}
+}
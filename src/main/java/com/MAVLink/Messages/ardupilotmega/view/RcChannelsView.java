@@ -0,0 +1,183 @@
+// MESSAGE RC_CHANNELS VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_rc_channels;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the RC_CHANNELS payload (see msg_rc_channels).
+* The PPM values of the RC channels received. The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%. Individual receivers/transmitters might violate this specification.
+*/
+public class RcChannelsView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_rc_channels.MAVLINK_MSG_ID_RC_CHANNELS;
+	public static final int MAVLINK_MSG_LENGTH = msg_rc_channels.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete RC_CHANNELS payload that starts at offset
+	 */
+	public static RcChannelsView wrap(ByteBuffer buffer, int offset) {
+		RcChannelsView view = new RcChannelsView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received RC_CHANNELS packet
+	 */
+	public static RcChannelsView wrap(MAVLinkPacket packet) {
+		RcChannelsView view = new RcChannelsView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (milliseconds since system boot)
+	*/
+	public int time_boot_ms() {
+		return getInt(0);
+	}
+
+ 	/**
+	* RC channel 1 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan1_raw() {
+		return getShort(4);
+	}
+
+ 	/**
+	* RC channel 2 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan2_raw() {
+		return getShort(6);
+	}
+
+ 	/**
+	* RC channel 3 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan3_raw() {
+		return getShort(8);
+	}
+
+ 	/**
+	* RC channel 4 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan4_raw() {
+		return getShort(10);
+	}
+
+ 	/**
+	* RC channel 5 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan5_raw() {
+		return getShort(12);
+	}
+
+ 	/**
+	* RC channel 6 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan6_raw() {
+		return getShort(14);
+	}
+
+ 	/**
+	* RC channel 7 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan7_raw() {
+		return getShort(16);
+	}
+
+ 	/**
+	* RC channel 8 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan8_raw() {
+		return getShort(18);
+	}
+
+ 	/**
+	* RC channel 9 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan9_raw() {
+		return getShort(20);
+	}
+
+ 	/**
+	* RC channel 10 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan10_raw() {
+		return getShort(22);
+	}
+
+ 	/**
+	* RC channel 11 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan11_raw() {
+		return getShort(24);
+	}
+
+ 	/**
+	* RC channel 12 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan12_raw() {
+		return getShort(26);
+	}
+
+ 	/**
+	* RC channel 13 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan13_raw() {
+		return getShort(28);
+	}
+
+ 	/**
+	* RC channel 14 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan14_raw() {
+		return getShort(30);
+	}
+
+ 	/**
+	* RC channel 15 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan15_raw() {
+		return getShort(32);
+	}
+
+ 	/**
+	* RC channel 16 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan16_raw() {
+		return getShort(34);
+	}
+
+ 	/**
+	* RC channel 17 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan17_raw() {
+		return getShort(36);
+	}
+
+ 	/**
+	* RC channel 18 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+	*/
+	public short chan18_raw() {
+		return getShort(38);
+	}
+
+ 	/**
+	* Total number of RC channels being received. This can be larger than 18, indicating that more channels are available but not given in this message. This value should be 0 when no RC channels are available.
+	*/
+	public byte chancount() {
+		return getByte(40);
+	}
+
+ 	/**
+	* Receive signal strength indicator, 0: 0%, 100: 100%, 255: invalid/unknown.
+	*/
+	public byte rssi() {
+		return getByte(41);
+	}
+}
@@ -0,0 +1,71 @@
+// MESSAGE REQUEST_DATA_STREAM VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_request_data_stream;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the REQUEST_DATA_STREAM payload (see msg_request_data_stream).
+* 
+*/
+public class RequestDataStreamView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_request_data_stream.MAVLINK_MSG_ID_REQUEST_DATA_STREAM;
+	public static final int MAVLINK_MSG_LENGTH = msg_request_data_stream.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete REQUEST_DATA_STREAM payload that starts at offset
+	 */
+	public static RequestDataStreamView wrap(ByteBuffer buffer, int offset) {
+		RequestDataStreamView view = new RequestDataStreamView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received REQUEST_DATA_STREAM packet
+	 */
+	public static RequestDataStreamView wrap(MAVLinkPacket packet) {
+		RequestDataStreamView view = new RequestDataStreamView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* The requested interval between two messages of this type
+	*/
+	public short req_message_rate() {
+		return getShort(0);
+	}
+
+ 	/**
+	* The target requested to send the message stream.
+	*/
+	public byte target_system() {
+		return getByte(2);
+	}
+
+ 	/**
+	* The target requested to send the message stream.
+	*/
+	public byte target_component() {
+		return getByte(3);
+	}
+
+ 	/**
+	* The ID of the requested data stream
+	*/
+	public byte req_stream_id() {
+		return getByte(4);
+	}
+
+ 	/**
+	* 1 to start sending, 0 to stop sending.
+	*/
+	public byte start_stop() {
+		return getByte(5);
+	}
+}
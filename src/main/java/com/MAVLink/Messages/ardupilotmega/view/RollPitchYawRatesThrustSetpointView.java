@@ -0,0 +1,71 @@
+// MESSAGE ROLL_PITCH_YAW_RATES_THRUST_SETPOINT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_roll_pitch_yaw_rates_thrust_setpoint;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the ROLL_PITCH_YAW_RATES_THRUST_SETPOINT payload (see msg_roll_pitch_yaw_rates_thrust_setpoint).
+* Setpoint in roll, pitch, yaw rates and thrust currently active on the system.
+*/
+public class RollPitchYawRatesThrustSetpointView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_roll_pitch_yaw_rates_thrust_setpoint.MAVLINK_MSG_ID_ROLL_PITCH_YAW_RATES_THRUST_SETPOINT;
+	public static final int MAVLINK_MSG_LENGTH = msg_roll_pitch_yaw_rates_thrust_setpoint.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete ROLL_PITCH_YAW_RATES_THRUST_SETPOINT payload that starts at offset
+	 */
+	public static RollPitchYawRatesThrustSetpointView wrap(ByteBuffer buffer, int offset) {
+		RollPitchYawRatesThrustSetpointView view = new RollPitchYawRatesThrustSetpointView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received ROLL_PITCH_YAW_RATES_THRUST_SETPOINT packet
+	 */
+	public static RollPitchYawRatesThrustSetpointView wrap(MAVLinkPacket packet) {
+		RollPitchYawRatesThrustSetpointView view = new RollPitchYawRatesThrustSetpointView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp in milliseconds since system boot
+	*/
+	public int time_boot_ms() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Desired roll rate in radians per second
+	*/
+	public float roll_rate() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* Desired pitch rate in radians per second
+	*/
+	public float pitch_rate() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Desired yaw rate in radians per second
+	*/
+	public float yaw_rate() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Collective thrust, normalized to 0 .. 1
+	*/
+	public float thrust() {
+		return getFloat(16);
+	}
+}
@@ -0,0 +1,71 @@
+// MESSAGE ROLL_PITCH_YAW_THRUST_SETPOINT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_roll_pitch_yaw_thrust_setpoint;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the ROLL_PITCH_YAW_THRUST_SETPOINT payload (see msg_roll_pitch_yaw_thrust_setpoint).
+* Setpoint in roll, pitch, yaw currently active on the system.
+*/
+public class RollPitchYawThrustSetpointView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_roll_pitch_yaw_thrust_setpoint.MAVLINK_MSG_ID_ROLL_PITCH_YAW_THRUST_SETPOINT;
+	public static final int MAVLINK_MSG_LENGTH = msg_roll_pitch_yaw_thrust_setpoint.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete ROLL_PITCH_YAW_THRUST_SETPOINT payload that starts at offset
+	 */
+	public static RollPitchYawThrustSetpointView wrap(ByteBuffer buffer, int offset) {
+		RollPitchYawThrustSetpointView view = new RollPitchYawThrustSetpointView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received ROLL_PITCH_YAW_THRUST_SETPOINT packet
+	 */
+	public static RollPitchYawThrustSetpointView wrap(MAVLinkPacket packet) {
+		RollPitchYawThrustSetpointView view = new RollPitchYawThrustSetpointView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp in milliseconds since system boot
+	*/
+	public int time_boot_ms() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Desired roll angle in radians
+	*/
+	public float roll() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* Desired pitch angle in radians
+	*/
+	public float pitch() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Desired yaw angle in radians
+	*/
+	public float yaw() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Collective thrust, normalized to 0 .. 1
+	*/
+	public float thrust() {
+		return getFloat(16);
+	}
+}
@@ -0,0 +1,85 @@
+// MESSAGE SAFETY_ALLOWED_AREA VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_safety_allowed_area;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SAFETY_ALLOWED_AREA payload (see msg_safety_allowed_area).
+* Read out the safety zone the MAV currently assumes.
+*/
+public class SafetyAllowedAreaView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_safety_allowed_area.MAVLINK_MSG_ID_SAFETY_ALLOWED_AREA;
+	public static final int MAVLINK_MSG_LENGTH = msg_safety_allowed_area.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete SAFETY_ALLOWED_AREA payload that starts at offset
+	 */
+	public static SafetyAllowedAreaView wrap(ByteBuffer buffer, int offset) {
+		SafetyAllowedAreaView view = new SafetyAllowedAreaView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SAFETY_ALLOWED_AREA packet
+	 */
+	public static SafetyAllowedAreaView wrap(MAVLinkPacket packet) {
+		SafetyAllowedAreaView view = new SafetyAllowedAreaView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* x position 1 / Latitude 1
+	*/
+	public float p1x() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* y position 1 / Longitude 1
+	*/
+	public float p1y() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* z position 1 / Altitude 1
+	*/
+	public float p1z() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* x position 2 / Latitude 2
+	*/
+	public float p2x() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* y position 2 / Longitude 2
+	*/
+	public float p2y() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* z position 2 / Altitude 2
+	*/
+	public float p2z() {
+		return getFloat(20);
+	}
+
+ 	/**
+	* Coordinate frame, as defined by MAV_FRAME enum in mavlink_types.h. Can be either global, GPS, right-handed with Z axis up or local, right handed, Z axis down.
+	*/
+	public byte frame() {
+		return getByte(24);
+	}
+}
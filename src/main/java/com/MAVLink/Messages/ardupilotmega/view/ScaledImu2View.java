@@ -0,0 +1,106 @@
+// MESSAGE SCALED_IMU2 VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_scaled_imu2;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SCALED_IMU2 payload (see msg_scaled_imu2).
+* The RAW IMU readings for secondary 9DOF sensor setup. This message should contain the scaled values to the described units
+*/
+public class ScaledImu2View extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_scaled_imu2.MAVLINK_MSG_ID_SCALED_IMU2;
+	public static final int MAVLINK_MSG_LENGTH = msg_scaled_imu2.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete SCALED_IMU2 payload that starts at offset
+	 */
+	public static ScaledImu2View wrap(ByteBuffer buffer, int offset) {
+		ScaledImu2View view = new ScaledImu2View();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SCALED_IMU2 packet
+	 */
+	public static ScaledImu2View wrap(MAVLinkPacket packet) {
+		ScaledImu2View view = new ScaledImu2View();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (milliseconds since system boot)
+	*/
+	public int time_boot_ms() {
+		return getInt(0);
+	}
+
+ 	/**
+	* X acceleration (mg)
+	*/
+	public short xacc() {
+		return getShort(4);
+	}
+
+ 	/**
+	* Y acceleration (mg)
+	*/
+	public short yacc() {
+		return getShort(6);
+	}
+
+ 	/**
+	* Z acceleration (mg)
+	*/
+	public short zacc() {
+		return getShort(8);
+	}
+
+ 	/**
+	* Angular speed around X axis (millirad /sec)
+	*/
+	public short xgyro() {
+		return getShort(10);
+	}
+
+ 	/**
+	* Angular speed around Y axis (millirad /sec)
+	*/
+	public short ygyro() {
+		return getShort(12);
+	}
+
+ 	/**
+	* Angular speed around Z axis (millirad /sec)
+	*/
+	public short zgyro() {
+		return getShort(14);
+	}
+
+ 	/**
+	* X Magnetic field (milli tesla)
+	*/
+	public short xmag() {
+		return getShort(16);
+	}
+
+ 	/**
+	* Y Magnetic field (milli tesla)
+	*/
+	public short ymag() {
+		return getShort(18);
+	}
+
+ 	/**
+	* Z Magnetic field (milli tesla)
+	*/
+	public short zmag() {
+		return getShort(20);
+	}
+}
@@ -0,0 +1,64 @@
+// MESSAGE SCALED_PRESSURE VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_scaled_pressure;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SCALED_PRESSURE payload (see msg_scaled_pressure).
+* The pressure readings for the typical setup of one absolute and differential pressure sensor. The units are as specified in each field.
+*/
+public class ScaledPressureView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_scaled_pressure.MAVLINK_MSG_ID_SCALED_PRESSURE;
+	public static final int MAVLINK_MSG_LENGTH = msg_scaled_pressure.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete SCALED_PRESSURE payload that starts at offset
+	 */
+	public static ScaledPressureView wrap(ByteBuffer buffer, int offset) {
+		ScaledPressureView view = new ScaledPressureView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SCALED_PRESSURE packet
+	 */
+	public static ScaledPressureView wrap(MAVLinkPacket packet) {
+		ScaledPressureView view = new ScaledPressureView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (milliseconds since system boot)
+	*/
+	public int time_boot_ms() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Absolute pressure (hectopascal)
+	*/
+	public float press_abs() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* Differential pressure 1 (hectopascal)
+	*/
+	public float press_diff() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Temperature measurement (0.01 degrees celsius)
+	*/
+	public short temperature() {
+		return getShort(12);
+	}
+}
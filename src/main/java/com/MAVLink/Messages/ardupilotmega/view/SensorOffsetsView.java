@@ -0,0 +1,121 @@
+// MESSAGE SENSOR_OFFSETS VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_sensor_offsets;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SENSOR_OFFSETS payload (see msg_sensor_offsets).
+* Offsets and calibrations values for hardware
+        sensors. This makes it easier to debug the calibration process.
+*/
+public class SensorOffsetsView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_sensor_offsets.MAVLINK_MSG_ID_SENSOR_OFFSETS;
+	public static final int MAVLINK_MSG_LENGTH = msg_sensor_offsets.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete SENSOR_OFFSETS payload that starts at offset
+	 */
+	public static SensorOffsetsView wrap(ByteBuffer buffer, int offset) {
+		SensorOffsetsView view = new SensorOffsetsView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SENSOR_OFFSETS packet
+	 */
+	public static SensorOffsetsView wrap(MAVLinkPacket packet) {
+		SensorOffsetsView view = new SensorOffsetsView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* magnetic declination (radians)
+	*/
+	public float mag_declination() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* raw pressure from barometer
+	*/
+	public int raw_press() {
+		return getInt(4);
+	}
+
+ 	/**
+	* raw temperature from barometer
+	*/
+	public int raw_temp() {
+		return getInt(8);
+	}
+
+ 	/**
+	* gyro X calibration
+	*/
+	public float gyro_cal_x() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* gyro Y calibration
+	*/
+	public float gyro_cal_y() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* gyro Z calibration
+	*/
+	public float gyro_cal_z() {
+		return getFloat(20);
+	}
+
+ 	/**
+	* accel X calibration
+	*/
+	public float accel_cal_x() {
+		return getFloat(24);
+	}
+
+ 	/**
+	* accel Y calibration
+	*/
+	public float accel_cal_y() {
+		return getFloat(28);
+	}
+
+ 	/**
+	* accel Z calibration
+	*/
+	public float accel_cal_z() {
+		return getFloat(32);
+	}
+
+ 	/**
+	* magnetometer X offset
+	*/
+	public short mag_ofs_x() {
+		return getShort(36);
+	}
+
+ 	/**
+	* magnetometer Y offset
+	*/
+	public short mag_ofs_y() {
+		return getShort(38);
+	}
+
+ 	/**
+	* magnetometer Z offset
+	*/
+	public short mag_ofs_z() {
+		return getShort(40);
+	}
+}
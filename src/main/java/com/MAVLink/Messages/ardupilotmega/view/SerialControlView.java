@@ -0,0 +1,82 @@
+// MESSAGE SERIAL_CONTROL VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_serial_control;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SERIAL_CONTROL payload (see msg_serial_control).
+* Control a serial port. This can be used for raw access to an onboard serial peripheral such as a GPS or telemetry radio. It is designed to make it possible to update the devices firmware via MAVLink messages or change the devices settings. A message with zero bytes can be used to change just the baudrate.
+*/
+public class SerialControlView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_serial_control.MAVLINK_MSG_ID_SERIAL_CONTROL;
+	public static final int MAVLINK_MSG_LENGTH = msg_serial_control.MAVLINK_MSG_LENGTH;
+	public static final int DATA_LENGTH = 70;
+
+	/**
+	 * Wrap a complete SERIAL_CONTROL payload that starts at offset
+	 */
+	public static SerialControlView wrap(ByteBuffer buffer, int offset) {
+		SerialControlView view = new SerialControlView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SERIAL_CONTROL packet
+	 */
+	public static SerialControlView wrap(MAVLinkPacket packet) {
+		SerialControlView view = new SerialControlView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Baudrate of transfer. Zero means no change.
+	*/
+	public int baudrate() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Timeout for reply data in milliseconds
+	*/
+	public short timeout() {
+		return getShort(4);
+	}
+
+ 	/**
+	* See SERIAL_CONTROL_DEV enum
+	*/
+	public byte device() {
+		return getByte(6);
+	}
+
+ 	/**
+	* See SERIAL_CONTROL_FLAG enum
+	*/
+	public byte flags() {
+		return getByte(7);
+	}
+
+ 	/**
+	* how many bytes in this transfer
+	*/
+	public byte count() {
+		return getByte(8);
+	}
+
+ 	/**
+	* serial data
+	*/
+	public byte data(int index) {
+		if (index < 0 || index >= DATA_LENGTH) {
+			throw new IndexOutOfBoundsException("data[" + index + "]");
+		}
+		return getByte(9 + index);
+	}
+}
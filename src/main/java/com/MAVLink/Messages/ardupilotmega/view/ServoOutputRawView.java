@@ -0,0 +1,106 @@
+// MESSAGE SERVO_OUTPUT_RAW VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_servo_output_raw;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SERVO_OUTPUT_RAW payload (see msg_servo_output_raw).
+* The RAW values of the servo outputs (for RC input from the remote, use the RC_CHANNELS messages). The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%.
+*/
+public class ServoOutputRawView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_servo_output_raw.MAVLINK_MSG_ID_SERVO_OUTPUT_RAW;
+	public static final int MAVLINK_MSG_LENGTH = msg_servo_output_raw.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete SERVO_OUTPUT_RAW payload that starts at offset
+	 */
+	public static ServoOutputRawView wrap(ByteBuffer buffer, int offset) {
+		ServoOutputRawView view = new ServoOutputRawView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SERVO_OUTPUT_RAW packet
+	 */
+	public static ServoOutputRawView wrap(MAVLinkPacket packet) {
+		ServoOutputRawView view = new ServoOutputRawView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (microseconds since system boot)
+	*/
+	public int time_usec() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Servo output 1 value, in microseconds
+	*/
+	public short servo1_raw() {
+		return getShort(4);
+	}
+
+ 	/**
+	* Servo output 2 value, in microseconds
+	*/
+	public short servo2_raw() {
+		return getShort(6);
+	}
+
+ 	/**
+	* Servo output 3 value, in microseconds
+	*/
+	public short servo3_raw() {
+		return getShort(8);
+	}
+
+ 	/**
+	* Servo output 4 value, in microseconds
+	*/
+	public short servo4_raw() {
+		return getShort(10);
+	}
+
+ 	/**
+	* Servo output 5 value, in microseconds
+	*/
+	public short servo5_raw() {
+		return getShort(12);
+	}
+
+ 	/**
+	* Servo output 6 value, in microseconds
+	*/
+	public short servo6_raw() {
+		return getShort(14);
+	}
+
+ 	/**
+	* Servo output 7 value, in microseconds
+	*/
+	public short servo7_raw() {
+		return getShort(16);
+	}
+
+ 	/**
+	* Servo output 8 value, in microseconds
+	*/
+	public short servo8_raw() {
+		return getShort(18);
+	}
+
+ 	/**
+	* Servo output port (set of 8 outputs = 1 port). Most MAVs will just use one, but this allows to encode more than 8 servos.
+	*/
+	public byte port() {
+		return getByte(20);
+	}
+}
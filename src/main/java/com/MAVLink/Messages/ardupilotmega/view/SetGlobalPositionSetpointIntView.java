@@ -0,0 +1,71 @@
+// MESSAGE SET_GLOBAL_POSITION_SETPOINT_INT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_set_global_position_setpoint_int;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SET_GLOBAL_POSITION_SETPOINT_INT payload (see msg_set_global_position_setpoint_int).
+* Set the current global position setpoint.
+*/
+public class SetGlobalPositionSetpointIntView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_set_global_position_setpoint_int.MAVLINK_MSG_ID_SET_GLOBAL_POSITION_SETPOINT_INT;
+	public static final int MAVLINK_MSG_LENGTH = msg_set_global_position_setpoint_int.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete SET_GLOBAL_POSITION_SETPOINT_INT payload that starts at offset
+	 */
+	public static SetGlobalPositionSetpointIntView wrap(ByteBuffer buffer, int offset) {
+		SetGlobalPositionSetpointIntView view = new SetGlobalPositionSetpointIntView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SET_GLOBAL_POSITION_SETPOINT_INT packet
+	 */
+	public static SetGlobalPositionSetpointIntView wrap(MAVLinkPacket packet) {
+		SetGlobalPositionSetpointIntView view = new SetGlobalPositionSetpointIntView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Latitude (WGS84), in degrees * 1E7
+	*/
+	public int latitude() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Longitude (WGS84), in degrees * 1E7
+	*/
+	public int longitude() {
+		return getInt(4);
+	}
+
+ 	/**
+	* Altitude (WGS84), in meters * 1000 (positive for up)
+	*/
+	public int altitude() {
+		return getInt(8);
+	}
+
+ 	/**
+	* Desired yaw angle in degrees * 100
+	*/
+	public short yaw() {
+		return getShort(12);
+	}
+
+ 	/**
+	* Coordinate frame - valid values are only MAV_FRAME_GLOBAL or MAV_FRAME_GLOBAL_RELATIVE_ALT
+	*/
+	public byte coordinate_frame() {
+		return getByte(14);
+	}
+}
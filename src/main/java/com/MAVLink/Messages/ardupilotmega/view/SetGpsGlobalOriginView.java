@@ -0,0 +1,64 @@
+// MESSAGE SET_GPS_GLOBAL_ORIGIN VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_set_gps_global_origin;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SET_GPS_GLOBAL_ORIGIN payload (see msg_set_gps_global_origin).
+* As local waypoints exist, the global MISSION reference allows to transform between the local coordinate frame and the global (GPS) coordinate frame. This can be necessary when e.g. in- and outdoor settings are connected and the MAV should move from in- to outdoor.
+*/
+public class SetGpsGlobalOriginView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_set_gps_global_origin.MAVLINK_MSG_ID_SET_GPS_GLOBAL_ORIGIN;
+	public static final int MAVLINK_MSG_LENGTH = msg_set_gps_global_origin.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete SET_GPS_GLOBAL_ORIGIN payload that starts at offset
+	 */
+	public static SetGpsGlobalOriginView wrap(ByteBuffer buffer, int offset) {
+		SetGpsGlobalOriginView view = new SetGpsGlobalOriginView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SET_GPS_GLOBAL_ORIGIN packet
+	 */
+	public static SetGpsGlobalOriginView wrap(MAVLinkPacket packet) {
+		SetGpsGlobalOriginView view = new SetGpsGlobalOriginView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Latitude (WGS84), in degrees * 1E7
+	*/
+	public int latitude() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Longitude (WGS84, in degrees * 1E7
+	*/
+	public int longitude() {
+		return getInt(4);
+	}
+
+ 	/**
+	* Altitude (WGS84), in meters * 1000 (positive for up)
+	*/
+	public int altitude() {
+		return getInt(8);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(12);
+	}
+}
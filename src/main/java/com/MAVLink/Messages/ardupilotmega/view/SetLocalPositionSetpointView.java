@@ -0,0 +1,85 @@
+// MESSAGE SET_LOCAL_POSITION_SETPOINT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_set_local_position_setpoint;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SET_LOCAL_POSITION_SETPOINT payload (see msg_set_local_position_setpoint).
+* Set the setpoint for a local position controller. This is the position in local coordinates the MAV should fly to. This message is sent by the path/MISSION planner to the onboard position controller. As some MAVs have a degree of freedom in yaw (e.g. all helicopters/quadrotors), the desired yaw angle is part of the message.
+*/
+public class SetLocalPositionSetpointView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_set_local_position_setpoint.MAVLINK_MSG_ID_SET_LOCAL_POSITION_SETPOINT;
+	public static final int MAVLINK_MSG_LENGTH = msg_set_local_position_setpoint.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete SET_LOCAL_POSITION_SETPOINT payload that starts at offset
+	 */
+	public static SetLocalPositionSetpointView wrap(ByteBuffer buffer, int offset) {
+		SetLocalPositionSetpointView view = new SetLocalPositionSetpointView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SET_LOCAL_POSITION_SETPOINT packet
+	 */
+	public static SetLocalPositionSetpointView wrap(MAVLinkPacket packet) {
+		SetLocalPositionSetpointView view = new SetLocalPositionSetpointView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* x position
+	*/
+	public float x() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* y position
+	*/
+	public float y() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* z position
+	*/
+	public float z() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Desired yaw angle
+	*/
+	public float yaw() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(16);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(17);
+	}
+
+ 	/**
+	* Coordinate frame - valid values are only MAV_FRAME_LOCAL_NED or MAV_FRAME_LOCAL_ENU
+	*/
+	public byte coordinate_frame() {
+		return getByte(18);
+	}
+}
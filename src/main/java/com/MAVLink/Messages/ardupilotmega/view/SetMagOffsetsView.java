@@ -0,0 +1,71 @@
+// MESSAGE SET_MAG_OFFSETS VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_set_mag_offsets;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SET_MAG_OFFSETS payload (see msg_set_mag_offsets).
+* set the magnetometer offsets
+*/
+public class SetMagOffsetsView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_set_mag_offsets.MAVLINK_MSG_ID_SET_MAG_OFFSETS;
+	public static final int MAVLINK_MSG_LENGTH = msg_set_mag_offsets.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete SET_MAG_OFFSETS payload that starts at offset
+	 */
+	public static SetMagOffsetsView wrap(ByteBuffer buffer, int offset) {
+		SetMagOffsetsView view = new SetMagOffsetsView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SET_MAG_OFFSETS packet
+	 */
+	public static SetMagOffsetsView wrap(MAVLinkPacket packet) {
+		SetMagOffsetsView view = new SetMagOffsetsView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* magnetometer X offset
+	*/
+	public short mag_ofs_x() {
+		return getShort(0);
+	}
+
+ 	/**
+	* magnetometer Y offset
+	*/
+	public short mag_ofs_y() {
+		return getShort(2);
+	}
+
+ 	/**
+	* magnetometer Z offset
+	*/
+	public short mag_ofs_z() {
+		return getShort(4);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(6);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(7);
+	}
+}
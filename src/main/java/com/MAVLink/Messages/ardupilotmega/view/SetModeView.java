@@ -0,0 +1,57 @@
+// MESSAGE SET_MODE VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_set_mode;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SET_MODE payload (see msg_set_mode).
+* Set the system mode, as defined by enum MAV_MODE. There is no target component id as the mode is by definition for the overall aircraft, not only for one component.
+*/
+public class SetModeView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_set_mode.MAVLINK_MSG_ID_SET_MODE;
+	public static final int MAVLINK_MSG_LENGTH = msg_set_mode.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete SET_MODE payload that starts at offset
+	 */
+	public static SetModeView wrap(ByteBuffer buffer, int offset) {
+		SetModeView view = new SetModeView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SET_MODE packet
+	 */
+	public static SetModeView wrap(MAVLinkPacket packet) {
+		SetModeView view = new SetModeView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* The new autopilot-specific mode. This field can be ignored by an autopilot.
+	*/
+	public int custom_mode() {
+		return getInt(0);
+	}
+
+ 	/**
+	* The system setting the mode
+	*/
+	public byte target_system() {
+		return getByte(4);
+	}
+
+ 	/**
+	* The new base mode
+	*/
+	public byte base_mode() {
+		return getByte(5);
+	}
+}
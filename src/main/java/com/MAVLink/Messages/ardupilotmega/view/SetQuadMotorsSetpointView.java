@@ -0,0 +1,71 @@
+// MESSAGE SET_QUAD_MOTORS_SETPOINT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_set_quad_motors_setpoint;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SET_QUAD_MOTORS_SETPOINT payload (see msg_set_quad_motors_setpoint).
+* Setpoint in the four motor speeds
+*/
+public class SetQuadMotorsSetpointView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_set_quad_motors_setpoint.MAVLINK_MSG_ID_SET_QUAD_MOTORS_SETPOINT;
+	public static final int MAVLINK_MSG_LENGTH = msg_set_quad_motors_setpoint.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete SET_QUAD_MOTORS_SETPOINT payload that starts at offset
+	 */
+	public static SetQuadMotorsSetpointView wrap(ByteBuffer buffer, int offset) {
+		SetQuadMotorsSetpointView view = new SetQuadMotorsSetpointView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SET_QUAD_MOTORS_SETPOINT packet
+	 */
+	public static SetQuadMotorsSetpointView wrap(MAVLinkPacket packet) {
+		SetQuadMotorsSetpointView view = new SetQuadMotorsSetpointView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Front motor in + configuration, front left motor in x configuration
+	*/
+	public short motor_front_nw() {
+		return getShort(0);
+	}
+
+ 	/**
+	* Right motor in + configuration, front right motor in x configuration
+	*/
+	public short motor_right_ne() {
+		return getShort(2);
+	}
+
+ 	/**
+	* Back motor in + configuration, back right motor in x configuration
+	*/
+	public short motor_back_se() {
+		return getShort(4);
+	}
+
+ 	/**
+	* Left motor in + configuration, back left motor in x configuration
+	*/
+	public short motor_left_sw() {
+		return getShort(6);
+	}
+
+ 	/**
+	* System ID of the system that should set these motor commands
+	*/
+	public byte target_system() {
+		return getByte(8);
+	}
+}
@@ -0,0 +1,127 @@
+// MESSAGE SET_QUAD_SWARM_LED_ROLL_PITCH_YAW_THRUST VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_set_quad_swarm_led_roll_pitch_yaw_thrust;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SET_QUAD_SWARM_LED_ROLL_PITCH_YAW_THRUST payload (see msg_set_quad_swarm_led_roll_pitch_yaw_thrust).
+* Setpoint for up to four quadrotors in a group / wing
+*/
+public class SetQuadSwarmLedRollPitchYawThrustView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_set_quad_swarm_led_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_QUAD_SWARM_LED_ROLL_PITCH_YAW_THRUST;
+	public static final int MAVLINK_MSG_LENGTH = msg_set_quad_swarm_led_roll_pitch_yaw_thrust.MAVLINK_MSG_LENGTH;
+	public static final int ROLL_LENGTH = 4;
+	public static final int PITCH_LENGTH = 4;
+	public static final int YAW_LENGTH = 4;
+	public static final int THRUST_LENGTH = 4;
+	public static final int LED_RED_LENGTH = 4;
+	public static final int LED_BLUE_LENGTH = 4;
+	public static final int LED_GREEN_LENGTH = 4;
+
+	/**
+	 * Wrap a complete SET_QUAD_SWARM_LED_ROLL_PITCH_YAW_THRUST payload that starts at offset
+	 */
+	public static SetQuadSwarmLedRollPitchYawThrustView wrap(ByteBuffer buffer, int offset) {
+		SetQuadSwarmLedRollPitchYawThrustView view = new SetQuadSwarmLedRollPitchYawThrustView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SET_QUAD_SWARM_LED_ROLL_PITCH_YAW_THRUST packet
+	 */
+	public static SetQuadSwarmLedRollPitchYawThrustView wrap(MAVLinkPacket packet) {
+		SetQuadSwarmLedRollPitchYawThrustView view = new SetQuadSwarmLedRollPitchYawThrustView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Desired roll angle in radians +-PI (+-INT16_MAX)
+	*/
+	public short roll(int index) {
+		if (index < 0 || index >= ROLL_LENGTH) {
+			throw new IndexOutOfBoundsException("roll[" + index + "]");
+		}
+		return getShort(0 + 2 * index);
+	}
+
+ 	/**
+	* Desired pitch angle in radians +-PI (+-INT16_MAX)
+	*/
+	public short pitch(int index) {
+		if (index < 0 || index >= PITCH_LENGTH) {
+			throw new IndexOutOfBoundsException("pitch[" + index + "]");
+		}
+		return getShort(8 + 2 * index);
+	}
+
+ 	/**
+	* Desired yaw angle in radians, scaled to int16 +-PI (+-INT16_MAX)
+	*/
+	public short yaw(int index) {
+		if (index < 0 || index >= YAW_LENGTH) {
+			throw new IndexOutOfBoundsException("yaw[" + index + "]");
+		}
+		return getShort(16 + 2 * index);
+	}
+
+ 	/**
+	* Collective thrust, scaled to uint16 (0..UINT16_MAX)
+	*/
+	public short thrust(int index) {
+		if (index < 0 || index >= THRUST_LENGTH) {
+			throw new IndexOutOfBoundsException("thrust[" + index + "]");
+		}
+		return getShort(24 + 2 * index);
+	}
+
+ 	/**
+	* ID of the quadrotor group (0 - 255, up to 256 groups supported)
+	*/
+	public byte group() {
+		return getByte(32);
+	}
+
+ 	/**
+	* ID of the flight mode (0 - 255, up to 256 modes supported)
+	*/
+	public byte mode() {
+		return getByte(33);
+	}
+
+ 	/**
+	* RGB red channel (0-255)
+	*/
+	public byte led_red(int index) {
+		if (index < 0 || index >= LED_RED_LENGTH) {
+			throw new IndexOutOfBoundsException("led_red[" + index + "]");
+		}
+		return getByte(34 + index);
+	}
+
+ 	/**
+	* RGB green channel (0-255)
+	*/
+	public byte led_blue(int index) {
+		if (index < 0 || index >= LED_BLUE_LENGTH) {
+			throw new IndexOutOfBoundsException("led_blue[" + index + "]");
+		}
+		return getByte(38 + index);
+	}
+
+ 	/**
+	* RGB blue channel (0-255)
+	*/
+	public byte led_green(int index) {
+		if (index < 0 || index >= LED_GREEN_LENGTH) {
+			throw new IndexOutOfBoundsException("led_green[" + index + "]");
+		}
+		return getByte(42 + index);
+	}
+}
@@ -0,0 +1,94 @@
+// MESSAGE SET_QUAD_SWARM_ROLL_PITCH_YAW_THRUST VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_set_quad_swarm_roll_pitch_yaw_thrust;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SET_QUAD_SWARM_ROLL_PITCH_YAW_THRUST payload (see msg_set_quad_swarm_roll_pitch_yaw_thrust).
+* Setpoint for up to four quadrotors in a group / wing
+*/
+public class SetQuadSwarmRollPitchYawThrustView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_set_quad_swarm_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_QUAD_SWARM_ROLL_PITCH_YAW_THRUST;
+	public static final int MAVLINK_MSG_LENGTH = msg_set_quad_swarm_roll_pitch_yaw_thrust.MAVLINK_MSG_LENGTH;
+	public static final int ROLL_LENGTH = 4;
+	public static final int PITCH_LENGTH = 4;
+	public static final int YAW_LENGTH = 4;
+	public static final int THRUST_LENGTH = 4;
+
+	/**
+	 * Wrap a complete SET_QUAD_SWARM_ROLL_PITCH_YAW_THRUST payload that starts at offset
+	 */
+	public static SetQuadSwarmRollPitchYawThrustView wrap(ByteBuffer buffer, int offset) {
+		SetQuadSwarmRollPitchYawThrustView view = new SetQuadSwarmRollPitchYawThrustView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SET_QUAD_SWARM_ROLL_PITCH_YAW_THRUST packet
+	 */
+	public static SetQuadSwarmRollPitchYawThrustView wrap(MAVLinkPacket packet) {
+		SetQuadSwarmRollPitchYawThrustView view = new SetQuadSwarmRollPitchYawThrustView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Desired roll angle in radians +-PI (+-INT16_MAX)
+	*/
+	public short roll(int index) {
+		if (index < 0 || index >= ROLL_LENGTH) {
+			throw new IndexOutOfBoundsException("roll[" + index + "]");
+		}
+		return getShort(0 + 2 * index);
+	}
+
+ 	/**
+	* Desired pitch angle in radians +-PI (+-INT16_MAX)
+	*/
+	public short pitch(int index) {
+		if (index < 0 || index >= PITCH_LENGTH) {
+			throw new IndexOutOfBoundsException("pitch[" + index + "]");
+		}
+		return getShort(8 + 2 * index);
+	}
+
+ 	/**
+	* Desired yaw angle in radians, scaled to int16 +-PI (+-INT16_MAX)
+	*/
+	public short yaw(int index) {
+		if (index < 0 || index >= YAW_LENGTH) {
+			throw new IndexOutOfBoundsException("yaw[" + index + "]");
+		}
+		return getShort(16 + 2 * index);
+	}
+
+ 	/**
+	* Collective thrust, scaled to uint16 (0..UINT16_MAX)
+	*/
+	public short thrust(int index) {
+		if (index < 0 || index >= THRUST_LENGTH) {
+			throw new IndexOutOfBoundsException("thrust[" + index + "]");
+		}
+		return getShort(24 + 2 * index);
+	}
+
+ 	/**
+	* ID of the quadrotor group (0 - 255, up to 256 groups supported)
+	*/
+	public byte group() {
+		return getByte(32);
+	}
+
+ 	/**
+	* ID of the flight mode (0 - 255, up to 256 modes supported)
+	*/
+	public byte mode() {
+		return getByte(33);
+	}
+}
@@ -0,0 +1,78 @@
+// MESSAGE SET_ROLL_PITCH_YAW_SPEED_THRUST VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_set_roll_pitch_yaw_speed_thrust;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SET_ROLL_PITCH_YAW_SPEED_THRUST payload (see msg_set_roll_pitch_yaw_speed_thrust).
+* Set roll, pitch and yaw.
+*/
+public class SetRollPitchYawSpeedThrustView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_set_roll_pitch_yaw_speed_thrust.MAVLINK_MSG_ID_SET_ROLL_PITCH_YAW_SPEED_THRUST;
+	public static final int MAVLINK_MSG_LENGTH = msg_set_roll_pitch_yaw_speed_thrust.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete SET_ROLL_PITCH_YAW_SPEED_THRUST payload that starts at offset
+	 */
+	public static SetRollPitchYawSpeedThrustView wrap(ByteBuffer buffer, int offset) {
+		SetRollPitchYawSpeedThrustView view = new SetRollPitchYawSpeedThrustView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SET_ROLL_PITCH_YAW_SPEED_THRUST packet
+	 */
+	public static SetRollPitchYawSpeedThrustView wrap(MAVLinkPacket packet) {
+		SetRollPitchYawSpeedThrustView view = new SetRollPitchYawSpeedThrustView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Desired roll angular speed in rad/s
+	*/
+	public float roll_speed() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* Desired pitch angular speed in rad/s
+	*/
+	public float pitch_speed() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* Desired yaw angular speed in rad/s
+	*/
+	public float yaw_speed() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Collective thrust, normalized to 0 .. 1
+	*/
+	public float thrust() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(16);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(17);
+	}
+}
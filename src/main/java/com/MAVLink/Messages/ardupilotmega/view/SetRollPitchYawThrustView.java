@@ -0,0 +1,78 @@
+// MESSAGE SET_ROLL_PITCH_YAW_THRUST VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_set_roll_pitch_yaw_thrust;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SET_ROLL_PITCH_YAW_THRUST payload (see msg_set_roll_pitch_yaw_thrust).
+* Set roll, pitch and yaw.
+*/
+public class SetRollPitchYawThrustView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_set_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_ROLL_PITCH_YAW_THRUST;
+	public static final int MAVLINK_MSG_LENGTH = msg_set_roll_pitch_yaw_thrust.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete SET_ROLL_PITCH_YAW_THRUST payload that starts at offset
+	 */
+	public static SetRollPitchYawThrustView wrap(ByteBuffer buffer, int offset) {
+		SetRollPitchYawThrustView view = new SetRollPitchYawThrustView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SET_ROLL_PITCH_YAW_THRUST packet
+	 */
+	public static SetRollPitchYawThrustView wrap(MAVLinkPacket packet) {
+		SetRollPitchYawThrustView view = new SetRollPitchYawThrustView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Desired roll angle in radians
+	*/
+	public float roll() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* Desired pitch angle in radians
+	*/
+	public float pitch() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* Desired yaw angle in radians
+	*/
+	public float yaw() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Collective thrust, normalized to 0 .. 1
+	*/
+	public float thrust() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(16);
+	}
+
+ 	/**
+	* Component ID
+	*/
+	public byte target_component() {
+		return getByte(17);
+	}
+}
@@ -0,0 +1,85 @@
+// MESSAGE SETPOINT_6DOF VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_setpoint_6dof;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SETPOINT_6DOF payload (see msg_setpoint_6dof).
+* Set the 6 DOF setpoint for a attitude and position controller.
+*/
+public class Setpoint6dofView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_setpoint_6dof.MAVLINK_MSG_ID_SETPOINT_6DOF;
+	public static final int MAVLINK_MSG_LENGTH = msg_setpoint_6dof.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete SETPOINT_6DOF payload that starts at offset
+	 */
+	public static Setpoint6dofView wrap(ByteBuffer buffer, int offset) {
+		Setpoint6dofView view = new Setpoint6dofView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SETPOINT_6DOF packet
+	 */
+	public static Setpoint6dofView wrap(MAVLinkPacket packet) {
+		Setpoint6dofView view = new Setpoint6dofView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Translational Component in x
+	*/
+	public float trans_x() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* Translational Component in y
+	*/
+	public float trans_y() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* Translational Component in z
+	*/
+	public float trans_z() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Rotational Component in x
+	*/
+	public float rot_x() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Rotational Component in y
+	*/
+	public float rot_y() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* Rotational Component in z
+	*/
+	public float rot_z() {
+		return getFloat(20);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(24);
+	}
+}
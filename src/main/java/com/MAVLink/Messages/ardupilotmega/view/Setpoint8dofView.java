@@ -0,0 +1,99 @@
+// MESSAGE SETPOINT_8DOF VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_setpoint_8dof;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SETPOINT_8DOF payload (see msg_setpoint_8dof).
+* Set the 8 DOF setpoint for a controller.
+*/
+public class Setpoint8dofView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_setpoint_8dof.MAVLINK_MSG_ID_SETPOINT_8DOF;
+	public static final int MAVLINK_MSG_LENGTH = msg_setpoint_8dof.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete SETPOINT_8DOF payload that starts at offset
+	 */
+	public static Setpoint8dofView wrap(ByteBuffer buffer, int offset) {
+		Setpoint8dofView view = new Setpoint8dofView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SETPOINT_8DOF packet
+	 */
+	public static Setpoint8dofView wrap(MAVLinkPacket packet) {
+		Setpoint8dofView view = new Setpoint8dofView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Value 1
+	*/
+	public float val1() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* Value 2
+	*/
+	public float val2() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* Value 3
+	*/
+	public float val3() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Value 4
+	*/
+	public float val4() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Value 5
+	*/
+	public float val5() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* Value 6
+	*/
+	public float val6() {
+		return getFloat(20);
+	}
+
+ 	/**
+	* Value 7
+	*/
+	public float val7() {
+		return getFloat(24);
+	}
+
+ 	/**
+	* Value 8
+	*/
+	public float val8() {
+		return getFloat(28);
+	}
+
+ 	/**
+	* System ID
+	*/
+	public byte target_system() {
+		return getByte(32);
+	}
+}
@@ -0,0 +1,183 @@
+// MESSAGE SIM_STATE VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_sim_state;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SIM_STATE payload (see msg_sim_state).
+* Status of simulation environment, if used
+*/
+public class SimStateView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_sim_state.MAVLINK_MSG_ID_SIM_STATE;
+	public static final int MAVLINK_MSG_LENGTH = msg_sim_state.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete SIM_STATE payload that starts at offset
+	 */
+	public static SimStateView wrap(ByteBuffer buffer, int offset) {
+		SimStateView view = new SimStateView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SIM_STATE packet
+	 */
+	public static SimStateView wrap(MAVLinkPacket packet) {
+		SimStateView view = new SimStateView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* True attitude quaternion component 1
+	*/
+	public float q1() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* True attitude quaternion component 2
+	*/
+	public float q2() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* True attitude quaternion component 3
+	*/
+	public float q3() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* True attitude quaternion component 4
+	*/
+	public float q4() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Attitude roll expressed as Euler angles, not recommended except for human-readable outputs
+	*/
+	public float roll() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* Attitude pitch expressed as Euler angles, not recommended except for human-readable outputs
+	*/
+	public float pitch() {
+		return getFloat(20);
+	}
+
+ 	/**
+	* Attitude yaw expressed as Euler angles, not recommended except for human-readable outputs
+	*/
+	public float yaw() {
+		return getFloat(24);
+	}
+
+ 	/**
+	* X acceleration m/s/s
+	*/
+	public float xacc() {
+		return getFloat(28);
+	}
+
+ 	/**
+	* Y acceleration m/s/s
+	*/
+	public float yacc() {
+		return getFloat(32);
+	}
+
+ 	/**
+	* Z acceleration m/s/s
+	*/
+	public float zacc() {
+		return getFloat(36);
+	}
+
+ 	/**
+	* Angular speed around X axis rad/s
+	*/
+	public float xgyro() {
+		return getFloat(40);
+	}
+
+ 	/**
+	* Angular speed around Y axis rad/s
+	*/
+	public float ygyro() {
+		return getFloat(44);
+	}
+
+ 	/**
+	* Angular speed around Z axis rad/s
+	*/
+	public float zgyro() {
+		return getFloat(48);
+	}
+
+ 	/**
+	* Latitude in degrees
+	*/
+	public float lat() {
+		return getFloat(52);
+	}
+
+ 	/**
+	* Longitude in degrees
+	*/
+	public float lon() {
+		return getFloat(56);
+	}
+
+ 	/**
+	* Altitude in meters
+	*/
+	public float alt() {
+		return getFloat(60);
+	}
+
+ 	/**
+	* Horizontal position standard deviation
+	*/
+	public float std_dev_horz() {
+		return getFloat(64);
+	}
+
+ 	/**
+	* Vertical position standard deviation
+	*/
+	public float std_dev_vert() {
+		return getFloat(68);
+	}
+
+ 	/**
+	* True velocity in m/s in NORTH direction in earth-fixed NED frame
+	*/
+	public float vn() {
+		return getFloat(72);
+	}
+
+ 	/**
+	* True velocity in m/s in EAST direction in earth-fixed NED frame
+	*/
+	public float ve() {
+		return getFloat(76);
+	}
+
+ 	/**
+	* True velocity in m/s in DOWN direction in earth-fixed NED frame
+	*/
+	public float vd() {
+		return getFloat(80);
+	}
+}
@@ -0,0 +1,113 @@
+// MESSAGE SIMSTATE VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_simstate;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SIMSTATE payload (see msg_simstate).
+* Status of simulation environment, if used
+*/
+public class Simstate2View extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_simstate.MAVLINK_MSG_ID_SIMSTATE;
+	public static final int MAVLINK_MSG_LENGTH = msg_simstate.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete SIMSTATE payload that starts at offset
+	 */
+	public static Simstate2View wrap(ByteBuffer buffer, int offset) {
+		Simstate2View view = new Simstate2View();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SIMSTATE packet
+	 */
+	public static Simstate2View wrap(MAVLinkPacket packet) {
+		Simstate2View view = new Simstate2View();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Roll angle (rad)
+	*/
+	public float roll() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* Pitch angle (rad)
+	*/
+	public float pitch() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* Yaw angle (rad)
+	*/
+	public float yaw() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* X acceleration m/s/s
+	*/
+	public float xacc() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Y acceleration m/s/s
+	*/
+	public float yacc() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* Z acceleration m/s/s
+	*/
+	public float zacc() {
+		return getFloat(20);
+	}
+
+ 	/**
+	* Angular speed around X axis rad/s
+	*/
+	public float xgyro() {
+		return getFloat(24);
+	}
+
+ 	/**
+	* Angular speed around Y axis rad/s
+	*/
+	public float ygyro() {
+		return getFloat(28);
+	}
+
+ 	/**
+	* Angular speed around Z axis rad/s
+	*/
+	public float zgyro() {
+		return getFloat(32);
+	}
+
+ 	/**
+	* Latitude in degrees
+	*/
+	public float lat() {
+		return getFloat(36);
+	}
+
+ 	/**
+	* Longitude in degrees
+	*/
+	public float lng() {
+		return getFloat(40);
+	}
+}
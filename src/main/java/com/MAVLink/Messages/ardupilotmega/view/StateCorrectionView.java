@@ -0,0 +1,99 @@
+// MESSAGE STATE_CORRECTION VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_state_correction;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the STATE_CORRECTION payload (see msg_state_correction).
+* Corrects the systems state by adding an error correction term to the position and velocity, and by rotating the attitude by a correction angle.
+*/
+public class StateCorrectionView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_state_correction.MAVLINK_MSG_ID_STATE_CORRECTION;
+	public static final int MAVLINK_MSG_LENGTH = msg_state_correction.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete STATE_CORRECTION payload that starts at offset
+	 */
+	public static StateCorrectionView wrap(ByteBuffer buffer, int offset) {
+		StateCorrectionView view = new StateCorrectionView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received STATE_CORRECTION packet
+	 */
+	public static StateCorrectionView wrap(MAVLinkPacket packet) {
+		StateCorrectionView view = new StateCorrectionView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* x position error
+	*/
+	public float xErr() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* y position error
+	*/
+	public float yErr() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* z position error
+	*/
+	public float zErr() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* roll error (radians)
+	*/
+	public float rollErr() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* pitch error (radians)
+	*/
+	public float pitchErr() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* yaw error (radians)
+	*/
+	public float yawErr() {
+		return getFloat(20);
+	}
+
+ 	/**
+	* x velocity
+	*/
+	public float vxErr() {
+		return getFloat(24);
+	}
+
+ 	/**
+	* y velocity
+	*/
+	public float vyErr() {
+		return getFloat(28);
+	}
+
+ 	/**
+	* z velocity
+	*/
+	public float vzErr() {
+		return getFloat(32);
+	}
+}
@@ -0,0 +1,54 @@
+// MESSAGE STATUSTEXT VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_statustext;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the STATUSTEXT payload (see msg_statustext).
+* Status text message. These messages are printed in yellow in the COMM console of QGroundControl. WARNING: They consume quite some bandwidth, so use only for important status and error messages. If implemented wisely, these messages are buffered on the MCU and sent only at a limited rate (e.g. 10 Hz).
+*/
+public class StatustextView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_statustext.MAVLINK_MSG_ID_STATUSTEXT;
+	public static final int MAVLINK_MSG_LENGTH = msg_statustext.MAVLINK_MSG_LENGTH;
+	public static final int TEXT_LENGTH = 50;
+
+	/**
+	 * Wrap a complete STATUSTEXT payload that starts at offset
+	 */
+	public static StatustextView wrap(ByteBuffer buffer, int offset) {
+		StatustextView view = new StatustextView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received STATUSTEXT packet
+	 */
+	public static StatustextView wrap(MAVLinkPacket packet) {
+		StatustextView view = new StatustextView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Severity of status. Relies on the definitions within RFC-5424. See enum MAV_SEVERITY.
+	*/
+	public byte severity() {
+		return getByte(0);
+	}
+
+ 	/**
+	* Status text message, without null termination character
+	*/
+	public byte text(int index) {
+		if (index < 0 || index >= TEXT_LENGTH) {
+			throw new IndexOutOfBoundsException("text[" + index + "]");
+		}
+		return getByte(1 + index);
+	}
+}
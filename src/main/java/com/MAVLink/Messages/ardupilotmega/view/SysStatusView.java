@@ -0,0 +1,127 @@
+// MESSAGE SYS_STATUS VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_sys_status;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SYS_STATUS payload (see msg_sys_status).
+* The general system state. If the system is following the MAVLink standard, the system state is mainly defined by three orthogonal states/modes: The system mode, which is either LOCKED (motors shut down and locked), MANUAL (system under RC control), GUIDED (system with autonomous position control, position setpoint controlled manually) or AUTO (system guided by path/waypoint planner). The NAV_MODE defined the current flight state: LIFTOFF (often an open-loop maneuver), LANDING, WAYPOINTS or VECTOR. This represents the internal navigation state machine. The system status shows wether the system is currently active or not and if an emergency occured. During the CRITICAL and EMERGENCY states the MAV is still considered to be active, but should start emergency procedures autonomously. After a failure occured it should first move from active to critical to allow manual intervention and then move to emergency after a certain timeout.
+*/
+public class SysStatusView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_sys_status.MAVLINK_MSG_ID_SYS_STATUS;
+	public static final int MAVLINK_MSG_LENGTH = msg_sys_status.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete SYS_STATUS payload that starts at offset
+	 */
+	public static SysStatusView wrap(ByteBuffer buffer, int offset) {
+		SysStatusView view = new SysStatusView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SYS_STATUS packet
+	 */
+	public static SysStatusView wrap(MAVLinkPacket packet) {
+		SysStatusView view = new SysStatusView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Bitmask showing which onboard controllers and sensors are present. Value of 0: not present. Value of 1: present. Indices defined by ENUM MAV_SYS_STATUS_SENSOR
+	*/
+	public int onboard_control_sensors_present() {
+		return getInt(0);
+	}
+
+ 	/**
+	* Bitmask showing which onboard controllers and sensors are enabled:  Value of 0: not enabled. Value of 1: enabled. Indices defined by ENUM MAV_SYS_STATUS_SENSOR
+	*/
+	public int onboard_control_sensors_enabled() {
+		return getInt(4);
+	}
+
+ 	/**
+	* Bitmask showing which onboard controllers and sensors are operational or have an error:  Value of 0: not enabled. Value of 1: enabled. Indices defined by ENUM MAV_SYS_STATUS_SENSOR
+	*/
+	public int onboard_control_sensors_health() {
+		return getInt(8);
+	}
+
+ 	/**
+	* Maximum usage in percent of the mainloop time, (0%: 0, 100%: 1000) should be always below 1000
+	*/
+	public short load() {
+		return getShort(12);
+	}
+
+ 	/**
+	* Battery voltage, in millivolts (1 = 1 millivolt)
+	*/
+	public short voltage_battery() {
+		return getShort(14);
+	}
+
+ 	/**
+	* Battery current, in 10*milliamperes (1 = 10 milliampere), -1: autopilot does not measure the current
+	*/
+	public short current_battery() {
+		return getShort(16);
+	}
+
+ 	/**
+	* Communication drops in percent, (0%: 0, 100%: 10'000), (UART, I2C, SPI, CAN), dropped packets on all links (packets that were corrupted on reception on the MAV)
+	*/
+	public short drop_rate_comm() {
+		return getShort(18);
+	}
+
+ 	/**
+	* Communication errors (UART, I2C, SPI, CAN), dropped packets on all links (packets that were corrupted on reception on the MAV)
+	*/
+	public short errors_comm() {
+		return getShort(20);
+	}
+
+ 	/**
+	* Autopilot-specific errors
+	*/
+	public short errors_count1() {
+		return getShort(22);
+	}
+
+ 	/**
+	* Autopilot-specific errors
+	*/
+	public short errors_count2() {
+		return getShort(24);
+	}
+
+ 	/**
+	* Autopilot-specific errors
+	*/
+	public short errors_count3() {
+		return getShort(26);
+	}
+
+ 	/**
+	* Autopilot-specific errors
+	*/
+	public short errors_count4() {
+		return getShort(28);
+	}
+
+ 	/**
+	* Remaining battery energy: (0%: 0, 100%: 100), -1: autopilot estimate the remaining battery
+	*/
+	public byte battery_remaining() {
+		return getByte(30);
+	}
+}
@@ -0,0 +1,50 @@
+// MESSAGE SYSTEM_TIME VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_system_time;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the SYSTEM_TIME payload (see msg_system_time).
+* The system time is the time of the master clock, typically the computer clock of the main onboard computer.
+*/
+public class SystemTimeView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_system_time.MAVLINK_MSG_ID_SYSTEM_TIME;
+	public static final int MAVLINK_MSG_LENGTH = msg_system_time.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete SYSTEM_TIME payload that starts at offset
+	 */
+	public static SystemTimeView wrap(ByteBuffer buffer, int offset) {
+		SystemTimeView view = new SystemTimeView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received SYSTEM_TIME packet
+	 */
+	public static SystemTimeView wrap(MAVLinkPacket packet) {
+		SystemTimeView view = new SystemTimeView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp of the master clock in microseconds since UNIX epoch.
+	*/
+	public long time_unix_usec() {
+		return getLong(0);
+	}
+
+ 	/**
+	* Timestamp of the component clock since boot time in milliseconds.
+	*/
+	public int time_boot_ms() {
+		return getInt(8);
+	}
+}
@@ -0,0 +1,78 @@
+// MESSAGE VFR_HUD VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_vfr_hud;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the VFR_HUD payload (see msg_vfr_hud).
+* Metrics typically displayed on a HUD for fixed wing aircraft
+*/
+public class VfrHudView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_vfr_hud.MAVLINK_MSG_ID_VFR_HUD;
+	public static final int MAVLINK_MSG_LENGTH = msg_vfr_hud.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete VFR_HUD payload that starts at offset
+	 */
+	public static VfrHudView wrap(ByteBuffer buffer, int offset) {
+		VfrHudView view = new VfrHudView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received VFR_HUD packet
+	 */
+	public static VfrHudView wrap(MAVLinkPacket packet) {
+		VfrHudView view = new VfrHudView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Current airspeed in m/s
+	*/
+	public float airspeed() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* Current ground speed in m/s
+	*/
+	public float groundspeed() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* Current altitude (MSL), in meters
+	*/
+	public float alt() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Current climb rate in meters/second
+	*/
+	public float climb() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Current heading in degrees, in compass units (0..360, 0=north)
+	*/
+	public short heading() {
+		return getShort(16);
+	}
+
+ 	/**
+	* Current throttle setting in integer percent, 0 to 100
+	*/
+	public short throttle() {
+		return getShort(18);
+	}
+}
@@ -0,0 +1,85 @@
+// MESSAGE VICON_POSITION_ESTIMATE VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_vicon_position_estimate;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the VICON_POSITION_ESTIMATE payload (see msg_vicon_position_estimate).
+* 
+*/
+public class ViconPositionEstimateView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_vicon_position_estimate.MAVLINK_MSG_ID_VICON_POSITION_ESTIMATE;
+	public static final int MAVLINK_MSG_LENGTH = msg_vicon_position_estimate.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete VICON_POSITION_ESTIMATE payload that starts at offset
+	 */
+	public static ViconPositionEstimateView wrap(ByteBuffer buffer, int offset) {
+		ViconPositionEstimateView view = new ViconPositionEstimateView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received VICON_POSITION_ESTIMATE packet
+	 */
+	public static ViconPositionEstimateView wrap(MAVLinkPacket packet) {
+		ViconPositionEstimateView view = new ViconPositionEstimateView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (microseconds, synced to UNIX time or since system boot)
+	*/
+	public long usec() {
+		return getLong(0);
+	}
+
+ 	/**
+	* Global X position
+	*/
+	public float x() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Global Y position
+	*/
+	public float y() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Global Z position
+	*/
+	public float z() {
+		return getFloat(16);
+	}
+
+ 	/**
+	* Roll angle in rad
+	*/
+	public float roll() {
+		return getFloat(20);
+	}
+
+ 	/**
+	* Pitch angle in rad
+	*/
+	public float pitch() {
+		return getFloat(24);
+	}
+
+ 	/**
+	* Yaw angle in rad
+	*/
+	public float yaw() {
+		return getFloat(28);
+	}
+}
@@ -0,0 +1,64 @@
+// MESSAGE VISION_SPEED_ESTIMATE VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_vision_speed_estimate;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the VISION_SPEED_ESTIMATE payload (see msg_vision_speed_estimate).
+* 
+*/
+public class VisionSpeedEstimateView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_vision_speed_estimate.MAVLINK_MSG_ID_VISION_SPEED_ESTIMATE;
+	public static final int MAVLINK_MSG_LENGTH = msg_vision_speed_estimate.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete VISION_SPEED_ESTIMATE payload that starts at offset
+	 */
+	public static VisionSpeedEstimateView wrap(ByteBuffer buffer, int offset) {
+		VisionSpeedEstimateView view = new VisionSpeedEstimateView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received VISION_SPEED_ESTIMATE packet
+	 */
+	public static VisionSpeedEstimateView wrap(MAVLinkPacket packet) {
+		VisionSpeedEstimateView view = new VisionSpeedEstimateView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* Timestamp (microseconds, synced to UNIX time or since system boot)
+	*/
+	public long usec() {
+		return getLong(0);
+	}
+
+ 	/**
+	* Global X speed
+	*/
+	public float x() {
+		return getFloat(8);
+	}
+
+ 	/**
+	* Global Y speed
+	*/
+	public float y() {
+		return getFloat(12);
+	}
+
+ 	/**
+	* Global Z speed
+	*/
+	public float z() {
+		return getFloat(16);
+	}
+}
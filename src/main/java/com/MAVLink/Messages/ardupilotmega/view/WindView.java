@@ -0,0 +1,57 @@
+// MESSAGE WIND VIEW
+package com.MAVLink.Messages.ardupilotmega.view;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_wind;
+
+import java.nio.ByteBuffer;
+
+/**
+* Read-only view of the WIND payload (see msg_wind).
+* Wind estimation
+*/
+public class WindView extends MAVLinkView {
+
+	public static final int MAVLINK_MSG_ID = msg_wind.MAVLINK_MSG_ID_WIND;
+	public static final int MAVLINK_MSG_LENGTH = msg_wind.MAVLINK_MSG_LENGTH;
+
+	/**
+	 * Wrap a complete WIND payload that starts at offset
+	 */
+	public static WindView wrap(ByteBuffer buffer, int offset) {
+		WindView view = new WindView();
+		view.reset(buffer, offset, MAVLINK_MSG_LENGTH);
+		return view;
+	}
+
+	/**
+	 * Wrap the payload of a received WIND packet
+	 */
+	public static WindView wrap(MAVLinkPacket packet) {
+		WindView view = new WindView();
+		view.reset(packet);
+		return view;
+	}
+
+ 	/**
+	* wind direction that wind is coming from (degrees)
+	*/
+	public float direction() {
+		return getFloat(0);
+	}
+
+ 	/**
+	* wind speed in ground plane (m/s)
+	*/
+	public float speed() {
+		return getFloat(4);
+	}
+
+ 	/**
+	* vertical wind speed (m/s)
+	*/
+	public float speed_z() {
+		return getFloat(8);
+	}
+}
@@ -0,0 +1,20 @@
+package com.MAVLink;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+
+/**
+ * Receives the packets found by {@link Parser#parse(java.nio.ByteBuffer, PacketSink)}
+ */
+public interface PacketSink {
+
+	/**
+	 * Called once for every complete, checksum-verified packet, in the order
+	 * the frames appear in the input. If the parser uses a
+	 * MAVLinkPacketPool the packet must be released by the sink when it is
+	 * no longer needed.
+	 * 
+	 * @param packet
+	 *            the decoded packet
+	 */
+	void onPacket(MAVLinkPacket packet);
+}
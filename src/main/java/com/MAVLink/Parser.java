@@ -1,30 +1,107 @@
 package com.MAVLink;
 
 import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkPacketPool;
+import com.MAVLink.Messages.MAVLinkSigning;
 import com.MAVLink.Messages.MAVLinkStats;
 
+import java.nio.ByteBuffer;
+
+/**
+ * Parser for MAVLink 1 and MAVLink 2 frames. The protocol version is detected
+ * from the start sign of every frame, so both versions may be mixed on the
+ * same link.
+ */
 public class Parser {
 
 	/**
 	 * States from the parsing state machine
 	 */
 	enum MAV_states {
-		MAVLINK_PARSE_STATE_UNINIT, MAVLINK_PARSE_STATE_IDLE, MAVLINK_PARSE_STATE_GOT_STX, MAVLINK_PARSE_STATE_GOT_LENGTH, MAVLINK_PARSE_STATE_GOT_SEQ, MAVLINK_PARSE_STATE_GOT_SYSID, MAVLINK_PARSE_STATE_GOT_COMPID, MAVLINK_PARSE_STATE_GOT_MSGID, MAVLINK_PARSE_STATE_GOT_CRC1, MAVLINK_PARSE_STATE_GOT_PAYLOAD
+		MAVLINK_PARSE_STATE_UNINIT, MAVLINK_PARSE_STATE_IDLE, MAVLINK_PARSE_STATE_GOT_STX, MAVLINK_PARSE_STATE_GOT_LENGTH, MAVLINK_PARSE_STATE_GOT_INCOMPAT_FLAGS, MAVLINK_PARSE_STATE_GOT_COMPAT_FLAGS, MAVLINK_PARSE_STATE_GOT_SEQ, MAVLINK_PARSE_STATE_GOT_SYSID, MAVLINK_PARSE_STATE_GOT_COMPID, MAVLINK_PARSE_STATE_GOT_MSGID1, MAVLINK_PARSE_STATE_GOT_MSGID2, MAVLINK_PARSE_STATE_GOT_MSGID, MAVLINK_PARSE_STATE_GOT_CRC1, MAVLINK_PARSE_STATE_GOT_PAYLOAD, MAVLINK_PARSE_STATE_SIGNATURE_WAIT
 	}
 
 	MAV_states state = MAV_states.MAVLINK_PARSE_STATE_UNINIT;
 
-	static boolean msg_received;
+	private static final int CHECKSUM_LEN = 2;
+
+	private boolean msg_received;
 
 	public MAVLinkStats stats = new MAVLinkStats();
 	private MAVLinkPacket m;
+	// true once m has been returned to the caller, so it must not be reused
+	private boolean delivered = true;
+	// signature bytes already read for the current frame
+	private int signatureIndex;
+
+	// when set, packets must be signed with this key
+	private MAVLinkSigning signing;
+
+	// true once a MAVLink 2 frame has been received
+	private boolean mavlink2;
+
+	private final MAVLinkPacketPool pool;
+
+	// wrapper reused by parse(byte[], ...) while the caller keeps passing the same array
+	private ByteBuffer wrapped;
+
+	// frames that arrived in pieces are encoded again here for parseFrames()
+	private ByteBuffer frameBuffer;
+
+	/**
+	 * Creates a parser that allocates a new packet for every frame. Returned
+	 * packets belong to the caller and never need to be released.
+	 */
+	public Parser() {
+		this(null);
+	}
+
+	/**
+	 * Creates a parser that borrows its packets from the given pool. Every
+	 * packet returned by {@link #mavlink_parse_char(int)} must be handed back
+	 * with {@link MAVLinkPacket#release()} once the caller is done with it.
+	 * Frames that fail to parse reuse their packet, so in steady state the
+	 * parser does not allocate.
+	 *
+	 * @param pool
+	 *            the packet pool, or null to allocate a new packet per frame
+	 */
+	public Parser(MAVLinkPacketPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Require signed packets on this link. Packets with a bad signature, a
+	 * replayed timestamp or no signature (unless accepted by the signing
+	 * configuration) are dropped and counted in the signing statistics.
+	 * 
+	 * @param signing
+	 *            the signing key and replay state, or null to accept all
+	 *            packets without checking signatures
+	 */
+	public void setSigning(MAVLinkSigning signing) {
+		this.signing = signing;
+	}
+
+	public MAVLinkSigning getSigning() {
+		return signing;
+	}
+
+	/**
+	 * @return true once a valid MAVLink 2 frame has been received, meaning the
+	 *         other end of the link understands MAVLink 2 and replies should
+	 *         be sent as MAVLink 2 frames
+	 */
+	public boolean isMavlink2() {
+		return mavlink2;
+	}
 
 	/**
 	 * This is a convenience function which handles the complete MAVLink
 	 * parsing. the function will parse one byte at a time and return the
 	 * complete packet once it could be successfully decoded. Checksum and other
 	 * failures will be silently ignored.
-	 * 
+	 *
 	 * @param c
 	 *            The char to parse
 	 */
@@ -35,9 +112,9 @@ public class Parser {
 		case MAVLINK_PARSE_STATE_UNINIT:
 		case MAVLINK_PARSE_STATE_IDLE:
 
-			if (c == MAVLinkPacket.MAVLINK_STX) {
+			if (c == MAVLinkPacket.MAVLINK_STX || c == MAVLinkPacket.MAVLINK_STX_MAVLINK2) {
 				setState(MAV_states.MAVLINK_PARSE_STATE_GOT_STX);
-				m = new MAVLinkPacket();
+				startPacket(c);
 			}
 			break;
 
@@ -47,50 +124,93 @@ public class Parser {
 				setState(MAV_states.MAVLINK_PARSE_STATE_IDLE);
 			} else {
 				m.len = c;
+				m.crc.update_checksum(c);
 				setState(MAV_states.MAVLINK_PARSE_STATE_GOT_LENGTH);
 			}
 			break;
 
 		case MAVLINK_PARSE_STATE_GOT_LENGTH:
+			if (m.isMavlink2) {
+				m.incompatFlags = c;
+				m.crc.update_checksum(c);
+				if ((c & ~MAVLinkPacket.MAVLINK_IFLAG_SIGNED) != 0) {
+					// we can't interpret the frame, so it must be dropped
+					stats.incompatFlagsError();
+					setState(MAV_states.MAVLINK_PARSE_STATE_IDLE);
+				} else {
+					setState(MAV_states.MAVLINK_PARSE_STATE_GOT_INCOMPAT_FLAGS);
+				}
+			} else {
+				m.seq = c;
+				m.crc.update_checksum(c);
+				setState(MAV_states.MAVLINK_PARSE_STATE_GOT_SEQ);
+			}
+			break;
+
+		case MAVLINK_PARSE_STATE_GOT_INCOMPAT_FLAGS:
+			m.compatFlags = c;
+			m.crc.update_checksum(c);
+			setState(MAV_states.MAVLINK_PARSE_STATE_GOT_COMPAT_FLAGS);
+			break;
+
+		case MAVLINK_PARSE_STATE_GOT_COMPAT_FLAGS:
 			m.seq = c;
+			m.crc.update_checksum(c);
 			setState(MAV_states.MAVLINK_PARSE_STATE_GOT_SEQ);
 			break;
 
 		case MAVLINK_PARSE_STATE_GOT_SEQ:
 			m.sysid = c;
+			m.crc.update_checksum(c);
 			setState(MAV_states.MAVLINK_PARSE_STATE_GOT_SYSID);
 			break;
 
 		case MAVLINK_PARSE_STATE_GOT_SYSID:
 			m.compid = c;
+			m.crc.update_checksum(c);
 			setState(MAV_states.MAVLINK_PARSE_STATE_GOT_COMPID);
 			break;
 
 		case MAVLINK_PARSE_STATE_GOT_COMPID:
 			m.msgid = c;
-			if (m.len == 0) {
-				setState(MAV_states.MAVLINK_PARSE_STATE_GOT_PAYLOAD);
+			m.crc.update_checksum(c);
+			if (m.isMavlink2) {
+				setState(MAV_states.MAVLINK_PARSE_STATE_GOT_MSGID1);
 			} else {
-				setState(MAV_states.MAVLINK_PARSE_STATE_GOT_MSGID);
+				gotMsgid();
 			}
 			break;
 
+		case MAVLINK_PARSE_STATE_GOT_MSGID1:
+			m.msgid |= c << 8;
+			m.crc.update_checksum(c);
+			setState(MAV_states.MAVLINK_PARSE_STATE_GOT_MSGID2);
+			break;
+
+		case MAVLINK_PARSE_STATE_GOT_MSGID2:
+			m.msgid |= c << 16;
+			m.crc.update_checksum(c);
+			gotMsgid();
+			break;
+
 		case MAVLINK_PARSE_STATE_GOT_MSGID:
 			m.payload.add((byte) c);
+			m.crc.update_checksum(c);
 			if (m.payloadIsFilled()) {
 				setState(MAV_states.MAVLINK_PARSE_STATE_GOT_PAYLOAD);
 			}
 			break;
 
 		case MAVLINK_PARSE_STATE_GOT_PAYLOAD:
-			m.generateCRC();
+			// the checksum has been accumulated as the bytes arrived
+			m.crc.finish_checksum(m.msgid);
 			// Check first checksum byte
 			if (c != m.crc.getLSB()) {
 				msg_received = false;
 				setState(MAV_states.MAVLINK_PARSE_STATE_IDLE);
-				if (c == MAVLinkPacket.MAVLINK_STX) {
+				if (c == MAVLinkPacket.MAVLINK_STX || c == MAVLinkPacket.MAVLINK_STX_MAVLINK2) {
 					setState(MAV_states.MAVLINK_PARSE_STATE_GOT_STX);
-					m.crc.start_checksum();
+					startPacket(c);
 				}
 				stats.crcError();
 			} else {
@@ -103,19 +223,36 @@ public class Parser {
 			if (c != m.crc.getMSB()) {
 				msg_received = false;
                 setState(MAV_states.MAVLINK_PARSE_STATE_IDLE);
-				if (c == MAVLinkPacket.MAVLINK_STX) {
+				if (c == MAVLinkPacket.MAVLINK_STX || c == MAVLinkPacket.MAVLINK_STX_MAVLINK2) {
                     setState(MAV_states.MAVLINK_PARSE_STATE_GOT_STX);
-					m.crc.start_checksum();
+					startPacket(c);
 				}
 				stats.crcError();
+			} else if (isSigned(m)) {
+				signatureIndex = 0;
+				if (m.signature == null) {
+					m.signature = new byte[MAVLinkPacket.MAVLINK_SIGNATURE_BLOCK_LEN];
+				}
+				setState(MAV_states.MAVLINK_PARSE_STATE_SIGNATURE_WAIT);
+			} else if (signing != null && !signing.acceptsUnsigned(m.msgid)) {
+				setState(MAV_states.MAVLINK_PARSE_STATE_IDLE);
 			} else { // Successfully received the message
-				stats.newPacket(m);
-				msg_received = true;
-                setState(MAV_states.MAVLINK_PARSE_STATE_IDLE);
+				packetReceived();
 			}
 
 			break;
 
+		case MAVLINK_PARSE_STATE_SIGNATURE_WAIT:
+			m.signature[signatureIndex++] = (byte) c;
+			if (signatureIndex == MAVLinkPacket.MAVLINK_SIGNATURE_BLOCK_LEN) {
+				if (signing == null || signing.verify(m)) {
+					packetReceived();
+				} else {
+					setState(MAV_states.MAVLINK_PARSE_STATE_IDLE);
+				}
+			}
+			break;
+
 		}
 		if (msg_received) {
 			return m;
@@ -124,6 +261,254 @@ public class Parser {
 		}
 	}
 
+	/**
+	 * Drop the frame in progress, if any, and wait for the next start sign.
+	 * Datagram transports call this after each datagram, since a frame never
+	 * continues in the next one.
+	 */
+	public void discardPartialFrame() {
+		if (state != MAV_states.MAVLINK_PARSE_STATE_IDLE && state != MAV_states.MAVLINK_PARSE_STATE_UNINIT) {
+			setState(MAV_states.MAVLINK_PARSE_STATE_IDLE);
+		}
+	}
+
+	/**
+	 * Parse every byte of the given array range. See
+	 * {@link #parse(ByteBuffer, PacketSink)}.
+	 *
+	 * @return the number of packets handed to the sink
+	 */
+	public int parse(byte[] buffer, int offset, int length, PacketSink sink) {
+		if (wrapped == null || wrapped.array() != buffer) {
+			wrapped = ByteBuffer.wrap(buffer);
+		}
+		wrapped.limit(offset + length);
+		wrapped.position(offset);
+		return parse(wrapped, sink);
+	}
+
+	/**
+	 * Parse all remaining bytes of the buffer and hand every complete packet
+	 * to the sink. Frames that are entirely inside the buffer are located
+	 * with a tight scan for the start sign and decoded in one step; a frame
+	 * that is cut off at the end of the buffer is carried over to the next
+	 * call, so a stream can be fed in chunks of any size. Both this method
+	 * and {@link #mavlink_parse_char(int)} may be used on the same parser.
+	 *
+	 * @param in
+	 *            the bytes to parse, from position to limit. On return the
+	 *            position equals the limit.
+	 * @param sink
+	 *            receives the parsed packets
+	 * @return the number of packets handed to the sink
+	 */
+	public int parse(ByteBuffer in, PacketSink sink) {
+		return parse(in, sink, null);
+	}
+
+	/**
+	 * Parse all remaining bytes of the buffer like
+	 * {@link #parse(ByteBuffer, PacketSink)}, and hand every complete frame
+	 * to the sink with its bytes. A frame that is entirely inside the buffer
+	 * is passed in place, without a copy; a frame that was carried over from
+	 * a previous call is encoded again, exactly as it was received (signature
+	 * included), into a buffer of this parser.
+	 *
+	 * @param in
+	 *            the bytes to parse, from position to limit. On return the
+	 *            position equals the limit.
+	 * @param sink
+	 *            receives the parsed frames
+	 * @return the number of frames handed to the sink
+	 */
+	public int parseFrames(ByteBuffer in, FrameSink sink) {
+		return parse(in, null, sink);
+	}
+
+	private int parse(ByteBuffer in, PacketSink sink, FrameSink frameSink) {
+		int packets = 0;
+		while (in.hasRemaining()) {
+			if (state == MAV_states.MAVLINK_PARSE_STATE_IDLE
+					|| state == MAV_states.MAVLINK_PARSE_STATE_UNINIT) {
+				int pos = in.position();
+				int limit = in.limit();
+				int stx = 0;
+				while (pos < limit) {
+					stx = in.get(pos) & 0xFF;
+					if (stx == MAVLinkPacket.MAVLINK_STX || stx == MAVLinkPacket.MAVLINK_STX_MAVLINK2) {
+						break;
+					}
+					pos++;
+				}
+				in.position(pos);
+				if (pos == limit) {
+					break;
+				}
+				int frameLen = frameLength(in, pos, stx);
+				if (frameLen > 0 && limit - pos >= frameLen) {
+					if (decodeFrame(in, pos, stx)) {
+						if (frameSink != null) {
+							frameSink.onFrame(m, in, pos, frameLen);
+						} else {
+							sink.onPacket(m);
+						}
+						packets++;
+						in.position(pos + frameLen);
+					} else {
+						// resynchronize on the next start sign
+						in.position(pos + 1);
+					}
+					continue;
+				}
+			}
+			// the frame continues past the end of the buffer
+			MAVLinkPacket packet = mavlink_parse_char(in.get() & 0xFF);
+			if (packet != null) {
+				if (frameSink != null) {
+					if (frameBuffer == null) {
+						frameBuffer = ByteBuffer.allocate(MAVLinkPacket.MAVLINK_MAX_PACKET_LEN);
+					}
+					int length = packet.encodeFrame(frameBuffer.array(), 0);
+					frameSink.onFrame(packet, frameBuffer, 0, length);
+				} else {
+					sink.onPacket(packet);
+				}
+				packets++;
+			}
+		}
+		return packets;
+	}
+
+	/**
+	 * @return the total length of the frame starting at pos, or 0 if not
+	 *         enough of the header is in the buffer to tell
+	 */
+	private static int frameLength(ByteBuffer in, int pos, int stx) {
+		int available = in.limit() - pos;
+		if (stx == MAVLinkPacket.MAVLINK_STX) {
+			if (available < MAVLinkPacket.MAVLINK_HEADER_LEN) {
+				return 0;
+			}
+			return MAVLinkPacket.MAVLINK_HEADER_LEN + (in.get(pos + 1) & 0xFF) + CHECKSUM_LEN;
+		}
+		if (available < MAVLinkPacket.MAVLINK2_HEADER_LEN) {
+			return 0;
+		}
+		int len = MAVLinkPacket.MAVLINK2_HEADER_LEN + (in.get(pos + 1) & 0xFF) + CHECKSUM_LEN;
+		if ((in.get(pos + 2) & MAVLinkPacket.MAVLINK_IFLAG_SIGNED) != 0) {
+			len += MAVLinkPacket.MAVLINK_SIGNATURE_BLOCK_LEN;
+		}
+		return len;
+	}
+
+	/**
+	 * Decode the complete frame starting at pos into m
+	 *
+	 * @return true if the frame was accepted
+	 */
+	private boolean decodeFrame(ByteBuffer in, int pos, int stx) {
+		startPacket(stx);
+		int headerLen;
+		m.len = in.get(pos + 1) & 0xFF;
+		if (m.isMavlink2) {
+			headerLen = MAVLinkPacket.MAVLINK2_HEADER_LEN;
+			m.incompatFlags = in.get(pos + 2) & 0xFF;
+			m.compatFlags = in.get(pos + 3) & 0xFF;
+			m.seq = in.get(pos + 4) & 0xFF;
+			m.sysid = in.get(pos + 5) & 0xFF;
+			m.compid = in.get(pos + 6) & 0xFF;
+			m.msgid = (in.get(pos + 7) & 0xFF) | (in.get(pos + 8) & 0xFF) << 8 | (in.get(pos + 9) & 0xFF) << 16;
+			if ((m.incompatFlags & ~MAVLinkPacket.MAVLINK_IFLAG_SIGNED) != 0) {
+				stats.incompatFlagsError();
+				return false;
+			}
+		} else {
+			headerLen = MAVLinkPacket.MAVLINK_HEADER_LEN;
+			m.seq = in.get(pos + 2) & 0xFF;
+			m.sysid = in.get(pos + 3) & 0xFF;
+			m.compid = in.get(pos + 4) & 0xFF;
+			m.msgid = in.get(pos + 5) & 0xFF;
+		}
+
+		int payloadEnd = pos + headerLen + m.len;
+		int limit = in.limit();
+		in.limit(payloadEnd);
+		in.position(pos + 1);
+		m.crc.update_checksum(in);
+		in.position(pos + headerLen);
+		m.payload.payload.put(in);
+		in.limit(limit);
+		m.crc.finish_checksum(m.msgid);
+
+		if ((in.get(payloadEnd) & 0xFF) != m.crc.getLSB()
+				|| (in.get(payloadEnd + 1) & 0xFF) != m.crc.getMSB()) {
+			stats.crcError();
+			return false;
+		}
+		if (isSigned(m)) {
+			if (m.signature == null) {
+				m.signature = new byte[MAVLinkPacket.MAVLINK_SIGNATURE_BLOCK_LEN];
+			}
+			for (int i = 0; i < MAVLinkPacket.MAVLINK_SIGNATURE_BLOCK_LEN; i++) {
+				m.signature[i] = in.get(payloadEnd + CHECKSUM_LEN + i);
+			}
+			if (signing != null && !signing.verify(m)) {
+				return false;
+			}
+		} else if (signing != null && !signing.acceptsUnsigned(m.msgid)) {
+			return false;
+		}
+		packetReceived();
+		return true;
+	}
+
+	private static boolean isSigned(MAVLinkPacket packet) {
+		return packet.isMavlink2 && (packet.incompatFlags & MAVLinkPacket.MAVLINK_IFLAG_SIGNED) != 0;
+	}
+
+	/**
+	 * The message id is complete, the payload (if any) follows
+	 */
+	private void gotMsgid() {
+		if (m.len == 0) {
+			setState(MAV_states.MAVLINK_PARSE_STATE_GOT_PAYLOAD);
+		} else {
+			setState(MAV_states.MAVLINK_PARSE_STATE_GOT_MSGID);
+		}
+	}
+
+	/**
+	 * The frame in m has been fully received and checked
+	 */
+	private void packetReceived() {
+		if (m.isMavlink2) {
+			mavlink2 = true;
+		}
+		stats.newPacket(m);
+		msg_received = true;
+		delivered = true;
+		setState(MAV_states.MAVLINK_PARSE_STATE_IDLE);
+	}
+
+	/**
+	 * Get an empty packet for the frame that just started. A packet that was
+	 * never handed to the caller (e.g. after a checksum error) is recycled.
+	 *
+	 * @param stx
+	 *            the start sign of the frame, which tells its protocol version
+	 */
+	private void startPacket(int stx) {
+		if (!delivered) {
+			m.reset();
+		} else if (pool != null) {
+			m = pool.borrow();
+		} else {
+			m = new MAVLinkPacket();
+		}
+		m.isMavlink2 = stx == MAVLinkPacket.MAVLINK_STX_MAVLINK2;
+		delivered = false;
+	}
+
     private void setState(MAV_states s){
 //        System.out.println("State=" + s);
         this.state = s;
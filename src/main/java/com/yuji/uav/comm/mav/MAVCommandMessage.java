@@ -11,14 +11,42 @@ public class MAVCommandMessage //implements Serializable
 {
     private com.MAVLink.Messages.MAVLinkMessage mavLinkMessage;
 
+    //the system id of the vehicle this message is for, or 0 for all vehicles on the link
+    private int targetSystem;
+
+    //the outbound lane this message is sent in, or null for the lane of its msgid
+    private MAVLinkOutboundQueue.Lane lane;
+
     private static final String PREFIX = "MAVCommandMessage: ";
 
     /**
-     * Constructor
+     * Constructor for a message to all vehicles on the link
      * @param mavLinkMessage
      */
     public MAVCommandMessage(com.MAVLink.Messages.MAVLinkMessage mavLinkMessage) {
+        this(mavLinkMessage, 0);
+    }
+
+    /**
+     * Constructor
+     * @param mavLinkMessage
+     * @param targetSystem the system id (sysid) of the vehicle this message is for, or 0 for all vehicles.
+     *                     Links that reach several vehicles (e.g., UDP) use it to pick the peer to send to.
+     */
+    public MAVCommandMessage(com.MAVLink.Messages.MAVLinkMessage mavLinkMessage, int targetSystem) {
         this.mavLinkMessage = mavLinkMessage;
+        this.targetSystem = targetSystem;
+    }
+
+    /**
+     * Constructor for a message sent in a given outbound lane (e.g., a msg_command_long sent as BULK)
+     * @param mavLinkMessage
+     * @param targetSystem the system id (sysid) of the vehicle this message is for, or 0 for all vehicles.
+     * @param lane the priority class of the message
+     */
+    public MAVCommandMessage(com.MAVLink.Messages.MAVLinkMessage mavLinkMessage, int targetSystem, MAVLinkOutboundQueue.Lane lane) {
+        this(mavLinkMessage, targetSystem);
+        this.lane = lane;
     }
 
     /**
@@ -29,6 +57,22 @@ public class MAVCommandMessage //implements Serializable
         return mavLinkMessage;
     }
 
+    /**
+     * Returns the system id of the vehicle this message is for
+     * @return the sysid, or 0 if the message is for all vehicles
+     */
+    public int getTargetSystem() {
+        return targetSystem;
+    }
+
+    /**
+     * Returns the outbound lane this message is sent in
+     * @return the lane given to the constructor, or else the lane of the msgid (see MAVLinkOutboundQueue.Lane.of)
+     */
+    public MAVLinkOutboundQueue.Lane getLane() {
+        return lane != null ? lane : MAVLinkOutboundQueue.Lane.of(mavLinkMessage.msgid);
+    }
+
     public String toString(){
         return PREFIX + this.mavLinkMessage.toString();
     }
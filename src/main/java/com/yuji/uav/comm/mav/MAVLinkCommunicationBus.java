@@ -1,67 +1,367 @@
 package com.yuji.uav.comm.mav;
 
-import com.MAVLink.Messages.MAVLinkMessage;
-import com.google.common.eventbus.AsyncEventBus;
-import com.google.common.eventbus.EventBus;
+import com.MAVLink.Messages.MAVLinkSigning;
 
-import java.util.concurrent.Executors;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.logging.Logger;
 
 /**
- * An messaging bus (with built-in queue) used to communicate with a UAV via the serial port.
+ * An messaging bus (with built-in queue) used to communicate with UAVs via one or more links.
  *
- * This class relies on google guava event bus.
+ * A link is any attached MAVLinkTransport (serial port, UDP, TCP, file replay or in-memory loopback).
+ * Messages received on every link are posted to the bus. MAVCommandMessages posted to the bus are sent on
+ * the link the target UAV was heard on, or on every link when there is no target or it has not been heard yet.
+ *
+ * The messages are delivered to the subscribers' @Subscribe methods by a MAVLinkDispatcher: a google guava event
+ * bus (synchronous, or asynchronous on a cached thread pool) by default, a MAVLinkRingBufferDispatcher, a
+ * MAVLinkMailboxDispatcher (an ordered mailbox per vehicle or per subscriber, on virtual threads when available),
+ * or a MAVLinkKeyedDispatcher (in order per (sysid, msgid), different keys in parallel).
  * @see https://code.google.com/p/guava-libraries/wiki/EventBusExplained
  * @see http://insightfullogic.com/blog/2011/oct/10/eventbus/
  *
+ * The bus keeps a MAVLinkVehicleRegistry of the vehicles heard on its links, and posts a MAVVehicleEvent when
+ * one connects (first heartbeat) or disconnects (heartbeat timeout), and a MAVLinkSnapshotStore of the latest
+ * attitude, position, HUD, status and battery messages of each vehicle.
+ *
+ * A subscriber that may fall behind can be registered with a capacity and an OverflowPolicy; it then gets a
+ * bounded MAVLinkSubscriberQueue and thread of its own, which counts the events it drops.
+ *
+ * Handlers can also be subscribed to a single msgid with subscribe(msgid, handler); they are called directly
+ * on the receiving thread of the link. The links only unpack the messages that a handler or a registered
+ * subscriber takes, so the rest of the traffic costs little more than its checksum.
+ *
  * @author Philip L. Giacalone
  */
 public class MAVLinkCommunicationBus {
 
     private static Logger LOGGER = Logger.getLogger("com.yuji.uav.comm.mav");
 
-    //an asynchronous event mavLinkCommunicationBus that has an internal queue
-    private EventBus eventBus = null;
+    //delivers the posted events to the subscribers
+    private final MAVLinkDispatcher dispatcher;
+
+    //the per-msgid handlers, and the msgids the subscribers take; the links unpack only these
+    private final MAVLinkSubscriptions subscriptions = new MAVLinkSubscriptions();
+
+    //the bounded queues of the subscribers registered with a capacity, by subscriber
+    private final Map<Object, MAVLinkSubscriberQueue> subscriberQueues =
+            Collections.synchronizedMap(new IdentityHashMap<Object, MAVLinkSubscriberQueue>());
+
+    //the latest attitude, position, HUD, status and battery messages of each vehicle
+    private final MAVLinkSnapshotStore snapshots = new MAVLinkSnapshotStore();
+
+    //the vehicles heard on the links of this bus
+    private final MAVLinkVehicleRegistry vehicles = new MAVLinkVehicleRegistry(this::postEvent);
+
+    //the links used for sending and receiving messages
+    private final List<MAVLinkLink> links = new CopyOnWriteArrayList<MAVLinkLink>();
+
+    //the link each sysid was last heard on
+    private final AtomicReferenceArray<MAVLinkLink> routes = new AtomicReferenceArray<MAVLinkLink>(256);
+
+    //applied to every link, including the ones attached later
+    private volatile MAVLinkSigning signing;
+
+    /**
+     * Constructor for a bus without links; they are added with attach()
+     * @param asyncFlag - controls whether the internal bus will be asynchronous (true) or synchronous (false).
+     * @param name a user-friendly name of this bus
+     */
+    public MAVLinkCommunicationBus(boolean asyncFlag, String name) {
+        this(new MAVLinkGuavaDispatcher(asyncFlag, name));
+    }
 
-    //the serial port used for sending and receiving messages
-    private MAVLinkSerialPort2 serialPort;
+    /**
+     * Constructor for a bus without links, delivering its events with the given dispatcher
+     * (e.g., a MAVLinkRingBufferDispatcher, a MAVLinkMailboxDispatcher or a MAVLinkKeyedDispatcher); links are
+     * added with attach()
+     * @param dispatcher
+     */
+    public MAVLinkCommunicationBus(MAVLinkDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
 
     /**
-     * Constructor
+     * Constructor for a bus with one serial port link
      * @param asyncFlag - controls whether the internal bus will be asynchronous (true) or synchronous (false).
      * @param settings object holding all the serial port settings
      * @throws MAVLinkSerialPortException
      */
     public MAVLinkCommunicationBus(boolean asyncFlag, SerialPortSettings settings) throws MAVLinkSerialPortException {
-        if (asyncFlag){
-            this.eventBus = new AsyncEventBus(settings.getUniqueDeviceName(), Executors.newCachedThreadPool());
-        } else {
-            this.eventBus = new EventBus(settings.getUniqueDeviceName());
+        this(asyncFlag, settings.getUniqueDeviceName());
+        attach(new MAVLinkSerialTransport(settings));
+    }
+
+    /**
+     * Constructor for a bus with one UDP link
+     * @param asyncFlag - controls whether the internal bus will be asynchronous (true) or synchronous (false).
+     * @param deviceName a user-friendly name of the device(s) reached over UDP (e.g., SITL_1)
+     * @param localAddress the local address and port to receive on (e.g., new InetSocketAddress(14550))
+     * @param remoteAddress where to send messages before any UAV has been heard from, or null to wait for the
+     *                      UAVs to send first
+     * @throws MAVLinkSerialPortException if the UDP port cannot be opened
+     */
+    public MAVLinkCommunicationBus(boolean asyncFlag, String deviceName, InetSocketAddress localAddress, InetSocketAddress remoteAddress)
+            throws MAVLinkSerialPortException {
+        this(asyncFlag, deviceName);
+        attach(new MAVLinkUdpTransport(deviceName, localAddress, remoteAddress));
+    }
+
+    /**
+     * Opens the transport and adds it to this bus as a link. Any number of links can be attached.
+     * @param transport
+     * @throws MAVLinkSerialPortException if the transport cannot be opened
+     */
+    public void attach(MAVLinkTransport transport) throws MAVLinkSerialPortException {
+        attach(transport, MAVLinkOutboundQueue.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Opens the transport and adds it to this bus as a link. Any number of links can be attached.
+     * @param transport
+     * @param outboundCapacity the number of packets that can wait to be sent on the link; more are dropped
+     * @throws MAVLinkSerialPortException if the transport cannot be opened
+     */
+    public void attach(MAVLinkTransport transport, int outboundCapacity) throws MAVLinkSerialPortException {
+        MAVLinkLink link = new MAVLinkLink(transport, this::postEvent, this.routes, this.vehicles, this.subscriptions,
+                this.snapshots, outboundCapacity);
+        link.setSigning(this.signing);
+        link.open();
+        //the link sends the MAVCommandMessages posted to this bus
+        registerSubscriber(link);
+        this.links.add(link);
+    }
+
+    /**
+     * Removes the link of the transport from this bus and closes the transport
+     * @param transport
+     * @throws MAVLinkSerialPortException
+     */
+    public void detach(MAVLinkTransport transport) throws MAVLinkSerialPortException {
+        MAVLinkLink link = getLink(transport);
+        if (link == null) {
+            return;
         }
-        this.serialPort = new MAVLinkSerialPort2(settings, this);
+        this.links.remove(link);
+        unRegisterSubscriber(link);
+        link.forgetRoutes();
+        link.close();
     }
 
+    /**
+     * @return the transports attached to this bus, in the order they were attached
+     */
+    public List<MAVLinkTransport> getTransports() {
+        List<MAVLinkTransport> transports = new ArrayList<MAVLinkTransport>();
+        for (MAVLinkLink link : this.links) {
+            transports.add(link.getTransport());
+        }
+        return transports;
+    }
+
+    private MAVLinkLink getLink(MAVLinkTransport transport) {
+        for (MAVLinkLink link : this.links) {
+            if (link.getTransport() == transport) {
+                return link;
+            }
+        }
+        return null;
+    }
 
     public void registerSubscriber(Object subscriber) {
-//        LOGGER.info("bus=" + this.asyncEventBus + ", subscriber=" + subscriber);
-        this.eventBus.register(subscriber);
+//        LOGGER.info("bus=" + this.dispatcher + ", subscriber=" + subscriber);
+        this.dispatcher.register(subscriber);
+        this.subscriptions.register(subscriber);
+    }
+
+    /**
+     * Registers a subscriber behind a bounded queue with its own thread, so that it holds at most capacity events
+     * when it falls behind, and does not slow down the other subscribers
+     * @param subscriber the object with @Subscribe methods
+     * @param capacity the number of events that can wait for the subscriber
+     * @param policy what is done with an event that does not fit in the queue
+     * @return the queue, with its dropped-event counters
+     */
+    public MAVLinkSubscriberQueue registerSubscriber(Object subscriber, int capacity, MAVLinkSubscriberQueue.OverflowPolicy policy) {
+        MAVLinkSubscriberQueue queue = new MAVLinkSubscriberQueue(subscriber, capacity, policy);
+        this.subscriberQueues.put(subscriber, queue);
+        this.dispatcher.register(queue);
+        //the links unpack what the subscriber takes, not everything the queue takes
+        this.subscriptions.register(subscriber);
+        return queue;
     }
 
     public void unRegisterSubscriber(Object subscriber) {
-        this.eventBus.unregister(subscriber);
+        this.subscriptions.unregister(subscriber);
+        MAVLinkSubscriberQueue queue = this.subscriberQueues.remove(subscriber);
+        if (queue == null) {
+            this.dispatcher.unregister(subscriber);
+        } else {
+            this.dispatcher.unregister(queue);
+            queue.close();
+        }
+    }
+
+    /**
+     * @param subscriber
+     * @return the queue of a subscriber registered with a capacity, or null
+     */
+    public MAVLinkSubscriberQueue getSubscriberQueue(Object subscriber) {
+        return this.subscriberQueues.get(subscriber);
+    }
+
+    /**
+     * @return the queues of the subscribers registered with a capacity
+     */
+    public List<MAVLinkSubscriberQueue> getSubscriberQueues() {
+        synchronized (this.subscriberQueues) {
+            return new ArrayList<MAVLinkSubscriberQueue>(this.subscriberQueues.values());
+        }
+    }
+
+    /**
+     * Adds a handler for the messages with the given msgid, received on any link of this bus
+     * @param msgid e.g., msg_attitude.MAVLINK_MSG_ID_ATTITUDE
+     * @param handler called on the receiving thread of the link
+     */
+    public void subscribe(int msgid, MAVLinkSubscriptions.Handler handler) {
+        this.subscriptions.subscribe(msgid, handler);
+    }
+
+    /**
+     * Removes a handler added with subscribe()
+     * @param msgid
+     * @param handler
+     */
+    public void unsubscribe(int msgid, MAVLinkSubscriptions.Handler handler) {
+        this.subscriptions.unsubscribe(msgid, handler);
+    }
+
+    /**
+     * @return the per-msgid handlers of this bus, and the msgids its subscribers take
+     */
+    public MAVLinkSubscriptions getSubscriptions() {
+        return this.subscriptions;
     }
 
     public void postEvent(Object e) {
-//        LOGGER.info("bus=" + this.eventBus + ", event=" + e);
-        this.eventBus.post(e);
+//        LOGGER.info("bus=" + this.dispatcher + ", event=" + e);
+        this.dispatcher.post(e);
+    }
+
+    /**
+     * @return the dispatcher delivering the events of this bus, e.g. to read its queue depths
+     */
+    public MAVLinkDispatcher getDispatcher() {
+        return this.dispatcher;
+    }
+
+    /**
+     * @return the vehicles (and other components) heard on the links of this bus
+     */
+    public MAVLinkVehicleRegistry getVehicleRegistry() {
+        return this.vehicles;
+    }
+
+    /**
+     * @return the latest msg_attitude, msg_global_position_int, msg_vfr_hud, msg_sys_status and msg_battery_status
+     * of each vehicle heard on the links of this bus, for readers that poll rather than subscribe
+     */
+    public MAVLinkSnapshotStore getSnapshotStore() {
+        return this.snapshots;
+    }
+
+    /**
+     * Enables MAVLink 2 signing on every link of this bus. Messages sent to the UAVs are signed
+     * and messages from the UAVs without a valid signature are dropped.
+     * @param signing the secret key and replay protection state shared with the UAVs, or null to turn signing off
+     */
+    public void setSigning(MAVLinkSigning signing) {
+        this.signing = signing;
+        for (MAVLinkLink link : this.links) {
+            link.setSigning(signing);
+        }
+    }
+
+    /**
+     * @return the per-msgid counts of the messages received on the first link of this bus, or null if there
+     * is none. Sampled message dumps are written to the "com.yuji.uav.comm.mav.traffic" logger at level FINE.
+     */
+    public MAVLinkTrafficLog getTrafficLog() {
+        return this.links.isEmpty() ? null : this.links.get(0).getTrafficLog();
+    }
+
+    /**
+     * @param transport
+     * @return the per-msgid counts of the messages received on the link of the transport, or null if it is
+     * not attached to this bus
+     */
+    public MAVLinkTrafficLog getTrafficLog(MAVLinkTransport transport) {
+        MAVLinkLink link = getLink(transport);
+        return link == null ? null : link.getTrafficLog();
+    }
+
+    /**
+     * @param transport
+     * @return the queue depth and drop counters of the link of the transport, or null if it is not attached
+     * to this bus
+     */
+    public MAVLinkOutboundQueue getOutboundQueue(MAVLinkTransport transport) {
+        MAVLinkLink link = getLink(transport);
+        return link == null ? null : link.getOutboundQueue();
+    }
+
+    /**
+     * Sets the shaper of the bytes sent on the link of the transport. Transports that know their byte rate
+     * (e.g., serial ports) get a limiter at that rate when they are attached.
+     * @param transport
+     * @param limiter the limiter, or null to send as fast as the transport takes the bytes
+     */
+    public void setRateLimiter(MAVLinkTransport transport, MAVLinkRateLimiter limiter) {
+        MAVLinkLink link = getLink(transport);
+        if (link != null) {
+            link.getOutboundQueue().setRateLimiter(limiter);
+        }
+    }
+
+    /**
+     * @param transport
+     * @return the shaper of the bytes sent on the link of the transport, or null if there is none (or the
+     * transport is not attached to this bus)
+     */
+    public MAVLinkRateLimiter getRateLimiter(MAVLinkTransport transport) {
+        MAVLinkLink link = getLink(transport);
+        return link == null ? null : link.getOutboundQueue().getRateLimiter();
+    }
+
+    /**
+     * Detaches and closes every link of this bus, and stops its dispatcher, subscriber queue and heartbeat timeout
+     * threads
+     * @throws MAVLinkSerialPortException
+     */
+    public void close() throws MAVLinkSerialPortException {
+        for (MAVLinkLink link : this.links) {
+            detach(link.getTransport());
+        }
+        for (MAVLinkSubscriberQueue queue : getSubscriberQueues()) {
+            unRegisterSubscriber(queue.getSubscriber());
+        }
+        this.vehicles.close();
+        this.dispatcher.close();
     }
 
     /**
-     * Closes this serial port
+     * Closes this serial port (and every other link of this bus)
      * @throws jssc.SerialPortException
      */
     public void closeSerialPort() throws MAVLinkSerialPortException {
-        this.serialPort.close();
+        close();
     }
 
 }
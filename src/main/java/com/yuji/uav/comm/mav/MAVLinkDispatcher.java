@@ -0,0 +1,39 @@
+package com.yuji.uav.comm.mav;
+
+/**
+ * Delivers the events posted to a MAVLinkCommunicationBus to the methods of its subscribers that are annotated
+ * with Guava's @Subscribe and take the event's class (or a superclass or interface of it).
+ *
+ * @see MAVLinkGuavaDispatcher
+ * @see MAVLinkRingBufferDispatcher
+ * @see MAVLinkMailboxDispatcher
+ * @see MAVLinkKeyedDispatcher
+ *
+ * @author Philip L. Giacalone
+ */
+public interface MAVLinkDispatcher {
+
+    /**
+     * Adds the @Subscribe methods of the subscriber
+     * @param subscriber
+     */
+    void register(Object subscriber);
+
+    /**
+     * Removes the @Subscribe methods of the subscriber
+     * @param subscriber
+     */
+    void unregister(Object subscriber);
+
+    /**
+     * Delivers the event to every subscriber method that takes it
+     * @param event
+     */
+    void post(Object event);
+
+    /**
+     * Stops delivering events and frees the dispatcher's threads, if any
+     */
+    default void close() {
+    }
+}
@@ -0,0 +1,152 @@
+package com.yuji.uav.comm.mav;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A MAVLinkTransport that plays back a file of raw MAVLink bytes, e.g. a capture of a serial link.
+ * Useful to reproduce a flight, or to test subscribers, without a vehicle.
+ *
+ * The file is read in chunks on a reader thread, either as fast as possible or paced to a given byte rate
+ * (e.g., baud / 10 to replay at the speed of the original serial link). Bytes sent to the transport are
+ * counted and discarded.
+ *
+ * @author Philip L. Giacalone
+ */
+public class MAVLinkFileReplayTransport implements MAVLinkTransport {
+
+    private static Logger LOGGER = Logger.getLogger("com.yuji.uav.comm.mav");
+
+    private static final int CHUNK_SIZE = 4096;
+
+    private String deviceName;
+    private final Path file;
+    private final int bytesPerSecond;
+
+    private volatile boolean closed;
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    //bytes replayed so far, and bytes sent to (and discarded by) this transport
+    private volatile long bytesReplayed;
+    private final AtomicLong bytesDiscarded = new AtomicLong();
+
+    /**
+     * Constructor
+     * @param deviceName a user-friendly name of the recorded device (e.g., Pixhawk_1_replay)
+     * @param file the file holding the raw MAVLink bytes
+     * @param bytesPerSecond the replay rate, or 0 to replay as fast as possible
+     */
+    public MAVLinkFileReplayTransport(String deviceName, Path file, int bytesPerSecond) {
+        this.deviceName = deviceName;
+        this.file = file;
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    @Override
+    public String getName() {
+        return this.deviceName;
+    }
+
+    /**
+     * Starts the replay
+     */
+    @Override
+    public void open(Receiver receiver) throws MAVLinkSerialPortException {
+        final FileChannel channel;
+        try {
+            channel = FileChannel.open(this.file, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new MAVLinkSerialPortException("Failed to open " + this.file + ": " + e.getMessage());
+        }
+        Thread replayThread = new Thread(() -> replay(channel, receiver), "MAVLinkFileReplayTransport-" + deviceName);
+        replayThread.setDaemon(true);
+        replayThread.start();
+    }
+
+    private void replay(FileChannel channel, Receiver receiver) {
+        //the chunk size is cut down when pacing, so the bytes arrive in about 50 ms steps
+        int chunkSize = this.bytesPerSecond > 0 ? Math.max(1, Math.min(CHUNK_SIZE, this.bytesPerSecond / 20)) : CHUNK_SIZE;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(chunkSize);
+        long start = System.nanoTime();
+        try {
+            while (!this.closed) {
+                buffer.clear();
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+                buffer.flip();
+                int count = buffer.remaining();
+                receiver.received(this, buffer);
+                this.bytesReplayed += count;
+                if (this.bytesPerSecond > 0) {
+                    long due = start + this.bytesReplayed * 1000000000L / this.bytesPerSecond;
+                    long wait = due - System.nanoTime();
+                    if (wait > 0) {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "MAVLinkFileReplayTransport: error reading " + this.file + ": " + e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "MAVLinkFileReplayTransport: error closing " + this.file + ": " + e);
+            }
+            receiver.disconnected(this);
+            this.finished.countDown();
+        }
+    }
+
+    /**
+     * Stops the replay
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+    }
+
+    /**
+     * Counts and discards the bytes; a recording cannot answer
+     */
+    @Override
+    public void send(Object peer, byte[] bytes, int offset, int length) {
+        this.bytesDiscarded.addAndGet(length);
+    }
+
+    /**
+     * Waits until the whole file has been replayed (or the replay was stopped)
+     * @param timeout
+     * @param unit
+     * @return true if the replay is finished, false if the timeout elapsed first
+     * @throws InterruptedException
+     */
+    public boolean awaitEnd(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.finished.await(timeout, unit);
+    }
+
+    /**
+     * @return the number of bytes replayed so far
+     */
+    public long getBytesReplayed() {
+        return this.bytesReplayed;
+    }
+
+    /**
+     * @return the number of bytes sent to this transport (and discarded)
+     */
+    public long getBytesDiscarded() {
+        return this.bytesDiscarded.get();
+    }
+}
@@ -0,0 +1,48 @@
+package com.yuji.uav.comm.mav;
+
+import com.google.common.eventbus.AsyncEventBus;
+import com.google.common.eventbus.EventBus;
+
+import java.util.concurrent.Executors;
+
+/**
+ * A MAVLinkDispatcher backed by a Guava EventBus: synchronous (events are delivered on the posting thread) or
+ * asynchronous (an AsyncEventBus on a cached thread pool). This is the dispatcher of the buses created with an
+ * asyncFlag.
+ *
+ * @see https://code.google.com/p/guava-libraries/wiki/EventBusExplained
+ *
+ * @author Philip L. Giacalone
+ */
+public class MAVLinkGuavaDispatcher implements MAVLinkDispatcher {
+
+    private final EventBus eventBus;
+
+    /**
+     * Constructor
+     * @param asyncFlag - controls whether the event bus will be asynchronous (true) or synchronous (false).
+     * @param name a user-friendly name of the event bus
+     */
+    public MAVLinkGuavaDispatcher(boolean asyncFlag, String name) {
+        if (asyncFlag){
+            this.eventBus = new AsyncEventBus(name, Executors.newCachedThreadPool());
+        } else {
+            this.eventBus = new EventBus(name);
+        }
+    }
+
+    @Override
+    public void register(Object subscriber) {
+        this.eventBus.register(subscriber);
+    }
+
+    @Override
+    public void unregister(Object subscriber) {
+        this.eventBus.unregister(subscriber);
+    }
+
+    @Override
+    public void post(Object event) {
+        this.eventBus.post(event);
+    }
+}
@@ -0,0 +1,281 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkMessage;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A MAVLinkDispatcher that keeps the events of each (sysid, msgid) key in order while handling different keys in
+ * parallel. The keys are hash-partitioned over a fixed set of worker threads, each with its own bounded queue:
+ * all the events of a key go through the same queue and worker, so e.g. two msg_attitude of a vehicle are never
+ * handled out of order or at the same time, while its msg_global_position_int may be handled concurrently on
+ * another worker. (With an AsyncEventBus and @AllowConcurrentEvents, two messages of the same key can be handled
+ * on different pool threads in either order.)
+ *
+ * A subscriber method can therefore be called concurrently for different keys, and must be thread-safe across
+ * them, but it needs no lock to see the messages of one key in order.
+ *
+ * Events other than received messages are keyed by their vehicle: a MAVCommandMessage by its target system,
+ * a MAVVehicleEvent by its sysid. When a worker's queue is full, post() waits for room (backpressure); an event
+ * posted by a subscriber into a full queue goes to an unbounded overflow queue of the worker instead, since
+ * waiting could deadlock the workers. The worker handles its overflow after its queue, and the events posted
+ * meanwhile go behind the overflow, so the events of a key stay in order.
+ *
+ * @author Philip L. Giacalone
+ */
+public class MAVLinkKeyedDispatcher implements MAVLinkDispatcher {
+
+    /** The default number of events each worker can queue */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    //events other than messages are keyed by their vehicle, with this msgid
+    private static final int NO_MSGID = 0xFFFFFF;
+
+    private final String name;
+    private final MAVLinkSubscriberMethods methods = new MAVLinkSubscriberMethods();
+    private final Worker[] workers;
+
+    private volatile boolean closed;
+
+    private final AtomicLong posted = new AtomicLong();
+    private final AtomicLong stalls = new AtomicLong();
+
+    /**
+     * Constructor for a dispatcher with one worker per core (at least 2) and the default queue capacity
+     * @param name a user-friendly name, used to name the worker threads
+     */
+    public MAVLinkKeyedDispatcher(String name) {
+        this(name, Math.max(2, Runtime.getRuntime().availableProcessors()), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Constructor
+     * @param name a user-friendly name, used to name the worker threads
+     * @param partitions the number of worker threads the keys are spread over
+     * @param queueCapacity the number of events each worker can queue
+     */
+    public MAVLinkKeyedDispatcher(String name, int partitions, int queueCapacity) {
+        if (partitions < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("partitions and queueCapacity must be positive");
+        }
+        this.name = name;
+        this.workers = new Worker[partitions];
+        for (int i = 0; i < partitions; i++) {
+            this.workers[i] = new Worker(name + "-" + i, queueCapacity);
+        }
+        for (Worker worker : this.workers) {
+            worker.start();
+        }
+    }
+
+    /**
+     * @return the number of worker threads (and queues) the keys are spread over
+     */
+    public int getPartitionCount() {
+        return this.workers.length;
+    }
+
+    /**
+     * @param sysid
+     * @param msgid
+     * @return the partition handling the events of the key
+     */
+    public int partitionOf(int sysid, int msgid) {
+        //the murmur3 finalizer, so that both the sysid and the msgid bits reach the low bits
+        int hash = (sysid & 0xFF) << 24 | (msgid & 0xFFFFFF);
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return (hash & Integer.MAX_VALUE) % this.workers.length;
+    }
+
+    /**
+     * @param partition
+     * @return the number of events waiting in the queue (and overflow) of the partition
+     */
+    public int getQueueDepth(int partition) {
+        return this.workers[partition].depth();
+    }
+
+    /**
+     * @return the number of events waiting in the queue (and overflow) of each partition
+     */
+    public int[] getQueueDepths() {
+        int[] depths = new int[this.workers.length];
+        for (int i = 0; i < depths.length; i++) {
+            depths[i] = this.workers[i].depth();
+        }
+        return depths;
+    }
+
+    /**
+     * @return the number of events posted
+     */
+    public long getPosted() {
+        return this.posted.get();
+    }
+
+    /**
+     * @return the number of posts that found their queue full (or, from a worker, its overflow not empty)
+     */
+    public long getStalls() {
+        return this.stalls.get();
+    }
+
+    @Override
+    public void register(Object subscriber) {
+        this.methods.addAll(MAVLinkSubscriberMethods.find(subscriber));
+    }
+
+    @Override
+    public void unregister(Object subscriber) {
+        this.methods.remove(subscriber);
+    }
+
+    @Override
+    public void post(Object event) {
+        if (event == null || this.closed) {
+            return;
+        }
+        this.posted.incrementAndGet();
+        Worker worker = this.workers[partitionOf(event)];
+        if (Thread.currentThread() instanceof Worker && ((Worker) Thread.currentThread()).owner() == this) {
+            //a subscriber must not wait for room, since it may be the worker that makes it
+            worker.overflow(event);
+            return;
+        }
+        try {
+            worker.put(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int partitionOf(Object event) {
+        if (event instanceof MAVLinkMessage) {
+            MAVLinkMessage message = (MAVLinkMessage) event;
+            return partitionOf(message.sysid, message.msgid);
+        } else if (event instanceof MAVTelemetryMessage && ((MAVTelemetryMessage) event).getMavLinkMessage() != null) {
+            MAVLinkMessage message = ((MAVTelemetryMessage) event).getMavLinkMessage();
+            return partitionOf(message.sysid, message.msgid);
+        }
+        return partitionOf(MAVLinkMailboxDispatcher.sysidOf(event), NO_MSGID);
+    }
+
+    /**
+     * Stops the workers once they have handled the events already posted (waiting at most a second)
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        for (Worker worker : this.workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker.interrupt();
+        }
+    }
+
+    //============================================================
+
+    /**
+     * Handles the events of the keys of one partition, in order
+     */
+    class Worker extends Thread {
+
+        final BlockingQueue<Object> queue;
+
+        //events posted by the workers into a full queue; once not empty, they go before any new event (guarded
+        //by itself)
+        private final ArrayDeque<Object> overflow = new ArrayDeque<Object>();
+
+        Worker(String threadName, int capacity) {
+            super(threadName);
+            this.queue = new ArrayBlockingQueue<Object>(capacity);
+            setDaemon(true);
+        }
+
+        MAVLinkKeyedDispatcher owner() {
+            return MAVLinkKeyedDispatcher.this;
+        }
+
+        int depth() {
+            synchronized (this.overflow) {
+                return this.queue.size() + this.overflow.size();
+            }
+        }
+
+        /**
+         * Queues an event posted by a worker, never waiting
+         */
+        void overflow(Object event) {
+            synchronized (this.overflow) {
+                if (this.overflow.isEmpty() && this.queue.offer(event)) {
+                    return;
+                }
+                stalls.incrementAndGet();
+                this.overflow.addLast(event);
+            }
+        }
+
+        /**
+         * Queues an event posted by another thread, waiting for the overflow to drain and for room in the queue
+         */
+        void put(Object event) throws InterruptedException {
+            synchronized (this.overflow) {
+                while (!this.overflow.isEmpty() && !closed) {
+                    this.overflow.wait(10);
+                }
+            }
+            if (!this.queue.offer(event)) {
+                stalls.incrementAndGet();
+                this.queue.put(event);
+            }
+        }
+
+        private Object pollOverflow() {
+            synchronized (this.overflow) {
+                Object event = this.overflow.pollFirst();
+                if (event != null && this.overflow.isEmpty()) {
+                    this.overflow.notifyAll();
+                }
+                return event;
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                //the queued events were posted before the overflowing ones
+                Object event = this.queue.poll();
+                if (event == null) {
+                    event = pollOverflow();
+                }
+                try {
+                    if (event == null) {
+                        event = this.queue.poll(10, TimeUnit.MILLISECONDS);
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (event != null) {
+                    methods.dispatch(event);
+                } else if (closed) {
+                    return;
+                }
+            }
+        }
+    }
+
+    public String toString() {
+        return "MAVLinkKeyedDispatcher[" + this.name + ", partitions=" + this.workers.length + "]";
+    }
+}
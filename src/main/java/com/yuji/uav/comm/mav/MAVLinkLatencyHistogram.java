@@ -0,0 +1,110 @@
+package com.yuji.uav.comm.mav;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of latencies with power-of-two buckets: bucket 0 counts latencies under 1 microsecond, and
+ * bucket i (i > 0) those from 2^(i-1) up to 2^i microseconds. Recording is a couple of instructions and
+ * one atomic increment, so it can stay on in the send path; any thread can read it at any time.
+ *
+ * @author Philip L. Giacalone
+ */
+public class MAVLinkLatencyHistogram {
+
+    /** The number of buckets; the last one holds everything from 2^62 microseconds up */
+    public static final int BUCKET_COUNT = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * Counts one latency
+     * @param nanos
+     */
+    public void record(long nanos) {
+        long micros = Math.max(0, nanos / 1000);
+        this.buckets.incrementAndGet(bucketOf(micros));
+    }
+
+    /**
+     * @param micros
+     * @return the bucket the latency falls in
+     */
+    static int bucketOf(long micros) {
+        return Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(micros));
+    }
+
+    /**
+     * @param bucket
+     * @return the (exclusive) upper bound of the bucket, in microseconds
+     */
+    public static long upperBoundMicros(int bucket) {
+        return bucket >= BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+
+    public long getBucketCount(int bucket) {
+        return this.buckets.get(bucket);
+    }
+
+    /**
+     * @return the number of latencies recorded
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += this.buckets.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * @param percentile e.g., 99.9
+     * @return the upper bound (in microseconds) of the bucket holding the given percentile, or 0 if nothing
+     * was recorded. It is at most twice the actual latency.
+     */
+    public long getPercentileMicros(double percentile) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = this.buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= Math.max(1, rank)) {
+                return upperBoundMicros(i);
+            }
+        }
+        return upperBoundMicros(BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Clears every bucket
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            this.buckets.set(i, 0);
+        }
+    }
+
+    /**
+     * @return the non-empty buckets as {upper bound in microseconds=count}, e.g. "{<2us=3, <1024us=1}"
+     */
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = this.buckets.get(i);
+            if (count > 0) {
+                if (sb.length() > 1) {
+                    sb.append(", ");
+                }
+                sb.append(i == BUCKET_COUNT - 1 ? ">=" + (1L << (i - 1)) : "<" + upperBoundMicros(i)).append("us=").append(count);
+            }
+        }
+        return sb.append("}").toString();
+    }
+}
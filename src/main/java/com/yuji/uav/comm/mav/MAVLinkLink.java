@@ -0,0 +1,376 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkPacketPool;
+import com.MAVLink.Messages.MAVLinkSigning;
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+import com.MAVLink.Messages.ardupilotmega.msg_radio_status;
+import com.MAVLink.PacketSink;
+import com.MAVLink.Parser;
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.Subscribe;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * This is a package scope class NOT intended for outside use.
+ *
+ * The MAVLink side of one attached MAVLinkTransport. It parses the received bytes of every peer with its own
+ * Parser, unpacks the packets and hands the messages to a consumer (e.g., MAVLinkCommunicationBus.postEvent).
+ * With the subscriptions of a bus, only the packets with a handler or a subscriber are unpacked, and only the
+ * messages a subscriber takes are handed to the consumer.
+ * In the other direction it packs MAVCommandMessages and queues them for the right peer on its
+ * MAVLinkOutboundQueue, whose writer thread encodes and sends them.
+ *
+ * The peer each vehicle (sysid) is heard from is remembered, here and in a routing table shared by all the
+ * links of a bus. A MAVCommandMessage with a target system is sent only on the link and to the peer the
+ * vehicle was heard on; a message without a target, or for a vehicle not heard yet, goes to every peer.
+ *
+ * @author Philip L. Giacalone
+ */
+class MAVLinkLink implements MAVLinkTransport.Receiver {
+
+    private static Logger LOGGER = Logger.getLogger("com.yuji.uav.comm.mav");
+
+    private final MAVLinkTransport transport;
+
+    //receives the messages unpacked on this link
+    private final Consumer<MAVLinkMessage> consumer;
+
+    //the link each sysid was last heard on, shared by all the links of a bus
+    private final AtomicReferenceArray<MAVLinkLink> routes;
+
+    //the peer each sysid was last heard from on this link
+    private final AtomicReferenceArray<Object> peers = new AtomicReferenceArray<Object>(256);
+
+    //one parser per peer, created when the peer is first heard from
+    private final Map<Object, PeerReader> readers = new ConcurrentHashMap<Object, PeerReader>();
+
+    private final MAVLinkTrafficLog trafficLog;
+
+    //the vehicles heard on the bus, or null
+    private final MAVLinkVehicleRegistry vehicles;
+
+    //the per-msgid handlers and the msgids taken by the consumer, or null to unpack and consume everything
+    private final MAVLinkSubscriptions subscriptions;
+
+    //keeps the latest payload of a few msgids per vehicle, or null
+    private final MAVLinkSnapshotStore snapshots;
+
+    private final MAVLinkOutboundQueue outbound;
+
+    //when set, outgoing messages are signed and incoming messages must be signed
+    private volatile MAVLinkSigning signing;
+
+    /**
+     * Constructor
+     * @param transport
+     * @param consumer receives the messages unpacked on this link
+     * @param routes the sysid routing table shared by the links of a bus (256 entries)
+     * @param vehicles updated with every packet received on this link, or null
+     * @param subscriptions decides which messages are unpacked, handled and consumed, or null for all of them
+     * @param snapshots updated with every packet received on this link, or null
+     * @param outboundCapacity the number of packets that can wait to be sent
+     */
+    MAVLinkLink(MAVLinkTransport transport, Consumer<MAVLinkMessage> consumer, AtomicReferenceArray<MAVLinkLink> routes,
+                MAVLinkVehicleRegistry vehicles, MAVLinkSubscriptions subscriptions, MAVLinkSnapshotStore snapshots,
+                int outboundCapacity) {
+        this.transport = transport;
+        this.consumer = consumer;
+        this.routes = routes;
+        this.vehicles = vehicles;
+        this.subscriptions = subscriptions;
+        this.snapshots = snapshots;
+        this.trafficLog = new MAVLinkTrafficLog(transport.getName());
+        this.outbound = new MAVLinkOutboundQueue(transport, outboundCapacity);
+        //a link with a known byte rate (e.g., a serial radio) is shaped to it
+        if (transport.getBytesPerSecond() > 0) {
+            this.outbound.setRateLimiter(new MAVLinkRateLimiter(transport.getBytesPerSecond()));
+        }
+    }
+
+    /**
+     * Opens the transport and starts the writer thread
+     * @throws MAVLinkSerialPortException if the transport cannot be opened
+     */
+    void open() throws MAVLinkSerialPortException {
+        this.transport.open(this);
+        this.outbound.start();
+    }
+
+    /**
+     * Sends what is still queued, then closes the transport
+     * @throws MAVLinkSerialPortException
+     */
+    void close() throws MAVLinkSerialPortException {
+        this.outbound.close();
+        this.transport.close();
+    }
+
+    MAVLinkTransport getTransport() {
+        return this.transport;
+    }
+
+    /**
+     * @return the per-msgid counts and sampled dumps of the messages received on this link
+     */
+    MAVLinkTrafficLog getTrafficLog() {
+        return this.trafficLog;
+    }
+
+    /**
+     * @return the queue of the packets waiting to be sent on this link
+     */
+    MAVLinkOutboundQueue getOutboundQueue() {
+        return this.outbound;
+    }
+
+    /**
+     * Enables (or disables, when null) MAVLink 2 signing on this link
+     * @param signing the secret key and replay protection state shared with the vehicles
+     */
+    void setSigning(MAVLinkSigning signing) {
+        this.signing = signing;
+        this.outbound.setSigning(signing);
+        for (PeerReader reader : this.readers.values()) {
+            reader.parser.setSigning(signing);
+        }
+    }
+
+    /**
+     * @param sysid
+     * @return the transport's peer the vehicle with this sysid was last heard from, or null
+     */
+    Object getPeer(int sysid) {
+        return this.peers.get(sysid & 0xFF);
+    }
+
+    /**
+     * Implementation of MAVLinkTransport.Receiver
+     */
+    @Override
+    public void received(Object peer, ByteBuffer bytes) {
+        PeerReader reader = this.readers.get(peer);
+        if (reader == null) {
+            reader = new PeerReader(peer);
+            this.readers.put(peer, reader);
+        }
+        try {
+            //==================================
+            // call mavlink to parse the bytes; each complete packet arrives at onPacket()
+            //==================================
+            reader.parser.parse(bytes, reader);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "MAVLinkLink [" + transport.getName() + "]: Error while parsing: " + e);
+        }
+        if (this.transport.isDatagram()) {
+            //a frame never continues in the next datagram
+            reader.parser.discardPartialFrame();
+        }
+    }
+
+    /**
+     * Implementation of MAVLinkTransport.Receiver
+     */
+    @Override
+    public void disconnected(Object peer) {
+        this.readers.remove(peer);
+        for (int sysid = 0; sysid < this.peers.length(); sysid++) {
+            if (this.peers.compareAndSet(sysid, peer, null)) {
+                this.routes.compareAndSet(sysid, this, null);
+            }
+        }
+    }
+
+    /**
+     * Forgets every route through this link, e.g. when it is detached
+     */
+    void forgetRoutes() {
+        for (int sysid = 0; sysid < this.routes.length(); sysid++) {
+            this.routes.compareAndSet(sysid, this, null);
+        }
+    }
+
+    /**
+     * This method queues the given MAVLinkMessage to be sent to the UAV(s) on this link
+     * @param messageToUav
+     */
+    //GOTCHA: Methods annotated with @Subscribe MUST be public
+    @Subscribe  //MAVLinkCommand
+    @AllowConcurrentEvents
+    public void send(MAVCommandMessage messageToUav) {
+        if (messageToUav == null || messageToUav.getMavLinkMessage() == null) {
+            return;
+        }
+        Object peer = null;
+        int target = messageToUav.getTargetSystem() & 0xFF;
+        if (target != 0) {
+            MAVLinkLink route = this.routes.get(target);
+            if (route != null && route != this) {
+                //the vehicle is on another link of the bus
+                return;
+            }
+            peer = this.peers.get(target);
+        }
+        MAVLinkPacket packet = messageToUav.getMavLinkMessage().pack();
+        //answer a vehicle in MAVLink 2 once its peer has been heard speaking it; a MAVLink 1 only vehicle would
+        //drop the frames. Messages to every peer are encoded once, so they use MAVLink 2 only when every peer
+        //speaks it (or when the msgid does not fit in MAVLink 1).
+        PeerReader reader = peer == null ? null : this.readers.get(peer);
+        packet.isMavlink2 = packet.msgid > 255 || (reader != null ? reader.mavlink2 : everyPeerSpeaksMavlink2());
+        if (!this.outbound.offer(peer, packet, messageToUav.getLane())) {
+            LOGGER.log(Level.FINE, "MAVLinkLink [" + transport.getName() + "]: outbound queue full, msgId=" + packet.msgid + " dropped");
+        }
+    }
+
+    /**
+     * @return true if every peer heard on this link speaks MAVLink 2, false if none was heard
+     */
+    private boolean everyPeerSpeaksMavlink2() {
+        boolean heard = false;
+        for (PeerReader reader : this.readers.values()) {
+            if (!reader.mavlink2) {
+                return false;
+            }
+            heard = true;
+        }
+        return heard;
+    }
+
+    //============================================================
+
+    /**
+     * Parses the bytes of one peer of the transport
+     */
+    class PeerReader implements PacketSink {
+
+        //packets are recycled once unpacked, so the steady-state receive path does not allocate packets
+        final Parser parser = new Parser(new MAVLinkPacketPool());
+        final Object peer;
+        MAVLinkMessage message = null;
+
+        //true once this peer has been heard speaking MAVLink 2
+        volatile boolean mavlink2;
+
+        PeerReader(Object peer) {
+            this.peer = peer;
+            this.parser.setSigning(signing);
+        }
+
+        /**
+         * Implementation of PacketSink interface
+         * Called by the parser for each fully parsed packet
+         * @param packet
+         */
+        @Override
+        public void onPacket(MAVLinkPacket packet) {
+            int sysid = packet.sysid;
+            //remember where the vehicle is, so replies to it go to the right link and peer
+            if (peers.get(sysid) != peer) {
+                peers.set(sysid, peer);
+            }
+            if (routes.get(sysid) != MAVLinkLink.this) {
+                routes.set(sysid, MAVLinkLink.this);
+            }
+            if (packet.isMavlink2 && !this.mavlink2) {
+                this.mavlink2 = true;
+            }
+            if (snapshots != null) {
+                //a copy of the payload, decoded only when a reader asks for it
+                snapshots.received(packet);
+            }
+            int msgid = packet.msgid;
+            MAVLinkSubscriptions.Handler[] handlers = null;
+            boolean consumed = true;
+            if (subscriptions != null) {
+                handlers = subscriptions.getHandlers(msgid);
+                consumed = subscriptions.isPosted(msgid);
+                if (handlers == null && !consumed && !isNeeded(msgid)) {
+                    //nobody takes this message: count it, but do not unpack it
+                    if (vehicles != null) {
+                        vehicles.received(packet, null);
+                    }
+                    trafficLog.received(msgid);
+                    packet.release();
+                    return;
+                }
+            }
+            message = null;
+            try {
+                //===========================
+                // unpack the mavlink message
+                //===========================
+                message = packet.unpack();
+                if (message != null){
+                    if (message.msgid == msg_radio_status.MAVLINK_MSG_ID_RADIO_STATUS) {
+                        //the radio's buffer and link margin adjust the outbound budget
+                        MAVLinkRateLimiter limiter = outbound.getRateLimiter();
+                        if (limiter != null) {
+                            limiter.radioStatus((msg_radio_status) message);
+                        }
+                    }
+
+                    if (vehicles != null) {
+                        vehicles.received(packet, message);
+                    }
+
+                    //counts the message; dumps and per-message lines only when the traffic logger is enabled
+                    trafficLog.received(message);
+
+                    if (handlers != null) {
+                        handle(handlers, message);
+                    }
+
+                    //====================================
+                    //send the message to the portal
+                    //====================================
+                    if (consumed) {
+                        consumer.accept(message);
+                    }
+
+                } else {
+                    //no message type is registered for this msgid
+                    parser.stats.unknownMessage();
+                }
+            } catch (Exception e){
+                if (message != null){
+                    LOGGER.log(Level.WARNING, "MAVLinkLink [" + transport.getName() + "]: Error while unpacking mavlink packet: msgId=" + message.msgid + " : " + e);
+                } else {
+                    LOGGER.log(Level.WARNING, "MAVLinkLink [" + transport.getName() + "]: Error while unpacking mavlink packet: packet=" + packet + " : " + e);
+                }
+            } finally {
+                //the message holds its own copy of the fields, so the packet can be reused
+                packet.release();
+            }
+        }
+
+        /**
+         * @param msgid
+         * @return true if this link itself reads the message: the heartbeats for the vehicle registry, and the
+         * radio status for the rate limiter
+         */
+        private boolean isNeeded(int msgid) {
+            if (msgid == msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT) {
+                return vehicles != null;
+            }
+            return msgid == msg_radio_status.MAVLINK_MSG_ID_RADIO_STATUS && outbound.getRateLimiter() != null;
+        }
+
+        private void handle(MAVLinkSubscriptions.Handler[] handlers, MAVLinkMessage message) {
+            for (MAVLinkSubscriptions.Handler handler : handlers) {
+                try {
+                    handler.handle(message);
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.WARNING, "MAVLinkLink [" + transport.getName() + "]: Error in handler of msgId=" + message.msgid + " : " + e);
+                }
+            }
+        }
+    }
+}
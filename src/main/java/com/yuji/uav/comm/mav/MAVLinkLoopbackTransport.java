@@ -0,0 +1,102 @@
+package com.yuji.uav.comm.mav;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An in-memory MAVLinkTransport. Loopback transports come in connected pairs: the bytes sent on one end
+ * are received by the other, e.g. to connect a bus to a simulated vehicle in a test.
+ *
+ * Each end delivers its received bytes on its own thread, in the order they were sent. Bytes sent before
+ * the other end is opened are kept until it is.
+ *
+ * @author Philip L. Giacalone
+ */
+public class MAVLinkLoopbackTransport implements MAVLinkTransport {
+
+    private static Logger LOGGER = Logger.getLogger("com.yuji.uav.comm.mav");
+
+    //marks the end of the stream in the queue
+    private static final byte[] CLOSED = new byte[0];
+
+    private String deviceName;
+    private final MAVLinkLoopbackTransport otherEnd;
+
+    //bytes sent by the other end, waiting to be delivered by this end
+    private final BlockingQueue<byte[]> inbox = new LinkedBlockingQueue<byte[]>();
+
+    /**
+     * Creates one end of a new pair; the other end is getOtherEnd()
+     * @param deviceName a user-friendly name of this end (e.g., gcs)
+     * @param otherName a user-friendly name of the other end (e.g., simulated_vehicle)
+     */
+    public MAVLinkLoopbackTransport(String deviceName, String otherName) {
+        this.deviceName = deviceName;
+        this.otherEnd = new MAVLinkLoopbackTransport(otherName, this);
+    }
+
+    private MAVLinkLoopbackTransport(String deviceName, MAVLinkLoopbackTransport otherEnd) {
+        this.deviceName = deviceName;
+        this.otherEnd = otherEnd;
+    }
+
+    /**
+     * @return the end that receives what this end sends, and the other way around
+     */
+    public MAVLinkLoopbackTransport getOtherEnd() {
+        return this.otherEnd;
+    }
+
+    @Override
+    public String getName() {
+        return this.deviceName;
+    }
+
+    /**
+     * Starts delivering the bytes sent by the other end
+     */
+    @Override
+    public void open(Receiver receiver) {
+        Thread deliveryThread = new Thread(() -> deliver(receiver), "MAVLinkLoopbackTransport-" + deviceName);
+        deliveryThread.setDaemon(true);
+        deliveryThread.start();
+    }
+
+    private void deliver(Receiver receiver) {
+        try {
+            byte[] bytes;
+            while ((bytes = this.inbox.take()) != CLOSED) {
+                try {
+                    receiver.received(this, ByteBuffer.wrap(bytes));
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.WARNING, "MAVLinkLoopbackTransport [" + deviceName + "] error: " + e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        receiver.disconnected(this);
+    }
+
+    /**
+     * Stops delivering; bytes still queued are dropped
+     */
+    @Override
+    public void close() {
+        this.inbox.clear();
+        this.inbox.add(CLOSED);
+    }
+
+    /**
+     * Queues a copy of the bytes for the other end; there is only one peer, so the peer is ignored
+     */
+    @Override
+    public void send(Object peer, byte[] bytes, int offset, int length) {
+        byte[] copy = new byte[length];
+        System.arraycopy(bytes, offset, copy, 0, length);
+        this.otherEnd.inbox.add(copy);
+    }
+}
@@ -0,0 +1,349 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkMessage;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A MAVLinkDispatcher that gives each vehicle (or each subscriber) its own mailbox: a queue of events that is
+ * drained, in order, by one task at a time. Posting only queues the event, so a subscriber that blocks (e.g.,
+ * on a database write) never stalls the link that received the message, and only delays its own mailbox.
+ *
+ * In the PER_VEHICLE mode the events are put in the mailbox of the vehicle (sysid) they come from or are
+ * addressed to, and delivered there to every subscriber: the events of one vehicle are handled in order, the
+ * vehicles in parallel. In the PER_SUBSCRIBER mode each subscriber has a mailbox, and sees every event in the
+ * order it was posted, while the subscribers run in parallel.
+ *
+ * On a JDK with virtual threads (21 or later) each drain runs on a new virtual thread, so hundreds of vehicles
+ * or subscribers do not need hundreds of platform threads, even when they block. On older JDKs the drains run
+ * on a fixed pool of platform threads, where a blocking subscriber holds one of the threads while it blocks.
+ *
+ * @author Philip L. Giacalone
+ */
+public class MAVLinkMailboxDispatcher implements MAVLinkDispatcher {
+
+    private static Logger LOGGER = Logger.getLogger("com.yuji.uav.comm.mav");
+
+    /**
+     * What a mailbox serializes
+     */
+    public enum Mode {
+        /** One mailbox per vehicle (sysid); the events of a vehicle are delivered in order */
+        PER_VEHICLE,
+        /** One mailbox per subscriber; the events are delivered to each subscriber in order */
+        PER_SUBSCRIBER
+    }
+
+    //a drain hands its mailbox back to the executor after this many events, so one busy mailbox
+    //cannot hold a pool thread forever
+    private static final int BATCH = 64;
+
+    private final String name;
+    private final Mode mode;
+    private final ExecutorService executor;
+    private final boolean virtual;
+
+    //PER_VEHICLE: the methods of every subscriber, and a mailbox per sysid created when it is first posted to
+    private final MAVLinkSubscriberMethods methods = new MAVLinkSubscriberMethods();
+    private final AtomicReferenceArray<Mailbox> vehicleMailboxes = new AtomicReferenceArray<Mailbox>(256);
+
+    //PER_SUBSCRIBER: a mailbox per subscriber, and the mailboxes taking each event class
+    private final List<Mailbox> subscriberMailboxes = new CopyOnWriteArrayList<Mailbox>();
+    private volatile Map<Class<?>, Mailbox[]> resolved = new ConcurrentHashMap<Class<?>, Mailbox[]>();
+
+    private volatile boolean closed;
+
+    private final AtomicLong posted = new AtomicLong();
+
+    /**
+     * Constructor for a dispatcher with a mailbox per vehicle
+     * @param name a user-friendly name, used to name the threads
+     */
+    public MAVLinkMailboxDispatcher(String name) {
+        this(name, Mode.PER_VEHICLE);
+    }
+
+    /**
+     * Constructor for a dispatcher running its mailboxes on virtual threads when the JDK has them, and otherwise
+     * on a pool of two platform threads per core
+     * @param name a user-friendly name, used to name the threads
+     * @param mode what a mailbox serializes
+     */
+    public MAVLinkMailboxDispatcher(String name, Mode mode) {
+        this.name = name;
+        this.mode = mode;
+        ExecutorService virtualThreads = newVirtualThreadExecutor();
+        this.virtual = virtualThreads != null;
+        if (this.virtual) {
+            this.executor = virtualThreads;
+        } else {
+            AtomicInteger count = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(2 * Runtime.getRuntime().availableProcessors(), runnable -> {
+                Thread thread = new Thread(runnable, name + "-" + count.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Constructor for a dispatcher running its mailboxes on the given executor. A mailbox is drained by one task
+     * at a time, so the events stay in order on any executor.
+     * @param name a user-friendly name
+     * @param mode what a mailbox serializes
+     * @param executor runs the drains; shut down by close()
+     */
+    public MAVLinkMailboxDispatcher(String name, Mode mode, ExecutorService executor) {
+        this.name = name;
+        this.mode = mode;
+        this.executor = executor;
+        this.virtual = false;
+    }
+
+    /**
+     * @return an executor starting a virtual thread per task, or null if the JDK has no virtual threads
+     */
+    static ExecutorService newVirtualThreadExecutor() {
+        try {
+            //Executors.newVirtualThreadPerTaskExecutor() exists from Java 21; this code compiles for Java 8
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            //includes the InvocationTargetException wrapping the UnsupportedOperationException thrown on Java 19
+            //and 20 without --enable-preview
+            return null;
+        }
+    }
+
+    public Mode getMode() {
+        return this.mode;
+    }
+
+    /**
+     * @return true if the mailboxes are drained on virtual threads
+     */
+    public boolean isVirtual() {
+        return this.virtual;
+    }
+
+    /**
+     * @return the number of events posted
+     */
+    public long getPosted() {
+        return this.posted.get();
+    }
+
+    /**
+     * @return the number of events waiting in every mailbox
+     */
+    public int getBacklog() {
+        int backlog = 0;
+        for (int sysid = 0; sysid < this.vehicleMailboxes.length(); sysid++) {
+            Mailbox mailbox = this.vehicleMailboxes.get(sysid);
+            if (mailbox != null) {
+                backlog += mailbox.size();
+            }
+        }
+        for (Mailbox mailbox : this.subscriberMailboxes) {
+            backlog += mailbox.size();
+        }
+        return backlog;
+    }
+
+    /**
+     * @param sysid
+     * @return the number of events waiting in the mailbox of the vehicle (PER_VEHICLE mode)
+     */
+    public int getBacklog(int sysid) {
+        Mailbox mailbox = this.vehicleMailboxes.get(sysid & 0xFF);
+        return mailbox == null ? 0 : mailbox.size();
+    }
+
+    @Override
+    public void register(Object subscriber) {
+        List<MAVLinkSubscriberMethods.Handler> handlers = MAVLinkSubscriberMethods.find(subscriber);
+        if (handlers.isEmpty()) {
+            return;
+        }
+        if (this.mode == Mode.PER_VEHICLE) {
+            this.methods.addAll(handlers);
+        } else {
+            Mailbox mailbox = new Mailbox(subscriber, new MAVLinkSubscriberMethods());
+            mailbox.methods.addAll(handlers);
+            this.subscriberMailboxes.add(mailbox);
+            this.resolved = new ConcurrentHashMap<Class<?>, Mailbox[]>();
+        }
+    }
+
+    @Override
+    public void unregister(Object subscriber) {
+        if (this.mode == Mode.PER_VEHICLE) {
+            this.methods.remove(subscriber);
+            return;
+        }
+        for (Mailbox mailbox : this.subscriberMailboxes) {
+            if (mailbox.key == subscriber) {
+                this.subscriberMailboxes.remove(mailbox);
+                this.resolved = new ConcurrentHashMap<Class<?>, Mailbox[]>();
+                //the events already queued are dropped with the mailbox
+                mailbox.methods.remove(subscriber);
+            }
+        }
+    }
+
+    @Override
+    public void post(Object event) {
+        if (event == null || this.closed) {
+            return;
+        }
+        this.posted.incrementAndGet();
+        if (this.mode == Mode.PER_VEHICLE) {
+            int sysid = sysidOf(event);
+            Mailbox mailbox = this.vehicleMailboxes.get(sysid);
+            if (mailbox == null) {
+                this.vehicleMailboxes.compareAndSet(sysid, null, new Mailbox(sysid, this.methods));
+                mailbox = this.vehicleMailboxes.get(sysid);
+            }
+            mailbox.add(event);
+        } else {
+            for (Mailbox mailbox : subscribersOf(event.getClass())) {
+                mailbox.add(event);
+            }
+        }
+    }
+
+    /**
+     * @param event
+     * @return the vehicle an event comes from (a received message) or is addressed to (a command), 0 if none
+     */
+    static int sysidOf(Object event) {
+        if (event instanceof MAVLinkMessage) {
+            return ((MAVLinkMessage) event).sysid & 0xFF;
+        } else if (event instanceof MAVCommandMessage) {
+            return ((MAVCommandMessage) event).getTargetSystem() & 0xFF;
+        } else if (event instanceof MAVTelemetryMessage && ((MAVTelemetryMessage) event).getMavLinkMessage() != null) {
+            return ((MAVTelemetryMessage) event).getMavLinkMessage().sysid & 0xFF;
+        } else if (event instanceof MAVVehicleEvent) {
+            return ((MAVVehicleEvent) event).getSysid() & 0xFF;
+        }
+        return 0;
+    }
+
+    private Mailbox[] subscribersOf(Class<?> type) {
+        Map<Class<?>, Mailbox[]> cache = this.resolved;
+        Mailbox[] matching = cache.get(type);
+        if (matching == null) {
+            List<Mailbox> found = new ArrayList<Mailbox>();
+            for (Mailbox mailbox : this.subscriberMailboxes) {
+                if (mailbox.methods.matching(type).length > 0) {
+                    found.add(mailbox);
+                }
+            }
+            matching = found.toArray(new Mailbox[found.size()]);
+            cache.put(type, matching);
+        }
+        return matching;
+    }
+
+    /**
+     * Stops taking events and waits (at most a second) for the mailboxes to deliver the events already posted
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        this.executor.shutdown();
+        try {
+            if (!this.executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                this.executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    //============================================================
+
+    /**
+     * The events of one vehicle or one subscriber, delivered in order by at most one drain at a time
+     */
+    class Mailbox implements Runnable {
+
+        //the sysid or the subscriber
+        final Object key;
+        final MAVLinkSubscriberMethods methods;
+        final Queue<Object> queue = new ConcurrentLinkedQueue<Object>();
+        final AtomicInteger size = new AtomicInteger();
+
+        //true while a drain is queued on the executor or running
+        final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Mailbox(Object key, MAVLinkSubscriberMethods methods) {
+            this.key = key;
+            this.methods = methods;
+        }
+
+        int size() {
+            return this.size.get();
+        }
+
+        void add(Object event) {
+            this.queue.add(event);
+            this.size.incrementAndGet();
+            schedule();
+        }
+
+        private void schedule() {
+            if (this.scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    //closed
+                    this.scheduled.set(false);
+                }
+            }
+        }
+
+        /**
+         * Drains the mailbox
+         */
+        @Override
+        public void run() {
+            try {
+                Object event;
+                for (int i = 0; i < BATCH && (event = this.queue.poll()) != null; i++) {
+                    this.size.decrementAndGet();
+                    this.methods.dispatch(event);
+                }
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "MAVLinkMailboxDispatcher [" + name + "]: error in mailbox " + this.key + ": " + e, e);
+            } finally {
+                this.scheduled.set(false);
+            }
+            //an event added while the drain was finishing, or left over from the batch
+            if (!this.queue.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    public String toString() {
+        return "MAVLinkMailboxDispatcher[" + this.name + ", " + this.mode + (this.virtual ? ", virtual threads" : "") + "]";
+    }
+}
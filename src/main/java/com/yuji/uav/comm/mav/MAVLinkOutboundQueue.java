@@ -0,0 +1,431 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkSigning;
+import com.MAVLink.Messages.ardupilotmega.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The bounded queue of packets waiting to be sent on one link, and the single writer thread that sends them.
+ *
+ * Bus threads only pack and enqueue; the writer thread numbers, encodes (and signs) the packets into one reused
+ * buffer and sends consecutive packets for the same peer in a single transport write. So a serial port sees one
+ * writeBytes() per batch instead of concurrent writes of one small array per packet, e.g. when high-rate
+ * msg_rc_channels_override or setpoint streams share the link with a mission upload.
+ *
+ * Packets wait in one of three lanes (see Lane). The COMMAND lane has strict priority: a command (e.g., RTL)
+ * is the next packet written, however much bulk traffic is queued. The STREAM and BULK lanes share what is
+ * left round-robin, one packet each in turn, so a mission upload or RTK corrections stream cannot starve
+ * the setpoint streams nor the other way around. Each lane has its own capacity, drop counter and latency
+ * histogram (the time from offer() to the transport write).
+ *
+ * When a lane is full the new packet is dropped and counted.
+ *
+ * A MAVLinkRateLimiter, when set, keeps the writer from sending faster than the link carries: a packet stays
+ * in its lane until the limiter has budget for it, and a lane over its share waits while the others go on.
+ * STREAM packets that wait longer than the limiter's maximum stream delay are dropped (and counted as expired),
+ * since they are stale by then.
+ *
+ * @author Philip L. Giacalone
+ */
+public class MAVLinkOutboundQueue {
+
+    private static Logger LOGGER = Logger.getLogger("com.yuji.uav.comm.mav");
+
+    /** The default number of packets that can wait to be sent on a link */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    //the most bytes sent in one write; always room for at least one packet
+    private static final int WRITE_BUFFER_SIZE = 4096;
+
+    /**
+     * The priority classes of outbound packets
+     */
+    public enum Lane {
+        /** Safety and mode commands (command_long, set_mode, ...); strict priority over the other lanes */
+        COMMAND,
+        /** Periodic control traffic (rc_channels_override, manual_control, ...) and anything not classified */
+        STREAM,
+        /** Large transfers (missions, RTK corrections, logs, files); shares the link fairly with STREAM */
+        BULK;
+
+        /**
+         * @param msgid
+         * @return the lane a message is sent in when its MAVCommandMessage does not name one
+         */
+        public static Lane of(int msgid) {
+            switch (msgid) {
+                case msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG:
+                case msg_set_mode.MAVLINK_MSG_ID_SET_MODE:
+                case msg_mission_set_current.MAVLINK_MSG_ID_MISSION_SET_CURRENT:
+                case msg_param_set.MAVLINK_MSG_ID_PARAM_SET:
+                    return COMMAND;
+                case msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM:
+                case msg_mission_count.MAVLINK_MSG_ID_MISSION_COUNT:
+                case msg_mission_write_partial_list.MAVLINK_MSG_ID_MISSION_WRITE_PARTIAL_LIST:
+                case msg_gps_inject_data.MAVLINK_MSG_ID_GPS_INJECT_DATA:
+                case msg_file_transfer_start.MAVLINK_MSG_ID_FILE_TRANSFER_START:
+                case msg_file_transfer_dir_list.MAVLINK_MSG_ID_FILE_TRANSFER_DIR_LIST:
+                case msg_file_transfer_res.MAVLINK_MSG_ID_FILE_TRANSFER_RES:
+                case msg_log_request_list.MAVLINK_MSG_ID_LOG_REQUEST_LIST:
+                case msg_log_request_data.MAVLINK_MSG_ID_LOG_REQUEST_DATA:
+                case msg_encapsulated_data.MAVLINK_MSG_ID_ENCAPSULATED_DATA:
+                case msg_data_transmission_handshake.MAVLINK_MSG_ID_DATA_TRANSMISSION_HANDSHAKE:
+                case msg_serial_control.MAVLINK_MSG_ID_SERIAL_CONTROL:
+                case msg_param_request_list.MAVLINK_MSG_ID_PARAM_REQUEST_LIST:
+                    return BULK;
+                default:
+                    return STREAM;
+            }
+        }
+    }
+
+    private static final Lane[] LANES = Lane.values();
+
+    private final MAVLinkTransport transport;
+    private final List<BlockingQueue<Outbound>> queues;
+    private final AtomicLong[] dropped;
+    private final MAVLinkLatencyHistogram[] latencies;
+
+    //the longest the writer parks when there is nothing to send
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    //set while the writer is parked (or about to), so offer() knows to unpark it
+    private volatile boolean idle;
+
+    //the shared lane (STREAM or BULK) that goes first next time
+    private Lane nextShared = Lane.STREAM;
+
+    //when set, packets are signed as they are encoded
+    private volatile MAVLinkSigning signing;
+
+    //when set, shapes the bytes written to the link's byte rate
+    private volatile MAVLinkRateLimiter limiter;
+
+    //the time until the limiter has budget for a waiting packet, as of the last take() that found none
+    private long throttledNanos;
+
+    private volatile boolean closed;
+    private volatile Thread writerThread;
+
+    private volatile long framesWritten;
+    private volatile long writes;
+    private volatile long writeErrors;
+    private final AtomicLong expired = new AtomicLong();
+
+    /**
+     * Constructor
+     * @param transport the transport the packets are sent on
+     * @param capacity the number of packets that can wait to be sent, in each lane
+     */
+    MAVLinkOutboundQueue(MAVLinkTransport transport, int capacity) {
+        this.transport = transport;
+        this.queues = new ArrayList<BlockingQueue<Outbound>>(LANES.length);
+        this.dropped = new AtomicLong[LANES.length];
+        this.latencies = new MAVLinkLatencyHistogram[LANES.length];
+        for (Lane lane : LANES) {
+            this.queues.add(new ArrayBlockingQueue<Outbound>(capacity));
+            this.dropped[lane.ordinal()] = new AtomicLong();
+            this.latencies[lane.ordinal()] = new MAVLinkLatencyHistogram();
+        }
+    }
+
+    /**
+     * Starts the writer thread
+     */
+    void start() {
+        this.writerThread = new Thread(this::run, "MAVLinkOutboundQueue-" + transport.getName());
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Stops the writer thread once the packets already queued are sent (waiting at most a second)
+     */
+    void close() {
+        this.closed = true;
+        if (this.writerThread != null) {
+            try {
+                this.writerThread.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            this.writerThread.interrupt();
+        }
+    }
+
+    void setSigning(MAVLinkSigning signing) {
+        this.signing = signing;
+    }
+
+    /**
+     * Sets the shaper of the bytes written
+     * @param limiter the limiter, or null to write as fast as the transport takes the bytes
+     */
+    void setRateLimiter(MAVLinkRateLimiter limiter) {
+        this.limiter = limiter;
+        Thread writer = this.writerThread;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * @return the shaper of the bytes written, or null if there is none
+     */
+    public MAVLinkRateLimiter getRateLimiter() {
+        return this.limiter;
+    }
+
+    /**
+     * Queues a packet to be sent in the lane of its msgid
+     * @param peer the transport's peer to send to, or null for every peer
+     * @param packet
+     * @return false if the lane was full and the packet was dropped
+     */
+    boolean offer(Object peer, MAVLinkPacket packet) {
+        return offer(peer, packet, Lane.of(packet.msgid));
+    }
+
+    /**
+     * Queues a packet to be sent
+     * @param peer the transport's peer to send to, or null for every peer
+     * @param packet
+     * @param lane
+     * @return false if the lane was full and the packet was dropped
+     */
+    boolean offer(Object peer, MAVLinkPacket packet, Lane lane) {
+        if (this.queues.get(lane.ordinal()).offer(new Outbound(peer, packet, lane, System.nanoTime()))) {
+            Thread writer = this.writerThread;
+            if (this.idle && writer != null) {
+                LockSupport.unpark(writer);
+            }
+            return true;
+        }
+        this.dropped[lane.ordinal()].incrementAndGet();
+        return false;
+    }
+
+    /**
+     * @return the number of packets waiting to be sent, in all lanes
+     */
+    public int getDepth() {
+        int depth = 0;
+        for (BlockingQueue<Outbound> queue : this.queues) {
+            depth += queue.size();
+        }
+        return depth;
+    }
+
+    /**
+     * @param lane
+     * @return the number of packets waiting to be sent in the lane
+     */
+    public int getDepth(Lane lane) {
+        return this.queues.get(lane.ordinal()).size();
+    }
+
+    /**
+     * @return the most packets that can wait to be sent in each lane
+     */
+    public int getCapacity() {
+        BlockingQueue<Outbound> queue = this.queues.get(0);
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    /**
+     * @return the number of packets dropped because their lane was full, in all lanes
+     */
+    public long getDropped() {
+        long count = 0;
+        for (AtomicLong lane : this.dropped) {
+            count += lane.get();
+        }
+        return count;
+    }
+
+    /**
+     * @param lane
+     * @return the number of packets dropped because the lane was full
+     */
+    public long getDropped(Lane lane) {
+        return this.dropped[lane.ordinal()].get();
+    }
+
+    /**
+     * @param lane
+     * @return the times from offer() to the transport write of the packets sent in the lane
+     */
+    public MAVLinkLatencyHistogram getLatency(Lane lane) {
+        return this.latencies[lane.ordinal()];
+    }
+
+    /**
+     * @return the number of STREAM packets dropped because they waited for the rate limiter longer than
+     * its maximum stream delay
+     */
+    public long getExpired() {
+        return this.expired.get();
+    }
+
+    /**
+     * @return the number of packets sent
+     */
+    public long getFramesWritten() {
+        return this.framesWritten;
+    }
+
+    /**
+     * @return the number of transport writes; fewer than getFramesWritten() when packets were coalesced
+     */
+    public long getWrites() {
+        return this.writes;
+    }
+
+    /**
+     * @return the number of transport writes that failed (their packets are lost)
+     */
+    public long getWriteErrors() {
+        return this.writeErrors;
+    }
+
+    //============================================================
+
+    /**
+     * The writer loop
+     */
+    private void run() {
+        byte[] buffer = new byte[WRITE_BUFFER_SIZE];
+        Outbound[] batch = new Outbound[WRITE_BUFFER_SIZE / MAVLinkPacket.MAVLINK_HEADER_LEN];
+        int seq = 0;
+        while (!this.closed || getDepth() > 0) {
+            MAVLinkSigning signing = this.signing;
+            Outbound first = take(null, false, signing);
+            if (first == null) {
+                //nothing to send, or nothing the limiter has budget for yet
+                this.idle = true;
+                if (getDepth() == 0) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                } else if (this.throttledNanos > 0) {
+                    LockSupport.parkNanos(this, Math.min(this.throttledNanos, IDLE_PARK_NANOS));
+                }
+                this.idle = false;
+                if (Thread.interrupted()) {
+                    break;
+                }
+                continue;
+            }
+            Object peer = first.peer;
+            first.packet.seq = seq++ & 0xFF;
+            int length = first.packet.encodePacket(signing, buffer, 0);
+            batch[0] = first;
+            int frames = 1;
+            //coalesce the packets due next, as long as they are for the same peer
+            while (length + MAVLinkPacket.MAVLINK_MAX_PACKET_LEN <= buffer.length && frames < batch.length) {
+                Outbound next = take(peer, true, signing);
+                if (next == null) {
+                    break;
+                }
+                next.packet.seq = seq++ & 0xFF;
+                length += next.packet.encodePacket(signing, buffer, length);
+                batch[frames++] = next;
+            }
+            try {
+                this.transport.send(peer, buffer, 0, length);
+                this.framesWritten += frames;
+                this.writes++;
+                long now = System.nanoTime();
+                for (int i = 0; i < frames; i++) {
+                    this.latencies[batch[i].lane.ordinal()].record(now - batch[i].queuedAt);
+                }
+            } catch (MAVLinkSerialPortException | RuntimeException e) {
+                this.writeErrors++;
+                LOGGER.log(Level.WARNING, "MAVLinkOutboundQueue [" + transport.getName() + "]: write of " + frames + " packets failed: " + e.getMessage());
+            }
+            for (int i = 0; i < frames; i++) {
+                batch[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Removes the packet due next (writer thread only). Commands come first; the STREAM and BULK lanes take
+     * turns. With a rate limiter, a packet is only due once the limiter has budget for it: a throttled command
+     * holds back the other lanes, while a shared lane over its share lets the other one go first.
+     * @param peer the peer the packet must be for, when samePeer is set
+     * @param samePeer
+     * @param signing the signing the packet will be encoded with
+     * @return the packet, or null if no packet is due (throttledNanos then holds the time until one may be),
+     * or the packet due next is for another peer
+     */
+    private Outbound take(Object peer, boolean samePeer, MAVLinkSigning signing) {
+        MAVLinkRateLimiter limiter = this.limiter;
+        long now = limiter != null ? System.nanoTime() : 0;
+        this.throttledNanos = 0;
+        Lane shared = this.nextShared;
+        Lane[] order = {Lane.COMMAND, shared, shared == Lane.STREAM ? Lane.BULK : Lane.STREAM};
+        for (Lane lane : order) {
+            BlockingQueue<Outbound> queue = this.queues.get(lane.ordinal());
+            Outbound head = queue.peek();
+            if (limiter != null && lane == Lane.STREAM) {
+                //stale stream packets are dropped rather than sent late
+                while (head != null && now - head.queuedAt > limiter.getMaxStreamDelayNanos()) {
+                    queue.poll();
+                    this.expired.incrementAndGet();
+                    head = queue.peek();
+                }
+            }
+            if (head == null) {
+                continue;
+            }
+            if (samePeer && !Objects.equals(head.peer, peer)) {
+                return null;
+            }
+            if (limiter != null) {
+                long wait = limiter.reserve(lane, head.packet.encodedLength(signing), now);
+                if (wait > 0) {
+                    this.throttledNanos = this.throttledNanos == 0 ? wait : Math.min(this.throttledNanos, wait);
+                    if (lane == Lane.COMMAND) {
+                        //nothing goes before a command
+                        return null;
+                    }
+                    continue;
+                }
+            }
+            if (lane != Lane.COMMAND) {
+                //the other shared lane goes first next time
+                this.nextShared = lane == Lane.STREAM ? Lane.BULK : Lane.STREAM;
+            }
+            return queue.poll();
+        }
+        return null;
+    }
+
+    /**
+     * A packet waiting to be sent, and where to
+     */
+    private static class Outbound {
+
+        final Object peer;
+        final MAVLinkPacket packet;
+        final Lane lane;
+        final long queuedAt;
+
+        Outbound(Object peer, MAVLinkPacket packet, Lane lane, long queuedAt) {
+            this.peer = peer;
+            this.packet = packet;
+            this.lane = lane;
+            this.queuedAt = queuedAt;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * This class is an implementation of the MAVCommunicator interface.
@@ -17,7 +18,7 @@ import java.util.Properties;
 public class MAVLinkPortal implements MAVCommunicator {
 
     //===== members =====
-    private MAVLinkSerialPort mavlinkSerialPort;
+    private MAVLinkLink link;
 
     //===== constants =====
     private final static String PROPERTIES_FILE_NAME = "SerialPort.properties";
@@ -44,15 +45,7 @@ public class MAVLinkPortal implements MAVCommunicator {
      */
     public MAVLinkPortal(String propertiesFileName)
             throws MAVLinkSerialPortException, IOException {
-        Properties props = this.readPropertiesFile(propertiesFileName);
-
-        String portName = props.getProperty(SerialPortSettings.PORT_NAME);
-        int baudRate = Integer.parseInt(props.getProperty(SerialPortSettings.BAUD_RATE));
-        int dataBits = Integer.parseInt(props.getProperty(SerialPortSettings.DATA_BITS));
-        int stopBits = Integer.parseInt(props.getProperty(SerialPortSettings.STOP_BITS));
-        int parity = Integer.parseInt(props.getProperty(SerialPortSettings.PARITY));
-
-        this.mavlinkSerialPort = new MAVLinkSerialPort(portName, baudRate, dataBits, stopBits, parity, this);
+        this(serialTransport(readPropertiesFile(propertiesFileName)));
     }
 
     /**
@@ -66,7 +59,21 @@ public class MAVLinkPortal implements MAVCommunicator {
      */
     public MAVLinkPortal(String portName, int baudRate, int dataBits, int stopBits, int parity)
     throws MAVLinkSerialPortException {
-        this.mavlinkSerialPort = new MAVLinkSerialPort(portName, baudRate, dataBits, stopBits, parity, this);
+        this(new MAVLinkSerialTransport(portName, portName, baudRate, dataBits, stopBits, parity));
+    }
+
+    /**
+     * Constructor
+     * Constructs this object on the given transport (e.g., UDP, TCP or a loopback to a simulated UAV)
+     * and opens it
+     * @param transport
+     * @throws MAVLinkSerialPortException if the transport cannot be opened
+     */
+    public MAVLinkPortal(MAVLinkTransport transport) throws MAVLinkSerialPortException {
+        //the portal has a single link, so it keeps its own routing table
+        this.link = new MAVLinkLink(transport, m -> receive(new MAVTelemetryMessage(m)), new AtomicReferenceArray<MAVLinkLink>(256),
+                null, null, null, MAVLinkOutboundQueue.DEFAULT_CAPACITY);
+        this.link.open();
     }
 
     /**
@@ -100,7 +107,7 @@ public class MAVLinkPortal implements MAVCommunicator {
      */
     @Override
     public void send(MAVCommandMessage messageToUav) throws MAVLinkSerialPortException {
-        this.mavlinkSerialPort.send(messageToUav);
+        this.link.send(messageToUav);
     }
 
     /**
@@ -108,11 +115,24 @@ public class MAVLinkPortal implements MAVCommunicator {
      * @return a Properties object populated from the give file
      * @throws IOException
      */
-    private Properties readPropertiesFile(String fileName) throws IOException {
+    private static Properties readPropertiesFile(String fileName) throws IOException {
         Properties props = new Properties();
         InputStream is = ClassLoader.getSystemResourceAsStream(fileName);
         props.load(is);
         return props;
     }
 
+    /**
+     * Helper method to create a serial transport from the values of a properties file
+     * @return a MAVLinkSerialTransport using the serial port settings in the given properties
+     */
+    private static MAVLinkSerialTransport serialTransport(Properties props) {
+        String portName = props.getProperty(SerialPortSettings.PORT_NAME);
+        int baudRate = Integer.parseInt(props.getProperty(SerialPortSettings.BAUD_RATE));
+        int dataBits = Integer.parseInt(props.getProperty(SerialPortSettings.DATA_BITS));
+        int stopBits = Integer.parseInt(props.getProperty(SerialPortSettings.STOP_BITS));
+        int parity = Integer.parseInt(props.getProperty(SerialPortSettings.PARITY));
+        return new MAVLinkSerialTransport(portName, portName, baudRate, dataBits, stopBits, parity);
+    }
+
 }
@@ -0,0 +1,218 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.ardupilotmega.msg_radio_status;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A token bucket shaper for the outbound bytes of one link, so the writer never sends faster than the link
+ * (e.g., a 57600 baud SiK radio, 5760 bytes/sec at 8N1) and a radio's buffer does not overrun.
+ *
+ * One bucket holds the budget of the whole link; each outbound lane has a bucket of its own holding a share
+ * of it, so bulk traffic cannot use up the link. A packet is sent once both its lane's bucket and the link's
+ * bucket hold its length; until then it waits in the queue. COMMAND packets have the whole budget (share 1.0)
+ * by default. STREAM packets that waited longer than the maximum stream delay are dropped rather than sent
+ * late, since newer ones of the same stream are behind them.
+ *
+ * When adaptive, msg_radio_status reports from the radio scale the budget: down when the radio's transmit
+ * buffer fills up (txbuf, percent free) or the link margin (rssi - noise) gets low, and back up when it drains.
+ *
+ * @author Philip L. Giacalone
+ */
+public class MAVLinkRateLimiter {
+
+    private static Logger LOGGER = Logger.getLogger("com.yuji.uav.comm.mav");
+
+    private static final MAVLinkOutboundQueue.Lane[] LANES = MAVLinkOutboundQueue.Lane.values();
+
+    //the burst the link bucket allows, in seconds of the link's byte rate
+    private static final double BURST_SECONDS = 0.1;
+
+    //the adaptive budget never goes below this fraction of the nominal rate
+    private static final double MIN_SCALE = 0.1;
+
+    private final int bytesPerSecond;
+
+    //fraction of the link budget of each lane
+    private final double[] shares = new double[LANES.length];
+
+    //the tokens (bytes) in the link bucket and each lane bucket, as of lastRefill
+    private double tokens;
+    private final double[] laneTokens = new double[LANES.length];
+    private long lastRefill;
+
+    private volatile double scale = 1.0;
+    private volatile boolean adaptive;
+    private volatile long maxStreamDelayNanos = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private volatile long bytesSent;
+    private volatile long delayedPackets;
+
+    /**
+     * Constructor
+     * @param bytesPerSecond the byte rate of the link (e.g., baud / 10 for 8N1)
+     */
+    public MAVLinkRateLimiter(int bytesPerSecond) {
+        this.bytesPerSecond = bytesPerSecond;
+        this.shares[MAVLinkOutboundQueue.Lane.COMMAND.ordinal()] = 1.0;
+        this.shares[MAVLinkOutboundQueue.Lane.STREAM.ordinal()] = 0.7;
+        this.shares[MAVLinkOutboundQueue.Lane.BULK.ordinal()] = 0.5;
+        this.lastRefill = System.nanoTime();
+        this.tokens = burst();
+        for (MAVLinkOutboundQueue.Lane lane : LANES) {
+            this.laneTokens[lane.ordinal()] = laneBurst(lane);
+        }
+    }
+
+    /**
+     * @return the nominal byte rate of the link
+     */
+    public int getBytesPerSecond() {
+        return this.bytesPerSecond;
+    }
+
+    /**
+     * @return the byte rate currently budgeted: the nominal rate, scaled down by radio feedback when adaptive
+     */
+    public synchronized double getEffectiveBytesPerSecond() {
+        return this.bytesPerSecond * this.scale;
+    }
+
+    /**
+     * Sets the most of the link budget a lane may use
+     * @param lane
+     * @param share from 0 (exclusive) to 1; e.g., 0.5 lets bulk transfers use at most half the link
+     */
+    public synchronized void setShare(MAVLinkOutboundQueue.Lane lane, double share) {
+        if (share <= 0 || share > 1) {
+            throw new IllegalArgumentException("share must be in (0, 1]: " + share);
+        }
+        this.shares[lane.ordinal()] = share;
+        this.laneTokens[lane.ordinal()] = Math.min(this.laneTokens[lane.ordinal()], laneBurst(lane));
+    }
+
+    public synchronized double getShare(MAVLinkOutboundQueue.Lane lane) {
+        return this.shares[lane.ordinal()];
+    }
+
+    /**
+     * Turns scaling the budget by msg_radio_status feedback on or off (off by default)
+     * @param adaptive
+     */
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+        if (!adaptive) {
+            this.scale = 1.0;
+        }
+    }
+
+    public boolean isAdaptive() {
+        return this.adaptive;
+    }
+
+    /**
+     * Sets how long a STREAM packet may wait for budget before it is dropped
+     * @param millis
+     */
+    public void setMaxStreamDelayMillis(long millis) {
+        this.maxStreamDelayNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    long getMaxStreamDelayNanos() {
+        return this.maxStreamDelayNanos;
+    }
+
+    /**
+     * @return the number of bytes let through
+     */
+    public long getBytesSent() {
+        return this.bytesSent;
+    }
+
+    /**
+     * @return the number of times a packet had to wait for budget
+     */
+    public long getDelayedPackets() {
+        return this.delayedPackets;
+    }
+
+    /**
+     * Takes the budget for a packet, if there is enough
+     * @param lane the lane of the packet
+     * @param length the encoded length of the packet
+     * @param now System.nanoTime()
+     * @return 0 if the packet may be sent now (and its length was taken from the buckets), or else the
+     * nanoseconds until there will be enough budget
+     */
+    synchronized long reserve(MAVLinkOutboundQueue.Lane lane, int length, long now) {
+        refill(now);
+        int index = lane.ordinal();
+        if (this.tokens >= length && this.laneTokens[index] >= length) {
+            this.tokens -= length;
+            this.laneTokens[index] -= length;
+            this.bytesSent += length;
+            return 0;
+        }
+        this.delayedPackets++;
+        double rate = this.bytesPerSecond * this.scale;
+        double missing = Math.max(length - this.tokens, (length - this.laneTokens[index]) / this.shares[index]);
+        return Math.max(1, (long) (missing / rate * 1e9));
+    }
+
+    private void refill(long now) {
+        long elapsed = now - this.lastRefill;
+        if (elapsed <= 0) {
+            return;
+        }
+        this.lastRefill = now;
+        double added = this.bytesPerSecond * this.scale * elapsed / 1e9;
+        this.tokens = Math.min(burst(), this.tokens + added);
+        for (MAVLinkOutboundQueue.Lane lane : LANES) {
+            int index = lane.ordinal();
+            this.laneTokens[index] = Math.min(laneBurst(lane), this.laneTokens[index] + added * this.shares[index]);
+        }
+    }
+
+    private double burst() {
+        //always room for the longest packet
+        return Math.max(2 * MAVLinkPacket.MAVLINK_MAX_PACKET_LEN, this.bytesPerSecond * this.scale * BURST_SECONDS);
+    }
+
+    private double laneBurst(MAVLinkOutboundQueue.Lane lane) {
+        return Math.max(MAVLinkPacket.MAVLINK_MAX_PACKET_LEN, burst() * this.shares[lane.ordinal()]);
+    }
+
+    /**
+     * Scales the budget by a report from the radio, when adaptive. Called for every msg_radio_status
+     * received on the link.
+     * @param status
+     */
+    public void radioStatus(msg_radio_status status) {
+        if (!this.adaptive) {
+            return;
+        }
+        int txbuf = status.txbuf & 0xFF;
+        int margin = Math.min((status.rssi & 0xFF) - (status.noise & 0xFF), (status.remrssi & 0xFF) - (status.remnoise & 0xFF));
+        synchronized (this) {
+            refill(System.nanoTime());
+            double scale = this.scale;
+            if (txbuf < 20) {
+                //the radio is close to dropping bytes
+                scale *= 0.5;
+            } else if (txbuf < 50) {
+                scale *= 0.9;
+            } else if (txbuf > 90) {
+                scale *= 1.1;
+            }
+            //a weak link retransmits more, so it carries less
+            if (margin < 10) {
+                scale = Math.min(scale, 0.5);
+            }
+            this.scale = Math.max(MIN_SCALE, Math.min(1.0, scale));
+        }
+        LOGGER.log(Level.FINE, () -> "MAVLinkRateLimiter: txbuf=" + txbuf + " margin=" + margin + " budget=" + (int) getEffectiveBytesPerSecond() + " bytes/sec");
+    }
+}
@@ -0,0 +1,435 @@
+package com.yuji.uav.comm.mav;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+/**
+ * A MAVLinkDispatcher that passes events through a preallocated ring buffer to a fixed set of consumer threads,
+ * in the style of the LMAX Disruptor.
+ *
+ * Posting claims the next sequence number (one atomic increment), stores the event in its slot and publishes it;
+ * nothing is allocated. Every consumer thread reads every event, in order, and calls the subscribers assigned to
+ * it. Each subscriber is assigned to one consumer when it is registered, so its methods are never called
+ * concurrently and see the events in the order they were posted, like with Guava's EventBus.
+ *
+ * The subscriber methods (@Subscribe, as for Guava) are found once, at registration, and turned into method
+ * handles. The handlers of each event class are resolved the first time it is posted and cached until the
+ * subscribers change.
+ *
+ * The ring never grows and no thread is added under load: when it is full, post() waits for the slowest consumer
+ * (backpressure), so a burst slows the links down rather than queueing without bound. An event posted by a
+ * subscriber while the ring is full goes to an unbounded overflow queue instead, since waiting would deadlock;
+ * the consumers move it into the ring as they free slots, and the events posted meanwhile go behind it, so
+ * every subscriber still sees the events in the order they were posted.
+ *
+ * The WaitStrategy sets how idle consumers wait for the next event, trading latency for CPU.
+ *
+ * @author Philip L. Giacalone
+ */
+public class MAVLinkRingBufferDispatcher implements MAVLinkDispatcher {
+
+    private static Logger LOGGER = Logger.getLogger("com.yuji.uav.comm.mav");
+
+    /** The default number of slots of the ring */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * How idle consumers wait for the next event
+     */
+    public enum WaitStrategy {
+        /** Wait on a lock condition: no CPU when idle, a wakeup (several microseconds) per burst */
+        BLOCKING,
+        /** Spin, then yield, then park for short periods: little CPU when idle, tens of microseconds of latency */
+        SLEEPING,
+        /** Spin, then yield: low latency, a busy core per consumer when idle (unless other threads run) */
+        YIELDING,
+        /** Spin: the lowest latency, a full core per consumer at all times */
+        BUSY_SPIN
+    }
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(20);
+
+    private final String name;
+    private final Object[] events;
+    private final int mask;
+
+    //the sequence number published in each slot, -1 before the first one
+    private final AtomicLongArray published;
+
+    //the last sequence number claimed by a producer
+    private final AtomicLong claimed = new AtomicLong(-1);
+
+    //the lowest consumer sequence seen by a producer; a producer only looks at the consumers when it is exceeded
+    private volatile long gatingCache = -1;
+
+    private final WaitStrategy waitStrategy;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    //events posted by the consumers while the ring was full, in order (guarded by itself); once not empty, new
+    //events go behind them
+    private final ArrayDeque<Object> overflow = new ArrayDeque<Object>();
+    private volatile int overflowSize;
+
+    private final ConsumerThread[] consumers;
+    private final AtomicInteger registrations = new AtomicInteger();
+
+    private volatile boolean closed;
+
+    private final AtomicLong posted = new AtomicLong();
+    private final AtomicLong stalls = new AtomicLong();
+
+    /**
+     * Constructor for a dispatcher with the default capacity, one consumer per core (at most 4) and the
+     * BLOCKING wait strategy
+     * @param name a user-friendly name, used to name the consumer threads
+     */
+    public MAVLinkRingBufferDispatcher(String name) {
+        this(name, DEFAULT_CAPACITY, Math.min(4, Runtime.getRuntime().availableProcessors()), WaitStrategy.BLOCKING);
+    }
+
+    /**
+     * Constructor
+     * @param name a user-friendly name, used to name the consumer threads
+     * @param capacity the number of slots of the ring, rounded up to a power of two
+     * @param consumerCount the number of consumer threads; subscribers are spread over them
+     * @param waitStrategy how idle consumers wait for the next event
+     */
+    public MAVLinkRingBufferDispatcher(String name, int capacity, int consumerCount, WaitStrategy waitStrategy) {
+        if (capacity < 1 || consumerCount < 1) {
+            throw new IllegalArgumentException("capacity and consumerCount must be positive");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.name = name;
+        this.events = new Object[size];
+        this.mask = size - 1;
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            this.published.set(i, -1);
+        }
+        this.waitStrategy = waitStrategy;
+        this.consumers = new ConsumerThread[consumerCount];
+        for (int i = 0; i < consumerCount; i++) {
+            this.consumers[i] = new ConsumerThread(name + "-" + i);
+        }
+        for (ConsumerThread consumer : this.consumers) {
+            consumer.start();
+        }
+    }
+
+    /**
+     * @return the number of slots of the ring
+     */
+    public int getCapacity() {
+        return this.events.length;
+    }
+
+    /**
+     * @return the number of events posted and not yet handled by every consumer
+     */
+    public long getBacklog() {
+        return this.claimed.get() - minimumSequence() + this.overflowSize;
+    }
+
+    /**
+     * @return the number of events posted
+     */
+    public long getPosted() {
+        return this.posted.get();
+    }
+
+    /**
+     * @return the number of posts that had to wait for a free slot (or, from a consumer, went to the overflow)
+     */
+    public long getStalls() {
+        return this.stalls.get();
+    }
+
+    public WaitStrategy getWaitStrategy() {
+        return this.waitStrategy;
+    }
+
+    @Override
+    public void register(Object subscriber) {
+        List<MAVLinkSubscriberMethods.Handler> handlers = MAVLinkSubscriberMethods.find(subscriber);
+        if (handlers.isEmpty()) {
+            return;
+        }
+        ConsumerThread consumer = this.consumers[(registrations.getAndIncrement() & Integer.MAX_VALUE) % this.consumers.length];
+        consumer.methods.addAll(handlers);
+    }
+
+    @Override
+    public void unregister(Object subscriber) {
+        for (ConsumerThread consumer : this.consumers) {
+            consumer.methods.remove(subscriber);
+        }
+    }
+
+    @Override
+    public void post(Object event) {
+        if (event == null || this.closed) {
+            return;
+        }
+        this.posted.incrementAndGet();
+        Thread current = Thread.currentThread();
+        if (current instanceof ConsumerThread && ((ConsumerThread) current).owner() == this) {
+            //a subscriber must not wait for a slot, since it may be the consumer holding it
+            synchronized (this.overflow) {
+                long sequence;
+                if (this.overflow.isEmpty() && (sequence = tryClaim()) >= 0) {
+                    publish(sequence, event);
+                } else {
+                    this.stalls.incrementAndGet();
+                    this.overflow.addLast(event);
+                    this.overflowSize = this.overflow.size();
+                }
+            }
+            return;
+        }
+        if (this.overflowSize > 0 && !awaitOverflow()) {
+            return;
+        }
+        long sequence = this.claimed.incrementAndGet();
+        long wrapPoint = sequence - this.events.length;
+        if (wrapPoint > this.gatingCache && !awaitSlot(wrapPoint)) {
+            return;
+        }
+        publish(sequence, event);
+    }
+
+    private void publish(long sequence, Object event) {
+        int slot = (int) sequence & this.mask;
+        this.events[slot] = event;
+        this.published.set(slot, sequence);
+        if (this.waitStrategy == WaitStrategy.BLOCKING && this.waiting.get() > 0) {
+            this.lock.lock();
+            try {
+                this.available.signalAll();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Claims the next sequence if its slot is free
+     * @return the sequence, or -1 if the ring is full
+     */
+    private long tryClaim() {
+        while (true) {
+            long current = this.claimed.get();
+            if (current + 1 - this.events.length > minimumSequence()) {
+                return -1;
+            }
+            if (this.claimed.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Moves the overflow into the ring, as far as there are free slots (consumer threads only)
+     */
+    private void drainOverflow() {
+        synchronized (this.overflow) {
+            long sequence;
+            while (!this.overflow.isEmpty() && (sequence = tryClaim()) >= 0) {
+                publish(sequence, this.overflow.pollFirst());
+            }
+            this.overflowSize = this.overflow.size();
+        }
+    }
+
+    /**
+     * Waits until the consumers have moved the overflow into the ring
+     * @return false if the dispatcher was closed meanwhile
+     */
+    private boolean awaitOverflow() {
+        this.stalls.incrementAndGet();
+        int tries = 0;
+        while (this.overflowSize > 0) {
+            if (this.closed) {
+                return false;
+            }
+            if (++tries < SPIN_TRIES) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(SLEEP_NANOS);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Waits until every consumer is past the wrap point (the event the claimed slot holds now)
+     * @return false if the dispatcher was closed meanwhile
+     */
+    private boolean awaitSlot(long wrapPoint) {
+        long minimum;
+        int tries = 0;
+        while (wrapPoint > (minimum = minimumSequence())) {
+            if (this.closed) {
+                //the consumers stop without the claimed sequence once close() gives up on them
+                return false;
+            }
+            if (tries == 0) {
+                this.stalls.incrementAndGet();
+            }
+            if (++tries < SPIN_TRIES) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(SLEEP_NANOS);
+            }
+        }
+        this.gatingCache = minimum;
+        return true;
+    }
+
+    private long minimumSequence() {
+        long minimum = Long.MAX_VALUE;
+        for (ConsumerThread consumer : this.consumers) {
+            minimum = Math.min(minimum, consumer.sequence);
+        }
+        return minimum;
+    }
+
+    /**
+     * Stops the consumer threads once they have handled the events already posted (waiting at most a second)
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        this.lock.lock();
+        try {
+            this.available.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+        for (ConsumerThread consumer : this.consumers) {
+            try {
+                consumer.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            consumer.interrupt();
+        }
+    }
+
+    //============================================================
+
+    /**
+     * Reads every event of the ring and calls the subscribers assigned to it
+     */
+    class ConsumerThread extends Thread {
+
+        //the methods of the subscribers assigned to this consumer
+        final MAVLinkSubscriberMethods methods = new MAVLinkSubscriberMethods();
+
+        //the last sequence handled
+        volatile long sequence = -1;
+
+        ConsumerThread(String threadName) {
+            super(threadName);
+            setDaemon(true);
+        }
+
+        MAVLinkRingBufferDispatcher owner() {
+            return MAVLinkRingBufferDispatcher.this;
+        }
+
+        @Override
+        public void run() {
+            long next = 0;
+            int idle = 0;
+            while (true) {
+                int slot = (int) next & mask;
+                if (published.get(slot) == next) {
+                    dispatch(events[slot]);
+                    this.sequence = next++;
+                    idle = 0;
+                    if (overflowSize > 0) {
+                        //the slot just freed may be the one the overflow waits for
+                        drainOverflow();
+                    }
+                } else if (overflowSize > 0 && drainWhileIdle(next, slot)) {
+                    idle = 0;
+                } else if (closed && next > claimed.get() && overflowSize == 0) {
+                    return;
+                } else if (!await(next, slot, idle++)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Waits a little for the sequence to be published
+         * @return false if the thread was interrupted
+         */
+        private boolean await(long next, int slot, int idle) {
+            switch (waitStrategy) {
+                case BUSY_SPIN:
+                    break;
+                case YIELDING:
+                    if (idle > SPIN_TRIES) {
+                        Thread.yield();
+                    }
+                    break;
+                case SLEEPING:
+                    if (idle > SPIN_TRIES + YIELD_TRIES) {
+                        LockSupport.parkNanos(SLEEP_NANOS);
+                    } else if (idle > SPIN_TRIES) {
+                        Thread.yield();
+                    }
+                    break;
+                case BLOCKING:
+                    lock.lock();
+                    waiting.incrementAndGet();
+                    try {
+                        if (published.get(slot) != next && !closed) {
+                            available.await(10, TimeUnit.MILLISECONDS);
+                        }
+                    } catch (InterruptedException e) {
+                        return false;
+                    } finally {
+                        waiting.decrementAndGet();
+                        lock.unlock();
+                    }
+                    break;
+            }
+            return !isInterrupted();
+        }
+
+        /**
+         * Moves the overflow into the ring while this consumer is idle
+         * @return true if the sequence is now published
+         */
+        private boolean drainWhileIdle(long next, int slot) {
+            MAVLinkRingBufferDispatcher.this.drainOverflow();
+            return published.get(slot) == next;
+        }
+
+        void dispatch(Object event) {
+            this.methods.dispatch(event);
+        }
+    }
+
+    public String toString() {
+        return "MAVLinkRingBufferDispatcher[" + this.name + ", capacity=" + this.events.length + ", consumers="
+                + this.consumers.length + ", " + this.waitStrategy + "]";
+    }
+}
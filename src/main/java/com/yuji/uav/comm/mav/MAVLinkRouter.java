@@ -0,0 +1,433 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.FrameSink;
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageRegistry;
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkPacketPool;
+import com.MAVLink.Parser;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Forwards MAVLink frames between transports, e.g. to bridge a serial radio to several UDP ground stations.
+ *
+ * Every peer of every attached transport is an endpoint. The router learns which endpoint each (sysid, compid)
+ * is reached through from the frames it receives, and forwards each frame following the MAVLink routing rules:
+ * a frame without a target (or with target_system 0) goes to every other endpoint; a frame for a known
+ * component goes to the endpoint of that component; a frame for a known system (target_component 0, or a
+ * component not heard yet) goes to every endpoint the system was heard on; a frame for an unknown system is
+ * not forwarded. A frame is never sent back to the endpoint it came from.
+ *
+ * Frames are never unpacked into MAVLinkMessage objects. The target fields are read straight from the payload
+ * at their offsets for the msgid, and the frame's bytes are sent as received (signature included) from the
+ * transport's buffer, on the thread that received them, so forwarding adds no copy and no queueing.
+ *
+ * @author Philip L. Giacalone
+ */
+public class MAVLinkRouter {
+
+    private static Logger LOGGER = Logger.getLogger("com.yuji.uav.comm.mav");
+
+    //the payload offsets of target_system and target_component by msgid, -1 if the message has none
+    private static final int[] TARGET_SYSTEM_OFFSETS = new int[256];
+    private static final int[] TARGET_COMPONENT_OFFSETS = new int[256];
+
+    //the same, for the registered msgids over 255 (MAVLink 2 only), found the first time they are routed
+    private static final Map<Integer, int[]> EXTENDED_TARGET_OFFSETS = new ConcurrentHashMap<Integer, int[]>();
+
+    //the offsets of the msgids the registry does not know, which are not cached (any msgid can arrive on the wire)
+    private static final int[] NO_TARGET_OFFSETS = {-1, -1};
+
+    static {
+        for (int msgid = 0; msgid < 256; msgid++) {
+            int[] offsets = findTargetOffsets(msgid);
+            TARGET_SYSTEM_OFFSETS[msgid] = offsets[0];
+            TARGET_COMPONENT_OFFSETS[msgid] = offsets[1];
+        }
+    }
+
+    private final List<Port> ports = new CopyOnWriteArrayList<Port>();
+
+    //the endpoint each component was last heard on, indexed by sysid << 8 | compid
+    private final AtomicReferenceArray<Endpoint> components = new AtomicReferenceArray<Endpoint>(256 * 256);
+
+    //the endpoints each system was heard on, indexed by sysid (copy on write)
+    private final AtomicReferenceArray<Endpoint[]> systems = new AtomicReferenceArray<Endpoint[]>(256);
+
+    private final AtomicLong framesReceived = new AtomicLong();
+    private final AtomicLong framesForwarded = new AtomicLong();
+    private final AtomicLong framesUnroutable = new AtomicLong();
+    private final AtomicLong sendErrors = new AtomicLong();
+
+    /**
+     * Opens a transport and starts routing the frames it receives, and to it
+     * @param transport
+     * @throws MAVLinkSerialPortException if the transport cannot be opened
+     */
+    public void attach(MAVLinkTransport transport) throws MAVLinkSerialPortException {
+        Port port = new Port(transport);
+        this.ports.add(port);
+        try {
+            transport.open(port);
+        } catch (MAVLinkSerialPortException e) {
+            this.ports.remove(port);
+            throw e;
+        }
+        LOGGER.log(Level.INFO, "MAVLinkRouter: attached " + transport.getName());
+    }
+
+    /**
+     * Stops routing to and from a transport, and closes it
+     * @param transport
+     * @throws MAVLinkSerialPortException
+     */
+    public void detach(MAVLinkTransport transport) throws MAVLinkSerialPortException {
+        for (Port port : this.ports) {
+            if (port.transport == transport) {
+                this.ports.remove(port);
+                for (Endpoint endpoint : port.endpoints.values()) {
+                    forget(endpoint);
+                }
+                transport.close();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Detaches and closes every transport
+     * @throws MAVLinkSerialPortException
+     */
+    public void close() throws MAVLinkSerialPortException {
+        for (Port port : this.ports) {
+            detach(port.transport);
+        }
+    }
+
+    /**
+     * @return the attached transports
+     */
+    public List<MAVLinkTransport> getTransports() {
+        List<MAVLinkTransport> transports = new ArrayList<MAVLinkTransport>();
+        for (Port port : this.ports) {
+            transports.add(port.transport);
+        }
+        return transports;
+    }
+
+    /**
+     * @param sysid
+     * @param compid
+     * @return the transport the component was last heard on, or null if it was not heard
+     */
+    public MAVLinkTransport getTransport(int sysid, int compid) {
+        Endpoint endpoint = this.components.get((sysid & 0xFF) << 8 | (compid & 0xFF));
+        return endpoint == null ? null : endpoint.port.transport;
+    }
+
+    /**
+     * @return the number of valid frames received on all transports
+     */
+    public long getFramesReceived() {
+        return this.framesReceived.get();
+    }
+
+    /**
+     * @return the number of frames sent; a broadcast frame counts once per endpoint it was sent to
+     */
+    public long getFramesForwarded() {
+        return this.framesForwarded.get();
+    }
+
+    /**
+     * @return the number of frames not forwarded because their target system was not heard on any other endpoint
+     */
+    public long getFramesUnroutable() {
+        return this.framesUnroutable.get();
+    }
+
+    /**
+     * @return the number of sends that failed
+     */
+    public long getSendErrors() {
+        return this.sendErrors.get();
+    }
+
+    //============================================================
+
+    /**
+     * Reads the target fields of a message type once: packs an empty message with a marker in the field and
+     * finds the marker in the payload
+     * @param msgid
+     * @return the payload offsets of target_system and target_component, -1 when the message has none
+     */
+    static int[] findTargetOffsets(int msgid) {
+        int[] offsets = {-1, -1};
+        MAVLinkMessage message = MAVLinkMessageRegistry.getDefault().create(msgid);
+        if (message != null) {
+            offsets[0] = findOffset(message, "target_system");
+            offsets[1] = findOffset(message, "target_component");
+        }
+        return offsets;
+    }
+
+    private static int findOffset(MAVLinkMessage message, String fieldName) {
+        try {
+            Field field = message.getClass().getField(fieldName);
+            if (field.getType() != byte.class) {
+                return -1;
+            }
+            field.setByte(message, (byte) 0x5A);
+            MAVLinkPacket packet = message.pack();
+            field.setByte(message, (byte) 0);
+            ByteBuffer payload = packet.payload.payload;
+            for (int i = 0; i < packet.len; i++) {
+                if (payload.get(i) == 0x5A) {
+                    return i;
+                }
+            }
+        } catch (NoSuchFieldException e) {
+            //no such target
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "MAVLinkRouter: cannot find " + fieldName + " of msgId=" + message.msgid + ": " + e);
+        }
+        return -1;
+    }
+
+    private static int[] targetOffsets(int msgid) {
+        int[] offsets = EXTENDED_TARGET_OFFSETS.get(msgid);
+        if (offsets == null) {
+            if (!MAVLinkMessageRegistry.getDefault().isRegistered(msgid)) {
+                return NO_TARGET_OFFSETS;
+            }
+            offsets = findTargetOffsets(msgid);
+            EXTENDED_TARGET_OFFSETS.put(msgid, offsets);
+        }
+        return offsets;
+    }
+
+    /**
+     * @return the byte at the offset of the payload, 0 if it is past the end of a truncated payload
+     */
+    private static int peek(MAVLinkPacket packet, int offset) {
+        return offset < packet.len ? packet.payload.payload.get(offset) & 0xFF : 0;
+    }
+
+    /**
+     * Routes one frame received on an endpoint
+     */
+    private void route(Endpoint source, MAVLinkPacket packet, ByteBuffer frame, int offset, int length) {
+        this.framesReceived.incrementAndGet();
+        learn(source, packet.sysid, packet.compid);
+
+        int systemOffset;
+        int componentOffset;
+        if (packet.msgid < 256) {
+            systemOffset = TARGET_SYSTEM_OFFSETS[packet.msgid];
+            componentOffset = TARGET_COMPONENT_OFFSETS[packet.msgid];
+        } else {
+            int[] offsets = targetOffsets(packet.msgid);
+            systemOffset = offsets[0];
+            componentOffset = offsets[1];
+        }
+        int targetSystem = systemOffset < 0 ? 0 : peek(packet, systemOffset);
+        int targetComponent = componentOffset < 0 ? 0 : peek(packet, componentOffset);
+
+        if (targetSystem == 0) {
+            //broadcast
+            for (Port port : this.ports) {
+                port.broadcast(source, frame, offset, length);
+            }
+            return;
+        }
+        if (targetComponent != 0) {
+            Endpoint endpoint = this.components.get(targetSystem << 8 | targetComponent);
+            if (endpoint != null) {
+                if (endpoint != source) {
+                    endpoint.send(frame, offset, length);
+                }
+                return;
+            }
+        }
+        Endpoint[] endpoints = this.systems.get(targetSystem);
+        if (endpoints == null) {
+            this.framesUnroutable.incrementAndGet();
+            return;
+        }
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint != source) {
+                endpoint.send(frame, offset, length);
+            }
+        }
+    }
+
+    /**
+     * Remembers that a component is reached through an endpoint
+     */
+    private void learn(Endpoint endpoint, int sysid, int compid) {
+        int key = sysid << 8 | compid;
+        if (this.components.get(key) == endpoint) {
+            return;
+        }
+        this.components.set(key, endpoint);
+        while (true) {
+            Endpoint[] endpoints = this.systems.get(sysid);
+            if (endpoints != null && Arrays.asList(endpoints).contains(endpoint)) {
+                return;
+            }
+            Endpoint[] updated = endpoints == null ? new Endpoint[1] : Arrays.copyOf(endpoints, endpoints.length + 1);
+            updated[updated.length - 1] = endpoint;
+            if (this.systems.compareAndSet(sysid, endpoints, updated)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Forgets every component reached through an endpoint, e.g. when its peer is gone
+     */
+    private void forget(Endpoint endpoint) {
+        for (int key = 0; key < this.components.length(); key++) {
+            this.components.compareAndSet(key, endpoint, null);
+        }
+        for (int sysid = 0; sysid < this.systems.length(); sysid++) {
+            while (true) {
+                Endpoint[] endpoints = this.systems.get(sysid);
+                if (endpoints == null || !Arrays.asList(endpoints).contains(endpoint)) {
+                    break;
+                }
+                List<Endpoint> remaining = new ArrayList<Endpoint>(Arrays.asList(endpoints));
+                remaining.remove(endpoint);
+                Endpoint[] updated = remaining.isEmpty() ? null : remaining.toArray(new Endpoint[0]);
+                if (this.systems.compareAndSet(sysid, endpoints, updated)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * An attached transport, and the endpoints (peers) heard on it
+     */
+    class Port implements MAVLinkTransport.Receiver {
+
+        final MAVLinkTransport transport;
+        final Map<Object, Endpoint> endpoints = new ConcurrentHashMap<Object, Endpoint>();
+
+        //sends of different receiving threads to this transport take turns
+        private final Object sendLock = new Object();
+
+        //holds the frames of receive buffers that have no array (direct buffers), to send them
+        private final byte[] scratch = new byte[MAVLinkPacket.MAVLINK_MAX_PACKET_LEN];
+
+        Port(MAVLinkTransport transport) {
+            this.transport = transport;
+        }
+
+        @Override
+        public void received(Object peer, ByteBuffer bytes) {
+            Endpoint endpoint = this.endpoints.get(peer);
+            if (endpoint == null) {
+                endpoint = new Endpoint(this, peer);
+                this.endpoints.put(peer, endpoint);
+            }
+            try {
+                endpoint.parser.parseFrames(bytes, endpoint);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "MAVLinkRouter [" + transport.getName() + "]: Error while parsing: " + e);
+            }
+            if (this.transport.isDatagram()) {
+                //a frame never continues in the next datagram
+                endpoint.parser.discardPartialFrame();
+            }
+        }
+
+        @Override
+        public void disconnected(Object peer) {
+            Endpoint endpoint = this.endpoints.remove(peer);
+            if (endpoint != null) {
+                forget(endpoint);
+            }
+        }
+
+        /**
+         * Sends a frame to every endpoint of this transport but the source; to every peer of the transport
+         * when none has been heard yet
+         */
+        void broadcast(Endpoint source, ByteBuffer frame, int offset, int length) {
+            if (this.endpoints.isEmpty()) {
+                send(null, frame, offset, length);
+                return;
+            }
+            for (Endpoint endpoint : this.endpoints.values()) {
+                if (endpoint != source) {
+                    send(endpoint.peer, frame, offset, length);
+                }
+            }
+        }
+
+        void send(Object peer, ByteBuffer frame, int offset, int length) {
+            synchronized (this.sendLock) {
+                try {
+                    if (frame.hasArray()) {
+                        this.transport.send(peer, frame.array(), frame.arrayOffset() + offset, length);
+                    } else {
+                        for (int i = 0; i < length; i++) {
+                            this.scratch[i] = frame.get(offset + i);
+                        }
+                        this.transport.send(peer, this.scratch, 0, length);
+                    }
+                    framesForwarded.incrementAndGet();
+                } catch (MAVLinkSerialPortException | RuntimeException e) {
+                    sendErrors.incrementAndGet();
+                    LOGGER.log(Level.FINE, "MAVLinkRouter [" + transport.getName() + "]: send failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * One peer of a transport, with the parser of the bytes received from it
+     */
+    class Endpoint implements FrameSink {
+
+        final Port port;
+        final Object peer;
+
+        //packets are released as soon as the frame is routed
+        final Parser parser = new Parser(new MAVLinkPacketPool());
+
+        Endpoint(Port port, Object peer) {
+            this.port = port;
+            this.peer = peer;
+        }
+
+        void send(ByteBuffer frame, int offset, int length) {
+            this.port.send(this.peer, frame, offset, length);
+        }
+
+        /**
+         * Implementation of FrameSink interface
+         */
+        @Override
+        public void onFrame(MAVLinkPacket packet, ByteBuffer frame, int offset, int length) {
+            try {
+                route(this, packet, frame, offset, length);
+            } finally {
+                packet.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.yuji.uav.comm.mav;
+
+import jssc.SerialPort;
+import jssc.SerialPortEvent;
+import jssc.SerialPortEventListener;
+import jssc.SerialPortException;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A MAVLinkTransport over a local serial port (e.g., a telemetry radio or a USB connection to the autopilot).
+ *
+ * The port is read either on jSSC's event thread, once per RXCHAR event, or (SerialPortSettings.ReadMode.POLLING)
+ * by a dedicated thread that reads in batches, trading a little latency for far fewer reads on high-rate links.
+ *
+ * @author Philip L. Giacalone
+ */
+public class MAVLinkSerialTransport implements MAVLinkTransport {
+
+    private static Logger LOGGER = Logger.getLogger("com.yuji.uav.comm.mav");
+
+    //the logical name of the device sending/receiving data to/from this serial port (i.e., Pixhawk, UDB, etc)
+    private String deviceName;
+
+    private String portName;
+    private int baudRate;
+    private int dataBits;
+    private int stopBits;
+    private int parity;
+
+    private SerialPortSettings.ReadMode readMode = SerialPortSettings.ReadMode.EVENT;
+    private int readMinBatchBytes;
+    private int readMaxWaitMillis;
+
+    private SerialPort jsscSerialPort;
+    private volatile Thread pollingThread;
+
+    /**
+     * Constructor that takes all the serial port settings from a SerialPortSettings object
+     *
+     * @param settings
+     */
+    public MAVLinkSerialTransport(SerialPortSettings settings) {
+        this(   settings.getUniqueDeviceName(),
+                settings.getPortName(),
+                settings.getBaudRate(),
+                settings.getDataBits(),
+                settings.getStopBits(),
+                settings.getParity());
+        this.readMode = settings.getReadMode();
+        this.readMinBatchBytes = settings.getReadMinBatchBytes();
+        this.readMaxWaitMillis = settings.getReadMaxWaitMillis();
+    }
+
+    /**
+     * Constructor that allows all the serial port settings to be individually passed in
+     *
+     * @param deviceName a user-friendly name of the device connected to the serial port (e.g., Pixhawk_1)
+     * @param portName the name of the serial port. Examples: COM1 (Windows), /dev/ttyUSB0 (Linux)
+     * @param baudRate
+     * @param dataBits
+     * @param stopBits
+     * @param parity - Parity is specified as an integer, as follows: PARITY_NONE=0, PARITY_ODD=1, PARITY_EVEN=2, PARITY_MARK=3, PARITY_SPACE=4
+     */
+    public MAVLinkSerialTransport(String deviceName, String portName, int baudRate, int dataBits, int stopBits, int parity) {
+        this.deviceName = deviceName;
+        this.portName = portName;
+        this.baudRate = baudRate;
+        this.dataBits = dataBits;
+        this.stopBits = stopBits;
+        this.parity = parity;
+    }
+
+    @Override
+    public String getName() {
+        return this.deviceName;
+    }
+
+    /**
+     * @return the byte rate of the port: the baud rate divided by the bits per character (start, data,
+     * parity and stop bits), e.g. 5760 bytes/sec at 57600 baud 8N1
+     */
+    @Override
+    public int getBytesPerSecond() {
+        int bits = 1 + dataBits + (parity != 0 ? 1 : 0) + (stopBits == 1 ? 1 : 2);
+        return baudRate / bits;
+    }
+
+    @Override
+    public void open(Receiver receiver) throws MAVLinkSerialPortException {
+        this.jsscSerialPort = new SerialPort(this.portName);
+
+        try {
+            jsscSerialPort.openPort();
+            jsscSerialPort.setParams(baudRate, dataBits, stopBits, parity);
+            if (this.readMode == SerialPortSettings.ReadMode.POLLING) {
+                Thread thread = new Thread(new PollingReader(receiver), "MAVLinkSerialTransport-" + deviceName);
+                thread.setDaemon(true);
+                this.pollingThread = thread;
+                thread.start();
+                return;
+            }
+            //Preparing a mask. In a mask, we need to specify the types of events that we want to track.
+            //Well, for example, we need to know what came some data, thus in the mask must have the
+            //following value: MASK_RXCHAR. If we, for example, still need to know about changes in states
+            //of lines CTS and DSR, the mask has to look like this: SerialPort.MASK_RXCHAR + SerialPort.MASK_CTS + SerialPort.MASK_DSR
+            int mask = SerialPort.MASK_RXCHAR + SerialPort.MASK_CTS + SerialPort.MASK_DSR;//Prepare mask
+            boolean success = jsscSerialPort.setEventsMask(mask);//Set mask
+            if (!success){
+                throw new MAVLinkSerialPortException("Failed to set the serial port events mask");
+            }
+
+            //Add an interface through which we will receive information about events
+            this.jsscSerialPort.addEventListener(new SerialPortReader(receiver));
+        }
+        catch (SerialPortException e) {
+            throw new MAVLinkSerialPortException(e.getMessage());
+        }
+    }
+
+    /**
+     * Closes this serial port
+     * @throws MAVLinkSerialPortException
+     */
+    @Override
+    public void close() throws MAVLinkSerialPortException {
+        Thread thread = this.pollingThread;
+        if (thread != null) {
+            //the polling thread must not be in a read when the port closes
+            this.pollingThread = null;
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            this.jsscSerialPort.closePort();
+        } catch (SerialPortException e) {
+            throw new MAVLinkSerialPortException(e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the bytes to the serial port; there is only one peer, so the peer is ignored
+     */
+    @Override
+    public void send(Object peer, byte[] bytes, int offset, int length) throws MAVLinkSerialPortException {
+        try {
+            if (offset == 0 && length == bytes.length) {
+                this.jsscSerialPort.writeBytes(bytes);
+            } else {
+                byte[] range = new byte[length];
+                System.arraycopy(bytes, offset, range, 0, length);
+                this.jsscSerialPort.writeBytes(range);
+            }
+        } catch (SerialPortException e) {
+            throw new MAVLinkSerialPortException(e.getMessage());
+        }
+    }
+
+    //============================================================
+
+    /**
+     * This internal class runs on the polling thread (ReadMode.POLLING).
+     * It reads the arrived bytes once there are at least readMinBatchBytes of them, or once the first
+     * of them has waited readMaxWaitMillis, and passes them to the receiver.
+     *
+     * jSSC has no read into a caller's buffer, so each batch is one readBytes() array, handed on without
+     * further copies; at 921600 baud that is a few hundred reads per second rather than one per RXCHAR event.
+     */
+    class PollingReader implements Runnable {
+
+        //how long to sleep when there is nothing (or too little) to read yet
+        private final long idleNanos;
+        private final long maxWaitNanos;
+
+        Receiver receiver;
+        long byteCount;
+
+        PollingReader(Receiver receiver) {
+            this.receiver = receiver;
+            this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(readMaxWaitMillis);
+            this.idleNanos = Math.max(TimeUnit.MICROSECONDS.toNanos(100), Math.min(TimeUnit.MILLISECONDS.toNanos(1), this.maxWaitNanos / 4));
+        }
+
+        @Override
+        public void run() {
+            //when the oldest unread byte was first seen, or 0 if none is waiting
+            long firstSeen = 0;
+            while (pollingThread == Thread.currentThread()) {
+                try {
+                    int available = jsscSerialPort.getInputBufferBytesCount();
+                    if (available > 0 && firstSeen == 0) {
+                        firstSeen = System.nanoTime();
+                    }
+                    if (available <= 0 || (available < readMinBatchBytes && System.nanoTime() - firstSeen < this.maxWaitNanos)) {
+                        LockSupport.parkNanos(this.idleNanos);
+                        continue;
+                    }
+                    firstSeen = 0;
+                    byte[] bytes = jsscSerialPort.readBytes(available);
+                    if (bytes != null) {
+                        byteCount += bytes.length;
+                        receiver.received(MAVLinkSerialTransport.this, ByteBuffer.wrap(bytes));
+                    }
+                } catch (SerialPortException ex) {
+                    LOGGER.log(Level.WARNING, "MAVLinkSerialTransport error: " + ex.toString());
+                    LockSupport.parkNanos(this.idleNanos);
+                } catch (RuntimeException ex) {
+                    LOGGER.log(Level.WARNING, "MAVLinkSerialTransport error: " + ex.toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * This internal class is an implementation of jssc.SerialPortEventListener.
+     * This class is responsible for receiving arriving bytes from the serial port
+     * and passing them to the receiver.
+     */
+    class SerialPortReader implements SerialPortEventListener {
+
+        Receiver receiver;
+        int byteCount;
+
+        /**
+         * Constructs this SerialPortReader/SerialPortEventListener object
+         * @param receiver - parses the bytes and delivers the messages
+         */
+        SerialPortReader(Receiver receiver) {
+            this.receiver = receiver;
+        }
+
+        /**
+         * Implementation of SerialPortEventListener interface
+         * @param event
+         */
+        @Override
+        public void serialEvent(SerialPortEvent event) {
+            //Object type SerialPortEvent carries information about which event occurred and a value.
+            //For example, if the data came a method event.getEventValue() returns us the number of bytes in the input buffer.
+            if(event.isRXCHAR()){
+                //Read data
+                try {
+                    byte[] bytes = jsscSerialPort.readBytes(event.getEventValue());
+                    if (bytes != null) {
+                        byteCount += bytes.length;
+                        receiver.received(MAVLinkSerialTransport.this, ByteBuffer.wrap(bytes));
+                    }
+                }
+                catch (SerialPortException ex) {
+                    LOGGER.log(Level.WARNING, "MAVLinkSerialTransport error: " + ex.toString());
+                }
+            }
+            //If the CTS line status has changed, then the method event.getEventValue() returns 1 if the line is ON and 0 if it is OFF.
+            else if(event.isCTS()){
+                if(event.getEventValue() == 1){
+                    LOGGER.log(Level.FINE, "MAVLinkSerialTransport CTS - ON");
+                }
+                else {
+                    LOGGER.log(Level.FINE, "MAVLinkSerialTransport CTS - OFF");
+                }
+            }
+            else if(event.isDSR()){
+                if(event.getEventValue() == 1){
+                    LOGGER.log(Level.FINE, "MAVLinkSerialTransport DSR - ON");
+                }
+                else {
+                    LOGGER.log(Level.FINE, "MAVLinkSerialTransport DSR - OFF");
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,647 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.ardupilotmega.*;
+import com.MAVLink.Messages.enums.MAV_AUTOPILOT;
+import com.MAVLink.Messages.enums.MAV_CMD;
+import com.MAVLink.Messages.enums.MAV_DATA_STREAM;
+import com.MAVLink.Messages.enums.MAV_FRAME;
+import com.MAVLink.Messages.enums.MAV_MISSION_RESULT;
+import com.MAVLink.Messages.enums.MAV_MODE_FLAG;
+import com.MAVLink.Messages.enums.MAV_PARAM_TYPE;
+import com.MAVLink.Messages.enums.MAV_RESULT;
+import com.MAVLink.Messages.enums.MAV_STATE;
+import com.MAVLink.Messages.enums.MAV_TYPE;
+import com.MAVLink.Parser;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An in-process stand-in for an autopilot (e.g., a Pixhawk running ArduPilot), for integration and load tests
+ * without hardware. It runs on any MAVLinkTransport, usually the other end of a MAVLinkLoopbackTransport
+ * attached to a MAVLinkCommunicationBus.
+ *
+ * The vehicle flies a circle around a home position and sends the usual telemetry streams (sys_status,
+ * attitude, global_position_int, vfr_hud, etc.) plus a 1 Hz heartbeat. Like ArduPilot, it:
+ *  - changes the rate of a stream on msg_request_data_stream (0 or start_stop=0 stops it),
+ *  - answers msg_param_request_list, msg_param_request_read and msg_param_set with msg_param_value,
+ *  - sends its mission on msg_mission_request_list / msg_mission_request, and accepts an uploaded one,
+ *  - acks every msg_command_long with MAV_RESULT_ACCEPTED (MAV_CMD_COMPONENT_ARM_DISARM also arms it).
+ *
+ * setRateScale() multiplies every rate, e.g. by 10 or 100 to load-test the bus, parser and subscribers.
+ *
+ * @author Philip L. Giacalone
+ */
+public class MAVLinkSimulatedAutopilot implements MAVLinkTransport.Receiver {
+
+    private static Logger LOGGER = Logger.getLogger("com.yuji.uav.comm.mav");
+
+    //the stream ids are 0..12, see MAV_DATA_STREAM
+    private static final int STREAM_COUNT = MAV_DATA_STREAM.MAV_DATA_STREAM_ENUM_END;
+
+    //the scheduler checks for rate changes at least this often
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    //the circle flown around home
+    private static final double RADIUS_METERS = 100.0;
+    private static final double SPEED_METERS_PER_SEC = 10.0;
+    private static final double ALTITUDE_METERS = 50.0;
+    private static final double METERS_PER_DEGREE = 111320.0;
+
+    private final MAVLinkTransport transport;
+    private final int sysid;
+    private final int compid;
+
+    private final Parser parser = new Parser();
+
+    //the rate (messages/sec) of each stream, and when each is next due (nanoTime); index 0 is the heartbeat
+    private final double[] rates = new double[STREAM_COUNT];
+    private final long[] due = new long[STREAM_COUNT];
+    private volatile double rateScale = 1.0;
+    private volatile boolean ratesChanged;
+
+    private final Map<String, Float> parameters = new LinkedHashMap<String, Float>();
+    private volatile List<msg_mission_item> mission = new CopyOnWriteArrayList<msg_mission_item>();
+    //the mission being uploaded by the ground station, or null
+    private List<msg_mission_item> upload;
+    private int uploadCount;
+
+    private double homeLat = 37.4;
+    private double homeLon = -122.1;
+
+    private volatile boolean armed;
+    private volatile boolean mavlink2;
+    private volatile boolean running;
+    private Thread schedulerThread;
+    private long startNanos;
+    private int seq;
+
+    private final AtomicLong messagesSent = new AtomicLong();
+    private final AtomicLong commandsReceived = new AtomicLong();
+
+    /**
+     * Constructor. The vehicle starts sending once start() is called.
+     * @param transport the transport to the ground station (e.g., loopback.getOtherEnd())
+     * @param sysid the MAVLink system id of the simulated vehicle (e.g., 1)
+     */
+    public MAVLinkSimulatedAutopilot(MAVLinkTransport transport, int sysid) {
+        this.transport = transport;
+        this.sysid = sysid & 0xFF;
+        this.compid = 1;
+
+        //the heartbeat is not a stream a ground station can change; it goes in slot 0 (MAV_DATA_STREAM_ALL)
+        this.rates[0] = 1;
+        //roughly the ArduPilot SRx_ defaults
+        this.rates[MAV_DATA_STREAM.MAV_DATA_STREAM_RAW_SENSORS] = 2;
+        this.rates[MAV_DATA_STREAM.MAV_DATA_STREAM_EXTENDED_STATUS] = 2;
+        this.rates[MAV_DATA_STREAM.MAV_DATA_STREAM_RC_CHANNELS] = 2;
+        this.rates[MAV_DATA_STREAM.MAV_DATA_STREAM_RAW_CONTROLLER] = 2;
+        this.rates[MAV_DATA_STREAM.MAV_DATA_STREAM_POSITION] = 3;
+        this.rates[MAV_DATA_STREAM.MAV_DATA_STREAM_EXTRA1] = 4;
+        this.rates[MAV_DATA_STREAM.MAV_DATA_STREAM_EXTRA2] = 4;
+        this.rates[MAV_DATA_STREAM.MAV_DATA_STREAM_EXTRA3] = 1;
+
+        this.parameters.put("SYSID_THISMAV", (float) this.sysid);
+        this.parameters.put("SYSID_MYGCS", 255f);
+        this.parameters.put("SR0_RAW_SENS", 2f);
+        this.parameters.put("SR0_EXT_STAT", 2f);
+        this.parameters.put("SR0_RC_CHAN", 2f);
+        this.parameters.put("SR0_RAW_CTRL", 2f);
+        this.parameters.put("SR0_POSITION", 3f);
+        this.parameters.put("SR0_EXTRA1", 4f);
+        this.parameters.put("SR0_EXTRA2", 4f);
+        this.parameters.put("SR0_EXTRA3", 1f);
+        this.parameters.put("WPNAV_SPEED", (float) (SPEED_METERS_PER_SEC * 100));
+        this.parameters.put("WPNAV_RADIUS", 200f);
+        this.parameters.put("RTL_ALT", (float) (ALTITUDE_METERS * 100));
+    }
+
+    /**
+     * Opens the transport and starts sending telemetry
+     * @throws MAVLinkSerialPortException if the transport cannot be opened
+     */
+    public void start() throws MAVLinkSerialPortException {
+        this.startNanos = System.nanoTime();
+        this.running = true;
+        this.transport.open(this);
+        this.schedulerThread = new Thread(this::run, "MAVLinkSimulatedAutopilot-" + this.sysid);
+        this.schedulerThread.setDaemon(true);
+        this.schedulerThread.start();
+    }
+
+    /**
+     * Stops sending and closes the transport
+     * @throws MAVLinkSerialPortException
+     */
+    public void stop() throws MAVLinkSerialPortException {
+        this.running = false;
+        if (this.schedulerThread != null) {
+            LockSupport.unpark(this.schedulerThread);
+        }
+        this.transport.close();
+    }
+
+    /**
+     * Sets the rate of a stream, as msg_request_data_stream does
+     * @param streamId one of MAV_DATA_STREAM, or MAV_DATA_STREAM_ALL for every stream
+     * @param messagesPerSecond 0 to stop the stream
+     */
+    public void setStreamRate(int streamId, double messagesPerSecond) {
+        synchronized (this.rates) {
+            if (streamId == MAV_DATA_STREAM.MAV_DATA_STREAM_ALL) {
+                for (int i = 1; i < STREAM_COUNT; i++) {
+                    this.rates[i] = messagesPerSecond;
+                }
+            } else if (streamId > 0 && streamId < STREAM_COUNT) {
+                this.rates[streamId] = messagesPerSecond;
+            }
+            this.ratesChanged = true;
+        }
+        LockSupport.unpark(this.schedulerThread);
+    }
+
+    /**
+     * @param streamId one of MAV_DATA_STREAM
+     * @return the rate of the stream in messages/sec, before the rate scale is applied
+     */
+    public double getStreamRate(int streamId) {
+        synchronized (this.rates) {
+            return this.rates[streamId];
+        }
+    }
+
+    /**
+     * Sets the heartbeat rate (1 Hz by default)
+     * @param messagesPerSecond
+     */
+    public void setHeartbeatRate(double messagesPerSecond) {
+        synchronized (this.rates) {
+            this.rates[0] = messagesPerSecond;
+            this.ratesChanged = true;
+        }
+        LockSupport.unpark(this.schedulerThread);
+    }
+
+    /**
+     * Multiplies every rate, including the heartbeat's (e.g., 10 or 100 for load tests)
+     * @param rateScale
+     */
+    public void setRateScale(double rateScale) {
+        this.rateScale = rateScale;
+        this.ratesChanged = true;
+        LockSupport.unpark(this.schedulerThread);
+    }
+
+    /**
+     * Sets the position the vehicle circles around
+     * @param lat degrees
+     * @param lon degrees
+     */
+    public void setHome(double lat, double lon) {
+        this.homeLat = lat;
+        this.homeLon = lon;
+    }
+
+    /**
+     * Adds or changes a parameter
+     * @param name at most 16 characters
+     * @param value
+     */
+    public void setParameter(String name, float value) {
+        synchronized (this.parameters) {
+            this.parameters.put(name, value);
+        }
+    }
+
+    /**
+     * @param name
+     * @return the value of the parameter, or null if there is none with this name
+     */
+    public Float getParameter(String name) {
+        synchronized (this.parameters) {
+            return this.parameters.get(name);
+        }
+    }
+
+    /**
+     * Appends a waypoint to the mission
+     * @param lat degrees
+     * @param lon degrees
+     * @param alt meters above home
+     */
+    public void addWaypoint(double lat, double lon, double alt) {
+        msg_mission_item item = new msg_mission_item();
+        item.seq = (short) this.mission.size();
+        item.command = MAV_CMD.MAV_CMD_NAV_WAYPOINT;
+        item.frame = MAV_FRAME.MAV_FRAME_GLOBAL_RELATIVE_ALT;
+        item.autocontinue = 1;
+        item.x = (float) lat;
+        item.y = (float) lon;
+        item.z = (float) alt;
+        this.mission.add(item);
+    }
+
+    /**
+     * @return the mission, as last set with addWaypoint() or uploaded by the ground station
+     */
+    public List<msg_mission_item> getMission() {
+        return new ArrayList<msg_mission_item>(this.mission);
+    }
+
+    public boolean isArmed() {
+        return this.armed;
+    }
+
+    /**
+     * @return the number of messages sent by this vehicle
+     */
+    public long getMessagesSent() {
+        return this.messagesSent.get();
+    }
+
+    /**
+     * @return the number of msg_command_long received (and acked) by this vehicle
+     */
+    public long getCommandsReceived() {
+        return this.commandsReceived.get();
+    }
+
+    //============================================================
+
+    /**
+     * The scheduler loop: sends each stream when it is due
+     */
+    private void run() {
+        while (this.running) {
+            long now = System.nanoTime();
+            if (this.ratesChanged) {
+                synchronized (this.rates) {
+                    this.ratesChanged = false;
+                    //a changed stream starts over, so a new rate shows right away
+                    for (int i = 0; i < STREAM_COUNT; i++) {
+                        this.due[i] = now;
+                    }
+                }
+            }
+            long next = now + MAX_PARK_NANOS;
+            for (int stream = 0; stream < STREAM_COUNT; stream++) {
+                double rate = getStreamRate(stream) * this.rateScale;
+                if (rate <= 0) {
+                    continue;
+                }
+                long period = (long) (1000000000L / rate);
+                if (this.due[stream] <= now) {
+                    sendStream(stream);
+                    this.due[stream] += period;
+                    if (this.due[stream] < now - TimeUnit.SECONDS.toNanos(1)) {
+                        //too far behind (e.g., the rate is more than the transport can take); do not try to catch up
+                        this.due[stream] = now + period;
+                    }
+                }
+                next = Math.min(next, this.due[stream]);
+            }
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+        }
+    }
+
+    /**
+     * Sends the messages of one stream, the ones ArduPilot sends for it
+     */
+    private void sendStream(int stream) {
+        double t = (System.nanoTime() - this.startNanos) / 1e9;
+        int timeBootMs = (int) (t * 1000);
+        //the position on the circle
+        double angle = t * SPEED_METERS_PER_SEC / RADIUS_METERS;
+        double heading = (angle + Math.PI / 2) % (2 * Math.PI);
+        double roll = Math.atan(SPEED_METERS_PER_SEC * SPEED_METERS_PER_SEC / (RADIUS_METERS * 9.81));
+
+        switch (stream) {
+            case 0: {
+                msg_heartbeat heartbeat = new msg_heartbeat();
+                heartbeat.type = MAV_TYPE.MAV_TYPE_QUADROTOR;
+                heartbeat.autopilot = MAV_AUTOPILOT.MAV_AUTOPILOT_ARDUPILOTMEGA;
+                heartbeat.base_mode = (byte) (MAV_MODE_FLAG.MAV_MODE_FLAG_CUSTOM_MODE_ENABLED
+                        | (this.armed ? MAV_MODE_FLAG.MAV_MODE_FLAG_SAFETY_ARMED : 0));
+                heartbeat.system_status = (byte) (this.armed ? MAV_STATE.MAV_STATE_ACTIVE : MAV_STATE.MAV_STATE_STANDBY);
+                heartbeat.mavlink_version = 3;
+                send(heartbeat);
+                break;
+            }
+            case MAV_DATA_STREAM.MAV_DATA_STREAM_RAW_SENSORS: {
+                msg_raw_imu imu = new msg_raw_imu();
+                imu.time_usec = timeBootMs * 1000L;
+                imu.zacc = -1000;
+                send(imu);
+                msg_scaled_pressure pressure = new msg_scaled_pressure();
+                pressure.time_boot_ms = timeBootMs;
+                pressure.press_abs = 1007.5f;
+                pressure.temperature = 2500;
+                send(pressure);
+                break;
+            }
+            case MAV_DATA_STREAM.MAV_DATA_STREAM_EXTENDED_STATUS: {
+                msg_sys_status status = new msg_sys_status();
+                status.voltage_battery = 12600;
+                status.current_battery = 1500;
+                status.battery_remaining = (byte) Math.max(0, 100 - (int) (t / 60));
+                status.load = 250;
+                send(status);
+                msg_gps_raw_int gps = new msg_gps_raw_int();
+                gps.time_usec = timeBootMs * 1000L;
+                gps.lat = (int) (lat(angle) * 1e7);
+                gps.lon = (int) (lon(angle) * 1e7);
+                gps.alt = (int) (ALTITUDE_METERS * 1000);
+                gps.vel = (short) (SPEED_METERS_PER_SEC * 100);
+                gps.cog = (short) (Math.toDegrees(heading) * 100);
+                gps.fix_type = 3;
+                gps.satellites_visible = 12;
+                send(gps);
+                msg_mission_current current = new msg_mission_current();
+                send(current);
+                break;
+            }
+            case MAV_DATA_STREAM.MAV_DATA_STREAM_RC_CHANNELS: {
+                msg_rc_channels_raw rc = new msg_rc_channels_raw();
+                rc.time_boot_ms = timeBootMs;
+                rc.chan1_raw = rc.chan2_raw = rc.chan4_raw = 1500;
+                rc.chan3_raw = (short) (this.armed ? 1600 : 1000);
+                send(rc);
+                msg_servo_output_raw servos = new msg_servo_output_raw();
+                servos.time_usec = (int) (timeBootMs * 1000L);
+                servos.servo1_raw = servos.servo2_raw = servos.servo3_raw = servos.servo4_raw = (short) (this.armed ? 1600 : 1000);
+                send(servos);
+                break;
+            }
+            case MAV_DATA_STREAM.MAV_DATA_STREAM_RAW_CONTROLLER: {
+                msg_nav_controller_output nav = new msg_nav_controller_output();
+                nav.nav_roll = (float) Math.toDegrees(roll);
+                nav.nav_bearing = (short) Math.toDegrees(heading);
+                nav.target_bearing = nav.nav_bearing;
+                send(nav);
+                break;
+            }
+            case MAV_DATA_STREAM.MAV_DATA_STREAM_POSITION: {
+                msg_global_position_int position = new msg_global_position_int();
+                position.time_boot_ms = timeBootMs;
+                position.lat = (int) (lat(angle) * 1e7);
+                position.lon = (int) (lon(angle) * 1e7);
+                position.alt = (int) (ALTITUDE_METERS * 1000);
+                position.relative_alt = (int) (ALTITUDE_METERS * 1000);
+                position.vx = (short) (Math.cos(heading) * SPEED_METERS_PER_SEC * 100);
+                position.vy = (short) (Math.sin(heading) * SPEED_METERS_PER_SEC * 100);
+                position.hdg = (short) (Math.toDegrees(heading) * 100);
+                send(position);
+                break;
+            }
+            case MAV_DATA_STREAM.MAV_DATA_STREAM_EXTRA1: {
+                msg_attitude attitude = new msg_attitude();
+                attitude.time_boot_ms = timeBootMs;
+                attitude.roll = (float) roll;
+                attitude.pitch = 0.02f;
+                attitude.yaw = (float) (heading > Math.PI ? heading - 2 * Math.PI : heading);
+                attitude.yawspeed = (float) (SPEED_METERS_PER_SEC / RADIUS_METERS);
+                send(attitude);
+                break;
+            }
+            case MAV_DATA_STREAM.MAV_DATA_STREAM_EXTRA2: {
+                msg_vfr_hud hud = new msg_vfr_hud();
+                hud.airspeed = (float) SPEED_METERS_PER_SEC;
+                hud.groundspeed = (float) SPEED_METERS_PER_SEC;
+                hud.alt = (float) ALTITUDE_METERS;
+                hud.heading = (short) Math.toDegrees(heading);
+                hud.throttle = (short) (this.armed ? 50 : 0);
+                send(hud);
+                break;
+            }
+            case MAV_DATA_STREAM.MAV_DATA_STREAM_EXTRA3: {
+                msg_ahrs ahrs = new msg_ahrs();
+                ahrs.accel_weight = 1;
+                ahrs.renorm_val = 1;
+                send(ahrs);
+                break;
+            }
+            default:
+                //no messages in this stream
+                break;
+        }
+    }
+
+    private double lat(double angle) {
+        return this.homeLat + RADIUS_METERS * Math.cos(angle) / METERS_PER_DEGREE;
+    }
+
+    private double lon(double angle) {
+        return this.homeLon + RADIUS_METERS * Math.sin(angle) / (METERS_PER_DEGREE * Math.cos(Math.toRadians(this.homeLat)));
+    }
+
+    /**
+     * Sends one message from this vehicle; called by the scheduler and the receiving thread
+     */
+    private synchronized void send(MAVLinkMessage message) {
+        MAVLinkPacket packet = message.pack();
+        packet.sysid = this.sysid;
+        packet.compid = this.compid;
+        packet.seq = this.seq++ & 0xFF;
+        packet.isMavlink2 = this.mavlink2;
+        byte[] bytes = packet.encodePacket();
+        try {
+            this.transport.send(null, bytes, 0, bytes.length);
+            this.messagesSent.incrementAndGet();
+        } catch (MAVLinkSerialPortException e) {
+            LOGGER.log(Level.WARNING, "MAVLinkSimulatedAutopilot [" + this.sysid + "]: send failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Implementation of MAVLinkTransport.Receiver
+     */
+    @Override
+    public synchronized void received(Object peer, ByteBuffer bytes) {
+        this.parser.parse(bytes, this::onPacket);
+    }
+
+    /**
+     * Implementation of MAVLinkTransport.Receiver
+     */
+    @Override
+    public void disconnected(Object peer) {
+        this.running = false;
+    }
+
+    private boolean isForMe(byte targetSystem) {
+        int target = targetSystem & 0xFF;
+        return target == 0 || target == this.sysid;
+    }
+
+    /**
+     * Handles one message from the ground station
+     */
+    private void onPacket(MAVLinkPacket packet) {
+        if (packet.isMavlink2) {
+            this.mavlink2 = true;
+        }
+        MAVLinkMessage message = packet.unpack();
+        if (message == null) {
+            return;
+        }
+        switch (message.msgid) {
+            case msg_request_data_stream.MAVLINK_MSG_ID_REQUEST_DATA_STREAM: {
+                msg_request_data_stream request = (msg_request_data_stream) message;
+                if (isForMe(request.target_system)) {
+                    setStreamRate(request.req_stream_id & 0xFF, request.start_stop == 0 ? 0 : request.req_message_rate & 0xFFFF);
+                }
+                break;
+            }
+            case msg_param_request_list.MAVLINK_MSG_ID_PARAM_REQUEST_LIST: {
+                if (isForMe(((msg_param_request_list) message).target_system)) {
+                    sendParameters();
+                }
+                break;
+            }
+            case msg_param_request_read.MAVLINK_MSG_ID_PARAM_REQUEST_READ: {
+                msg_param_request_read request = (msg_param_request_read) message;
+                if (isForMe(request.target_system)) {
+                    sendParameter(request.param_index >= 0 ? request.param_index : -1, request.getParam_Id());
+                }
+                break;
+            }
+            case msg_param_set.MAVLINK_MSG_ID_PARAM_SET: {
+                msg_param_set set = (msg_param_set) message;
+                if (isForMe(set.target_system)) {
+                    setParameter(set.getParam_Id(), set.param_value);
+                    //the new value is echoed, as confirmation
+                    sendParameter(-1, set.getParam_Id());
+                }
+                break;
+            }
+            case msg_mission_request_list.MAVLINK_MSG_ID_MISSION_REQUEST_LIST: {
+                if (isForMe(((msg_mission_request_list) message).target_system)) {
+                    msg_mission_count count = new msg_mission_count();
+                    count.count = (short) this.mission.size();
+                    count.target_system = (byte) packet.sysid;
+                    count.target_component = (byte) packet.compid;
+                    send(count);
+                }
+                break;
+            }
+            case msg_mission_request.MAVLINK_MSG_ID_MISSION_REQUEST: {
+                msg_mission_request request = (msg_mission_request) message;
+                if (isForMe(request.target_system) && request.seq >= 0 && request.seq < this.mission.size()) {
+                    msg_mission_item item = this.mission.get(request.seq);
+                    item.target_system = (byte) packet.sysid;
+                    item.target_component = (byte) packet.compid;
+                    send(item);
+                }
+                break;
+            }
+            case msg_mission_count.MAVLINK_MSG_ID_MISSION_COUNT: {
+                msg_mission_count count = (msg_mission_count) message;
+                if (isForMe(count.target_system)) {
+                    this.uploadCount = count.count & 0xFFFF;
+                    this.upload = new ArrayList<msg_mission_item>();
+                    requestNextItem(packet);
+                }
+                break;
+            }
+            case msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM: {
+                msg_mission_item item = (msg_mission_item) message;
+                if (isForMe(item.target_system) && this.upload != null && item.seq == this.upload.size()) {
+                    this.upload.add(item);
+                    requestNextItem(packet);
+                }
+                break;
+            }
+            case msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG: {
+                msg_command_long command = (msg_command_long) message;
+                if (isForMe(command.target_system)) {
+                    this.commandsReceived.incrementAndGet();
+                    if (command.command == MAV_CMD.MAV_CMD_COMPONENT_ARM_DISARM) {
+                        this.armed = command.param1 == 1;
+                    }
+                    msg_command_ack ack = new msg_command_ack();
+                    ack.command = command.command;
+                    ack.result = MAV_RESULT.MAV_RESULT_ACCEPTED;
+                    send(ack);
+                }
+                break;
+            }
+            default:
+                //not handled by the simulated vehicle
+                break;
+        }
+    }
+
+    /**
+     * Asks for the next item of the mission being uploaded, or accepts the mission once it is complete
+     */
+    private void requestNextItem(MAVLinkPacket from) {
+        if (this.upload.size() < this.uploadCount) {
+            msg_mission_request request = new msg_mission_request();
+            request.seq = (short) this.upload.size();
+            request.target_system = (byte) from.sysid;
+            request.target_component = (byte) from.compid;
+            send(request);
+        } else {
+            this.mission = new CopyOnWriteArrayList<msg_mission_item>(this.upload);
+            this.upload = null;
+            msg_mission_ack ack = new msg_mission_ack();
+            ack.type = MAV_MISSION_RESULT.MAV_MISSION_ACCEPTED;
+            ack.target_system = (byte) from.sysid;
+            ack.target_component = (byte) from.compid;
+            send(ack);
+        }
+    }
+
+    /**
+     * Sends every parameter, in order
+     */
+    private void sendParameters() {
+        List<Map.Entry<String, Float>> entries;
+        synchronized (this.parameters) {
+            entries = new ArrayList<Map.Entry<String, Float>>(this.parameters.entrySet());
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            sendParameterValue(entries.get(i).getKey(), entries.get(i).getValue(), i, entries.size());
+        }
+    }
+
+    /**
+     * Sends one parameter, looked up by index (when index >= 0) or by name
+     */
+    private void sendParameter(int index, String name) {
+        List<Map.Entry<String, Float>> entries;
+        synchronized (this.parameters) {
+            entries = new ArrayList<Map.Entry<String, Float>>(this.parameters.entrySet());
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            if (i == index || (index < 0 && entries.get(i).getKey().equals(name))) {
+                sendParameterValue(entries.get(i).getKey(), entries.get(i).getValue(), i, entries.size());
+                return;
+            }
+        }
+    }
+
+    private void sendParameterValue(String name, float value, int index, int count) {
+        msg_param_value param = new msg_param_value();
+        param.setParam_Id(name);
+        param.param_value = value;
+        param.param_type = MAV_PARAM_TYPE.MAV_PARAM_TYPE_REAL32;
+        param.param_index = (short) index;
+        param.param_count = (short) count;
+        send(param);
+    }
+}
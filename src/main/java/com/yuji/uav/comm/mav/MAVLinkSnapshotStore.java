@@ -0,0 +1,249 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageRegistry;
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.ardupilotmega.msg_attitude;
+import com.MAVLink.Messages.ardupilotmega.msg_battery_status;
+import com.MAVLink.Messages.ardupilotmega.msg_global_position_int;
+import com.MAVLink.Messages.ardupilotmega.msg_sys_status;
+import com.MAVLink.Messages.ardupilotmega.msg_vfr_hud;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * The latest message of each vehicle (sysid) for a few msgids: by default msg_attitude, msg_global_position_int,
+ * msg_vfr_hud, msg_sys_status and msg_battery_status. For code (e.g., a UI or a control loop) that only needs the
+ * current state of a vehicle and not every message, at the rate it chooses.
+ *
+ * The links write the payload bytes of each received packet of a tracked msgid into its (sysid, msgid) slot, before
+ * and whether or not the message is unpacked: a copy of a few dozen bytes, with no decoding and no allocation once
+ * the slot exists. A reader decodes the latest payload into a message of its own with read(sysid, message).
+ *
+ * The slots are versioned with a StampedLock, used as a seqlock: a reader copies the payload optimistically and
+ * checks that no write happened meanwhile, so readers on any thread get a consistent copy without taking a lock
+ * or slowing down the writer, and only retry (under the read lock) when they raced with a write.
+ *
+ * @author Philip L. Giacalone
+ */
+public class MAVLinkSnapshotStore {
+
+    /** The msgids kept by default */
+    public static final int[] DEFAULT_MSGIDS = {
+            msg_attitude.MAVLINK_MSG_ID_ATTITUDE,
+            msg_global_position_int.MAVLINK_MSG_ID_GLOBAL_POSITION_INT,
+            msg_vfr_hud.MAVLINK_MSG_ID_VFR_HUD,
+            msg_sys_status.MAVLINK_MSG_ID_SYS_STATUS,
+            msg_battery_status.MAVLINK_MSG_ID_BATTERY_STATUS};
+
+    //the packet each reader thread decodes its copies from
+    private static final ThreadLocal<MAVLinkPacket> SCRATCH = ThreadLocal.withInitial(MAVLinkPacket::new);
+
+    private final int[] msgids;
+
+    //the position of each tracked msgid in msgids, -1 for the others
+    private final int[] indexes;
+
+    //the slot of each sysid * msgids.length + index, created by the first message of the key
+    private final AtomicReferenceArray<Slot> slots;
+
+    /**
+     * The latest payload of one (sysid, msgid)
+     */
+    private static class Slot {
+
+        final StampedLock lock = new StampedLock();
+
+        //the payload, zero-padded to the message length (MAVLink 2 truncates trailing zeros)
+        final byte[] payload;
+        int compid;
+
+        //the number of writes, and the time of the last one
+        volatile long version;
+        volatile long updateMillis;
+
+        Slot(int length) {
+            this.payload = new byte[length];
+        }
+    }
+
+    /**
+     * Constructor for a store keeping the DEFAULT_MSGIDS
+     */
+    public MAVLinkSnapshotStore() {
+        this(DEFAULT_MSGIDS);
+    }
+
+    /**
+     * Constructor
+     * @param msgids the msgids to keep the latest message of; they must be registered in the
+     *               MAVLinkMessageRegistry
+     */
+    public MAVLinkSnapshotStore(int... msgids) {
+        int max = 0;
+        for (int msgid : msgids) {
+            if (MAVLinkMessageRegistry.getDefault().getLength(msgid) < 0) {
+                throw new IllegalArgumentException("msgid " + msgid + " is not registered");
+            }
+            max = Math.max(max, msgid);
+        }
+        this.msgids = msgids.clone();
+        this.indexes = new int[max + 1];
+        Arrays.fill(this.indexes, -1);
+        for (int i = 0; i < msgids.length; i++) {
+            this.indexes[msgids[i]] = i;
+        }
+        this.slots = new AtomicReferenceArray<Slot>(256 * msgids.length);
+    }
+
+    /**
+     * @return the msgids kept by this store
+     */
+    public int[] getMsgids() {
+        return this.msgids.clone();
+    }
+
+    /**
+     * @param msgid
+     * @return true if this store keeps the latest message with this msgid
+     */
+    public boolean isTracked(int msgid) {
+        return msgid >= 0 && msgid < this.indexes.length && this.indexes[msgid] >= 0;
+    }
+
+    private Slot slot(int sysid, int msgid) {
+        if (!isTracked(msgid)) {
+            return null;
+        }
+        return this.slots.get((sysid & 0xFF) * this.msgids.length + this.indexes[msgid]);
+    }
+
+    /**
+     * Keeps the payload of the packet if its msgid is tracked. Called by the links for every packet received.
+     * @param packet
+     */
+    void received(MAVLinkPacket packet) {
+        int msgid = packet.msgid;
+        if (!isTracked(msgid)) {
+            return;
+        }
+        int key = (packet.sysid & 0xFF) * this.msgids.length + this.indexes[msgid];
+        Slot slot = this.slots.get(key);
+        if (slot == null) {
+            this.slots.compareAndSet(key, null, new Slot(MAVLinkMessageRegistry.getDefault().getLength(msgid)));
+            slot = this.slots.get(key);
+        }
+        ByteBuffer source = packet.payload.payload;
+        int length = Math.min(packet.len, slot.payload.length);
+
+        long stamp = slot.lock.writeLock();
+        try {
+            System.arraycopy(source.array(), source.arrayOffset(), slot.payload, 0, length);
+            if (length < slot.payload.length) {
+                Arrays.fill(slot.payload, length, slot.payload.length, (byte) 0);
+            }
+            slot.compid = packet.compid;
+            slot.updateMillis = System.currentTimeMillis();
+            slot.version++;
+        } finally {
+            slot.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Decodes the latest message of a vehicle into the given message, whose class sets the msgid
+     * @param sysid
+     * @param message the message to overwrite (e.g., a msg_attitude kept by the caller)
+     * @return the message, or null if the msgid is not tracked or no such message was received from the vehicle
+     */
+    public <T extends MAVLinkMessage> T read(int sysid, T message) {
+        Slot slot = slot(sysid, message.msgid);
+        if (slot == null) {
+            return null;
+        }
+        MAVLinkPacket scratch = SCRATCH.get();
+        ByteBuffer target = scratch.payload.payload;
+        int length = slot.payload.length;
+
+        long stamp = slot.lock.tryOptimisticRead();
+        System.arraycopy(slot.payload, 0, target.array(), target.arrayOffset(), length);
+        int compid = slot.compid;
+        if (!slot.lock.validate(stamp)) {
+            //a write happened meanwhile: copy again, holding the writer off this time
+            stamp = slot.lock.readLock();
+            try {
+                System.arraycopy(slot.payload, 0, target.array(), target.arrayOffset(), length);
+                compid = slot.compid;
+            } finally {
+                slot.lock.unlockRead(stamp);
+            }
+        }
+        target.position(length);
+        scratch.len = length;
+        scratch.sysid = sysid & 0xFF;
+        scratch.compid = compid;
+        scratch.msgid = message.msgid;
+        return MAVLinkMessageRegistry.getDefault().decodeInto(scratch, message);
+    }
+
+    /**
+     * @param sysid
+     * @param msgid
+     * @return the number of messages of the key received so far; a reader polling a key can skip decoding
+     * when it has not changed
+     */
+    public long getVersion(int sysid, int msgid) {
+        Slot slot = slot(sysid, msgid);
+        return slot == null ? 0 : slot.version;
+    }
+
+    /**
+     * @param sysid
+     * @param msgid
+     * @return System.currentTimeMillis() when the latest message of the key arrived, or 0 if none did
+     */
+    public long getUpdateMillis(int sysid, int msgid) {
+        Slot slot = slot(sysid, msgid);
+        return slot == null ? 0 : slot.updateMillis;
+    }
+
+    //============================================================
+
+    /**
+     * @return a copy of the latest msg_attitude of the vehicle, or null
+     */
+    public msg_attitude getAttitude(int sysid) {
+        return read(sysid, new msg_attitude());
+    }
+
+    /**
+     * @return a copy of the latest msg_global_position_int of the vehicle, or null
+     */
+    public msg_global_position_int getGlobalPosition(int sysid) {
+        return read(sysid, new msg_global_position_int());
+    }
+
+    /**
+     * @return a copy of the latest msg_vfr_hud of the vehicle, or null
+     */
+    public msg_vfr_hud getVfrHud(int sysid) {
+        return read(sysid, new msg_vfr_hud());
+    }
+
+    /**
+     * @return a copy of the latest msg_sys_status of the vehicle, or null
+     */
+    public msg_sys_status getSysStatus(int sysid) {
+        return read(sysid, new msg_sys_status());
+    }
+
+    /**
+     * @return a copy of the latest msg_battery_status of the vehicle, or null
+     */
+    public msg_battery_status getBatteryStatus(int sysid) {
+        return read(sysid, new msg_battery_status());
+    }
+}
@@ -0,0 +1,149 @@
+package com.yuji.uav.comm.mav;
+
+import com.google.common.eventbus.Subscribe;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * This is a package scope class NOT intended for outside use.
+ *
+ * The @Subscribe methods of a set of subscribers, for the dispatchers that call the subscribers themselves
+ * (rather than through a Guava EventBus). The methods are found once, when a subscriber is added, and turned
+ * into method handles. The methods taking each event class are resolved the first time it is dispatched and
+ * cached until the subscribers change.
+ *
+ * @author Philip L. Giacalone
+ */
+class MAVLinkSubscriberMethods {
+
+    private static Logger LOGGER = Logger.getLogger("com.yuji.uav.comm.mav");
+
+    private static final Handler[] NONE = new Handler[0];
+
+    private final List<Handler> handlers = new CopyOnWriteArrayList<Handler>();
+
+    //the handlers of each event class, replaced when the handlers change
+    private volatile Map<Class<?>, Handler[]> resolved = new ConcurrentHashMap<Class<?>, Handler[]>();
+
+    /**
+     * @param subscriber
+     * @return the @Subscribe methods of the subscriber that take one event
+     */
+    static List<Handler> find(Object subscriber) {
+        List<Handler> found = new ArrayList<Handler>();
+        for (Method method : subscriber.getClass().getMethods()) {
+            if (method.isAnnotationPresent(Subscribe.class) && method.getParameterTypes().length == 1) {
+                found.add(new Handler(subscriber, method));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Adds the subscriber methods
+     * @param added e.g., the result of find()
+     */
+    void addAll(List<Handler> added) {
+        this.handlers.addAll(added);
+        this.resolved = new ConcurrentHashMap<Class<?>, Handler[]>();
+    }
+
+    /**
+     * Removes the methods of the subscriber
+     * @param subscriber
+     * @return true if the subscriber had methods here
+     */
+    boolean remove(Object subscriber) {
+        List<Handler> removed = new ArrayList<Handler>();
+        for (Handler handler : this.handlers) {
+            if (handler.subscriber == subscriber) {
+                removed.add(handler);
+            }
+        }
+        if (removed.isEmpty()) {
+            return false;
+        }
+        this.handlers.removeAll(removed);
+        this.resolved = new ConcurrentHashMap<Class<?>, Handler[]>();
+        return true;
+    }
+
+    boolean isEmpty() {
+        return this.handlers.isEmpty();
+    }
+
+    /**
+     * @param type the class of an event
+     * @return the methods taking the event class (or a superclass or interface of it)
+     */
+    Handler[] matching(Class<?> type) {
+        Map<Class<?>, Handler[]> cache = this.resolved;
+        Handler[] matching = cache.get(type);
+        if (matching == null) {
+            List<Handler> found = new ArrayList<Handler>();
+            for (Handler handler : this.handlers) {
+                if (handler.eventType.isAssignableFrom(type)) {
+                    found.add(handler);
+                }
+            }
+            matching = found.isEmpty() ? NONE : found.toArray(new Handler[found.size()]);
+            cache.put(type, matching);
+        }
+        return matching;
+    }
+
+    /**
+     * Calls the methods taking the event, on this thread
+     * @param event
+     */
+    void dispatch(Object event) {
+        for (Handler handler : matching(event.getClass())) {
+            handler.call(event);
+        }
+    }
+
+    //============================================================
+
+    /**
+     * A subscriber method, as a method handle taking (subscriber, event)
+     */
+    static class Handler {
+
+        final Object subscriber;
+        final Class<?> eventType;
+        final MethodHandle handle;
+        final String description;
+
+        Handler(Object subscriber, Method method) {
+            this.subscriber = subscriber;
+            this.eventType = method.getParameterTypes()[0];
+            this.description = method.toString();
+            try {
+                //the subscriber's class may not be public
+                method.setAccessible(true);
+                this.handle = MethodHandles.lookup().unreflect(method)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("cannot call " + method + ": " + e.getMessage(), e);
+            }
+        }
+
+        void call(Object event) {
+            try {
+                this.handle.invokeExact(this.subscriber, event);
+            } catch (Throwable e) {
+                LOGGER.log(Level.WARNING, "MAVLinkDispatcher: " + this.description + " threw " + e, e);
+            }
+        }
+    }
+}
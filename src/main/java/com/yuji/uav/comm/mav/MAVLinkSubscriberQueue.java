@@ -0,0 +1,274 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.Subscribe;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A bounded queue in front of one subscriber, with its own thread calling the subscriber's @Subscribe methods.
+ * It is registered on the bus in place of the subscriber (see MAVLinkCommunicationBus.registerSubscriber(subscriber,
+ * capacity, policy)), so a slow subscriber holds at most capacity events, whatever the dispatcher, and does not
+ * slow down the other subscribers.
+ *
+ * When the queue is full, the OverflowPolicy decides: wait for room (which slows down the posting thread, e.g.
+ * a link's reader), drop the oldest event, or drop the new one. With CONFLATE a queued message is replaced by a
+ * newer one of the same vehicle and msgid, keeping its place in the queue, so a subscriber that falls behind gets
+ * the latest msg_attitude or msg_global_position_int rather than a backlog of stale ones.
+ *
+ * @author Philip L. Giacalone
+ */
+public class MAVLinkSubscriberQueue {
+
+    private static Logger LOGGER = Logger.getLogger("com.yuji.uav.comm.mav");
+
+    /** The default number of events the queue holds */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * What is done with an event that does not fit in the queue
+     */
+    public enum OverflowPolicy {
+        /** Wait until the subscriber makes room */
+        BLOCK,
+        /** Drop the oldest queued event to make room */
+        DROP_OLDEST,
+        /** Drop the new event */
+        DROP_NEWEST,
+        /** Replace the queued message of the same sysid and msgid; drop the oldest event when there is none */
+        CONFLATE
+    }
+
+    private final Object subscriber;
+    private final MAVLinkSubscriberMethods methods = new MAVLinkSubscriberMethods();
+    private final int capacity;
+    private final OverflowPolicy policy;
+
+    //the queued events; with CONFLATE, the messages are queued in a Slot
+    private final ArrayDeque<Object> queue;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    //CONFLATE: the queued slot of each sysid << 24 | msgid
+    private final Map<Integer, Slot> slots = new HashMap<Integer, Slot>();
+
+    private final Thread thread;
+    private volatile boolean closed;
+
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong conflated = new AtomicLong();
+
+    /**
+     * A queued message that newer ones of the same key replace
+     */
+    private static class Slot {
+        final int key;
+        Object event;
+
+        Slot(int key, Object event) {
+            this.key = key;
+            this.event = event;
+        }
+    }
+
+    /**
+     * Constructor; starts the thread calling the subscriber
+     * @param subscriber the object with @Subscribe methods
+     * @param capacity the number of events the queue holds
+     * @param policy what is done with an event that does not fit in the queue
+     */
+    public MAVLinkSubscriberQueue(Object subscriber, int capacity, OverflowPolicy policy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.subscriber = subscriber;
+        this.capacity = capacity;
+        this.policy = policy;
+        this.queue = new ArrayDeque<Object>(capacity);
+        this.methods.addAll(MAVLinkSubscriberMethods.find(subscriber));
+        this.thread = new Thread(this::run, "MAVLinkSubscriberQueue-" + subscriber.getClass().getSimpleName());
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    public Object getSubscriber() {
+        return this.subscriber;
+    }
+
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    public OverflowPolicy getPolicy() {
+        return this.policy;
+    }
+
+    /**
+     * @return the number of events waiting for the subscriber
+     */
+    public int size() {
+        this.lock.lock();
+        try {
+            return this.queue.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of events handed to the subscriber
+     */
+    public long getDelivered() {
+        return this.delivered.get();
+    }
+
+    /**
+     * @return the number of events dropped because the queue was full, including the conflated ones
+     */
+    public long getDropped() {
+        return this.dropped.get();
+    }
+
+    /**
+     * @return the number of queued messages replaced by a newer one (CONFLATE)
+     */
+    public long getConflated() {
+        return this.conflated.get();
+    }
+
+    /**
+     * Queues the events the subscriber takes. Called by the dispatcher of the bus.
+     * @param event
+     */
+    //GOTCHA: Methods annotated with @Subscribe MUST be public
+    @Subscribe
+    @AllowConcurrentEvents
+    public void offer(Object event) {
+        if (this.closed || this.methods.matching(event.getClass()).length == 0) {
+            return;
+        }
+        this.lock.lock();
+        try {
+            if (this.policy == OverflowPolicy.CONFLATE && event instanceof MAVLinkMessage) {
+                MAVLinkMessage message = (MAVLinkMessage) event;
+                int key = (message.sysid & 0xFF) << 24 | message.msgid;
+                Slot slot = this.slots.get(key);
+                if (slot != null) {
+                    slot.event = event;
+                    this.conflated.incrementAndGet();
+                    this.dropped.incrementAndGet();
+                    return;
+                }
+                slot = new Slot(key, event);
+                makeRoom();
+                this.slots.put(key, slot);
+                this.queue.addLast(slot);
+            } else {
+                if (this.queue.size() >= this.capacity) {
+                    if (this.policy == OverflowPolicy.DROP_NEWEST) {
+                        this.dropped.incrementAndGet();
+                        return;
+                    } else if (this.policy == OverflowPolicy.BLOCK) {
+                        while (this.queue.size() >= this.capacity && !this.closed) {
+                            this.notFull.await(100, TimeUnit.MILLISECONDS);
+                        }
+                        if (this.closed) {
+                            return;
+                        }
+                    } else {
+                        makeRoom();
+                    }
+                }
+                this.queue.addLast(event);
+            }
+            this.notEmpty.signal();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the oldest events until there is room for one more
+     */
+    private void makeRoom() {
+        while (this.queue.size() >= this.capacity) {
+            Object oldest = this.queue.pollFirst();
+            if (oldest instanceof Slot) {
+                this.slots.remove(((Slot) oldest).key);
+            }
+            this.dropped.incrementAndGet();
+        }
+    }
+
+    private Object take() throws InterruptedException {
+        this.lock.lock();
+        try {
+            while (this.queue.isEmpty()) {
+                if (this.closed) {
+                    return null;
+                }
+                this.notEmpty.await(100, TimeUnit.MILLISECONDS);
+            }
+            Object event = this.queue.pollFirst();
+            if (event instanceof Slot) {
+                Slot slot = (Slot) event;
+                this.slots.remove(slot.key);
+                event = slot.event;
+            }
+            this.notFull.signal();
+            return event;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void run() {
+        try {
+            Object event;
+            while ((event = take()) != null) {
+                this.methods.dispatch(event);
+                this.delivered.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            LOGGER.log(Level.FINE, "MAVLinkSubscriberQueue: " + this.thread.getName() + " interrupted");
+        }
+    }
+
+    /**
+     * Stops the thread once the subscriber has handled the queued events (waiting at most a second)
+     */
+    public void close() {
+        this.closed = true;
+        this.lock.lock();
+        try {
+            this.notFull.signalAll();
+            this.notEmpty.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+        try {
+            this.thread.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.thread.interrupt();
+    }
+
+    public String toString() {
+        return "MAVLinkSubscriberQueue[" + this.subscriber + ", " + this.policy + ", capacity=" + this.capacity
+                + ", dropped=" + this.dropped.get() + "]";
+    }
+}
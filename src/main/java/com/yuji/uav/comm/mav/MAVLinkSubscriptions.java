@@ -0,0 +1,228 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.google.common.eventbus.Subscribe;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The per-msgid handlers of a bus, and the msgids its links have to unpack.
+ *
+ * Handlers subscribed with subscribe(msgid, handler) are kept in an array of handler arrays indexed by msgid
+ * (msgids above 255, which only MAVLink 2 carries, in a map). A handler array is replaced, never modified,
+ * when a handler is added or removed, so a link finds the handlers of a packet with one array read and
+ * without locking.
+ *
+ * The subscribers registered on the bus are inspected too: a @Subscribe method taking a message class
+ * (e.g., msg_attitude) needs that msgid to be posted, and a method taking MAVLinkMessage (or Object) needs
+ * every msgid. A packet whose msgid has no handler and is not needed by a subscriber is not unpacked at all.
+ *
+ * @author Philip L. Giacalone
+ */
+public class MAVLinkSubscriptions {
+
+    /**
+     * Receives the messages of one msgid. Called on the receiving thread of the link, so it should return quickly.
+     */
+    public interface Handler {
+        void handle(MAVLinkMessage message);
+    }
+
+    //the msgid of each message class, -1 for the classes that stand for every msgid
+    private static final Map<Class<?>, Integer> MSGIDS = new ConcurrentHashMap<Class<?>, Integer>();
+
+    private static final int ALL = -1;
+
+    private static final int SIZE = 256;
+
+    //the handlers of each msgid, null if there are none
+    private final AtomicReferenceArray<Handler[]> handlers = new AtomicReferenceArray<Handler[]>(SIZE);
+    private final Map<Integer, Handler[]> extendedHandlers = new ConcurrentHashMap<Integer, Handler[]>();
+
+    //the number of registered subscribers taking each msgid, and taking every msgid
+    private final AtomicIntegerArray posted = new AtomicIntegerArray(SIZE);
+    private final Map<Integer, Integer> extendedPosted = new ConcurrentHashMap<Integer, Integer>();
+    private volatile int postedAll;
+
+    //the msgids of each registered subscriber; written under the lock of this object
+    private final Map<Object, int[]> subscribers = new IdentityHashMap<Object, int[]>();
+
+    /**
+     * Adds a handler for the messages with the given msgid
+     * @param msgid
+     * @param handler
+     */
+    public synchronized void subscribe(int msgid, Handler handler) {
+        Handler[] current = getHandlers(msgid);
+        Handler[] updated;
+        if (current == null) {
+            updated = new Handler[]{handler};
+        } else {
+            updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = handler;
+        }
+        setHandlers(msgid, updated);
+    }
+
+    /**
+     * Removes a handler added with subscribe()
+     * @param msgid
+     * @param handler
+     */
+    public synchronized void unsubscribe(int msgid, Handler handler) {
+        Handler[] current = getHandlers(msgid);
+        if (current == null) {
+            return;
+        }
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == handler) {
+                Handler[] updated = null;
+                if (current.length > 1) {
+                    updated = new Handler[current.length - 1];
+                    System.arraycopy(current, 0, updated, 0, i);
+                    System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                }
+                setHandlers(msgid, updated);
+                return;
+            }
+        }
+    }
+
+    private void setHandlers(int msgid, Handler[] updated) {
+        if (msgid >= 0 && msgid < SIZE) {
+            this.handlers.set(msgid, updated);
+        } else if (updated == null) {
+            this.extendedHandlers.remove(msgid);
+        } else {
+            this.extendedHandlers.put(msgid, updated);
+        }
+    }
+
+    /**
+     * @param msgid
+     * @return the handlers of the msgid, or null if there are none
+     */
+    public Handler[] getHandlers(int msgid) {
+        if (msgid >= 0 && msgid < SIZE) {
+            return this.handlers.get(msgid);
+        }
+        return this.extendedHandlers.isEmpty() ? null : this.extendedHandlers.get(msgid);
+    }
+
+    /**
+     * @param msgid
+     * @return true if a registered subscriber takes the messages with this msgid
+     */
+    public boolean isPosted(int msgid) {
+        if (this.postedAll > 0) {
+            return true;
+        }
+        if (msgid >= 0 && msgid < SIZE) {
+            return this.posted.get(msgid) > 0;
+        }
+        return !this.extendedPosted.isEmpty() && this.extendedPosted.containsKey(msgid);
+    }
+
+    /**
+     * Notes the msgids taken by the @Subscribe methods of a subscriber registered on the bus
+     * @param subscriber
+     */
+    synchronized void register(Object subscriber) {
+        if (this.subscribers.containsKey(subscriber)) {
+            return;
+        }
+        int[] msgids = findMsgids(subscriber.getClass());
+        this.subscribers.put(subscriber, msgids);
+        count(msgids, 1);
+    }
+
+    /**
+     * Forgets the msgids of a subscriber unregistered from the bus
+     * @param subscriber
+     */
+    synchronized void unregister(Object subscriber) {
+        int[] msgids = this.subscribers.remove(subscriber);
+        if (msgids != null) {
+            count(msgids, -1);
+        }
+    }
+
+    private void count(int[] msgids, int delta) {
+        for (int msgid : msgids) {
+            if (msgid == ALL) {
+                this.postedAll += delta;
+            } else if (msgid < SIZE) {
+                this.posted.addAndGet(msgid, delta);
+            } else {
+                int count = this.extendedPosted.getOrDefault(msgid, 0) + delta;
+                if (count > 0) {
+                    this.extendedPosted.put(msgid, count);
+                } else {
+                    this.extendedPosted.remove(msgid);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param subscriberClass
+     * @return the msgids taken by the @Subscribe methods of the class and its superclasses (ALL for a method
+     * taking every message); methods taking other events (e.g., MAVVehicleEvent) take none
+     */
+    static int[] findMsgids(Class<?> subscriberClass) {
+        int[] msgids = new int[0];
+        for (Class<?> type = subscriberClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class) && method.getParameterTypes().length == 1) {
+                    int msgid = msgidOf(method.getParameterTypes()[0]);
+                    if (msgid != Integer.MIN_VALUE) {
+                        msgids = Arrays.copyOf(msgids, msgids.length + 1);
+                        msgids[msgids.length - 1] = msgid;
+                    }
+                }
+            }
+        }
+        return msgids;
+    }
+
+    /**
+     * @param eventType the parameter type of a @Subscribe method
+     * @return the msgid of a message class, ALL for MAVLinkMessage and its supertypes, or Integer.MIN_VALUE
+     * if the type is not a message
+     */
+    static int msgidOf(Class<?> eventType) {
+        if (eventType.isAssignableFrom(MAVLinkMessage.class)) {
+            return ALL;
+        }
+        if (!MAVLinkMessage.class.isAssignableFrom(eventType)) {
+            return Integer.MIN_VALUE;
+        }
+        Integer msgid = MSGIDS.get(eventType);
+        if (msgid == null) {
+            msgid = ALL;
+            //the generated message classes declare their msgid as MAVLINK_MSG_ID_<NAME>
+            for (Field field : eventType.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) && field.getType() == int.class && field.getName().startsWith("MAVLINK_MSG_ID_")) {
+                    try {
+                        field.setAccessible(true);
+                        msgid = field.getInt(null);
+                    } catch (IllegalAccessException e) {
+                        msgid = ALL;
+                    }
+                    break;
+                }
+            }
+            MSGIDS.put(eventType, msgid);
+        }
+        return msgid;
+    }
+}
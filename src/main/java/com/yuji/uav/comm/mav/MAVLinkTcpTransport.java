@@ -0,0 +1,415 @@
+package com.yuji.uav.comm.mav;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A MAVLinkTransport over TCP (e.g., SITL or MAVProxy-style routers, which usually listen on port 5760).
+ *
+ * A single selector thread serves every connection, whether opened with connect() or accepted by a
+ * listen() socket, so dozens of vehicles need one thread rather than one per link. Each connection reads
+ * into its own reused direct buffer and is a separate peer for the receiver, so it gets its own Parser.
+ * Writes that do not fit in the socket buffer are queued per connection and finished by the selector thread;
+ * a connection that does not read holds at most maxPendingBytes, and the frames beyond are dropped and counted.
+ *
+ * @author Philip L. Giacalone
+ */
+public class MAVLinkTcpTransport implements MAVLinkTransport {
+
+    private static Logger LOGGER = Logger.getLogger("com.yuji.uav.comm.mav");
+
+    /** The port SITL and MAVProxy listen on by convention */
+    public static final int DEFAULT_PORT = 5760;
+
+    /** The default number of bytes queued per connection before frames are dropped */
+    public static final int DEFAULT_MAX_PENDING_BYTES = 1 << 20;
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    //the logical name of the device(s) sending/receiving data to/from this transport (i.e., SITL, MAVProxy, etc)
+    private String deviceName;
+
+    private final Selector selector;
+
+    //work handed to the selector thread by other threads (registrations, write interest)
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<Runnable>();
+
+    private final List<Connection> connections = new CopyOnWriteArrayList<Connection>();
+    private final List<ServerSocketChannel> servers = new CopyOnWriteArrayList<ServerSocketChannel>();
+
+    private volatile Receiver receiver;
+
+    private final int maxPendingBytes;
+
+    //the frames (and their bytes) dropped because a connection had maxPendingBytes queued
+    private final AtomicLong droppedFrames = new AtomicLong();
+    private final AtomicLong droppedBytes = new AtomicLong();
+
+    /**
+     * Constructor. Connections can be added with connect() and listen() before or after the transport is
+     * opened; they are served once it is.
+     * @param deviceName a user-friendly name of the device(s) on this transport (e.g., SITL_1)
+     * @throws MAVLinkSerialPortException if the selector cannot be opened
+     */
+    public MAVLinkTcpTransport(String deviceName) throws MAVLinkSerialPortException {
+        this(deviceName, DEFAULT_MAX_PENDING_BYTES);
+    }
+
+    /**
+     * Constructor
+     * @param deviceName a user-friendly name of the device(s) on this transport (e.g., SITL_1)
+     * @param maxPendingBytes the number of bytes queued for a connection that does not keep up, beyond which
+     *                        the frames sent to it are dropped
+     * @throws MAVLinkSerialPortException if the selector cannot be opened
+     */
+    public MAVLinkTcpTransport(String deviceName, int maxPendingBytes) throws MAVLinkSerialPortException {
+        if (maxPendingBytes < 0) {
+            throw new IllegalArgumentException("maxPendingBytes must not be negative");
+        }
+        this.deviceName = deviceName;
+        this.maxPendingBytes = maxPendingBytes;
+        try {
+            this.selector = Selector.open();
+        } catch (IOException e) {
+            throw new MAVLinkSerialPortException("Failed to open selector: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String getName() {
+        return this.deviceName;
+    }
+
+    /**
+     * Starts the selector thread
+     */
+    @Override
+    public void open(Receiver receiver) throws MAVLinkSerialPortException {
+        this.receiver = receiver;
+        Thread selectorThread = new Thread(this::run, "MAVLinkTcpTransport-" + deviceName);
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+    }
+
+    /**
+     * Opens a connection to a TCP server (e.g., SITL on port 5760). Returns once connected.
+     * @param remoteAddress
+     * @throws MAVLinkSerialPortException if the connection cannot be made
+     */
+    public void connect(InetSocketAddress remoteAddress) throws MAVLinkSerialPortException {
+        try {
+            SocketChannel channel = SocketChannel.open(remoteAddress);
+            channel.socket().setTcpNoDelay(true);
+            channel.configureBlocking(false);
+            //the connection can be sent to right away; the selector thread starts reading it shortly
+            Connection connection = new Connection(channel);
+            this.connections.add(connection);
+            submit(() -> register(connection));
+        } catch (IOException e) {
+            throw new MAVLinkSerialPortException("Failed to connect to " + remoteAddress + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Accepts connections from vehicles (or routers) on the given local address
+     * @param localAddress
+     * @return the bound address (useful when listening on port 0)
+     * @throws MAVLinkSerialPortException if the address cannot be bound
+     */
+    public InetSocketAddress listen(InetSocketAddress localAddress) throws MAVLinkSerialPortException {
+        try {
+            ServerSocketChannel server = ServerSocketChannel.open();
+            server.bind(localAddress);
+            server.configureBlocking(false);
+            this.servers.add(server);
+            submit(() -> {
+                try {
+                    server.register(selector, SelectionKey.OP_ACCEPT);
+                } catch (IOException e) {
+                    LOGGER.log(Level.WARNING, "MAVLinkTcpTransport: failed to listen on " + localAddress + ": " + e);
+                }
+            });
+            return (InetSocketAddress) server.getLocalAddress();
+        } catch (IOException e) {
+            throw new MAVLinkSerialPortException("Failed to listen on " + localAddress + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Closes every connection and listening socket, and stops the selector thread
+     * @throws MAVLinkSerialPortException
+     */
+    @Override
+    public void close() throws MAVLinkSerialPortException {
+        try {
+            for (ServerSocketChannel server : this.servers) {
+                server.close();
+            }
+            for (Connection connection : this.connections) {
+                connection.close();
+            }
+            this.selector.close();
+        } catch (IOException e) {
+            throw new MAVLinkSerialPortException(e.getMessage());
+        }
+    }
+
+    /**
+     * @return the number of open connections
+     */
+    public int getConnectionCount() {
+        return this.connections.size();
+    }
+
+    /**
+     * @return the number of frames dropped because their connection had maxPendingBytes queued
+     */
+    public long getDroppedFrames() {
+        return this.droppedFrames.get();
+    }
+
+    /**
+     * @return the number of bytes dropped because their connection had maxPendingBytes queued
+     */
+    public long getDroppedBytes() {
+        return this.droppedBytes.get();
+    }
+
+    /**
+     * Writes the bytes to one connection, or to every connection when peer is null. A connection that fails
+     * is closed; a broadcast still reaches the others, and throws only if it reached none.
+     */
+    @Override
+    public void send(Object peer, byte[] bytes, int offset, int length) throws MAVLinkSerialPortException {
+        if (peer != null) {
+            Connection connection = (Connection) peer;
+            try {
+                connection.send(bytes, offset, length);
+            } catch (MAVLinkSerialPortException e) {
+                connection.close();
+                throw e;
+            }
+        } else {
+            MAVLinkSerialPortException failure = null;
+            int sent = 0;
+            for (Connection connection : this.connections) {
+                try {
+                    connection.send(bytes, offset, length);
+                    sent++;
+                } catch (MAVLinkSerialPortException e) {
+                    LOGGER.log(Level.WARNING, "MAVLinkTcpTransport: send to " + connection.remoteAddress + " failed: " + e.getMessage());
+                    connection.close();
+                    failure = e;
+                }
+            }
+            if (failure != null && sent == 0) {
+                throw failure;
+            }
+        }
+    }
+
+    //============================================================
+
+    /**
+     * Runs the task on the selector thread
+     */
+    private void submit(Runnable task) {
+        this.tasks.add(task);
+        this.selector.wakeup();
+    }
+
+    /**
+     * Adds a connection to the selector (selector thread only)
+     */
+    private void register(Connection connection) {
+        try {
+            connection.key = connection.channel.register(this.selector, SelectionKey.OP_READ, connection);
+            LOGGER.log(Level.INFO, "MAVLinkTcpTransport: connected to " + connection.remoteAddress);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "MAVLinkTcpTransport: failed to register connection to " + connection.remoteAddress + ": " + e);
+            connection.close();
+        }
+    }
+
+    /**
+     * The selector loop
+     */
+    private void run() {
+        try {
+            while (this.selector.isOpen()) {
+                this.selector.select();
+                Runnable task;
+                while ((task = this.tasks.poll()) != null) {
+                    task.run();
+                }
+                Iterator<SelectionKey> keys = this.selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept((ServerSocketChannel) key.channel());
+                        continue;
+                    }
+                    Connection connection = (Connection) key.attachment();
+                    try {
+                        if (key.isReadable()) {
+                            connection.read();
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            connection.flush();
+                        }
+                    } catch (IOException e) {
+                        LOGGER.log(Level.WARNING, "MAVLinkTcpTransport: connection to " + connection.remoteAddress + " failed: " + e);
+                        connection.close();
+                    }
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            if (this.selector.isOpen()) {
+                LOGGER.log(Level.WARNING, "MAVLinkTcpTransport error: " + e);
+            }
+        }
+    }
+
+    private void accept(ServerSocketChannel server) {
+        try {
+            SocketChannel channel = server.accept();
+            if (channel != null) {
+                channel.socket().setTcpNoDelay(true);
+                channel.configureBlocking(false);
+                Connection connection = new Connection(channel);
+                this.connections.add(connection);
+                register(connection);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "MAVLinkTcpTransport: accept failed: " + e);
+        }
+    }
+
+    /**
+     * One TCP connection, and the peer the receiver sees for it. Reads happen on the selector thread;
+     * send() may be called from any thread.
+     */
+    class Connection {
+
+        final SocketChannel channel;
+        final SocketAddress remoteAddress;
+        SelectionKey key;
+
+        //reused for every read
+        private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+
+        //bytes the socket did not accept yet, and their number (guarded by this)
+        private final Queue<ByteBuffer> pending = new ArrayDeque<ByteBuffer>();
+        private int pendingBytes;
+
+        Connection(SocketChannel channel) throws IOException {
+            this.channel = channel;
+            this.remoteAddress = channel.getRemoteAddress();
+        }
+
+        /**
+         * Reads what is available and passes it to the receiver
+         */
+        void read() throws IOException {
+            readBuffer.clear();
+            int count = channel.read(readBuffer);
+            if (count < 0) {
+                LOGGER.log(Level.INFO, "MAVLinkTcpTransport: connection closed by " + remoteAddress);
+                close();
+                return;
+            }
+            readBuffer.flip();
+            //frames cut off at the end of the buffer are completed by the next read
+            receiver.received(this, readBuffer);
+        }
+
+        /**
+         * Writes the bytes, queueing a copy of what the socket does not take right away, or dropping them
+         * when the connection already has maxPendingBytes queued
+         */
+        void send(byte[] bytes, int offset, int length) throws MAVLinkSerialPortException {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    try {
+                        channel.write(buffer);
+                    } catch (IOException e) {
+                        throw new MAVLinkSerialPortException(e.getMessage());
+                    }
+                    if (!buffer.hasRemaining()) {
+                        return;
+                    }
+                } else if (pendingBytes + length > maxPendingBytes) {
+                    //nothing of the frame was written, so dropping it whole keeps the stream parseable
+                    if (droppedFrames.getAndIncrement() == 0) {
+                        LOGGER.log(Level.WARNING, "MAVLinkTcpTransport: " + remoteAddress + " does not keep up; dropping frames");
+                    }
+                    droppedBytes.addAndGet(length);
+                    return;
+                }
+                //the caller may reuse its array once send() returns, so the rest is copied
+                ByteBuffer rest = ByteBuffer.allocate(buffer.remaining());
+                rest.put(buffer).flip();
+                pending.add(rest);
+                pendingBytes += rest.remaining();
+            }
+            //runs after the task registering this connection, so key is set
+            submit(() -> {
+                if (key != null && key.isValid()) {
+                    key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                }
+            });
+        }
+
+        /**
+         * Writes queued bytes once the socket can take more (selector thread only)
+         */
+        synchronized void flush() throws IOException {
+            while (!pending.isEmpty()) {
+                ByteBuffer head = pending.peek();
+                pendingBytes -= channel.write(head);
+                if (head.hasRemaining()) {
+                    return;
+                }
+                pending.poll();
+            }
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+        }
+
+        void close() {
+            if (connections.remove(this) && receiver != null) {
+                receiver.disconnected(this);
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "MAVLinkTcpTransport: error closing " + remoteAddress + ": " + e);
+            }
+        }
+
+        public String toString() {
+            return "MAVLinkTcpTransport.Connection[" + remoteAddress + "]";
+        }
+    }
+
+}
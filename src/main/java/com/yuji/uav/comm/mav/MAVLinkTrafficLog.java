@@ -0,0 +1,167 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageRegistry;
+
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Diagnostic channel for the MAVLink messages received on one link.
+ *
+ * Every received message is counted per msgid; that is all the receive path
+ * pays when logging is off. Messages whose msgid is not registered (line noise,
+ * or a dialect newer than ours) share one "other" counter, so a stray MAVLink 2
+ * msgid cannot grow the per-msgid arrays. The "com.yuji.uav.comm.mav.traffic" logger controls
+ * the rest:
+ *
+ *   FINE   - a full dump (toString) of a message, at most once per sample interval per msgid
+ *   FINEST - one line per received message
+ *
+ * Log records are built by Supplier lambdas, so no strings are formatted unless
+ * the level is enabled.
+ *
+ * The counters are written by the link's reader thread only. Other threads may
+ * read them at any time; the values they see can lag slightly.
+ *
+ * @author Philip L. Giacalone
+ */
+public class MAVLinkTrafficLog {
+
+    private static Logger LOGGER = Logger.getLogger("com.yuji.uav.comm.mav.traffic");
+
+    public static final long DEFAULT_SAMPLE_INTERVAL_MILLIS = 5000;
+
+    //the logical name of the device on this link (i.e., Pixhawk, UDB, etc)
+    private final String deviceName;
+
+    private volatile long sampleIntervalNanos = DEFAULT_SAMPLE_INTERVAL_MILLIS * 1000000L;
+
+    //the per-msgid arrays grow only for registered msgids up to this one
+    private static final int MAX_COUNTED_MSGID = 0xFFFF;
+
+    //received message counts and the time of the last dump, indexed by msgid and grown on demand
+    private long[] counts = new long[256];
+    private long[] lastDumpNanos = new long[256];
+    private long totalCount;
+
+    //the messages with a msgid that is not counted in the arrays
+    private long otherCount;
+
+    MAVLinkTrafficLog(String deviceName) {
+        this.deviceName = deviceName;
+    }
+
+    /**
+     * Sets the minimum time between two full dumps of the same message type
+     * @param millis
+     */
+    public void setSampleInterval(long millis) {
+        this.sampleIntervalNanos = millis * 1000000L;
+    }
+
+    /**
+     * Called by the reader for each received message
+     * @param message
+     */
+    void received(final MAVLinkMessage message) {
+        int msgid = message.msgid;
+        if (!received(msgid) || !LOGGER.isLoggable(Level.FINE)) {
+            return;
+        }
+        long now = System.nanoTime();
+        //a dump is due when this msgid has never been dumped, or not within the sample interval
+        if (lastDumpNanos[msgid] == 0 || now - lastDumpNanos[msgid] >= sampleIntervalNanos) {
+            lastDumpNanos[msgid] = now == 0 ? 1 : now;
+            final long count = counts[msgid];
+            LOGGER.log(Level.FINE, () -> "MAVLink msg from [" + deviceName + " (" + message.sysid + ")] #" + count + ": " + message);
+        }
+        LOGGER.log(Level.FINEST, () -> "MAVLink msg from [" + deviceName + " (" + message.sysid + ")]: " + message.getClass().getName());
+    }
+
+    /**
+     * Called by the reader for each received message that is not unpacked; it is counted but not dumped
+     * @param msgid
+     * @return true if the msgid has its own counter, false if it was counted as "other"
+     */
+    boolean received(int msgid) {
+        totalCount++;
+        if (msgid < 0 || msgid >= counts.length) {
+            if (msgid < 0 || msgid > MAX_COUNTED_MSGID || !MAVLinkMessageRegistry.getDefault().isRegistered(msgid)) {
+                otherCount++;
+                return false;
+            }
+            grow(msgid);
+        }
+        counts[msgid]++;
+        return true;
+    }
+
+    private void grow(int msgid) {
+        int length = counts.length;
+        while (length <= msgid) {
+            length *= 2;
+        }
+        //publish the larger arrays only after the counts are copied
+        long[] grownDumps = Arrays.copyOf(lastDumpNanos, length);
+        long[] grownCounts = Arrays.copyOf(counts, length);
+        lastDumpNanos = grownDumps;
+        counts = grownCounts;
+    }
+
+    /**
+     * @param msgid
+     * @return the number of messages with this msgid received on this link
+     */
+    public long getCount(int msgid) {
+        long[] current = counts;
+        return msgid >= 0 && msgid < current.length ? current[msgid] : 0;
+    }
+
+    /**
+     * @return the number of messages received on this link
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * @return the number of messages received with a msgid that has no counter of its own (not registered)
+     */
+    public long getOtherCount() {
+        return otherCount;
+    }
+
+    /**
+     * @return the non-zero counts as "msgid=count" pairs, e.g. "{0=12, 30=601}", followed by "other=count"
+     * when messages with unregistered msgids arrived
+     */
+    public String formatCounts() {
+        long[] current = counts;
+        StringBuilder sb = new StringBuilder("{");
+        for (int msgid = 0; msgid < current.length; msgid++) {
+            if (current[msgid] != 0) {
+                if (sb.length() > 1) {
+                    sb.append(", ");
+                }
+                sb.append(msgid).append('=').append(current[msgid]);
+            }
+        }
+        if (otherCount != 0) {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append("other=").append(otherCount);
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * Logs the per-msgid counts at the given level, e.g. periodically or when the link is closed
+     * @param level
+     */
+    public void logCounts(Level level) {
+        LOGGER.log(level, () -> "MAVLink msg counts from [" + deviceName + "]: total=" + totalCount + " " + formatCounts());
+    }
+}
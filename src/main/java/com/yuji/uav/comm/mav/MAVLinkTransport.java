@@ -0,0 +1,84 @@
+package com.yuji.uav.comm.mav;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A link that carries MAVLink bytes to and from one or more vehicles: a serial port, a UDP or TCP socket,
+ * a recorded log, an in-memory loopback, etc.
+ *
+ * A transport only moves bytes. Parsing, signing, routing by sysid and delivering messages are done by the
+ * MAVLinkCommunicationBus (or MAVLinkPortal) it is attached to, so any number of transports of any type can
+ * be attached to one bus.
+ *
+ * Transports that reach several peers (e.g., UDP or TCP with several vehicles) identify each peer with an
+ * object of their choice, which is passed to the Receiver with the bytes and may be passed back to send().
+ * Single peer transports (e.g., a serial port) pass the same object every time.
+ *
+ * @author Philip L. Giacalone
+ */
+public interface MAVLinkTransport {
+
+    /**
+     * Receives the bytes read by a transport.
+     * A transport never calls its receiver from two threads at the same time.
+     */
+    interface Receiver {
+
+        /**
+         * Called with bytes read from a peer. The bytes are only valid during the call.
+         * @param peer the peer the bytes came from
+         * @param bytes the bytes, from position to limit
+         */
+        void received(Object peer, ByteBuffer bytes);
+
+        /**
+         * Called when a peer is gone (e.g., its TCP connection was closed)
+         * @param peer
+         */
+        void disconnected(Object peer);
+    }
+
+    /**
+     * @return a user-friendly name of this transport, used in logs (e.g., Pixhawk_1 or SITL_1)
+     */
+    String getName();
+
+    /**
+     * Opens this transport. From now on, received bytes are passed to the receiver.
+     * @param receiver
+     * @throws MAVLinkSerialPortException if the transport cannot be opened
+     */
+    void open(Receiver receiver) throws MAVLinkSerialPortException;
+
+    /**
+     * Sends bytes (one or more whole MAVLink frames)
+     * @param peer the peer to send to, as passed to the Receiver, or null for every peer of this transport
+     * @param bytes
+     * @param offset
+     * @param length
+     * @throws MAVLinkSerialPortException if the bytes cannot be sent
+     */
+    void send(Object peer, byte[] bytes, int offset, int length) throws MAVLinkSerialPortException;
+
+    /**
+     * Closes this transport
+     * @throws MAVLinkSerialPortException
+     */
+    void close() throws MAVLinkSerialPortException;
+
+    /**
+     * @return true if every call to Receiver.received() holds whole frames only (e.g., one UDP datagram),
+     * so a frame cut off at the end is dropped rather than continued by the next call
+     */
+    default boolean isDatagram() {
+        return false;
+    }
+
+    /**
+     * @return the number of bytes per second this transport can carry, or 0 if it is not limited (or not known).
+     * When set, the bytes sent on this transport are shaped to that rate (see MAVLinkRateLimiter).
+     */
+    default int getBytesPerSecond() {
+        return 0;
+    }
+}
@@ -0,0 +1,255 @@
+package com.yuji.uav.comm.mav;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A MAVLinkTransport over UDP (e.g., SITL, companion computers or telemetry bridges, which usually send to
+ * port 14550).
+ *
+ * Each datagram holds one or more whole MAVLink frames and is received into a reused direct buffer by a
+ * reader thread. The peers are the remote socket addresses. Bytes sent to no peer in particular go to every
+ * address heard from recently, or to the configured remote address before any has been heard. An address not
+ * heard from for the peer timeout (e.g. a vehicle that reconnected from a new port) is forgotten.
+ *
+ * @author Philip L. Giacalone
+ */
+public class MAVLinkUdpTransport implements MAVLinkTransport {
+
+    private static Logger LOGGER = Logger.getLogger("com.yuji.uav.comm.mav");
+
+    /** The port ground stations listen on by convention */
+    public static final int DEFAULT_PORT = 14550;
+
+    /** The default time after which an address that sent nothing is no longer sent to */
+    public static final long DEFAULT_PEER_TIMEOUT_MILLIS = 10000;
+
+    //large enough for any datagram, so nothing is ever truncated
+    private static final int RECEIVE_BUFFER_SIZE = 65536;
+
+    //the logical name of the device(s) sending/receiving data to/from this port (i.e., SITL, companion computer, etc)
+    private String deviceName;
+
+    private final InetSocketAddress localAddress;
+
+    //where to send before any peer has been heard from; may be null
+    private final InetSocketAddress remoteAddress;
+
+    //the addresses heard from, and when they were last heard from
+    private final Map<SocketAddress, Heard> peers = new ConcurrentHashMap<SocketAddress, Heard>();
+
+    private volatile long peerTimeoutMillis = DEFAULT_PEER_TIMEOUT_MILLIS;
+
+    private DatagramChannel channel;
+    private volatile Receiver receiver;
+
+    /**
+     * When an address was last heard from
+     */
+    private static class Heard {
+        volatile long millis = System.currentTimeMillis();
+    }
+
+    /**
+     * Constructor
+     *
+     * @param deviceName a user-friendly name of the device(s) on this port (e.g., SITL_1)
+     * @param localAddress the local address and port to receive on (e.g., new InetSocketAddress(14550))
+     * @param remoteAddress where to send before any peer has been heard from, or null to wait for the
+     *                      vehicles to send first
+     */
+    public MAVLinkUdpTransport(String deviceName, InetSocketAddress localAddress, InetSocketAddress remoteAddress) {
+        this.deviceName = deviceName;
+        this.localAddress = localAddress;
+        this.remoteAddress = remoteAddress;
+    }
+
+    @Override
+    public String getName() {
+        return this.deviceName;
+    }
+
+    @Override
+    public boolean isDatagram() {
+        return true;
+    }
+
+    @Override
+    public void open(Receiver receiver) throws MAVLinkSerialPortException {
+        this.receiver = receiver;
+        try {
+            this.channel = DatagramChannel.open();
+            this.channel.bind(this.localAddress);
+        } catch (IOException e) {
+            throw new MAVLinkSerialPortException("Failed to open UDP port " + this.localAddress + ": " + e.getMessage());
+        }
+        Thread readerThread = new Thread(new DatagramReader(receiver), "MAVLinkUdpTransport-" + deviceName);
+        readerThread.setDaemon(true);
+        readerThread.start();
+    }
+
+    /**
+     * Closes this port and stops its reader thread
+     * @throws MAVLinkSerialPortException
+     */
+    @Override
+    public void close() throws MAVLinkSerialPortException {
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            throw new MAVLinkSerialPortException(e.getMessage());
+        }
+    }
+
+    /**
+     * @return the local address this port receives on (useful when bound to port 0)
+     */
+    public InetSocketAddress getLocalAddress() throws MAVLinkSerialPortException {
+        try {
+            return (InetSocketAddress) this.channel.getLocalAddress();
+        } catch (IOException e) {
+            throw new MAVLinkSerialPortException(e.getMessage());
+        }
+    }
+
+    /**
+     * Sets the time after which an address that sent nothing is forgotten
+     * @param peerTimeoutMillis
+     */
+    public void setPeerTimeoutMillis(long peerTimeoutMillis) {
+        this.peerTimeoutMillis = peerTimeoutMillis;
+    }
+
+    public long getPeerTimeoutMillis() {
+        return this.peerTimeoutMillis;
+    }
+
+    /**
+     * @return the number of addresses the bytes sent to no peer in particular go to
+     */
+    public int getPeerCount() {
+        return this.peers.size();
+    }
+
+    /**
+     * Writes the bytes to one address, or to every address heard from when peer is null. A broadcast skips
+     * (and logs) the addresses that fail, and throws only if it reached none.
+     */
+    @Override
+    public void send(Object peer, byte[] bytes, int offset, int length) throws MAVLinkSerialPortException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+        if (peer != null) {
+            try {
+                this.channel.send(buffer, (SocketAddress) peer);
+            } catch (IOException e) {
+                throw new MAVLinkSerialPortException(e.getMessage());
+            }
+            return;
+        }
+        forgetSilentPeers();
+        if (this.peers.isEmpty()) {
+            if (this.remoteAddress != null) {
+                try {
+                    this.channel.send(buffer, this.remoteAddress);
+                } catch (IOException e) {
+                    throw new MAVLinkSerialPortException(e.getMessage());
+                }
+            } else {
+                LOGGER.log(Level.FINE, () -> "MAVLinkUdpTransport: no peer heard from yet, " + length + " bytes dropped");
+            }
+            return;
+        }
+        IOException failure = null;
+        int sent = 0;
+        for (SocketAddress address : this.peers.keySet()) {
+            buffer.position(offset);
+            try {
+                this.channel.send(buffer, address);
+                sent++;
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "MAVLinkUdpTransport: send to " + address + " failed: " + e);
+                failure = e;
+            }
+        }
+        if (failure != null && sent == 0) {
+            throw new MAVLinkSerialPortException(failure.getMessage());
+        }
+    }
+
+    /**
+     * Records that an address was heard from
+     */
+    void heard(SocketAddress address) {
+        Heard heard = this.peers.get(address);
+        if (heard == null) {
+            this.peers.put(address, new Heard());
+        } else {
+            heard.millis = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Forgets the addresses not heard from for the peer timeout
+     */
+    private void forgetSilentPeers() {
+        long oldest = System.currentTimeMillis() - this.peerTimeoutMillis;
+        Iterator<Map.Entry<SocketAddress, Heard>> entries = this.peers.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<SocketAddress, Heard> entry = entries.next();
+            if (entry.getValue().millis < oldest) {
+                entries.remove();
+                LOGGER.log(Level.INFO, "MAVLinkUdpTransport: " + entry.getKey() + " not heard from for " + this.peerTimeoutMillis + " ms, forgotten");
+                Receiver receiver = this.receiver;
+                if (receiver != null) {
+                    receiver.disconnected(entry.getKey());
+                }
+            }
+        }
+    }
+
+    //============================================================
+
+    /**
+     * This internal class runs on the reader thread.
+     * It receives datagrams from the channel and passes them to the receiver.
+     */
+    class DatagramReader implements Runnable {
+
+        Receiver receiver;
+
+        //reused for every datagram
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(RECEIVE_BUFFER_SIZE);
+
+
+        DatagramReader(Receiver receiver) {
+            this.receiver = receiver;
+        }
+
+        @Override
+        public void run() {
+            while (channel.isOpen()) {
+                try {
+                    buffer.clear();
+                    SocketAddress sender = channel.receive(buffer);
+                    buffer.flip();
+                    heard(sender);
+                    receiver.received(sender, buffer);
+                } catch (ClosedChannelException e) {
+                    break;
+                } catch (IOException | RuntimeException e) {
+                    LOGGER.log(Level.WARNING, "MAVLinkUdpTransport error: " + e);
+                }
+            }
+        }
+    }
+
+}
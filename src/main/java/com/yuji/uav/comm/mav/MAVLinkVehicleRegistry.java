@@ -0,0 +1,312 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.ApmModes;
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkStats;
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps track of the vehicles (and other MAVLink components: cameras, gimbals, ground stations) heard on a
+ * bus, keyed by (sysid, compid).
+ *
+ * Every received packet updates the component's last-seen time and its link statistics (packets received
+ * and lost, by sequence number). A component heard over several links (e.g. a telemetry radio and a backup
+ * LTE link) has one set of statistics: the copies of a packet received over the other links are not counted. Every msg_heartbeat also updates its MAV_TYPE, autopilot, base_mode,
+ * custom_mode (decoded to an ApmModes) and system_status. A component is connected from its first heartbeat
+ * until no heartbeat has arrived for the timeout (3.5 seconds by default); a MAVVehicleEvent is posted for
+ * each change.
+ *
+ * The state is held in arrays indexed by sysid << 8 | compid, so the lookups done for every received
+ * message are a few array accesses, without hashing or allocation.
+ *
+ * @author Philip L. Giacalone
+ */
+public class MAVLinkVehicleRegistry {
+
+    private static Logger LOGGER = Logger.getLogger("com.yuji.uav.comm.mav");
+
+    /** The default time without a heartbeat after which a component is disconnected */
+    public static final long DEFAULT_TIMEOUT_MILLIS = 3500;
+
+    private static final int SIZE = 256 * 256;
+
+    //receives the MAVVehicleEvents
+    private final Consumer<Object> events;
+
+    //System.currentTimeMillis() of the last packet and the last heartbeat of each component, 0 if never
+    private final AtomicLongArray lastSeen = new AtomicLongArray(SIZE);
+    private final AtomicLongArray lastHeartbeat = new AtomicLongArray(SIZE);
+
+    //the fields of the last heartbeat of each component
+    private final byte[] types = new byte[SIZE];
+    private final byte[] autopilots = new byte[SIZE];
+    private final byte[] baseModes = new byte[SIZE];
+    private final byte[] systemStatuses = new byte[SIZE];
+    private final int[] customModes = new int[SIZE];
+    private final ApmModes[] modes = new ApmModes[SIZE];
+
+    //per-component packet and loss counts, updated by the reader threads of every link under the lock of the
+    //stats; created when the component is first heard
+    private final AtomicReferenceArray<MAVLinkStats> stats = new AtomicReferenceArray<MAVLinkStats>(SIZE);
+
+    //written under the lock of this registry
+    private final boolean[] connected = new boolean[SIZE];
+    private final int[] connectedKeys = new int[SIZE];
+    private int connectedCount;
+
+    private volatile long timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+
+    private ScheduledExecutorService checker;
+
+    /**
+     * Constructor
+     * @param events receives a MAVVehicleEvent when a component connects or disconnects (e.g., a bus's postEvent)
+     */
+    public MAVLinkVehicleRegistry(Consumer<Object> events) {
+        this.events = events;
+    }
+
+    /**
+     * Sets the time without a heartbeat after which a component is disconnected
+     * @param timeoutMillis
+     */
+    public void setTimeoutMillis(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public long getTimeoutMillis() {
+        return this.timeoutMillis;
+    }
+
+    /**
+     * Stops checking for heartbeat timeouts
+     */
+    public synchronized void close() {
+        if (this.checker != null) {
+            this.checker.shutdownNow();
+            this.checker = null;
+        }
+    }
+
+    private static int key(int sysid, int compid) {
+        return (sysid & 0xFF) << 8 | (compid & 0xFF);
+    }
+
+    /**
+     * Updates the component that sent a packet. Called by the links for every packet received.
+     * @param packet the received packet
+     * @param message the message unpacked from it
+     */
+    public void received(MAVLinkPacket packet, MAVLinkMessage message) {
+        int key = key(packet.sysid, packet.compid);
+        long now = System.currentTimeMillis();
+        this.lastSeen.lazySet(key, now);
+
+        MAVLinkStats linkStats = this.stats.get(key);
+        if (linkStats == null) {
+            linkStats = new MAVLinkStats();
+            linkStats.mavlinkResetStats();
+            if (!this.stats.compareAndSet(key, null, linkStats)) {
+                linkStats = this.stats.get(key);
+            }
+        }
+        synchronized (linkStats) {
+            //with redundant links the same packet arrives more than once
+            if (!linkStats.isRepeated(packet)) {
+                linkStats.newPacket(packet);
+            }
+        }
+
+        if (message instanceof msg_heartbeat) {
+            msg_heartbeat heartbeat = (msg_heartbeat) message;
+            this.types[key] = heartbeat.type;
+            this.autopilots[key] = heartbeat.autopilot;
+            this.baseModes[key] = heartbeat.base_mode;
+            this.systemStatuses[key] = heartbeat.system_status;
+            if (this.customModes[key] != heartbeat.custom_mode || this.modes[key] == null) {
+                this.customModes[key] = heartbeat.custom_mode;
+                this.modes[key] = ApmModes.getMode(heartbeat.custom_mode, heartbeat.type & 0xFF);
+            }
+            this.lastHeartbeat.set(key, now);
+            if (!this.connected[key]) {
+                connect(key);
+            }
+        }
+    }
+
+    private void connect(int key) {
+        synchronized (this) {
+            if (this.connected[key]) {
+                return;
+            }
+            this.connected[key] = true;
+            this.connectedKeys[this.connectedCount++] = key;
+            if (this.checker == null) {
+                startChecker();
+            }
+        }
+        LOGGER.log(Level.INFO, "MAVLinkVehicleRegistry: connected sysid=" + (key >> 8) + " compid=" + (key & 0xFF));
+        this.events.accept(event(MAVVehicleEvent.Kind.CONNECTED, key));
+    }
+
+    private void startChecker() {
+        this.checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MAVLinkVehicleRegistry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(100, this.timeoutMillis / 4);
+        this.checker.scheduleWithFixedDelay(() -> checkTimeouts(System.currentTimeMillis()), period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Disconnects the components whose last heartbeat is older than the timeout
+     * @param now System.currentTimeMillis()
+     */
+    void checkTimeouts(long now) {
+        List<Integer> disconnected = null;
+        synchronized (this) {
+            for (int i = 0; i < this.connectedCount; i++) {
+                int key = this.connectedKeys[i];
+                if (now - this.lastHeartbeat.get(key) > this.timeoutMillis) {
+                    this.connected[key] = false;
+                    this.connectedKeys[i--] = this.connectedKeys[--this.connectedCount];
+                    if (disconnected == null) {
+                        disconnected = new ArrayList<Integer>();
+                    }
+                    disconnected.add(key);
+                }
+            }
+        }
+        if (disconnected != null) {
+            for (int key : disconnected) {
+                LOGGER.log(Level.INFO, "MAVLinkVehicleRegistry: disconnected sysid=" + (key >> 8) + " compid=" + (key & 0xFF));
+                this.events.accept(event(MAVVehicleEvent.Kind.DISCONNECTED, key));
+            }
+        }
+    }
+
+    private MAVVehicleEvent event(MAVVehicleEvent.Kind kind, int key) {
+        return new MAVVehicleEvent(kind, key >> 8, key & 0xFF, this.types[key] & 0xFF, this.autopilots[key] & 0xFF);
+    }
+
+    //============================================================
+
+    /**
+     * @param sysid
+     * @param compid
+     * @return true if the component's heartbeats are arriving
+     */
+    public boolean isConnected(int sysid, int compid) {
+        return this.connected[key(sysid, compid)];
+    }
+
+    /**
+     * @return the components that are connected, as sysid << 8 | compid
+     */
+    public synchronized int[] getConnected() {
+        int[] keys = new int[this.connectedCount];
+        System.arraycopy(this.connectedKeys, 0, keys, 0, this.connectedCount);
+        return keys;
+    }
+
+    /**
+     * @param sysid
+     * @param compid
+     * @return System.currentTimeMillis() when the last packet of the component arrived, or 0 if none did
+     */
+    public long getLastSeenMillis(int sysid, int compid) {
+        return this.lastSeen.get(key(sysid, compid));
+    }
+
+    /**
+     * @param sysid
+     * @param compid
+     * @return System.currentTimeMillis() when the last heartbeat of the component arrived, or 0 if none did
+     */
+    public long getLastHeartbeatMillis(int sysid, int compid) {
+        return this.lastHeartbeat.get(key(sysid, compid));
+    }
+
+    /**
+     * @return the MAV_TYPE of the component's last heartbeat
+     */
+    public int getType(int sysid, int compid) {
+        return this.types[key(sysid, compid)] & 0xFF;
+    }
+
+    /**
+     * @return the MAV_AUTOPILOT of the component's last heartbeat
+     */
+    public int getAutopilot(int sysid, int compid) {
+        return this.autopilots[key(sysid, compid)] & 0xFF;
+    }
+
+    /**
+     * @return the MAV_MODE_FLAG bits of the component's last heartbeat
+     */
+    public int getBaseMode(int sysid, int compid) {
+        return this.baseModes[key(sysid, compid)] & 0xFF;
+    }
+
+    /**
+     * @return the custom_mode of the component's last heartbeat
+     */
+    public int getCustomMode(int sysid, int compid) {
+        return this.customModes[key(sysid, compid)];
+    }
+
+    /**
+     * @return the MAV_STATE of the component's last heartbeat
+     */
+    public int getSystemStatus(int sysid, int compid) {
+        return this.systemStatuses[key(sysid, compid)] & 0xFF;
+    }
+
+    /**
+     * @return the flight mode of the component's last heartbeat, or ApmModes.UNKNOWN
+     */
+    public ApmModes getMode(int sysid, int compid) {
+        ApmModes mode = this.modes[key(sysid, compid)];
+        return mode == null ? ApmModes.UNKNOWN : mode;
+    }
+
+    /**
+     * @param sysid
+     * @param compid
+     * @return the packets received from and lost by the component (by its sequence numbers), or null if it was
+     * never heard; the links keep updating it, under its lock
+     */
+    public MAVLinkStats getLinkStats(int sysid, int compid) {
+        return this.stats.get(key(sysid, compid));
+    }
+
+    /**
+     * @return the share of the component's packets that arrived, from 0 to 1 (1 if it was never heard)
+     */
+    public double getLinkQuality(int sysid, int compid) {
+        MAVLinkStats linkStats = this.stats.get(key(sysid, compid));
+        if (linkStats == null) {
+            return 1.0;
+        }
+        int received;
+        int lost;
+        synchronized (linkStats) {
+            received = linkStats.receivedPacketCount;
+            lost = linkStats.lostPacketCount;
+        }
+        return received + lost == 0 ? 1.0 : (double) received / (received + lost);
+    }
+}
@@ -0,0 +1,64 @@
+package com.yuji.uav.comm.mav;
+
+/**
+ * Posted to the bus when a vehicle (or any other MAVLink component) starts or stops sending heartbeats
+ *
+ * @author Philip L. Giacalone
+ */
+public class MAVVehicleEvent {
+
+    public enum Kind {
+        /** The first heartbeat of the component, or the first one after it was disconnected */
+        CONNECTED,
+        /** No heartbeat from the component for the registry's timeout */
+        DISCONNECTED
+    }
+
+    private static final String PREFIX = "MAVVehicleEvent: ";
+
+    private final Kind kind;
+    private final int sysid;
+    private final int compid;
+    private final int type;
+    private final int autopilot;
+
+    /**
+     * Constructor
+     * @param kind
+     * @param sysid
+     * @param compid
+     * @param type the MAV_TYPE of the component's last heartbeat
+     * @param autopilot the MAV_AUTOPILOT of the component's last heartbeat
+     */
+    public MAVVehicleEvent(Kind kind, int sysid, int compid, int type, int autopilot) {
+        this.kind = kind;
+        this.sysid = sysid;
+        this.compid = compid;
+        this.type = type;
+        this.autopilot = autopilot;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public int getSysid() {
+        return sysid;
+    }
+
+    public int getCompid() {
+        return compid;
+    }
+
+    public int getType() {
+        return type;
+    }
+
+    public int getAutopilot() {
+        return autopilot;
+    }
+
+    public String toString(){
+        return PREFIX + kind + " sysid=" + sysid + " compid=" + compid + " type=" + type + " autopilot=" + autopilot;
+    }
+}
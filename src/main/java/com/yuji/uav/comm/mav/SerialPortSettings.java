@@ -20,6 +20,9 @@ public class SerialPortSettings {
     private int dataBits;
     private int stopBits;
     private int parity;
+    private ReadMode readMode = ReadMode.EVENT;
+    private int readMinBatchBytes = DEFAULT_READ_MIN_BATCH_BYTES;
+    private int readMaxWaitMillis = DEFAULT_READ_MAX_WAIT_MILLIS;
 
     //a static map used only to verify that the uniqueDeviceName is indeed unique
     private static Map<String,String> deviceNames = new HashMap<String,String> ();
@@ -32,6 +35,27 @@ public class SerialPortSettings {
     public static final String DATA_BITS = "DATA_BITS";
     public static final String STOP_BITS = "STOP_BITS";
     public static final String PARITY = "PARITY";
+    public static final String READ_MODE = "READ_MODE";
+    public static final String READ_MIN_BATCH_BYTES = "READ_MIN_BATCH_BYTES";
+    public static final String READ_MAX_WAIT_MILLIS = "READ_MAX_WAIT_MILLIS";
+
+    /** The defaults of the optional polling settings */
+    public static final int DEFAULT_READ_MIN_BATCH_BYTES = 256;
+    public static final int DEFAULT_READ_MAX_WAIT_MILLIS = 2;
+
+    /**
+     * How the bytes arriving at the serial port are read
+     */
+    public enum ReadMode {
+        /** One jSSC RXCHAR event (and read) per arrival of bytes; the lowest latency at low rates */
+        EVENT,
+        /**
+         * A dedicated thread polls the port and reads in batches of at least READ_MIN_BATCH_BYTES, or
+         * whatever has arrived once the first byte has waited READ_MAX_WAIT_MILLIS. Far fewer reads at
+         * high baud rates (e.g., 921600), at the cost of up to READ_MAX_WAIT_MILLIS of latency.
+         */
+        POLLING
+    }
 
     /** The set of valid parity values */
     public static final int PARITY_NONE = 0;
@@ -60,6 +84,7 @@ public class SerialPortSettings {
             this.dataBits = Integer.parseInt(props.getProperty(SerialPortSettings.DATA_BITS));
             this.stopBits = Integer.parseInt(props.getProperty(SerialPortSettings.STOP_BITS));
             this.parity = Integer.parseInt(props.getProperty(SerialPortSettings.PARITY));
+            this.readOptionalSettings(props);
 
         } catch (IOException e){
             throw new MAVLinkSerialPortException("Error reading serial port properties file: " + e);
@@ -100,6 +125,45 @@ public class SerialPortSettings {
                 Integer.parseInt(props.getProperty(SerialPortSettings.STOP_BITS)),
                 Integer.parseInt(props.getProperty(SerialPortSettings.PARITY))
         );
+        this.readOptionalSettings(props);
+    }
+
+    /**
+     * Constructor for a serial port read by a polling thread (see ReadMode.POLLING)
+     * @param uniqueDeviceId a user-friendly name of the device connected to the serial port (e.g., Pixhawk_1)
+     * @param portName the name of the local serial port (e.g., COM3 on Windows, /dev/ttyUSB0 on Linux, etc)
+     * @param baudRate e.g., 57600, 115200, 921600, etc
+     * @param dataBits e.g., 8
+     * @param stopBits e.g., 1
+     * @param parity specified as an integer as follows: PARITY_NONE=0, PARITY_ODD=1, PARITY_EVEN=2, PARITY_MARK=3, PARITY_SPACE=4
+     * @param readMinBatchBytes the number of bytes to wait for before reading (e.g., 256)
+     * @param readMaxWaitMillis the longest time arrived bytes wait for the batch to fill up (e.g., 2)
+     */
+    public SerialPortSettings(String uniqueDeviceId, String portName, int baudRate, int dataBits, int stopBits, int parity,
+                              int readMinBatchBytes, int readMaxWaitMillis) throws MAVLinkSerialPortException {
+        this(uniqueDeviceId, portName, baudRate, dataBits, stopBits, parity);
+        this.readMode = ReadMode.POLLING;
+        this.readMinBatchBytes = readMinBatchBytes;
+        this.readMaxWaitMillis = readMaxWaitMillis;
+    }
+
+    /**
+     * Reads the optional READ_MODE, READ_MIN_BATCH_BYTES and READ_MAX_WAIT_MILLIS settings
+     * @param props
+     */
+    private void readOptionalSettings(Properties props) {
+        String mode = props.getProperty(SerialPortSettings.READ_MODE);
+        if (mode != null) {
+            this.readMode = ReadMode.valueOf(mode.trim().toUpperCase());
+        }
+        String minBatch = props.getProperty(SerialPortSettings.READ_MIN_BATCH_BYTES);
+        if (minBatch != null) {
+            this.readMinBatchBytes = Integer.parseInt(minBatch.trim());
+        }
+        String maxWait = props.getProperty(SerialPortSettings.READ_MAX_WAIT_MILLIS);
+        if (maxWait != null) {
+            this.readMaxWaitMillis = Integer.parseInt(maxWait.trim());
+        }
     }
 
     private void checkUnique(String deviceName) throws MAVLinkSerialPortException {
@@ -136,6 +200,18 @@ public class SerialPortSettings {
         return parity;
     }
 
+    public ReadMode getReadMode() {
+        return readMode;
+    }
+
+    public int getReadMinBatchBytes() {
+        return readMinBatchBytes;
+    }
+
+    public int getReadMaxWaitMillis() {
+        return readMaxWaitMillis;
+    }
+
     /**
      * Helper method to read and return the values from a properties file
      * @return a Properties object populated from the give file
@@ -0,0 +1,57 @@
+package com.MAVLink.Messages;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the table-driven X.25 checksum.
+ */
+public class CRCTest {
+
+    private static final byte[] CHECK_INPUT = "123456789".getBytes();
+
+    //published check value of CRC-16/MCRF4XX (X.25 without the final xor), as used by MAVLink
+    private static final int CHECK_VALUE = 0x6F91;
+
+    /** The original bit-shifting accumulate, used as the reference */
+    private static int referenceAccumulate(int data, int crc) {
+        int tmp = (data & 0xff) ^ (crc & 0xff);
+        tmp ^= (tmp << 4) & 0xff;
+        return ((crc >> 8) & 0xff) ^ (tmp << 8) ^ (tmp << 3) ^ ((tmp >> 4) & 0xf);
+    }
+
+    @Test
+    public void testCheckValue() {
+        assertEquals(CHECK_VALUE, CRC.update(CRC.CRC_INIT_VALUE, CHECK_INPUT, 0, CHECK_INPUT.length));
+
+        CRC crc = new CRC();
+        for (byte b : CHECK_INPUT) {
+            crc.update_checksum(b);
+        }
+        assertEquals(CHECK_VALUE, crc.getValue());
+    }
+
+    @Test
+    public void testTableMatchesReference() {
+        for (int crc = 0; crc <= 0xffff; crc += 97) {
+            for (int data = 0; data < 256; data++) {
+                assertEquals(referenceAccumulate(data, crc) & 0xffff, CRC.accumulate(data, crc));
+            }
+        }
+    }
+
+    @Test
+    public void testByteBufferUpdate() {
+        ByteBuffer direct = ByteBuffer.allocateDirect(CHECK_INPUT.length);
+        direct.put(CHECK_INPUT).flip();
+        assertEquals(CHECK_VALUE, CRC.update(CRC.CRC_INIT_VALUE, direct));
+        assertFalse(direct.hasRemaining());
+
+        ByteBuffer heap = ByteBuffer.wrap(CHECK_INPUT, 2, 7).slice();
+        int expected = CRC.update(CRC.CRC_INIT_VALUE, CHECK_INPUT, 2, 7);
+        assertEquals(expected, CRC.update(CRC.CRC_INIT_VALUE, heap));
+    }
+}
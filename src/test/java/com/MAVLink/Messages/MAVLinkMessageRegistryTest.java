@@ -0,0 +1,149 @@
+package com.MAVLink.Messages;
+
+import com.MAVLink.Parser;
+import com.MAVLink.Messages.ardupilotmega.msg_attitude;
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+import com.MAVLink.Messages.ardupilotmega.msg_meminfo;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the msgid-indexed message registry.
+ */
+public class MAVLinkMessageRegistryTest {
+
+    /** A vendor message that is not part of the generated dialect */
+    public static class msg_vendor_status extends MAVLinkMessage {
+        public static final int MAVLINK_MSG_ID_VENDOR_STATUS = 42001;
+        public static final int MAVLINK_MSG_LENGTH = 4;
+        public static final int MAVLINK_CRC_EXTRA = 99;
+
+        public int counter;
+
+        public msg_vendor_status() {
+            msgid = MAVLINK_MSG_ID_VENDOR_STATUS;
+        }
+
+        public MAVLinkPacket pack() {
+            MAVLinkPacket packet = new MAVLinkPacket();
+            packet.isMavlink2 = true;
+            packet.len = MAVLINK_MSG_LENGTH;
+            packet.sysid = 1;
+            packet.compid = 1;
+            packet.msgid = MAVLINK_MSG_ID_VENDOR_STATUS;
+            packet.payload.putInt(counter);
+            return packet;
+        }
+
+        public void unpack(MAVLinkPayload payload) {
+            payload.resetIndex();
+            counter = payload.getInt();
+        }
+    }
+
+    /**
+     * The registry is the one of the whole JVM (the parser and CRC use it), so the types registered by a test
+     * are removed after it
+     */
+    @After
+    public void tearDown() {
+        MAVLinkMessageRegistry.getDefault().unregister(msg_vendor_status.MAVLINK_MSG_ID_VENDOR_STATUS);
+    }
+
+    private static MAVLinkPacket parse(byte[] frame) {
+        Parser parser = new Parser();
+        MAVLinkPacket result = null;
+        for (byte b : frame) {
+            MAVLinkPacket packet = parser.mavlink_parse_char(b & 0xFF);
+            if (packet != null) {
+                result = packet;
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testDialectIsRegistered() {
+        MAVLinkMessageRegistry registry = MAVLinkMessageRegistry.getDefault();
+        assertTrue(registry.isRegistered(msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT));
+        assertEquals(msg_attitude.MAVLINK_MSG_LENGTH, registry.getLength(msg_attitude.MAVLINK_MSG_ID_ATTITUDE));
+        assertEquals(39, registry.getCrcExtra(msg_attitude.MAVLINK_MSG_ID_ATTITUDE));
+        assertTrue(registry.create(msg_attitude.MAVLINK_MSG_ID_ATTITUDE) instanceof msg_attitude);
+    }
+
+    @Test
+    public void testRuntimeRegistration() {
+        MAVLinkMessageRegistry registry = MAVLinkMessageRegistry.getDefault();
+        msg_vendor_status status = new msg_vendor_status();
+        status.counter = 12345;
+        byte[] frame = status.pack().encodePacket();
+
+        long unknown = registry.getUnknownMessageCount();
+        MAVLinkPacket packet = parse(frame);
+        assertNotNull(packet);
+        assertNull(packet.unpack());
+        assertEquals(unknown + 1, registry.getUnknownMessageCount());
+
+        registry.register(msg_vendor_status.MAVLINK_MSG_ID_VENDOR_STATUS, msg_vendor_status.MAVLINK_MSG_LENGTH,
+                msg_vendor_status.MAVLINK_CRC_EXTRA, msg_vendor_status::new);
+        assertNull("frame encoded without the CRC extra must now fail", parse(frame));
+        frame = status.pack().encodePacket();
+        packet = parse(frame);
+        assertNotNull(packet);
+        MAVLinkMessage message = packet.unpack();
+        assertTrue(message instanceof msg_vendor_status);
+        assertEquals(12345, ((msg_vendor_status) message).counter);
+        assertEquals(unknown + 1, registry.getUnknownMessageCount());
+
+        assertTrue(registry.unregister(msg_vendor_status.MAVLINK_MSG_ID_VENDOR_STATUS));
+        assertFalse(registry.isRegistered(msg_vendor_status.MAVLINK_MSG_ID_VENDOR_STATUS));
+        assertEquals(0, CRC.crcExtra(msg_vendor_status.MAVLINK_MSG_ID_VENDOR_STATUS));
+        assertFalse(registry.unregister(msg_vendor_status.MAVLINK_MSG_ID_VENDOR_STATUS));
+    }
+
+    @Test
+    public void testReplacedBuiltInBringsItsCrcExtra() {
+        MAVLinkMessageRegistry registry = MAVLinkMessageRegistry.getDefault();
+        int msgid = msg_meminfo.MAVLINK_MSG_ID_MEMINFO;
+        assertEquals(208, CRC.crcExtra(msgid));
+        try {
+            registry.register(msgid, msg_meminfo.MAVLINK_MSG_LENGTH, 77, msg_meminfo::new);
+            assertEquals(77, CRC.crcExtra(msgid));
+        } finally {
+            registry.register(msgid, msg_meminfo.MAVLINK_MSG_LENGTH, 208, msg_meminfo::new);
+        }
+        assertEquals(208, CRC.crcExtra(msgid));
+    }
+
+    @Test
+    public void testDecodeIntoReusesInstance() {
+        MAVLinkMessageRegistry registry = MAVLinkMessageRegistry.getDefault();
+        msg_attitude reuse = new msg_attitude();
+        for (int i = 0; i < 3; i++) {
+            msg_attitude attitude = new msg_attitude();
+            attitude.yaw = i;
+            MAVLinkPacket packet = parse(attitude.pack().encodePacket());
+            assertSame(reuse, registry.decodeInto(packet, reuse));
+            assertEquals((float) i, reuse.yaw, 0.0);
+            assertEquals(255, reuse.sysid);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecodeIntoWrongType() {
+        MAVLinkPacket packet = parse(new msg_heartbeat().pack().encodePacket());
+        MAVLinkMessageRegistry.getDefault().decodeInto(packet, new msg_attitude());
+    }
+
+    @Test
+    public void testUnknownIdIsCounted() {
+        MAVLinkMessageRegistry registry = MAVLinkMessageRegistry.getDefault();
+        MAVLinkPacket packet = new MAVLinkPacket();
+        packet.msgid = 4000000;
+        long unknown = registry.getUnknownMessageCount();
+        assertNull(packet.unpack());
+        assertEquals(unknown + 1, registry.getUnknownMessageCount());
+    }
+}
@@ -0,0 +1,43 @@
+package com.MAVLink.Messages;
+
+import com.MAVLink.Messages.ardupilotmega.msg_statustext;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the payload field accessors.
+ */
+public class MAVLinkPayloadTest {
+
+    @Test
+    public void testFieldsAreLittleEndian() {
+        MAVLinkPayload payload = new MAVLinkPayload();
+        payload.putShort((short) 0x0102);
+        payload.putInt(0x03040506);
+        payload.putLong(0x0708090A0B0C0D0EL);
+
+        byte[] expected = {0x02, 0x01, 0x06, 0x05, 0x04, 0x03, 0x0E, 0x0D, 0x0C, 0x0B, 0x0A, 0x09, 0x08, 0x07};
+        byte[] actual = new byte[expected.length];
+        payload.getBytes(actual);
+        assertArrayEquals(expected, actual);
+
+        payload.resetIndex();
+        assertEquals((short) 0x0102, payload.getShort());
+        assertEquals(0x03040506, payload.getInt());
+        assertEquals(0x0E0D0C0B0A090807L, payload.getLongReverse());
+    }
+
+    @Test
+    public void testByteArrayFieldRoundTrip() {
+        msg_statustext text = new msg_statustext();
+        text.severity = 3;
+        text.setText("PreArm: Check fence");
+        MAVLinkPacket packet = text.pack();
+        assertEquals(msg_statustext.MAVLINK_MSG_LENGTH, packet.payload.size());
+
+        msg_statustext decoded = new msg_statustext(packet);
+        assertEquals(3, decoded.severity);
+        assertEquals("PreArm: Check fence", decoded.getText());
+    }
+}
@@ -0,0 +1,110 @@
+package com.MAVLink.Messages;
+
+import com.MAVLink.Parser;
+import com.MAVLink.Messages.ardupilotmega.msg_command_long;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of MAVLink 2 packet signing and replay protection.
+ */
+public class MAVLinkSigningTest {
+
+    private static byte[] key(int seed) {
+        byte[] key = new byte[MAVLinkSigning.SECRET_KEY_LEN];
+        Arrays.fill(key, (byte) seed);
+        return key;
+    }
+
+    private static byte[] commandFrame(MAVLinkSigning signing) {
+        msg_command_long command = new msg_command_long();
+        command.command = 20;   //MAV_CMD_NAV_RETURN_TO_LAUNCH
+        command.target_system = 1;
+        return command.pack().encodePacket(signing);
+    }
+
+    private static MAVLinkPacket parse(Parser parser, byte[] frame) {
+        MAVLinkPacket result = null;
+        for (byte b : frame) {
+            MAVLinkPacket packet = parser.mavlink_parse_char(b & 0xFF);
+            if (packet != null) {
+                result = packet;
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testSignedPacketIsAccepted() {
+        MAVLinkSigning sender = new MAVLinkSigning(key(7), 3);
+        Parser parser = new Parser();
+        parser.setSigning(new MAVLinkSigning(key(7), 0));
+
+        byte[] frame = commandFrame(sender);
+        assertEquals(MAVLinkPacket.MAVLINK_STX_MAVLINK2, frame[0] & 0xFF);
+        MAVLinkPacket packet = parse(parser, frame);
+        assertNotNull(packet);
+        assertEquals(3, packet.signature[0]);
+        assertEquals(20, ((msg_command_long) packet.unpack()).command);
+    }
+
+    @Test
+    public void testReplayIsRejected() {
+        MAVLinkSigning sender = new MAVLinkSigning(key(7), 0);
+        MAVLinkSigning receiver = new MAVLinkSigning(key(7), 0);
+        Parser parser = new Parser();
+        parser.setSigning(receiver);
+
+        byte[] first = commandFrame(sender);
+        byte[] second = commandFrame(sender);
+        assertNotNull(parse(parser, first));
+        assertNotNull(parse(parser, second));
+        assertNull(parse(parser, first));
+        assertEquals(1, receiver.replayErrorCount);
+    }
+
+    @Test
+    public void testBadSignaturesAreRejected() {
+        MAVLinkSigning receiver = new MAVLinkSigning(key(7), 0);
+        Parser parser = new Parser();
+        parser.setSigning(receiver);
+
+        assertNull(parse(parser, commandFrame(new MAVLinkSigning(key(8), 0))));
+        assertEquals(1, receiver.signatureErrorCount);
+
+        byte[] tampered = commandFrame(new MAVLinkSigning(key(7), 0));
+        tampered[tampered.length - 1] ^= 1;
+        assertNull(parse(parser, tampered));
+        assertEquals(2, receiver.signatureErrorCount);
+
+        assertNull(parse(parser, commandFrame(null)));
+        assertEquals(1, receiver.unsignedRejectCount);
+        receiver.setAcceptUnsigned(true);
+        assertNotNull(parse(parser, commandFrame(null)));
+    }
+
+    @Test
+    public void testBulkParserVerifiesSignatures() {
+        MAVLinkSigning sender = new MAVLinkSigning(key(1), 0);
+        MAVLinkSigning receiver = new MAVLinkSigning(key(1), 0);
+        Parser parser = new Parser(new MAVLinkPacketPool(1));
+        parser.setSigning(receiver);
+
+        byte[] frame = commandFrame(sender);
+        final int[] count = new int[1];
+        com.MAVLink.PacketSink sink = new com.MAVLink.PacketSink() {
+            @Override
+            public void onPacket(MAVLinkPacket packet) {
+                count[0]++;
+                packet.release();
+            }
+        };
+        parser.parse(frame, 0, frame.length, sink);
+        parser.parse(frame, 0, frame.length, sink);
+        assertEquals(1, count[0]);
+        assertEquals(1, receiver.replayErrorCount);
+    }
+}
@@ -0,0 +1,94 @@
+package com.MAVLink.Messages;
+
+import com.MAVLink.Messages.ardupilotmega.msg_highres_imu;
+import com.MAVLink.Messages.ardupilotmega.msg_param_value;
+import com.MAVLink.Messages.ardupilotmega.view.HighresImuView;
+import com.MAVLink.Messages.ardupilotmega.view.ParamValueView;
+import com.MAVLink.Parser;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the read-only message views against the decoded messages.
+ */
+public class MAVLinkViewTest {
+
+    private static msg_highres_imu imu() {
+        msg_highres_imu imu = new msg_highres_imu();
+        imu.time_usec = 0x0102030405060708L;
+        imu.xacc = 1.5f;
+        imu.zgyro = -0.25f;
+        imu.temperature = 21.0f;
+        imu.fields_updated = (short) 0x1234;
+        return imu;
+    }
+
+    private static MAVLinkPacket parse(byte[] frame) {
+        Parser parser = new Parser();
+        MAVLinkPacket packet = null;
+        for (byte b : frame) {
+            MAVLinkPacket p = parser.mavlink_parse_char(b & 0xFF);
+            if (p != null) {
+                packet = p;
+            }
+        }
+        return packet;
+    }
+
+    @Test
+    public void testViewOfPacketMatchesUnpack() {
+        MAVLinkPacket packet = parse(imu().pack().encodePacket());
+        msg_highres_imu decoded = (msg_highres_imu) packet.unpack();
+        HighresImuView view = HighresImuView.wrap(packet);
+
+        assertEquals(decoded.time_usec, view.time_usec());
+        assertEquals(decoded.xacc, view.xacc(), 0.0);
+        assertEquals(decoded.zgyro, view.zgyro(), 0.0);
+        assertEquals(decoded.temperature, view.temperature(), 0.0);
+        assertEquals(decoded.fields_updated, view.fields_updated());
+    }
+
+    @Test
+    public void testViewOfFrameBuffer() {
+        byte[] frame = imu().pack().encodePacket();
+        // the payload starts after the 6 byte MAVLink 1 header
+        HighresImuView view = HighresImuView.wrap(ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN), 6);
+
+        assertEquals(0x0102030405060708L, view.time_usec());
+        assertEquals(1.5f, view.xacc(), 0.0);
+        assertEquals((short) 0x1234, view.fields_updated());
+
+        // re-pointing the view does not allocate a new one
+        view.reset(ByteBuffer.wrap(frame), 6, HighresImuView.MAVLINK_MSG_LENGTH);
+        assertEquals(-0.25f, view.zgyro(), 0.0);
+    }
+
+    @Test
+    public void testTruncatedMavlink2Payload() {
+        msg_param_value param = new msg_param_value();
+        param.param_value = 3.0f;
+        param.param_count = 7;
+        param.param_id[0] = 'A';
+        MAVLinkPacket out = param.pack();
+        out.isMavlink2 = true;
+        MAVLinkPacket packet = parse(out.encodePacket());
+
+        assertTrue(packet.len < ParamValueView.MAVLINK_MSG_LENGTH);
+        ParamValueView view = ParamValueView.wrap(packet);
+        assertEquals(3.0f, view.param_value(), 0.0);
+        assertEquals(7, view.param_count());
+        assertEquals(0, view.param_index());
+        assertEquals('A', view.param_id(0));
+        assertEquals(0, view.param_id(ParamValueView.PARAM_ID_LENGTH - 1));
+        assertEquals(0, view.param_type());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testArrayIndexIsChecked() {
+        ParamValueView.wrap(ByteBuffer.allocate(ParamValueView.MAVLINK_MSG_LENGTH), 0).param_id(ParamValueView.PARAM_ID_LENGTH);
+    }
+}
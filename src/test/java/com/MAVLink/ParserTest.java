@@ -0,0 +1,215 @@
+package com.MAVLink;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkPacketPool;
+import com.MAVLink.Messages.ardupilotmega.msg_attitude;
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Hardware-free tests of the MAVLink frame parser.
+ */
+public class ParserTest {
+
+    private static byte[] attitudeFrame(float yaw) {
+        msg_attitude attitude = new msg_attitude();
+        attitude.time_boot_ms = 1234;
+        attitude.roll = 0.1f;
+        attitude.pitch = -0.2f;
+        attitude.yaw = yaw;
+        return attitude.pack().encodePacket();
+    }
+
+    private static MAVLinkPacket parseAll(Parser parser, byte[] bytes) {
+        MAVLinkPacket result = null;
+        for (byte b : bytes) {
+            MAVLinkPacket packet = parser.mavlink_parse_char(b & 0xFF);
+            if (packet != null) {
+                assertNull("more than one packet in frame", result);
+                result = packet;
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testParseRoundTrip() {
+        Parser parser = new Parser();
+        MAVLinkPacket packet = parseAll(parser, attitudeFrame(1.5f));
+
+        assertNotNull(packet);
+        assertEquals(msg_attitude.MAVLINK_MSG_ID_ATTITUDE, packet.msgid);
+        msg_attitude attitude = (msg_attitude) packet.unpack();
+        assertEquals(1234, attitude.time_boot_ms);
+        assertEquals(1.5f, attitude.yaw, 0.0);
+        assertEquals(1, parser.stats.receivedPacketCount);
+    }
+
+    @Test
+    public void testPooledParserRecyclesPackets() {
+        MAVLinkPacketPool pool = new MAVLinkPacketPool(2);
+        Parser parser = new Parser(pool);
+        int created = pool.created();
+
+        for (int i = 0; i < 100; i++) {
+            MAVLinkPacket packet = parseAll(parser, attitudeFrame(i));
+            assertNotNull(packet);
+            assertEquals((float) i, ((msg_attitude) packet.unpack()).yaw, 0.0);
+            packet.release();
+        }
+        assertEquals("pool allocated in steady state", created, pool.created());
+        assertEquals(2, pool.available());
+    }
+
+    @Test
+    public void testCorruptFrameIsSkipped() {
+        Parser parser = new Parser(new MAVLinkPacketPool(1));
+        byte[] bad = attitudeFrame(2.0f);
+        bad[bad.length - 1] ^= 0x55;
+        assertNull(parseAll(parser, bad));
+        assertEquals(1, parser.stats.crcErrorCount);
+
+        MAVLinkPacket packet = parseAll(parser, new msg_heartbeat().pack().encodePacket());
+        assertNotNull(packet);
+        assertEquals(msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT, packet.msgid);
+    }
+
+    @Test
+    public void testBulkParseAcrossChunks() {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        stream.write(0x42);
+        for (int i = 0; i < 20; i++) {
+            byte[] frame = attitudeFrame(i);
+            stream.write(frame, 0, frame.length);
+            stream.write(0x55);  //line noise between frames
+        }
+        byte[] bytes = stream.toByteArray();
+
+        //feed the stream in chunks of every size so frames straddle chunk boundaries
+        for (int chunk = 1; chunk <= bytes.length; chunk += 7) {
+            final List<Float> yaws = new ArrayList<Float>();
+            MAVLinkPacketPool pool = new MAVLinkPacketPool(1);
+            Parser parser = new Parser(pool);
+            PacketSink sink = new PacketSink() {
+                @Override
+                public void onPacket(MAVLinkPacket packet) {
+                    yaws.add(((msg_attitude) packet.unpack()).yaw);
+                    packet.release();
+                }
+            };
+            ByteBuffer direct = ByteBuffer.allocateDirect(chunk);
+            for (int off = 0; off < bytes.length; off += chunk) {
+                direct.clear();
+                direct.put(bytes, off, Math.min(chunk, bytes.length - off));
+                direct.flip();
+                parser.parse(direct, sink);
+                assertFalse(direct.hasRemaining());
+            }
+            assertEquals("chunk=" + chunk, 20, yaws.size());
+            for (int i = 0; i < 20; i++) {
+                assertEquals((float) i, yaws.get(i), 0.0);
+            }
+            assertEquals(1, pool.created());
+        }
+    }
+
+    @Test
+    public void testMavlink2TruncatedPayload() {
+        msg_attitude attitude = new msg_attitude();
+        attitude.time_boot_ms = 77;
+        attitude.roll = 0.5f;    //pitch, yaw and the rates are zero and get truncated
+        MAVLinkPacket out = attitude.pack();
+        out.isMavlink2 = true;
+        byte[] frame = out.encodePacket();
+        assertEquals(MAVLinkPacket.MAVLINK_STX_MAVLINK2, frame[0] & 0xFF);
+        assertTrue("payload not truncated", frame.length < MAVLinkPacket.MAVLINK2_HEADER_LEN + msg_attitude.MAVLINK_MSG_LENGTH + 2);
+
+        //a pooled packet that held a full attitude before must not leak stale bytes into the truncated one
+        Parser parser = new Parser(new MAVLinkPacketPool(1));
+        parseAll(parser, attitudeFrame(3.0f)).release();
+        assertFalse(parser.isMavlink2());
+
+        MAVLinkPacket packet = parseAll(parser, frame);
+        assertNotNull(packet);
+        assertTrue(packet.isMavlink2);
+        assertTrue(parser.isMavlink2());
+        msg_attitude decoded = (msg_attitude) packet.unpack();
+        assertEquals(77, decoded.time_boot_ms);
+        assertEquals(0.5f, decoded.roll, 0.0);
+        assertEquals(0.0f, decoded.yaw, 0.0);
+        packet.release();
+
+        final List<MAVLinkPacket> packets = new ArrayList<MAVLinkPacket>();
+        new Parser().parse(frame, 0, frame.length, new PacketSink() {
+            @Override
+            public void onPacket(MAVLinkPacket packet) {
+                packets.add(packet);
+            }
+        });
+        assertEquals(1, packets.size());
+        assertEquals(0.5f, ((msg_attitude) packets.get(0).unpack()).roll, 0.0);
+    }
+
+    @Test
+    public void testMavlink2IncompatFlags() {
+        MAVLinkPacket out = new msg_heartbeat().pack();
+        out.isMavlink2 = true;
+        out.incompatFlags = 0x02;  //not understood, the frame must be dropped
+        byte[] unknown = out.encodePacket();
+
+        out.incompatFlags = MAVLinkPacket.MAVLINK_IFLAG_SIGNED;
+        byte[] unsigned = out.encodePacket();
+        byte[] signed = new byte[unsigned.length + MAVLinkPacket.MAVLINK_SIGNATURE_BLOCK_LEN];
+        System.arraycopy(unsigned, 0, signed, 0, unsigned.length);
+
+        Parser parser = new Parser();
+        assertNull(parseAll(parser, unknown));
+        assertEquals(1, parser.stats.incompatFlagsErrorCount);
+        MAVLinkPacket packet = parseAll(parser, signed);
+        assertNotNull(packet);
+        assertEquals(msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT, packet.msgid);
+    }
+
+    @Test
+    public void testParseFramesPassesFrameBytes() {
+        MAVLinkPacket out = new msg_attitude().pack();
+        out.isMavlink2 = true;
+        byte[] frame = out.encodePacket();
+        byte[] stream = new byte[2 * frame.length + 3];
+        System.arraycopy(frame, 0, stream, 3, frame.length);
+        System.arraycopy(frame, 0, stream, 3 + frame.length, frame.length);
+
+        final List<byte[]> frames = new ArrayList<byte[]>();
+        final List<ByteBuffer> buffers = new ArrayList<ByteBuffer>();
+        FrameSink sink = new FrameSink() {
+            @Override
+            public void onFrame(MAVLinkPacket packet, ByteBuffer buffer, int offset, int length) {
+                byte[] copy = new byte[length];
+                for (int i = 0; i < length; i++) {
+                    copy[i] = buffer.get(offset + i);
+                }
+                frames.add(copy);
+                buffers.add(buffer);
+            }
+        };
+        // the first frame is whole in the first chunk, the second one is cut in two
+        Parser parser = new Parser();
+        ByteBuffer first = ByteBuffer.wrap(stream, 0, 3 + frame.length + 4);
+        assertEquals(1, parser.parseFrames(first, sink));
+        assertEquals(0, parser.parseFrames(ByteBuffer.wrap(stream, 3 + frame.length + 4, 0), sink));
+        assertEquals(1, parser.parseFrames(ByteBuffer.wrap(stream, 3 + frame.length + 4, frame.length - 4), sink));
+
+        assertEquals(2, frames.size());
+        assertArrayEquals(frame, frames.get(0));
+        assertArrayEquals(frame, frames.get(1));
+        // passed in place, not copied
+        assertSame(first, buffers.get(0));
+    }
+}
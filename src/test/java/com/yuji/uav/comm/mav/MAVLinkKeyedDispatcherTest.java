@@ -0,0 +1,168 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.ardupilotmega.msg_attitude;
+import com.MAVLink.Messages.ardupilotmega.msg_command_long;
+import com.MAVLink.Messages.ardupilotmega.msg_global_position_int;
+import com.google.common.eventbus.Subscribe;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.yuji.uav.comm.mav.MAVLinkTestSupport.*;
+import static org.junit.Assert.*;
+
+/**
+ * Test of the keyed dispatcher: FIFO per (sysid, msgid), parallelism across keys and queue depths.
+ */
+public class MAVLinkKeyedDispatcherTest {
+
+    private MAVLinkKeyedDispatcher dispatcher;
+
+    @After
+    public void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+    }
+
+    /**
+     * Records the time_boot_ms (used as a sequence number) of the messages of each key, without locking
+     */
+    public static class Recorder {
+
+        final Map<Integer, List<Integer>> received = new ConcurrentHashMap<>();
+        final AtomicInteger count = new AtomicInteger();
+
+        @Subscribe
+        public void receiveAttitude(msg_attitude attitude) {
+            record(attitude, attitude.time_boot_ms);
+        }
+
+        @Subscribe
+        public void receivePosition(msg_global_position_int position) {
+            record(position, position.time_boot_ms);
+        }
+
+        private void record(MAVLinkMessage message, int sequence) {
+            received.computeIfAbsent(message.sysid << 24 | message.msgid, key -> new ArrayList<Integer>()).add(sequence);
+            count.incrementAndGet();
+        }
+    }
+
+    /**
+     * Records the commands sent to a vehicle; the first one posts ten more for the same vehicle
+     */
+    public static class Commander {
+
+        final MAVLinkKeyedDispatcher dispatcher;
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<Integer>());
+        final AtomicInteger count = new AtomicInteger();
+
+        Commander(MAVLinkKeyedDispatcher dispatcher) {
+            this.dispatcher = dispatcher;
+        }
+
+        @Subscribe
+        public void receive(MAVCommandMessage command) {
+            int sequence = ((msg_command_long) command.getMavLinkMessage()).command;
+            received.add(sequence);
+            if (sequence == 0) {
+                for (int i = 1; i <= 10; i++) {
+                    dispatcher.post(command(command.getTargetSystem(), i));
+                }
+            }
+            count.incrementAndGet();
+        }
+    }
+
+    private static MAVCommandMessage command(int sysid, int sequence) {
+        msg_command_long command = new msg_command_long();
+        command.command = (short) sequence;
+        return new MAVCommandMessage(command, sysid);
+    }
+
+    @Test
+    public void testFifoPerKey() throws Exception {
+        dispatcher = new MAVLinkKeyedDispatcher("keyed", 4, 64);
+        Recorder recorder = new Recorder();
+        dispatcher.register(recorder);
+        int vehicles = 8;
+        int perKey = 2000;
+        for (int i = 0; i < perKey; i++) {
+            for (int sysid = 1; sysid <= vehicles; sysid++) {
+                dispatcher.post(attitude(sysid, i));
+                dispatcher.post(position(sysid, i));
+            }
+        }
+        awaitCount(recorder.count, 2 * vehicles * perKey);
+        assertEquals(2 * vehicles, recorder.received.size());
+        for (List<Integer> sequences : recorder.received.values()) {
+            assertEquals(perKey, sequences.size());
+            for (int i = 0; i < perKey; i++) {
+                assertEquals(Integer.valueOf(i), sequences.get(i));
+            }
+        }
+        assertEquals(2 * vehicles * perKey, dispatcher.getPosted());
+    }
+
+    @Test
+    public void testOtherKeysRunWhileOneIsBlocked() throws Exception {
+        dispatcher = new MAVLinkKeyedDispatcher("keyed", 4, 64);
+        Blocker blocker = new Blocker();
+        Recorder recorder = new Recorder();
+        dispatcher.register(blocker);
+        dispatcher.register(recorder);
+
+        int blocked = dispatcher.partitionOf(1, msg_attitude.MAVLINK_MSG_ID_ATTITUDE);
+        dispatcher.post(attitude(1, 0));
+        dispatcher.post(attitude(1, 1));
+
+        // a key of another partition is handled meanwhile
+        int sysid = 2;
+        while (dispatcher.partitionOf(sysid, msg_attitude.MAVLINK_MSG_ID_ATTITUDE) == blocked) {
+            sysid++;
+        }
+        dispatcher.post(attitude(sysid, 0));
+        awaitCount(recorder.count, 1);
+
+        // the first attitude of sysid 1 is being handled, the second waits behind it
+        long deadline = System.currentTimeMillis() + 2000;
+        while (dispatcher.getQueueDepth(blocked) > 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(2);
+        }
+        assertEquals(1, dispatcher.getQueueDepth(blocked));
+        int total = 0;
+        for (int depth : dispatcher.getQueueDepths()) {
+            total += depth;
+        }
+        assertEquals(1, total);
+
+        blocker.release.countDown();
+        awaitCount(recorder.count, 3);
+        assertEquals(2, recorder.received.get(1 << 24 | msg_attitude.MAVLINK_MSG_ID_ATTITUDE).size());
+    }
+
+    @Test
+    public void testSubscriberPostsKeepOrderWhenQueueIsFull() throws Exception {
+        dispatcher = new MAVLinkKeyedDispatcher("keyed", 2, 2);
+        Commander commander = new Commander(dispatcher);
+        dispatcher.register(commander);
+
+        // the ten commands go to the worker posting them, whose queue holds two
+        dispatcher.post(command(7, 0));
+        awaitCount(commander.count, 11);
+        assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10]", commander.received.toString());
+        assertTrue(dispatcher.getStalls() > 0);
+
+        dispatcher.post(command(7, 11));
+        awaitCount(commander.count, 12);
+        assertEquals(0, dispatcher.getQueueDepth(dispatcher.partitionOf(7, 0xFFFFFF)));
+    }
+}
@@ -0,0 +1,116 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+import com.google.common.eventbus.Subscribe;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.yuji.uav.comm.mav.MAVLinkTestSupport.*;
+import static org.junit.Assert.*;
+
+/**
+ * Test of the mailbox dispatcher: ordering per vehicle and per subscriber, and isolation of blocked mailboxes.
+ */
+public class MAVLinkMailboxDispatcherTest {
+
+    private MAVLinkMailboxDispatcher dispatcher;
+
+    @After
+    public void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+    }
+
+    /**
+     * Records the custom_mode (used as a sequence number) of the heartbeats of each sysid
+     */
+    public static class Recorder {
+
+        final List<List<Integer>> received = new ArrayList<>();
+        final AtomicInteger count = new AtomicInteger();
+
+        Recorder(int vehicles) {
+            for (int i = 0; i <= vehicles; i++) {
+                received.add(Collections.synchronizedList(new ArrayList<Integer>()));
+            }
+        }
+
+        @Subscribe
+        public void receive(msg_heartbeat heartbeat) {
+            received.get(heartbeat.sysid).add(heartbeat.custom_mode);
+            count.incrementAndGet();
+        }
+    }
+
+    @Test
+    public void testHundredsOfVehiclesInOrder() throws Exception {
+        dispatcher = new MAVLinkMailboxDispatcher("vehicles");
+        int vehicles = 250;
+        int perVehicle = 200;
+        Recorder recorder = new Recorder(vehicles);
+        dispatcher.register(recorder);
+        for (int i = 0; i < perVehicle; i++) {
+            for (int sysid = 1; sysid <= vehicles; sysid++) {
+                dispatcher.post(heartbeat(sysid, i));
+            }
+        }
+        awaitCount(recorder.count, vehicles * perVehicle);
+        for (int sysid = 1; sysid <= vehicles; sysid++) {
+            assertInOrder(recorder.received.get(sysid), perVehicle);
+        }
+        assertEquals(vehicles * perVehicle, dispatcher.getPosted());
+        assertEquals(0, dispatcher.getBacklog());
+    }
+
+    @Test
+    public void testBlockedVehicleDoesNotStallOthers() throws Exception {
+        dispatcher = new MAVLinkMailboxDispatcher("blocked", MAVLinkMailboxDispatcher.Mode.PER_VEHICLE);
+        Blocker blocker = new Blocker();
+        Recorder recorder = new Recorder(2);
+        dispatcher.register(blocker);
+        dispatcher.register(recorder);
+
+        dispatcher.post(heartbeat(1, 0));
+        for (int i = 0; i < 100; i++) {
+            dispatcher.post(heartbeat(2, i));
+        }
+        dispatcher.post(heartbeat(1, 1));
+        awaitCount(recorder.count, 100);
+        assertInOrder(recorder.received.get(2), 100);
+        assertEquals(1, dispatcher.getBacklog(1));
+
+        blocker.release.countDown();
+        awaitCount(recorder.count, 102);
+        assertInOrder(recorder.received.get(1), 2);
+    }
+
+    @Test
+    public void testBlockedSubscriberDoesNotStallOthers() throws Exception {
+        dispatcher = new MAVLinkMailboxDispatcher("subscribers", MAVLinkMailboxDispatcher.Mode.PER_SUBSCRIBER);
+        Blocker blocker = new Blocker();
+        Recorder recorder = new Recorder(1);
+        dispatcher.register(blocker);
+        dispatcher.register(recorder);
+        dispatcher.register(new Object());
+
+        for (int i = 0; i < 100; i++) {
+            dispatcher.post(heartbeat(1, i));
+        }
+        // only the blocked subscriber's mailbox waits
+        awaitCount(recorder.count, 100);
+        assertInOrder(recorder.received.get(1), 100);
+        assertEquals(99, dispatcher.getBacklog());
+        blocker.release.countDown();
+
+        dispatcher.unregister(recorder);
+        dispatcher.post(heartbeat(1, 100));
+        Thread.sleep(50);
+        assertEquals(100, recorder.count.get());
+    }
+}
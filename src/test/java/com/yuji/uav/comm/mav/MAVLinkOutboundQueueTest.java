@@ -0,0 +1,196 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.ardupilotmega.msg_command_long;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_item;
+import com.MAVLink.Messages.ardupilotmega.msg_rc_channels_override;
+import com.MAVLink.Parser;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Hardware-free test of the outbound queue: coalescing, packet numbering and drops.
+ */
+public class MAVLinkOutboundQueueTest {
+
+    /**
+     * Records every write
+     */
+    static class RecordingTransport implements MAVLinkTransport {
+
+        final List<Object> peers = new ArrayList<>();
+        final List<byte[]> writes = new ArrayList<>();
+        long writeMillis;
+
+        @Override
+        public String getName() {
+            return "recording";
+        }
+
+        @Override
+        public void open(Receiver receiver) {
+        }
+
+        @Override
+        public synchronized void send(Object peer, byte[] bytes, int offset, int length) {
+            byte[] copy = new byte[length];
+            System.arraycopy(bytes, offset, copy, 0, length);
+            peers.add(peer);
+            writes.add(copy);
+            if (writeMillis > 0) {
+                try {
+                    // a slow link
+                    Thread.sleep(writeMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static MAVLinkPacket packet() {
+        return new msg_rc_channels_override().pack();
+    }
+
+    private static void awaitFrames(MAVLinkOutboundQueue queue, long frames) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (queue.getFramesWritten() < frames && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(frames, queue.getFramesWritten());
+    }
+
+    @Test
+    public void testCoalescesAndDropsWhenFull() throws Exception {
+        RecordingTransport transport = new RecordingTransport();
+        MAVLinkOutboundQueue queue = new MAVLinkOutboundQueue(transport, 10);
+        for (int i = 0; i < 12; i++) {
+            queue.offer(null, packet());
+        }
+        assertEquals(10, queue.getDepth());
+        assertEquals(2, queue.getDropped());
+
+        queue.start();
+        awaitFrames(queue, 10);
+        queue.close();
+        assertEquals(0, queue.getDepth());
+        // all ten packets fit in one write
+        assertEquals(1, queue.getWrites());
+
+        List<MAVLinkPacket> packets = new ArrayList<>();
+        new Parser().parse(ByteBuffer.wrap(transport.writes.get(0)), packets::add);
+        assertEquals(10, packets.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, packets.get(i).seq);
+        }
+    }
+
+    @Test
+    public void testDoesNotCoalesceAcrossPeers() throws Exception {
+        RecordingTransport transport = new RecordingTransport();
+        MAVLinkOutboundQueue queue = new MAVLinkOutboundQueue(transport, 10);
+        queue.offer("a", packet());
+        queue.offer("b", packet());
+        queue.offer("b", packet());
+        queue.offer("a", packet());
+        queue.start();
+        awaitFrames(queue, 4);
+        queue.close();
+        assertEquals(3, queue.getWrites());
+        assertEquals("a", transport.peers.get(0));
+        assertEquals("b", transport.peers.get(1));
+        assertEquals("a", transport.peers.get(2));
+    }
+
+    @Test
+    public void testEncodeIntoBuffer() {
+        MAVLinkPacket packet = packet();
+        byte[] expected = packet.encodePacket();
+        byte[] buffer = new byte[MAVLinkPacket.MAVLINK_MAX_PACKET_LEN + 3];
+        assertEquals(expected.length, packet.encodePacket(null, buffer, 3));
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], buffer[3 + i]);
+        }
+    }
+
+    @Test
+    public void testCommandsFirstThenStreamAndBulkTakeTurns() throws Exception {
+        RecordingTransport transport = new RecordingTransport();
+        MAVLinkOutboundQueue queue = new MAVLinkOutboundQueue(transport, 10);
+        for (int i = 0; i < 3; i++) {
+            queue.offer(null, new msg_mission_item().pack());
+        }
+        for (int i = 0; i < 2; i++) {
+            queue.offer(null, packet());
+        }
+        queue.offer(null, new msg_command_long().pack());
+        assertEquals(1, queue.getDepth(MAVLinkOutboundQueue.Lane.COMMAND));
+        assertEquals(2, queue.getDepth(MAVLinkOutboundQueue.Lane.STREAM));
+        assertEquals(3, queue.getDepth(MAVLinkOutboundQueue.Lane.BULK));
+
+        queue.start();
+        awaitFrames(queue, 6);
+        queue.close();
+
+        List<MAVLinkPacket> packets = new ArrayList<>();
+        for (byte[] write : transport.writes) {
+            new Parser().parse(ByteBuffer.wrap(write), packets::add);
+        }
+        int command = msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG;
+        int stream = msg_rc_channels_override.MAVLINK_MSG_ID_RC_CHANNELS_OVERRIDE;
+        int bulk = msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM;
+        int[] expected = {command, stream, bulk, stream, bulk, bulk};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("packet " + i, expected[i], packets.get(i).msgid);
+        }
+        assertEquals(1, queue.getLatency(MAVLinkOutboundQueue.Lane.COMMAND).getCount());
+        assertEquals(3, queue.getLatency(MAVLinkOutboundQueue.Lane.BULK).getCount());
+    }
+
+    @Test
+    public void testCommandLatencyStaysBoundedUnderSaturation() throws Exception {
+        RecordingTransport transport = new RecordingTransport();
+        transport.writeMillis = 5;
+        MAVLinkOutboundQueue queue = new MAVLinkOutboundQueue(transport, 1000);
+        queue.start();
+        // about 30 writes of bulk traffic queued ahead of the command
+        for (int i = 0; i < 1000; i++) {
+            queue.offer(null, new msg_mission_item().pack());
+        }
+        Thread.sleep(20);
+        queue.offer(null, new msg_command_long().pack());
+        awaitFrames(queue, 1001);
+        queue.close();
+
+        MAVLinkLatencyHistogram commands = queue.getLatency(MAVLinkOutboundQueue.Lane.COMMAND);
+        MAVLinkLatencyHistogram bulk = queue.getLatency(MAVLinkOutboundQueue.Lane.BULK);
+        assertEquals(1, commands.getCount());
+        assertTrue(commands.toString(), commands.getPercentileMicros(100) <= 32768);
+        assertTrue(bulk.toString(), bulk.getPercentileMicros(99) > commands.getPercentileMicros(100));
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+        MAVLinkLatencyHistogram histogram = new MAVLinkLatencyHistogram();
+        assertEquals(0, histogram.getPercentileMicros(50));
+        histogram.record(500);          // < 1us
+        histogram.record(3000);         // 3us
+        histogram.record(3000);
+        histogram.record(1000000);      // 1ms
+        assertEquals(4, histogram.getCount());
+        assertEquals(1, histogram.getBucketCount(0));
+        assertEquals(2, histogram.getBucketCount(2));
+        assertEquals(4, histogram.getPercentileMicros(50));
+        assertEquals(1024, histogram.getPercentileMicros(100));
+        assertEquals("{<1us=1, <4us=2, <1024us=1}", histogram.toString());
+    }
+}
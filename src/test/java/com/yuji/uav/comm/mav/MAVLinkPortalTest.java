@@ -10,6 +10,7 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * A Junit test that verifies MAVLink serial communication between this client and the autopilot.
@@ -40,8 +41,8 @@ public class MAVLinkPortalTest implements MAVCommunicator {
     //properties file name
     private final static String PROPERTIES_FILE_NAME = "MAVLinkPortalTest.properties";
 
-    //the serial port used for mavlink communication
-    private static MAVLinkSerialPort mavLinkSerialPort;
+    //the link, over the serial port, used for mavlink communication
+    private static MAVLinkLink mavLinkSerialLink;
 
     //the following set of fields are populated at runtime from the properties file
     private static byte mavlinkSystemId;        //e.g., 1 for the autopilot
@@ -146,7 +147,7 @@ public class MAVLinkPortalTest implements MAVCommunicator {
     @Override
     public void send(MAVCommandMessage messageToUav) throws MAVLinkSerialPortException {
         if (messageToUav != null && messageToUav.getMavLinkMessage() != null){
-            this.mavLinkSerialPort.send(messageToUav);
+            this.mavLinkSerialLink.send(messageToUav);
         }
     }
 
@@ -159,7 +160,7 @@ public class MAVLinkPortalTest implements MAVCommunicator {
      */
     public void send(MAVCommandMessage messageToUav, int repeats) throws MAVLinkSerialPortException, InterruptedException {
         for (int i=0; i<repeats; i++){
-            this.mavLinkSerialPort.send(messageToUav);
+            this.mavLinkSerialLink.send(messageToUav);
             //guarantees a small delay between sends
             Thread.sleep(200);
         }
@@ -171,7 +172,15 @@ public class MAVLinkPortalTest implements MAVCommunicator {
 
         props = readPropertiesFile(PROPERTIES_FILE_NAME);
 
-        mavLinkSerialPort = new MAVLinkSerialPort(props, this);
+        MAVLinkSerialTransport transport = new MAVLinkSerialTransport(props.getProperty(SerialPortSettings.PORT_NAME),
+                props.getProperty(SerialPortSettings.PORT_NAME),
+                Integer.parseInt(props.getProperty(SerialPortSettings.BAUD_RATE)),
+                Integer.parseInt(props.getProperty(SerialPortSettings.DATA_BITS)),
+                Integer.parseInt(props.getProperty(SerialPortSettings.STOP_BITS)),
+                Integer.parseInt(props.getProperty(SerialPortSettings.PARITY)));
+        mavLinkSerialLink = new MAVLinkLink(transport, m -> receive(new MAVTelemetryMessage(m)), new AtomicReferenceArray<MAVLinkLink>(256),
+                null, null, null, MAVLinkOutboundQueue.DEFAULT_CAPACITY);
+        mavLinkSerialLink.open();
 
         mavlinkSystemId = Byte.parseByte(props.getProperty(MAVLINK_SYSID));
         mavlinkComponentId = Byte.parseByte(props.getProperty(MAV_COMP_ID));
@@ -182,14 +191,14 @@ public class MAVLinkPortalTest implements MAVCommunicator {
         messageArrivalTimeSecs = Integer.parseInt(props.getProperty(MAVLINK_MESSAGE_ARRIVAL_TIME_SECS));
         commandRepeats = Integer.parseInt(props.getProperty(MAVLINK_COMMAND_REPEATS));
 
-//        System.out.println("mavLinkSerialPort=" + mavLinkSerialPort);
+//        System.out.println("mavLinkSerialLink=" + mavLinkSerialLink);
         System.out.println("properties=" + props);
         System.out.println("^^^^^^^^^^^^^SETUP DONE^^^^^^^^^^^^^");
     }
 
     @org.junit.After
     public void tearDown() throws Exception {
-        //do nothing
+        mavLinkSerialLink.close();
     }
 
     /**
@@ -0,0 +1,152 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.ardupilotmega.msg_radio_status;
+import com.MAVLink.Messages.ardupilotmega.msg_rc_channels_override;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Hardware-free test of the rate limiter: the link budget, lane shares and radio_status feedback.
+ * The limiter is driven with explicit times, so the budgets are exact.
+ */
+public class MAVLinkRateLimiterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static msg_radio_status radioStatus(int txbuf, int rssi, int noise) {
+        msg_radio_status status = new msg_radio_status();
+        status.txbuf = (byte) txbuf;
+        status.rssi = (byte) rssi;
+        status.remrssi = (byte) rssi;
+        status.noise = (byte) noise;
+        status.remnoise = (byte) noise;
+        return status;
+    }
+
+    /**
+     * Reserves packets of the given length in the lane every millisecond for the given time
+     * @return the bytes let through
+     */
+    private static long drive(MAVLinkRateLimiter limiter, MAVLinkOutboundQueue.Lane lane, int length, long start, long millis) {
+        long bytes = 0;
+        for (long t = 0; t < millis; t++) {
+            while (limiter.reserve(lane, length, start + t * MILLIS) == 0) {
+                bytes += length;
+            }
+        }
+        return bytes;
+    }
+
+    @Test
+    public void testLinkBudget() {
+        MAVLinkRateLimiter limiter = new MAVLinkRateLimiter(5760);
+        long start = System.nanoTime();
+        // the burst, then 5760 bytes/sec
+        long bytes = drive(limiter, MAVLinkOutboundQueue.Lane.COMMAND, 40, start, 10000);
+        assertEquals(57600 + 576, bytes, 2 * 40);
+
+        // the wait is the time to earn the missing bytes
+        long wait = limiter.reserve(MAVLinkOutboundQueue.Lane.COMMAND, 280, start + 10000 * MILLIS);
+        assertTrue(wait > 0);
+        assertTrue(wait <= TimeUnit.SECONDS.toNanos(280) / 5760 + 1);
+        assertEquals(bytes, limiter.getBytesSent());
+    }
+
+    @Test
+    public void testLaneShare() {
+        MAVLinkRateLimiter limiter = new MAVLinkRateLimiter(10000);
+        limiter.setShare(MAVLinkOutboundQueue.Lane.BULK, 0.25);
+        long start = System.nanoTime();
+        long bytes = drive(limiter, MAVLinkOutboundQueue.Lane.BULK, 50, start, 10000);
+        // a quarter of the link (plus its burst)
+        assertEquals(25000, bytes, 500);
+
+        try {
+            limiter.setShare(MAVLinkOutboundQueue.Lane.BULK, 1.5);
+            fail("a share over 1 is rejected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testRadioStatusFeedback() {
+        MAVLinkRateLimiter limiter = new MAVLinkRateLimiter(5760);
+
+        // ignored unless adaptive
+        limiter.radioStatus(radioStatus(5, 200, 50));
+        assertEquals(5760, limiter.getEffectiveBytesPerSecond(), 0.001);
+
+        limiter.setAdaptive(true);
+        limiter.radioStatus(radioStatus(5, 200, 50));
+        assertEquals(2880, limiter.getEffectiveBytesPerSecond(), 0.001);
+        for (int i = 0; i < 20; i++) {
+            limiter.radioStatus(radioStatus(5, 200, 50));
+        }
+        // never below a tenth of the link
+        assertEquals(576, limiter.getEffectiveBytesPerSecond(), 0.001);
+
+        // a drained buffer brings the budget back up
+        for (int i = 0; i < 50; i++) {
+            limiter.radioStatus(radioStatus(100, 200, 50));
+        }
+        assertEquals(5760, limiter.getEffectiveBytesPerSecond(), 0.001);
+
+        // a weak link carries at most half
+        limiter.radioStatus(radioStatus(100, 55, 50));
+        assertEquals(2880, limiter.getEffectiveBytesPerSecond(), 0.001);
+
+        limiter.setAdaptive(false);
+        assertEquals(5760, limiter.getEffectiveBytesPerSecond(), 0.001);
+    }
+
+    @Test
+    public void testQueueIsShaped() throws Exception {
+        MAVLinkOutboundQueueTest.RecordingTransport transport = new MAVLinkOutboundQueueTest.RecordingTransport();
+        MAVLinkOutboundQueue queue = new MAVLinkOutboundQueue(transport, 100);
+        MAVLinkRateLimiter limiter = new MAVLinkRateLimiter(2000);
+        queue.setRateLimiter(limiter);
+        MAVLinkPacket packet = new msg_rc_channels_override().pack();
+        int length = packet.encodedLength(null);
+        for (int i = 0; i < 60; i++) {
+            queue.offer(null, new msg_rc_channels_override().pack(), MAVLinkOutboundQueue.Lane.BULK);
+        }
+        long start = System.nanoTime();
+        queue.start();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (queue.getFramesWritten() < 60 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        long elapsed = System.nanoTime() - start;
+        queue.close();
+        assertEquals(60, queue.getFramesWritten());
+        // the bytes beyond the bulk lane's burst are sent at half of 2000 bytes/sec
+        long expected = TimeUnit.SECONDS.toNanos(60 * length - MAVLinkPacket.MAVLINK_MAX_PACKET_LEN) / 1000;
+        assertTrue("sent in " + elapsed / MILLIS + " ms", elapsed >= expected * 9 / 10);
+    }
+
+    @Test
+    public void testStaleStreamPacketsExpire() throws Exception {
+        MAVLinkOutboundQueueTest.RecordingTransport transport = new MAVLinkOutboundQueueTest.RecordingTransport();
+        MAVLinkOutboundQueue queue = new MAVLinkOutboundQueue(transport, 200);
+        MAVLinkRateLimiter limiter = new MAVLinkRateLimiter(1000);
+        limiter.setMaxStreamDelayMillis(100);
+        queue.setRateLimiter(limiter);
+        for (int i = 0; i < 200; i++) {
+            queue.offer(null, new msg_rc_channels_override().pack());
+        }
+        queue.start();
+        long deadline = System.currentTimeMillis() + 3000;
+        while (queue.getDepth() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        queue.close();
+        assertEquals(0, queue.getDepth());
+        assertTrue(queue.getExpired() > 100);
+        assertEquals(200, queue.getExpired() + queue.getFramesWritten());
+    }
+}
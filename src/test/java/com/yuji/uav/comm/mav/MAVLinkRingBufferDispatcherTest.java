@@ -0,0 +1,207 @@
+package com.yuji.uav.comm.mav;
+
+import com.google.common.eventbus.Subscribe;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.yuji.uav.comm.mav.MAVLinkTestSupport.*;
+import static org.junit.Assert.*;
+
+/**
+ * Test of the ring buffer dispatcher: ordering, event class resolution, backpressure and posting from subscribers.
+ */
+public class MAVLinkRingBufferDispatcherTest {
+
+    private MAVLinkRingBufferDispatcher dispatcher;
+
+    @After
+    public void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+    }
+
+    /**
+     * Collects the Integers posted, in the order received
+     */
+    public static class Collector {
+
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<Integer>());
+        final long delayMillis;
+
+        Collector(long delayMillis) {
+            this.delayMillis = delayMillis;
+        }
+
+        @Subscribe
+        public void receive(Integer event) throws InterruptedException {
+            received.add(event);
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+        }
+    }
+
+    @Test
+    public void testEverySubscriberGetsEveryEventInOrder() throws Exception {
+        for (MAVLinkRingBufferDispatcher.WaitStrategy strategy : MAVLinkRingBufferDispatcher.WaitStrategy.values()) {
+            dispatcher = new MAVLinkRingBufferDispatcher("test", 1024, 2, strategy);
+            Collector[] collectors = {new Collector(0), new Collector(0), new Collector(0)};
+            for (Collector collector : collectors) {
+                dispatcher.register(collector);
+            }
+            int count = 50000;
+            for (int i = 0; i < count; i++) {
+                dispatcher.post(i);
+            }
+            for (Collector collector : collectors) {
+                awaitSize(collector.received, count);
+                assertInOrder(collector.received, count);
+            }
+            assertEquals(count, dispatcher.getPosted());
+            dispatcher.close();
+        }
+        dispatcher = null;
+    }
+
+    @Test
+    public void testSupertypeSubscribers() throws Exception {
+        dispatcher = new MAVLinkRingBufferDispatcher("test", 16, 1, MAVLinkRingBufferDispatcher.WaitStrategy.SLEEPING);
+        final List<Object> numbers = Collections.synchronizedList(new ArrayList<Object>());
+        final List<Object> strings = Collections.synchronizedList(new ArrayList<Object>());
+        dispatcher.register(new Object() {
+            @Subscribe
+            public void number(Number event) {
+                numbers.add(event);
+            }
+
+            @Subscribe
+            public void string(CharSequence event) {
+                strings.add(event);
+            }
+        });
+        dispatcher.post(1);
+        dispatcher.post("a");
+        dispatcher.post(2.5);
+        awaitSize(numbers, 2);
+        awaitSize(strings, 1);
+        assertEquals(2.5, numbers.get(1));
+    }
+
+    @Test
+    public void testBackpressure() throws Exception {
+        dispatcher = new MAVLinkRingBufferDispatcher("test", 8, 1, MAVLinkRingBufferDispatcher.WaitStrategy.BLOCKING);
+        Collector slow = new Collector(2);
+        dispatcher.register(slow);
+        for (int i = 0; i < 40; i++) {
+            dispatcher.post(i);
+            // the ring never holds more than its capacity
+            assertTrue(dispatcher.getBacklog() <= dispatcher.getCapacity());
+        }
+        assertTrue(dispatcher.getStalls() > 0);
+        awaitSize(slow.received, 40);
+        assertInOrder(slow.received, 40);
+    }
+
+    @Test
+    public void testSubscriberPostingIntoFullRing() throws Exception {
+        dispatcher = new MAVLinkRingBufferDispatcher("test", 2, 1, MAVLinkRingBufferDispatcher.WaitStrategy.YIELDING);
+        Collector collector = new Collector(0);
+        dispatcher.register(collector);
+        dispatcher.register(new Object() {
+            @Subscribe
+            public void fanOut(String event) {
+                for (int i = 0; i < 20; i++) {
+                    dispatcher.post(i);
+                }
+            }
+        });
+        dispatcher.post("go");
+        // does not deadlock, and nothing is lost or reordered
+        awaitSize(collector.received, 20);
+        assertInOrder(collector.received, 20);
+    }
+
+    @Test
+    public void testSubscriberPostsStayBehindEarlierEvents() throws Exception {
+        dispatcher = new MAVLinkRingBufferDispatcher("test", 4, 2, MAVLinkRingBufferDispatcher.WaitStrategy.BLOCKING);
+        Collector collector = new Collector(1);
+        dispatcher.register(collector);
+        dispatcher.register(new Object() {
+            @Subscribe
+            public void fanOut(String event) {
+                for (int i = Integer.parseInt(event); i < Integer.parseInt(event) + 10; i++) {
+                    dispatcher.post(i);
+                }
+            }
+        });
+        // the second fan-out is posted while the first overflows, and goes behind it
+        dispatcher.post("0");
+        dispatcher.post("10");
+        awaitSize(collector.received, 20);
+        assertInOrder(collector.received, 20);
+        long deadline = System.currentTimeMillis() + 2000;
+        while (dispatcher.getBacklog() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(2);
+        }
+        assertEquals(0, dispatcher.getBacklog());
+    }
+
+    @Test
+    public void testCloseReleasesWaitingPoster() throws Exception {
+        dispatcher = new MAVLinkRingBufferDispatcher("test", 2, 1, MAVLinkRingBufferDispatcher.WaitStrategy.BLOCKING);
+        final CountDownLatch release = new CountDownLatch(1);
+        dispatcher.register(new Object() {
+            @Subscribe
+            public void block(Integer event) {
+                // not even close() interrupting the consumer frees the slot
+                long deadline = System.currentTimeMillis() + 5000;
+                while (release.getCount() > 0 && System.currentTimeMillis() < deadline) {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        // keep blocking
+                    }
+                }
+            }
+        });
+        Thread poster = new Thread(() -> {
+            for (int i = 0; i < 4; i++) {
+                dispatcher.post(i);
+            }
+        });
+        try {
+            poster.start();
+            Thread.sleep(100);
+            // the ring is full and its consumer blocked
+            assertTrue(poster.isAlive());
+            dispatcher.close();
+            poster.join(2000);
+            assertFalse(poster.isAlive());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testUnregister() throws Exception {
+        dispatcher = new MAVLinkRingBufferDispatcher("test", 64, 2, MAVLinkRingBufferDispatcher.WaitStrategy.BLOCKING);
+        Collector stays = new Collector(0);
+        Collector leaves = new Collector(0);
+        dispatcher.register(stays);
+        dispatcher.register(leaves);
+        dispatcher.post(0);
+        awaitSize(leaves.received, 1);
+        dispatcher.unregister(leaves);
+        dispatcher.post(1);
+        awaitSize(stays.received, 2);
+        Thread.sleep(20);
+        assertEquals(1, leaves.received.size());
+    }
+}
@@ -0,0 +1,179 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkSigning;
+import com.MAVLink.Messages.ardupilotmega.msg_command_long;
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+import com.MAVLink.Messages.ardupilotmega.msg_param_request_list;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Hardware-free test of the router: a vehicle and two ground stations on loopback transports.
+ */
+public class MAVLinkRouterTest {
+
+    private MAVLinkRouter router;
+    private Peer vehicle;
+    private Peer gcs1;
+    private Peer gcs2;
+
+    /**
+     * The far end of a loopback pair: sends raw frames and collects the bytes routed to it
+     */
+    static class Peer implements MAVLinkTransport.Receiver {
+
+        final MAVLinkLoopbackTransport transport;
+        final BlockingQueue<byte[]> received = new LinkedBlockingQueue<>();
+
+        Peer(MAVLinkLoopbackTransport transport) throws MAVLinkSerialPortException {
+            this.transport = transport;
+            transport.open(this);
+        }
+
+        void send(byte[] frame) {
+            transport.send(null, frame, 0, frame.length);
+        }
+
+        byte[] poll() throws InterruptedException {
+            return received.poll(2, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public void received(Object peer, ByteBuffer bytes) {
+            byte[] copy = new byte[bytes.remaining()];
+            bytes.get(copy);
+            received.add(copy);
+        }
+
+        @Override
+        public void disconnected(Object peer) {
+        }
+    }
+
+    private Peer attach(String name) throws MAVLinkSerialPortException {
+        MAVLinkLoopbackTransport transport = new MAVLinkLoopbackTransport(name, name + "_far_end");
+        router.attach(transport);
+        return new Peer(transport.getOtherEnd());
+    }
+
+    private static byte[] heartbeat(int sysid, int compid) {
+        MAVLinkPacket packet = new msg_heartbeat().pack();
+        packet.sysid = sysid;
+        packet.compid = compid;
+        return packet.encodePacket();
+    }
+
+    private static byte[] commandLong(int target, int targetComponent) {
+        msg_command_long command = new msg_command_long();
+        command.target_system = (byte) target;
+        command.target_component = (byte) targetComponent;
+        command.command = 400;
+        return command.pack().encodePacket();
+    }
+
+    /**
+     * Waits until the router has seen the given number of frames, so routes are learned before the next send
+     */
+    private void awaitReceived(long frames) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (router.getFramesReceived() < frames && System.currentTimeMillis() < deadline) {
+            Thread.sleep(2);
+        }
+        assertEquals(frames, router.getFramesReceived());
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        router = new MAVLinkRouter();
+        vehicle = attach("radio");
+        gcs1 = attach("gcs1");
+        gcs2 = attach("gcs2");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        router.close();
+    }
+
+    @Test
+    public void testTargetOffsets() {
+        // 7 floats and the command come first on the wire
+        assertEquals("[30, 31]", Arrays.toString(MAVLinkRouter.findTargetOffsets(msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG)));
+        assertEquals("[0, 1]", Arrays.toString(MAVLinkRouter.findTargetOffsets(msg_param_request_list.MAVLINK_MSG_ID_PARAM_REQUEST_LIST)));
+        assertEquals("[-1, -1]", Arrays.toString(MAVLinkRouter.findTargetOffsets(msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT)));
+    }
+
+    @Test
+    public void testRouting() throws Exception {
+        // broadcasts reach everyone else, byte for byte
+        byte[] vehicleHeartbeat = heartbeat(1, 1);
+        vehicle.send(vehicleHeartbeat);
+        assertArrayEquals(vehicleHeartbeat, gcs1.poll());
+        assertArrayEquals(vehicleHeartbeat, gcs2.poll());
+
+        gcs1.send(heartbeat(255, 190));
+        assertNotNull(vehicle.poll());
+        assertNotNull(gcs2.poll());
+        awaitReceived(2);
+        assertSame(gcs1.transport.getOtherEnd(), router.getTransport(255, 190));
+
+        // a command for the vehicle only goes to the vehicle
+        byte[] command = commandLong(1, 1);
+        gcs1.send(command);
+        assertArrayEquals(command, vehicle.poll());
+
+        // a command for the whole system goes where the system was heard
+        msg_param_request_list request = new msg_param_request_list();
+        request.target_system = 1;
+        byte[] paramRequest = request.pack().encodePacket();
+        gcs2.send(paramRequest);
+        assertArrayEquals(paramRequest, vehicle.poll());
+
+        // an unknown system is not routed
+        gcs1.send(commandLong(7, 1));
+        awaitReceived(5);
+        assertEquals(1, router.getFramesUnroutable());
+        assertNull(vehicle.received.poll(100, TimeUnit.MILLISECONDS));
+        assertTrue(gcs1.received.isEmpty());
+        assertTrue(gcs2.received.isEmpty());
+        assertEquals(6, router.getFramesForwarded());
+    }
+
+    @Test
+    public void testSignedAndSplitFrames() throws Exception {
+        vehicle.send(heartbeat(1, 1));
+        gcs1.poll();
+        gcs2.poll();
+        awaitReceived(1);
+
+        // signed frames are forwarded with their signature, whether or not the router has the key
+        MAVLinkSigning signing = new MAVLinkSigning(new byte[32], 0);
+        msg_command_long command = new msg_command_long();
+        command.target_system = 1;
+        command.target_component = 1;
+        byte[] signed = command.pack().encodePacket(signing);
+        gcs1.send(signed);
+        assertArrayEquals(signed, vehicle.poll());
+
+        // a frame that arrives in pieces is forwarded whole
+        MAVLinkPacket heartbeat = new msg_heartbeat().pack();
+        heartbeat.sysid = 1;
+        heartbeat.compid = 1;
+        heartbeat.isMavlink2 = true;
+        byte[] mavlink2 = heartbeat.encodePacket();
+        vehicle.send(Arrays.copyOfRange(mavlink2, 0, 5));
+        vehicle.send(Arrays.copyOfRange(mavlink2, 5, mavlink2.length));
+        assertArrayEquals(mavlink2, gcs1.poll());
+        assertArrayEquals(mavlink2, gcs2.poll());
+    }
+}
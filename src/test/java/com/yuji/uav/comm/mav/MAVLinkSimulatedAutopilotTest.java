@@ -0,0 +1,200 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.ardupilotmega.*;
+import com.MAVLink.Messages.enums.MAV_CMD;
+import com.MAVLink.Messages.enums.MAV_DATA_STREAM;
+import com.MAVLink.Messages.enums.MAV_MISSION_RESULT;
+import com.MAVLink.Messages.enums.MAV_RESULT;
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.Subscribe;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Hardware-free counterpart of MAVLinkBusTest: the real bus, parser and subscribers talk to a
+ * simulated autopilot over a loopback link.
+ */
+public class MAVLinkSimulatedAutopilotTest {
+
+    private static final int SYSID = 1;
+
+    private MAVLinkCommunicationBus bus;
+    private MAVLinkSimulatedAutopilot autopilot;
+    private final BlockingQueue<MAVLinkMessage> received = new LinkedBlockingQueue<>();
+    private final AtomicInteger attitudeCount = new AtomicInteger();
+
+    @Before
+    public void setUp() throws Exception {
+        bus = new MAVLinkCommunicationBus(false, "sim-test");
+        bus.registerSubscriber(this);
+        MAVLinkLoopbackTransport link = new MAVLinkLoopbackTransport("gcs", "sim");
+        bus.attach(link);
+        autopilot = new MAVLinkSimulatedAutopilot(link.getOtherEnd(), SYSID);
+        autopilot.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        autopilot.stop();
+        bus.close();
+    }
+
+    @Subscribe
+    @AllowConcurrentEvents
+    public void receive(MAVLinkMessage message) {
+        if (message.msgid == msg_attitude.MAVLINK_MSG_ID_ATTITUDE) {
+            attitudeCount.incrementAndGet();
+        } else {
+            received.add(message);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends MAVLinkMessage> T await(int msgid) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (System.currentTimeMillis() < deadline) {
+            MAVLinkMessage message = received.poll(100, TimeUnit.MILLISECONDS);
+            if (message != null && message.msgid == msgid) {
+                return (T) message;
+            }
+        }
+        fail("msgid " + msgid + " not received");
+        return null;
+    }
+
+    private void changeMessageRate(int streamId, int messageRate, int startStop) {
+        msg_request_data_stream command = new msg_request_data_stream();
+        command.start_stop = (byte) startStop;
+        command.target_system = (byte) SYSID;
+        command.req_stream_id = (byte) streamId;
+        command.req_message_rate = (short) messageRate;
+        bus.postEvent(new MAVCommandMessage(command, SYSID));
+    }
+
+    private int countAttitudes(long millis) throws InterruptedException {
+        attitudeCount.set(0);
+        Thread.sleep(millis);
+        return attitudeCount.get();
+    }
+
+    @Test
+    public void testTelemetry() throws Exception {
+        msg_heartbeat heartbeat = await(msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT);
+        assertEquals(SYSID, heartbeat.sysid);
+        msg_global_position_int position = await(msg_global_position_int.MAVLINK_MSG_ID_GLOBAL_POSITION_INT);
+        assertEquals(37.4, position.lat / 1e7, 0.01);
+        assertNotNull(await(msg_sys_status.MAVLINK_MSG_ID_SYS_STATUS));
+    }
+
+    @Test
+    public void testRequestDataStreamChangesRate() throws Exception {
+        changeMessageRate(MAV_DATA_STREAM.MAV_DATA_STREAM_ALL, 0, 0);
+        Thread.sleep(200);
+        assertEquals(0, countAttitudes(500));
+
+        changeMessageRate(MAV_DATA_STREAM.MAV_DATA_STREAM_EXTRA1, 5, 1);
+        Thread.sleep(200);
+        int slow = countAttitudes(1000);
+        changeMessageRate(MAV_DATA_STREAM.MAV_DATA_STREAM_EXTRA1, 50, 1);
+        Thread.sleep(200);
+        int fast = countAttitudes(1000);
+        assertTrue("slow=" + slow + " fast=" + fast, slow > 0 && fast > 3 * slow);
+    }
+
+    @Test
+    public void testParameters() throws Exception {
+        msg_param_request_list request = new msg_param_request_list();
+        request.target_system = (byte) SYSID;
+        bus.postEvent(new MAVCommandMessage(request, SYSID));
+
+        msg_param_value first = await(msg_param_value.MAVLINK_MSG_ID_PARAM_VALUE);
+        Set<String> names = new HashSet<>();
+        names.add(first.getParam_Id());
+        for (int i = 1; i < first.param_count; i++) {
+            msg_param_value value = await(msg_param_value.MAVLINK_MSG_ID_PARAM_VALUE);
+            names.add(value.getParam_Id());
+        }
+        assertEquals(first.param_count, names.size());
+        assertTrue(names.contains("SYSID_THISMAV"));
+
+        msg_param_set set = new msg_param_set();
+        set.target_system = (byte) SYSID;
+        set.setParam_Id("RTL_ALT");
+        set.param_value = 3000;
+        bus.postEvent(new MAVCommandMessage(set, SYSID));
+        msg_param_value echo = await(msg_param_value.MAVLINK_MSG_ID_PARAM_VALUE);
+        assertEquals("RTL_ALT", echo.getParam_Id());
+        assertEquals(3000, echo.param_value, 0);
+    }
+
+    @Test
+    public void testMissionUploadAndDownload() throws Exception {
+        msg_mission_count count = new msg_mission_count();
+        count.target_system = (byte) SYSID;
+        count.count = 3;
+        bus.postEvent(new MAVCommandMessage(count, SYSID));
+        for (int seq = 0; seq < 3; seq++) {
+            msg_mission_request request = await(msg_mission_request.MAVLINK_MSG_ID_MISSION_REQUEST);
+            assertEquals(seq, request.seq);
+            msg_mission_item item = new msg_mission_item();
+            item.target_system = (byte) SYSID;
+            item.seq = request.seq;
+            item.x = 37.4f + seq * 0.001f;
+            bus.postEvent(new MAVCommandMessage(item, SYSID));
+        }
+        msg_mission_ack ack = await(msg_mission_ack.MAVLINK_MSG_ID_MISSION_ACK);
+        assertEquals(MAV_MISSION_RESULT.MAV_MISSION_ACCEPTED, ack.type);
+        assertEquals(3, autopilot.getMission().size());
+
+        msg_mission_request_list list = new msg_mission_request_list();
+        list.target_system = (byte) SYSID;
+        bus.postEvent(new MAVCommandMessage(list, SYSID));
+        assertEquals(3, ((msg_mission_count) await(msg_mission_count.MAVLINK_MSG_ID_MISSION_COUNT)).count);
+        msg_mission_request request = new msg_mission_request();
+        request.target_system = (byte) SYSID;
+        request.seq = 2;
+        bus.postEvent(new MAVCommandMessage(request, SYSID));
+        msg_mission_item item = await(msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM);
+        assertEquals(2, item.seq);
+        assertEquals(37.402f, item.x, 1e-4);
+    }
+
+    @Test
+    public void testCommandIsAcked() throws Exception {
+        msg_command_long command = new msg_command_long();
+        command.target_system = (byte) SYSID;
+        command.command = MAV_CMD.MAV_CMD_COMPONENT_ARM_DISARM;
+        command.param1 = 1;
+        bus.postEvent(new MAVCommandMessage(command, SYSID));
+        msg_command_ack ack = await(msg_command_ack.MAVLINK_MSG_ID_COMMAND_ACK);
+        assertEquals(MAV_CMD.MAV_CMD_COMPONENT_ARM_DISARM, ack.command);
+        assertEquals(MAV_RESULT.MAV_RESULT_ACCEPTED, ack.result);
+        assertTrue(autopilot.isArmed());
+        assertEquals(1, autopilot.getCommandsReceived());
+    }
+
+    @Test
+    public void testLoad() throws Exception {
+        // 50x the default rates: about 1600 messages/sec through the bus
+        autopilot.setRateScale(50);
+        Thread.sleep(200);
+        long sent = autopilot.getMessagesSent();
+        long heard = bus.getTrafficLog().getTotalCount();
+        Thread.sleep(1000);
+        long sentPerSecond = autopilot.getMessagesSent() - sent;
+        long heardPerSecond = bus.getTrafficLog().getTotalCount() - heard;
+        assertTrue("sent " + sentPerSecond + "/s", sentPerSecond > 1000);
+        assertTrue("heard " + heardPerSecond + "/s", heardPerSecond > 0.9 * sentPerSecond);
+    }
+}
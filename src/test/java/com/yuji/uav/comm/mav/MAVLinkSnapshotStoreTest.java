@@ -0,0 +1,121 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.ardupilotmega.msg_attitude;
+import com.MAVLink.Messages.ardupilotmega.msg_global_position_int;
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test of the snapshot store: latest value per (sysid, msgid), consistent copies under concurrent writes, and
+ * the store of a bus fed by its links.
+ */
+public class MAVLinkSnapshotStoreTest {
+
+    private static MAVLinkPacket attitude(int sysid, int value) {
+        msg_attitude attitude = new msg_attitude();
+        attitude.time_boot_ms = value;
+        attitude.roll = value;
+        attitude.pitch = value;
+        attitude.yaw = value;
+        attitude.rollspeed = value;
+        MAVLinkPacket packet = attitude.pack();
+        packet.sysid = sysid;
+        packet.compid = 1;
+        return packet;
+    }
+
+    @Test
+    public void testLatestValuePerVehicle() {
+        MAVLinkSnapshotStore store = new MAVLinkSnapshotStore();
+        assertNull(store.getAttitude(1));
+        assertEquals(0, store.getVersion(1, msg_attitude.MAVLINK_MSG_ID_ATTITUDE));
+
+        store.received(attitude(1, 10));
+        store.received(attitude(1, 11));
+        store.received(attitude(2, 20));
+        msg_global_position_int position = new msg_global_position_int();
+        position.lat = 374000000;
+        MAVLinkPacket packet = position.pack();
+        packet.sysid = 1;
+        store.received(packet);
+        // untracked messages are ignored
+        store.received(new msg_heartbeat().pack());
+
+        msg_attitude attitude = store.getAttitude(1);
+        assertEquals(11, attitude.time_boot_ms);
+        assertEquals(11f, attitude.yaw, 0f);
+        assertEquals(1, attitude.sysid);
+        assertEquals(1, attitude.compid);
+        assertEquals(2, store.getVersion(1, msg_attitude.MAVLINK_MSG_ID_ATTITUDE));
+        assertEquals(20, store.read(2, attitude).time_boot_ms);
+        assertEquals(374000000, store.getGlobalPosition(1).lat);
+        assertNull(store.getGlobalPosition(2));
+        assertNull(store.read(1, new msg_heartbeat()));
+        assertFalse(store.isTracked(msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT));
+        assertTrue(store.getUpdateMillis(1, msg_attitude.MAVLINK_MSG_ID_ATTITUDE) > 0);
+    }
+
+    @Test
+    public void testReadersSeeConsistentCopies() throws Exception {
+        final MAVLinkSnapshotStore store = new MAVLinkSnapshotStore();
+        final AtomicBoolean done = new AtomicBoolean();
+        final AtomicReference<String> torn = new AtomicReference<>();
+        store.received(attitude(1, 0));
+
+        Thread[] readers = new Thread[2];
+        for (int i = 0; i < readers.length; i++) {
+            readers[i] = new Thread(() -> {
+                msg_attitude attitude = new msg_attitude();
+                while (!done.get()) {
+                    store.read(1, attitude);
+                    // every field was written with the same value
+                    if (attitude.roll != attitude.time_boot_ms || attitude.yaw != attitude.time_boot_ms
+                            || attitude.rollspeed != attitude.time_boot_ms) {
+                        torn.set(attitude.toString());
+                    }
+                }
+            });
+            readers[i].start();
+        }
+        MAVLinkPacket[] packets = {attitude(1, 1), attitude(1, 2), attitude(1, 3)};
+        for (int i = 0; i < 200000; i++) {
+            store.received(packets[i % packets.length]);
+        }
+        done.set(true);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertNull(torn.get());
+        assertEquals(200001, store.getVersion(1, msg_attitude.MAVLINK_MSG_ID_ATTITUDE));
+    }
+
+    @Test
+    public void testBusKeepsSnapshots() throws Exception {
+        MAVLinkCommunicationBus bus = new MAVLinkCommunicationBus(false, "snapshot-test");
+        MAVLinkLoopbackTransport link = new MAVLinkLoopbackTransport("gcs", "sim");
+        bus.attach(link);
+        MAVLinkSimulatedAutopilot autopilot = new MAVLinkSimulatedAutopilot(link.getOtherEnd(), 3);
+        try {
+            autopilot.start();
+            MAVLinkSnapshotStore store = bus.getSnapshotStore();
+            long deadline = System.currentTimeMillis() + 3000;
+            while ((store.getAttitude(3) == null || store.getGlobalPosition(3) == null) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            // kept even though no subscriber takes them, so they are never unpacked by the link
+            assertNotNull(store.getAttitude(3));
+            assertEquals(3, store.getGlobalPosition(3).sysid);
+            assertNotNull(store.getVfrHud(3));
+            assertNull(store.getAttitude(4));
+        } finally {
+            autopilot.stop();
+            bus.close();
+        }
+    }
+}
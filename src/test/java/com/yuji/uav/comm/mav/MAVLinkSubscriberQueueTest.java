@@ -0,0 +1,162 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.ardupilotmega.msg_attitude;
+import com.MAVLink.Messages.ardupilotmega.msg_global_position_int;
+import com.google.common.eventbus.Subscribe;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.yuji.uav.comm.mav.MAVLinkTestSupport.*;
+import static org.junit.Assert.*;
+
+/**
+ * Test of the bounded subscriber queues and their overflow policies.
+ */
+public class MAVLinkSubscriberQueueTest {
+
+    private MAVLinkSubscriberQueue queue;
+
+    @After
+    public void tearDown() {
+        if (queue != null) {
+            queue.close();
+        }
+    }
+
+    /**
+     * Records the time_boot_ms of the messages; blocks in the first one until released
+     */
+    public static class SlowSubscriber {
+
+        final List<String> received = Collections.synchronizedList(new ArrayList<String>());
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Subscribe
+        public void receiveAttitude(msg_attitude attitude) throws InterruptedException {
+            record("a" + attitude.sysid + ":" + attitude.time_boot_ms);
+        }
+
+        @Subscribe
+        public void receivePosition(msg_global_position_int position) throws InterruptedException {
+            record("p" + position.sysid + ":" + position.time_boot_ms);
+        }
+
+        private void record(String event) throws InterruptedException {
+            received.add(event);
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Starts a queue whose subscriber is busy with attitude 0
+     */
+    private SlowSubscriber start(int capacity, MAVLinkSubscriberQueue.OverflowPolicy policy) throws InterruptedException {
+        SlowSubscriber subscriber = new SlowSubscriber();
+        queue = new MAVLinkSubscriberQueue(subscriber, capacity, policy);
+        queue.offer(attitude(1, 0));
+        assertTrue(subscriber.entered.await(2, TimeUnit.SECONDS));
+        return subscriber;
+    }
+
+    @Test
+    public void testDropNewest() throws Exception {
+        SlowSubscriber subscriber = start(4, MAVLinkSubscriberQueue.OverflowPolicy.DROP_NEWEST);
+        for (int i = 1; i <= 7; i++) {
+            queue.offer(attitude(1, i));
+        }
+        // events the subscriber does not take are not queued
+        queue.offer("not a message");
+        assertEquals(4, queue.size());
+        assertEquals(3, queue.getDropped());
+
+        subscriber.release.countDown();
+        awaitDelivered(queue, 5);
+        assertEquals("[a1:0, a1:1, a1:2, a1:3, a1:4]", subscriber.received.toString());
+    }
+
+    @Test
+    public void testDropOldest() throws Exception {
+        SlowSubscriber subscriber = start(4, MAVLinkSubscriberQueue.OverflowPolicy.DROP_OLDEST);
+        for (int i = 1; i <= 7; i++) {
+            queue.offer(attitude(1, i));
+        }
+        assertEquals(3, queue.getDropped());
+
+        subscriber.release.countDown();
+        awaitDelivered(queue, 5);
+        assertEquals("[a1:0, a1:4, a1:5, a1:6, a1:7]", subscriber.received.toString());
+    }
+
+    @Test
+    public void testConflate() throws Exception {
+        SlowSubscriber subscriber = start(4, MAVLinkSubscriberQueue.OverflowPolicy.CONFLATE);
+        for (int i = 1; i <= 100; i++) {
+            queue.offer(attitude(1, i));
+            queue.offer(position(1, i));
+            queue.offer(attitude(2, i));
+        }
+        // one queued message per (sysid, msgid), in the order the keys first arrived
+        assertEquals(3, queue.size());
+        assertEquals(297, queue.getConflated());
+        assertEquals(297, queue.getDropped());
+
+        subscriber.release.countDown();
+        awaitDelivered(queue, 4);
+        assertEquals("[a1:0, a1:100, p1:100, a2:100]", subscriber.received.toString());
+    }
+
+    @Test
+    public void testBlock() throws Exception {
+        SlowSubscriber subscriber = start(2, MAVLinkSubscriberQueue.OverflowPolicy.BLOCK);
+        Thread poster = new Thread(() -> {
+            for (int i = 1; i <= 5; i++) {
+                queue.offer(attitude(1, i));
+            }
+        });
+        poster.start();
+        Thread.sleep(100);
+        // the poster waits for room
+        assertTrue(poster.isAlive());
+        assertEquals(2, queue.size());
+
+        subscriber.release.countDown();
+        poster.join(2000);
+        awaitDelivered(queue, 6);
+        assertEquals(0, queue.getDropped());
+        assertEquals("[a1:0, a1:1, a1:2, a1:3, a1:4, a1:5]", subscriber.received.toString());
+    }
+
+    @Test
+    public void testBusRegistration() throws Exception {
+        MAVLinkCommunicationBus bus = new MAVLinkCommunicationBus(false, "queue-test");
+        try {
+            SlowSubscriber subscriber = new SlowSubscriber();
+            subscriber.release.countDown();
+            MAVLinkSubscriberQueue registered = bus.registerSubscriber(subscriber, 16, MAVLinkSubscriberQueue.OverflowPolicy.CONFLATE);
+            assertSame(registered, bus.getSubscriberQueue(subscriber));
+            // the links unpack what the subscriber takes, not everything
+            assertTrue(bus.getSubscriptions().isPosted(msg_attitude.MAVLINK_MSG_ID_ATTITUDE));
+            assertFalse(bus.getSubscriptions().isPosted(0));
+
+            bus.postEvent(attitude(1, 1));
+            queue = registered;
+            awaitDelivered(queue, 1);
+
+            bus.unRegisterSubscriber(subscriber);
+            assertNull(bus.getSubscriberQueue(subscriber));
+            assertFalse(bus.getSubscriptions().isPosted(msg_attitude.MAVLINK_MSG_ID_ATTITUDE));
+            bus.postEvent(attitude(1, 2));
+            assertEquals("[a1:1]", subscriber.received.toString());
+        } finally {
+            bus.close();
+        }
+    }
+}
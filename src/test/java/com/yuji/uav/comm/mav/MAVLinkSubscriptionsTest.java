@@ -0,0 +1,108 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.ardupilotmega.msg_attitude;
+import com.MAVLink.Messages.ardupilotmega.msg_global_position_int;
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+import com.MAVLink.Messages.ardupilotmega.msg_vfr_hud;
+import com.google.common.eventbus.Subscribe;
+import org.junit.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Hardware-free test of the per-msgid subscriptions, on their own and on a bus talking to a simulated autopilot.
+ */
+public class MAVLinkSubscriptionsTest {
+
+    public static class PositionSubscriber {
+
+        final BlockingQueue<msg_global_position_int> received = new LinkedBlockingQueue<>();
+
+        @Subscribe
+        public void receive(msg_global_position_int position) {
+            received.add(position);
+        }
+
+        @Subscribe
+        public void onVehicleEvent(MAVVehicleEvent event) {
+        }
+    }
+
+    public static class EverythingSubscriber {
+
+        @Subscribe
+        public void receive(MAVLinkMessage message) {
+        }
+    }
+
+    @Test
+    public void testHandlersAndSubscriberMsgids() {
+        MAVLinkSubscriptions subscriptions = new MAVLinkSubscriptions();
+        MAVLinkSubscriptions.Handler first = message -> { };
+        MAVLinkSubscriptions.Handler second = message -> { };
+        subscriptions.subscribe(msg_attitude.MAVLINK_MSG_ID_ATTITUDE, first);
+        subscriptions.subscribe(msg_attitude.MAVLINK_MSG_ID_ATTITUDE, second);
+        subscriptions.subscribe(12915, first);
+        assertEquals(2, subscriptions.getHandlers(msg_attitude.MAVLINK_MSG_ID_ATTITUDE).length);
+        assertEquals(1, subscriptions.getHandlers(12915).length);
+        assertNull(subscriptions.getHandlers(msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT));
+
+        subscriptions.unsubscribe(msg_attitude.MAVLINK_MSG_ID_ATTITUDE, first);
+        assertSame(second, subscriptions.getHandlers(msg_attitude.MAVLINK_MSG_ID_ATTITUDE)[0]);
+        subscriptions.unsubscribe(msg_attitude.MAVLINK_MSG_ID_ATTITUDE, second);
+        subscriptions.unsubscribe(12915, first);
+        assertNull(subscriptions.getHandlers(msg_attitude.MAVLINK_MSG_ID_ATTITUDE));
+        assertNull(subscriptions.getHandlers(12915));
+
+        // a subscriber taking one message class needs only its msgid
+        PositionSubscriber position = new PositionSubscriber();
+        subscriptions.register(position);
+        assertTrue(subscriptions.isPosted(msg_global_position_int.MAVLINK_MSG_ID_GLOBAL_POSITION_INT));
+        assertFalse(subscriptions.isPosted(msg_attitude.MAVLINK_MSG_ID_ATTITUDE));
+
+        // a subscriber taking MAVLinkMessage needs them all
+        EverythingSubscriber everything = new EverythingSubscriber();
+        subscriptions.register(everything);
+        assertTrue(subscriptions.isPosted(msg_attitude.MAVLINK_MSG_ID_ATTITUDE));
+        subscriptions.unregister(everything);
+        assertFalse(subscriptions.isPosted(msg_attitude.MAVLINK_MSG_ID_ATTITUDE));
+        subscriptions.unregister(position);
+        assertFalse(subscriptions.isPosted(msg_global_position_int.MAVLINK_MSG_ID_GLOBAL_POSITION_INT));
+    }
+
+    @Test
+    public void testBusUnpacksOnlyWhatIsTaken() throws Exception {
+        MAVLinkCommunicationBus bus = new MAVLinkCommunicationBus(false, "subscriptions-test");
+        BlockingQueue<MAVLinkMessage> attitudes = new LinkedBlockingQueue<>();
+        bus.subscribe(msg_attitude.MAVLINK_MSG_ID_ATTITUDE, attitudes::add);
+        PositionSubscriber position = new PositionSubscriber();
+        bus.registerSubscriber(position);
+
+        MAVLinkLoopbackTransport link = new MAVLinkLoopbackTransport("gcs", "sim");
+        bus.attach(link);
+        MAVLinkSimulatedAutopilot autopilot = new MAVLinkSimulatedAutopilot(link.getOtherEnd(), 1);
+        try {
+            autopilot.start();
+            MAVLinkMessage attitude = attitudes.poll(3, TimeUnit.SECONDS);
+            assertTrue(attitude instanceof msg_attitude);
+            assertNotNull(position.received.poll(3, TimeUnit.SECONDS));
+
+            // the other messages are counted without being unpacked, and the heartbeats still reach the registry
+            MAVLinkTrafficLog trafficLog = bus.getTrafficLog();
+            long deadline = System.currentTimeMillis() + 3000;
+            while (trafficLog.getCount(msg_vfr_hud.MAVLINK_MSG_ID_VFR_HUD) == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(trafficLog.getCount(msg_vfr_hud.MAVLINK_MSG_ID_VFR_HUD) > 0);
+            assertTrue(bus.getVehicleRegistry().isConnected(1, 1));
+        } finally {
+            autopilot.stop();
+            bus.close();
+        }
+    }
+}
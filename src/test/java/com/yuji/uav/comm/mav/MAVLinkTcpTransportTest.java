@@ -0,0 +1,222 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.ardupilotmega.msg_command_long;
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+import com.MAVLink.Parser;
+import com.google.common.eventbus.Subscribe;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.yuji.uav.comm.mav.MAVLinkTestSupport.*;
+import static org.junit.Assert.*;
+
+/**
+ * Hardware-free test of the TCP transport. Simulated vehicles talk to the bus over localhost.
+ */
+public class MAVLinkTcpTransportTest {
+
+    private static final InetSocketAddress LOCALHOST = new InetSocketAddress("127.0.0.1", 0);
+
+    private MAVLinkCommunicationBus bus;
+    private MAVLinkTcpTransport tcp;
+    private final List<SocketChannel> vehicles = new ArrayList<>();
+    private final BlockingQueue<msg_heartbeat> heartbeats = new LinkedBlockingQueue<>();
+
+    @Before
+    public void setUp() throws Exception {
+        bus = new MAVLinkCommunicationBus(false, "tcp-test");
+        tcp = new MAVLinkTcpTransport("tcp-test");
+        bus.attach(tcp);
+        bus.registerSubscriber(this);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        bus.closeSerialPort();
+        for (SocketChannel vehicle : vehicles) {
+            vehicle.close();
+        }
+    }
+
+    @Subscribe
+    public void onHeartbeat(msg_heartbeat heartbeat) {
+        heartbeats.add(heartbeat);
+    }
+
+    private static MAVLinkPacket receive(SocketChannel channel, long timeoutMillis) throws IOException {
+        channel.configureBlocking(false);
+        ByteBuffer buffer = ByteBuffer.allocate(2048);
+        Parser parser = new Parser();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (System.currentTimeMillis() < deadline) {
+            buffer.clear();
+            if (channel.read(buffer) > 0) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    MAVLinkPacket packet = parser.mavlink_parse_char(buffer.get() & 0xFF);
+                    if (packet != null) {
+                        return packet;
+                    }
+                }
+            }
+            Thread.yield();
+        }
+        return null;
+    }
+
+    private void write(SocketChannel channel, byte[] bytes, int offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    @Test
+    public void testOneThreadServesManyVehicles() throws Exception {
+        InetSocketAddress address = tcp.listen(LOCALHOST);
+        int count = 24;
+        for (int sysid = 1; sysid <= count; sysid++) {
+            SocketChannel vehicle = SocketChannel.open(address);
+            vehicles.add(vehicle);
+            byte[] frame = heartbeatFrame(sysid);
+            // split every frame over two writes; the connection's parser joins them
+            write(vehicle, frame, 0, 5);
+            Thread.sleep(2);
+            write(vehicle, frame, 5, frame.length - 5);
+        }
+
+        Set<Integer> heard = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            msg_heartbeat heartbeat = heartbeats.poll(2, TimeUnit.SECONDS);
+            assertNotNull("heartbeat " + i, heartbeat);
+            heard.add(heartbeat.sysid);
+        }
+        assertEquals(count, heard.size());
+        assertEquals(count, tcp.getConnectionCount());
+
+        // a targeted message reaches only its vehicle
+        bus.postEvent(new MAVCommandMessage(new msg_command_long(), 5));
+        MAVLinkPacket reply = receive(vehicles.get(4), 2000);
+        assertNotNull(reply);
+        assertEquals(msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG, reply.msgid);
+        assertNull(receive(vehicles.get(5), 200));
+    }
+
+    @Test
+    public void testConnectToServer() throws Exception {
+        ServerSocketChannel sitl = ServerSocketChannel.open().bind(LOCALHOST);
+        try {
+            tcp.connect((InetSocketAddress) sitl.getLocalAddress());
+            SocketChannel vehicle = sitl.accept();
+            vehicles.add(vehicle);
+
+            byte[] frame = heartbeatFrame(1);
+            write(vehicle, frame, 0, frame.length);
+            msg_heartbeat heartbeat = heartbeats.poll(2, TimeUnit.SECONDS);
+            assertNotNull(heartbeat);
+            assertEquals(1, heartbeat.sysid);
+
+            // no target: sent on every connection
+            bus.postEvent(new MAVCommandMessage(new msg_command_long()));
+            assertNotNull(receive(vehicle, 2000));
+        } finally {
+            sitl.close();
+        }
+    }
+
+    @Test
+    public void testClosedConnectionIsForgotten() throws Exception {
+        InetSocketAddress address = tcp.listen(LOCALHOST);
+        SocketChannel vehicle = SocketChannel.open(address);
+        byte[] frame = heartbeatFrame(3);
+        write(vehicle, frame, 0, frame.length);
+        assertNotNull(heartbeats.poll(2, TimeUnit.SECONDS));
+        assertEquals(1, tcp.getConnectionCount());
+
+        vehicle.close();
+        long deadline = System.currentTimeMillis() + 2000;
+        while (tcp.getConnectionCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, tcp.getConnectionCount());
+    }
+
+    @Test
+    public void testSlowConnectionDropsFrames() throws Exception {
+        MAVLinkTcpTransport slow = new MAVLinkTcpTransport("slow-test", 4096);
+        ServerSocketChannel sitl = ServerSocketChannel.open().bind(LOCALHOST);
+        try {
+            slow.open(new MAVLinkTransport.Receiver() {
+                public void received(Object peer, ByteBuffer bytes) {
+                }
+
+                public void disconnected(Object peer) {
+                }
+            });
+            slow.connect((InetSocketAddress) sitl.getLocalAddress());
+            // the server never reads, so the socket buffers fill up and then the queue
+            SocketChannel vehicle = sitl.accept();
+            vehicles.add(vehicle);
+            byte[] frame = new byte[1000];
+            for (int i = 0; i < 64 * 1024 && slow.getDroppedFrames() == 0; i++) {
+                slow.send(null, frame, 0, frame.length);
+            }
+            assertTrue(slow.getDroppedFrames() > 0);
+            assertEquals(slow.getDroppedFrames() * frame.length, slow.getDroppedBytes());
+            assertEquals(1, slow.getConnectionCount());
+        } finally {
+            slow.close();
+            sitl.close();
+        }
+    }
+
+    @Test
+    public void testBroadcastSkipsFailedConnection() throws Exception {
+        MAVLinkTcpTransport broadcast = new MAVLinkTcpTransport("broadcast-test");
+        final BlockingQueue<Object> peers = new LinkedBlockingQueue<>();
+        try {
+            broadcast.open(new MAVLinkTransport.Receiver() {
+                public void received(Object peer, ByteBuffer bytes) {
+                    peers.add(peer);
+                }
+
+                public void disconnected(Object peer) {
+                }
+            });
+            InetSocketAddress address = broadcast.listen(LOCALHOST);
+            SocketChannel first = SocketChannel.open(address);
+            SocketChannel second = SocketChannel.open(address);
+            vehicles.add(first);
+            vehicles.add(second);
+            byte[] frame = heartbeatFrame(1);
+            write(first, frame, 0, frame.length);
+            Object failing = peers.poll(2, TimeUnit.SECONDS);
+            assertNotNull(failing);
+            write(second, frame, 0, frame.length);
+            assertNotNull(peers.poll(2, TimeUnit.SECONDS));
+
+            // writes to the first connection now fail
+            ((MAVLinkTcpTransport.Connection) failing).channel.close();
+            broadcast.send(null, frame, 0, frame.length);
+            assertEquals(1, broadcast.getConnectionCount());
+            assertNotNull(receive(second, 2000));
+        } finally {
+            broadcast.close();
+        }
+    }
+}
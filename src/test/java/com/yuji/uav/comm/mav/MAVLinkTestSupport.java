@@ -0,0 +1,122 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.ardupilotmega.msg_attitude;
+import com.MAVLink.Messages.ardupilotmega.msg_global_position_int;
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+import com.google.common.eventbus.Subscribe;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Messages, subscribers and polling helpers shared by the dispatcher and transport tests.
+ */
+final class MAVLinkTestSupport {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private MAVLinkTestSupport() {
+    }
+
+    /**
+     * Blocks on the msg_attitude and msg_heartbeat of sysid 1 until released
+     */
+    static class Blocker {
+
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Subscribe
+        public void receiveAttitude(msg_attitude attitude) throws InterruptedException {
+            block(attitude.sysid);
+        }
+
+        @Subscribe
+        public void receiveHeartbeat(msg_heartbeat heartbeat) throws InterruptedException {
+            block(heartbeat.sysid);
+        }
+
+        private void block(int sysid) throws InterruptedException {
+            if (sysid == 1) {
+                release.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * @return a msg_attitude of the vehicle, with the sequence number in time_boot_ms
+     */
+    static msg_attitude attitude(int sysid, int sequence) {
+        msg_attitude attitude = new msg_attitude();
+        attitude.sysid = sysid;
+        attitude.time_boot_ms = sequence;
+        return attitude;
+    }
+
+    /**
+     * @return a msg_global_position_int of the vehicle, with the sequence number in time_boot_ms
+     */
+    static msg_global_position_int position(int sysid, int sequence) {
+        msg_global_position_int position = new msg_global_position_int();
+        position.sysid = sysid;
+        position.time_boot_ms = sequence;
+        return position;
+    }
+
+    /**
+     * @return a msg_heartbeat of the vehicle, with the sequence number in custom_mode
+     */
+    static msg_heartbeat heartbeat(int sysid, int sequence) {
+        msg_heartbeat heartbeat = new msg_heartbeat();
+        heartbeat.sysid = sysid;
+        heartbeat.custom_mode = sequence;
+        return heartbeat;
+    }
+
+    /**
+     * @return the encoded frame of a heartbeat of the vehicle, as it would send it
+     */
+    static byte[] heartbeatFrame(int sysid) {
+        MAVLinkPacket packet = new msg_heartbeat().pack();
+        packet.sysid = sysid;
+        return packet.encodePacket();
+    }
+
+    static void awaitCount(AtomicInteger count, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (count.get() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(2);
+        }
+        assertEquals(expected, count.get());
+    }
+
+    static void awaitSize(List<?> list, int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (list.size() < size && System.currentTimeMillis() < deadline) {
+            Thread.sleep(2);
+        }
+        assertEquals(size, list.size());
+    }
+
+    static void awaitDelivered(MAVLinkSubscriberQueue queue, long count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (queue.getDelivered() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(2);
+        }
+        assertEquals(count, queue.getDelivered());
+    }
+
+    /**
+     * Asserts that the list holds 0 to count - 1, in order
+     */
+    static void assertInOrder(List<Integer> received, int count) {
+        assertEquals(count, received.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(Integer.valueOf(i), received.get(i));
+        }
+    }
+}
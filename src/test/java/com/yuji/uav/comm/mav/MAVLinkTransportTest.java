@@ -0,0 +1,161 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.ardupilotmega.msg_command_long;
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+import com.MAVLink.Parser;
+import com.google.common.eventbus.Subscribe;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.yuji.uav.comm.mav.MAVLinkTestSupport.*;
+import static org.junit.Assert.*;
+
+/**
+ * Hardware-free test of the loopback and file replay transports, and of a bus with several links.
+ */
+public class MAVLinkTransportTest {
+
+    private MAVLinkCommunicationBus bus;
+    private final BlockingQueue<msg_heartbeat> heartbeats = new LinkedBlockingQueue<>();
+
+    @Before
+    public void setUp() throws Exception {
+        bus = new MAVLinkCommunicationBus(false, "transport-test");
+        bus.registerSubscriber(this);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        bus.close();
+    }
+
+    @Subscribe
+    public void onHeartbeat(msg_heartbeat heartbeat) {
+        heartbeats.add(heartbeat);
+    }
+
+    /**
+     * The vehicle end of a loopback pair: sends raw frames and collects the packets sent to it
+     */
+    static class Vehicle implements MAVLinkTransport.Receiver {
+
+        final MAVLinkLoopbackTransport transport;
+        final Parser parser = new Parser();
+        final BlockingQueue<MAVLinkPacket> received = new LinkedBlockingQueue<>();
+
+        Vehicle(MAVLinkLoopbackTransport transport) throws MAVLinkSerialPortException {
+            this.transport = transport;
+            transport.open(this);
+        }
+
+        void send(byte[] frame) {
+            transport.send(null, frame, 0, frame.length);
+        }
+
+        @Override
+        public void received(Object peer, ByteBuffer bytes) {
+            parser.parse(bytes, received::add);
+        }
+
+        @Override
+        public void disconnected(Object peer) {
+        }
+    }
+
+    private Vehicle attachVehicle(String name) throws MAVLinkSerialPortException {
+        MAVLinkLoopbackTransport gcs = new MAVLinkLoopbackTransport(name, name + "-vehicle");
+        bus.attach(gcs);
+        return new Vehicle(gcs.getOtherEnd());
+    }
+
+    @Test
+    public void testLoopback() throws Exception {
+        Vehicle vehicle = attachVehicle("loopback");
+        vehicle.send(heartbeatFrame(1));
+        msg_heartbeat heartbeat = heartbeats.poll(2, TimeUnit.SECONDS);
+        assertNotNull(heartbeat);
+        assertEquals(1, heartbeat.sysid);
+
+        bus.postEvent(new MAVCommandMessage(new msg_command_long(), 1));
+        MAVLinkPacket reply = vehicle.received.poll(2, TimeUnit.SECONDS);
+        assertNotNull(reply);
+        assertEquals(msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG, reply.msgid);
+    }
+
+    @Test
+    public void testRepliesGoToTheLinkOfTheTargetVehicle() throws Exception {
+        Vehicle vehicle1 = attachVehicle("link1");
+        Vehicle vehicle2 = attachVehicle("link2");
+        assertEquals(2, bus.getTransports().size());
+
+        vehicle1.send(heartbeatFrame(1));
+        vehicle2.send(heartbeatFrame(2));
+        assertNotNull(heartbeats.poll(2, TimeUnit.SECONDS));
+        assertNotNull(heartbeats.poll(2, TimeUnit.SECONDS));
+        assertEquals(1, bus.getTrafficLog(vehicle1.transport.getOtherEnd()).getTotalCount());
+        assertEquals(1, bus.getTrafficLog(vehicle2.transport.getOtherEnd()).getTotalCount());
+
+        bus.postEvent(new MAVCommandMessage(new msg_command_long(), 2));
+        assertNotNull(vehicle2.received.poll(2, TimeUnit.SECONDS));
+        assertNull(vehicle1.received.poll(200, TimeUnit.MILLISECONDS));
+
+        // no target: every link
+        bus.postEvent(new MAVCommandMessage(new msg_command_long()));
+        assertNotNull(vehicle1.received.poll(2, TimeUnit.SECONDS));
+        assertNotNull(vehicle2.received.poll(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testDetach() throws Exception {
+        Vehicle vehicle1 = attachVehicle("link1");
+        Vehicle vehicle2 = attachVehicle("link2");
+        bus.detach(vehicle2.transport.getOtherEnd());
+        assertEquals(1, bus.getTransports().size());
+        assertNull(bus.getTrafficLog(vehicle2.transport.getOtherEnd()));
+
+        bus.postEvent(new MAVCommandMessage(new msg_command_long()));
+        assertNotNull(vehicle1.received.poll(2, TimeUnit.SECONDS));
+        assertNull(vehicle2.received.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testFileReplay() throws Exception {
+        ByteArrayOutputStream recording = new ByteArrayOutputStream();
+        int count = 500;
+        for (int i = 0; i < count; i++) {
+            recording.write(heartbeatFrame(1 + i % 3));
+            // line noise between frames
+            recording.write(0x55);
+        }
+        Path file = Files.createTempFile("mavlink", ".bin");
+        try {
+            Files.write(file, recording.toByteArray());
+            MAVLinkFileReplayTransport replay = new MAVLinkFileReplayTransport("replay", file, 0);
+            bus.attach(replay);
+            assertTrue(replay.awaitEnd(5, TimeUnit.SECONDS));
+            assertEquals(recording.size(), replay.getBytesReplayed());
+            assertEquals(count, heartbeats.size());
+            assertEquals(count, bus.getTrafficLog().getCount(msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT));
+
+            // a recording cannot answer; what is sent to it is discarded
+            bus.postEvent(new MAVCommandMessage(new msg_command_long()));
+            long deadline = System.currentTimeMillis() + 2000;
+            while (replay.getBytesDiscarded() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            assertTrue(replay.getBytesDiscarded() > 0);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
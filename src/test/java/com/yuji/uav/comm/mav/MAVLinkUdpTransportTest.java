@@ -0,0 +1,194 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.ardupilotmega.msg_command_long;
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+import com.MAVLink.Parser;
+import com.google.common.eventbus.Subscribe;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.yuji.uav.comm.mav.MAVLinkTestSupport.*;
+import static org.junit.Assert.*;
+
+/**
+ * Hardware-free test of the UDP transport. Two simulated vehicles talk to the bus over localhost.
+ */
+public class MAVLinkUdpTransportTest {
+
+    private static final InetSocketAddress LOCALHOST = new InetSocketAddress("127.0.0.1", 0);
+
+    private MAVLinkCommunicationBus bus;
+    private MAVLinkUdpTransport transport;
+    private InetSocketAddress busAddress;
+    private DatagramChannel vehicle7;
+    private DatagramChannel vehicle8;
+    private final BlockingQueue<msg_heartbeat> heartbeats = new LinkedBlockingQueue<>();
+
+    @Before
+    public void setUp() throws Exception {
+        bus = new MAVLinkCommunicationBus(false, "udp-test");
+        transport = new MAVLinkUdpTransport("udp-test", LOCALHOST, null);
+        bus.attach(transport);
+        busAddress = transport.getLocalAddress();
+        bus.registerSubscriber(this);
+        vehicle7 = DatagramChannel.open().bind(LOCALHOST);
+        vehicle8 = DatagramChannel.open().bind(LOCALHOST);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        bus.closeSerialPort();
+        vehicle7.close();
+        vehicle8.close();
+    }
+
+    @Subscribe
+    public void onHeartbeat(msg_heartbeat heartbeat) {
+        heartbeats.add(heartbeat);
+    }
+
+    private static MAVLinkPacket receive(DatagramChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(2048);
+        channel.configureBlocking(false);
+        long deadline = System.currentTimeMillis() + 2000;
+        while (channel.receive(buffer) == null) {
+            if (System.currentTimeMillis() > deadline) {
+                return null;
+            }
+            Thread.yield();
+        }
+        buffer.flip();
+        Parser parser = new Parser();
+        MAVLinkPacket result = null;
+        while (buffer.hasRemaining()) {
+            MAVLinkPacket packet = parser.mavlink_parse_char(buffer.get() & 0xFF);
+            if (packet != null) {
+                result = packet;
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testReceiveAndReplyToSender() throws Exception {
+        // two frames in one datagram
+        byte[] first = heartbeatFrame(7);
+        byte[] second = heartbeatFrame(7);
+        ByteBuffer datagram = ByteBuffer.allocate(first.length + second.length);
+        datagram.put(first).put(second).flip();
+        vehicle7.send(datagram, busAddress);
+
+        msg_heartbeat heartbeat = heartbeats.poll(2, TimeUnit.SECONDS);
+        assertNotNull(heartbeat);
+        assertEquals(7, heartbeat.sysid);
+        assertNotNull(heartbeats.poll(2, TimeUnit.SECONDS));
+
+        bus.postEvent(new MAVCommandMessage(new msg_command_long(), 7));
+        MAVLinkPacket reply = receive(vehicle7);
+        assertNotNull(reply);
+        assertEquals(msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG, reply.msgid);
+    }
+
+    @Test
+    public void testRepliesGoToTheTargetVehicle() throws Exception {
+        vehicle7.send(ByteBuffer.wrap(heartbeatFrame(7)), busAddress);
+        vehicle8.send(ByteBuffer.wrap(heartbeatFrame(8)), busAddress);
+        assertNotNull(heartbeats.poll(2, TimeUnit.SECONDS));
+        assertNotNull(heartbeats.poll(2, TimeUnit.SECONDS));
+
+        bus.postEvent(new MAVCommandMessage(new msg_command_long(), 8));
+        assertNotNull(receive(vehicle8));
+        assertNull(receive(vehicle7));
+
+        // no target: every vehicle heard so far
+        bus.postEvent(new MAVCommandMessage(new msg_command_long()));
+        assertNotNull(receive(vehicle7));
+        assertNotNull(receive(vehicle8));
+    }
+
+    @Test
+    public void testTruncatedFrameDoesNotSpillIntoNextDatagram() throws Exception {
+        byte[] frame = heartbeatFrame(7);
+        vehicle7.send(ByteBuffer.wrap(frame, 0, frame.length - 3), busAddress);
+        vehicle7.send(ByteBuffer.wrap(frame), busAddress);
+
+        msg_heartbeat heartbeat = heartbeats.poll(2, TimeUnit.SECONDS);
+        assertNotNull(heartbeat);
+        assertNull(heartbeats.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testRepliesUseTheVersionOfTheirVehicle() throws Exception {
+        MAVLinkPacket packet = new msg_heartbeat().pack();
+        packet.sysid = 7;
+        packet.isMavlink2 = true;
+        vehicle7.send(ByteBuffer.wrap(packet.encodePacket()), busAddress);
+        vehicle8.send(ByteBuffer.wrap(heartbeatFrame(8)), busAddress);
+        assertNotNull(heartbeats.poll(2, TimeUnit.SECONDS));
+        assertNotNull(heartbeats.poll(2, TimeUnit.SECONDS));
+
+        bus.postEvent(new MAVCommandMessage(new msg_command_long(), 7));
+        assertTrue(receive(vehicle7).isMavlink2);
+        // vehicle 8 was only heard speaking MAVLink 1
+        bus.postEvent(new MAVCommandMessage(new msg_command_long(), 8));
+        assertFalse(receive(vehicle8).isMavlink2);
+
+        // no target: MAVLink 1, which every vehicle on the link can parse
+        bus.postEvent(new MAVCommandMessage(new msg_command_long()));
+        assertFalse(receive(vehicle7).isMavlink2);
+        assertFalse(receive(vehicle8).isMavlink2);
+
+        // once vehicle 8 speaks MAVLink 2 too, so do the messages to every vehicle
+        packet = new msg_heartbeat().pack();
+        packet.sysid = 8;
+        packet.isMavlink2 = true;
+        vehicle8.send(ByteBuffer.wrap(packet.encodePacket()), busAddress);
+        assertNotNull(heartbeats.poll(2, TimeUnit.SECONDS));
+        bus.postEvent(new MAVCommandMessage(new msg_command_long()));
+        assertTrue(receive(vehicle7).isMavlink2);
+        assertTrue(receive(vehicle8).isMavlink2);
+    }
+
+    @Test
+    public void testBroadcastSkipsAnAddressThatFails() throws Exception {
+        vehicle8.send(ByteBuffer.wrap(heartbeatFrame(8)), busAddress);
+        assertNotNull(heartbeats.poll(2, TimeUnit.SECONDS));
+        // the broadcast address, which a socket without SO_BROADCAST cannot send to
+        transport.heard(new InetSocketAddress("255.255.255.255", 14550));
+        assertEquals(2, transport.getPeerCount());
+
+        byte[] frame = heartbeatFrame(255);
+        transport.send(null, frame, 0, frame.length);
+        assertNotNull(receive(vehicle8));
+    }
+
+    @Test
+    public void testSilentAddressesAreForgotten() throws Exception {
+        transport.setPeerTimeoutMillis(200);
+        vehicle7.send(ByteBuffer.wrap(heartbeatFrame(7)), busAddress);
+        vehicle8.send(ByteBuffer.wrap(heartbeatFrame(8)), busAddress);
+        assertNotNull(heartbeats.poll(2, TimeUnit.SECONDS));
+        assertNotNull(heartbeats.poll(2, TimeUnit.SECONDS));
+        assertEquals(2, transport.getPeerCount());
+
+        // vehicle 7 goes quiet (e.g. it reconnected from another port), vehicle 8 keeps talking
+        Thread.sleep(300);
+        vehicle8.send(ByteBuffer.wrap(heartbeatFrame(8)), busAddress);
+        assertNotNull(heartbeats.poll(2, TimeUnit.SECONDS));
+
+        bus.postEvent(new MAVCommandMessage(new msg_command_long()));
+        assertNotNull(receive(vehicle8));
+        assertNull(receive(vehicle7));
+        assertEquals(1, transport.getPeerCount());
+    }
+}
@@ -0,0 +1,154 @@
+package com.yuji.uav.comm.mav;
+
+import com.MAVLink.Messages.ApmModes;
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.ardupilotmega.msg_attitude;
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+import com.MAVLink.Messages.enums.MAV_AUTOPILOT;
+import com.MAVLink.Messages.enums.MAV_TYPE;
+import com.google.common.eventbus.Subscribe;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Hardware-free test of the vehicle registry, on its own and on a bus talking to a simulated autopilot.
+ */
+public class MAVLinkVehicleRegistryTest {
+
+    private final BlockingQueue<MAVVehicleEvent> events = new LinkedBlockingQueue<>();
+
+    @Subscribe
+    public void onVehicleEvent(MAVVehicleEvent event) {
+        events.add(event);
+    }
+
+    private static MAVLinkPacket packet(MAVLinkPacket packet, int sysid, int compid, int seq) {
+        packet.sysid = sysid;
+        packet.compid = compid;
+        packet.seq = seq;
+        return packet;
+    }
+
+    @Test
+    public void testHeartbeatsAndTimeout() {
+        List<Object> posted = new ArrayList<>();
+        MAVLinkVehicleRegistry registry = new MAVLinkVehicleRegistry(posted::add);
+        try {
+            msg_heartbeat heartbeat = new msg_heartbeat();
+            heartbeat.type = MAV_TYPE.MAV_TYPE_QUADROTOR;
+            heartbeat.autopilot = MAV_AUTOPILOT.MAV_AUTOPILOT_ARDUPILOTMEGA;
+            heartbeat.custom_mode = ApmModes.ROTOR_RTL.getNumber();
+            registry.received(packet(heartbeat.pack(), 3, 1, 0), heartbeat);
+
+            assertTrue(registry.isConnected(3, 1));
+            assertFalse(registry.isConnected(3, 2));
+            assertEquals(MAV_TYPE.MAV_TYPE_QUADROTOR, registry.getType(3, 1));
+            assertEquals(MAV_AUTOPILOT.MAV_AUTOPILOT_ARDUPILOTMEGA, registry.getAutopilot(3, 1));
+            assertEquals(ApmModes.ROTOR_RTL, registry.getMode(3, 1));
+            assertEquals(ApmModes.UNKNOWN, registry.getMode(4, 1));
+            assertEquals(1, posted.size());
+            MAVVehicleEvent connected = (MAVVehicleEvent) posted.get(0);
+            assertEquals(MAVVehicleEvent.Kind.CONNECTED, connected.getKind());
+            assertEquals(3, connected.getSysid());
+            assertEquals(1, connected.getCompid());
+
+            // any message counts as seen; three lost packets show in the link quality
+            msg_attitude attitude = new msg_attitude();
+            registry.received(packet(attitude.pack(), 3, 1, 1), attitude);
+            registry.received(packet(attitude.pack(), 3, 1, 5), attitude);
+            assertEquals(3, registry.getLinkStats(3, 1).receivedPacketCount);
+            assertEquals(3, registry.getLinkStats(3, 1).lostPacketCount);
+            assertEquals(0.5, registry.getLinkQuality(3, 1), 0.001);
+            long lastSeen = registry.getLastSeenMillis(3, 1);
+            assertTrue(lastSeen >= registry.getLastHeartbeatMillis(3, 1));
+
+            // a second heartbeat does not connect again
+            registry.received(packet(heartbeat.pack(), 3, 1, 6), heartbeat);
+            assertEquals(1, posted.size());
+            assertArrayEquals(new int[]{3 << 8 | 1}, registry.getConnected());
+
+            registry.checkTimeouts(lastSeen + 1000);
+            assertTrue(registry.isConnected(3, 1));
+            registry.checkTimeouts(registry.getLastHeartbeatMillis(3, 1) + MAVLinkVehicleRegistry.DEFAULT_TIMEOUT_MILLIS + 1);
+            assertFalse(registry.isConnected(3, 1));
+            assertEquals(2, posted.size());
+            assertEquals(MAVVehicleEvent.Kind.DISCONNECTED, ((MAVVehicleEvent) posted.get(1)).getKind());
+            assertEquals(0, registry.getConnected().length);
+        } finally {
+            registry.close();
+        }
+    }
+
+    @Test
+    public void testBusPostsVehicleEvents() throws Exception {
+        // the same bus with the ring buffer dispatcher
+        MAVLinkCommunicationBus bus = new MAVLinkCommunicationBus(new MAVLinkRingBufferDispatcher("registry-test"));
+        bus.registerSubscriber(this);
+        bus.getVehicleRegistry().setTimeoutMillis(300);
+        MAVLinkLoopbackTransport link = new MAVLinkLoopbackTransport("gcs", "sim");
+        bus.attach(link);
+        MAVLinkSimulatedAutopilot autopilot = new MAVLinkSimulatedAutopilot(link.getOtherEnd(), 1);
+        autopilot.setHeartbeatRate(20);
+        try {
+            autopilot.start();
+            MAVVehicleEvent connected = events.poll(2, TimeUnit.SECONDS);
+            assertNotNull(connected);
+            assertEquals(MAVVehicleEvent.Kind.CONNECTED, connected.getKind());
+            assertEquals(1, connected.getSysid());
+            assertEquals(MAV_TYPE.MAV_TYPE_QUADROTOR, connected.getType());
+            assertTrue(bus.getVehicleRegistry().isConnected(1, 1));
+
+            autopilot.stop();
+            MAVVehicleEvent disconnected = events.poll(2, TimeUnit.SECONDS);
+            assertNotNull(disconnected);
+            assertEquals(MAVVehicleEvent.Kind.DISCONNECTED, disconnected.getKind());
+            assertFalse(bus.getVehicleRegistry().isConnected(1, 1));
+        } finally {
+            bus.close();
+        }
+    }
+
+    @Test
+    public void testRedundantLinksCountPacketsOnce() throws Exception {
+        MAVLinkCommunicationBus bus = new MAVLinkCommunicationBus(false, "redundant-test");
+        MAVLinkLoopbackTransport radio = new MAVLinkLoopbackTransport("radio", "radio-sim");
+        MAVLinkLoopbackTransport backup = new MAVLinkLoopbackTransport("backup", "backup-sim");
+        bus.attach(radio);
+        bus.attach(backup);
+        try {
+            // the vehicle sends every packet over both links, the backup lagging behind; packet 12 is lost on both
+            byte[][] frames = new byte[20][];
+            for (int seq = 0; seq < frames.length; seq++) {
+                frames[seq] = packet(new msg_heartbeat().pack(), 9, 1, seq).encodePacket();
+            }
+            for (int i = 0; i < frames.length + 10; i++) {
+                if (i < frames.length && i != 12) {
+                    radio.getOtherEnd().send(null, frames[i], 0, frames[i].length);
+                }
+                if (i >= 10 && i - 10 != 12) {
+                    backup.getOtherEnd().send(null, frames[i - 10], 0, frames[i - 10].length);
+                }
+            }
+            MAVLinkVehicleRegistry registry = bus.getVehicleRegistry();
+            long deadline = System.currentTimeMillis() + 2000;
+            while ((registry.getLinkStats(9, 1) == null || registry.getLinkStats(9, 1).receivedPacketCount < 19)
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            // the copies are neither received packets nor 254 lost ones each
+            Thread.sleep(50);
+            assertEquals(19, registry.getLinkStats(9, 1).receivedPacketCount);
+            assertEquals(1, registry.getLinkStats(9, 1).lostPacketCount);
+            assertEquals(0.95, registry.getLinkQuality(9, 1), 0.001);
+        } finally {
+            bus.close();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.yuji.uav.comm.mav;
+
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.junit.Assert.*;
+
+/**
+ * Hardware-free test of the optional read settings of SerialPortSettings.
+ */
+public class SerialPortSettingsTest {
+
+    private static Properties props(String deviceName) {
+        Properties props = new Properties();
+        props.setProperty(SerialPortSettings.UNIQUE_DEVICE_NAME, deviceName);
+        props.setProperty(SerialPortSettings.PORT_NAME, "/dev/ttyUSB0");
+        props.setProperty(SerialPortSettings.BAUD_RATE, "921600");
+        props.setProperty(SerialPortSettings.DATA_BITS, "8");
+        props.setProperty(SerialPortSettings.STOP_BITS, "1");
+        props.setProperty(SerialPortSettings.PARITY, "0");
+        return props;
+    }
+
+    @Test
+    public void testEventModeIsTheDefault() throws Exception {
+        SerialPortSettings settings = new SerialPortSettings(props("settings-default"));
+        assertEquals(SerialPortSettings.ReadMode.EVENT, settings.getReadMode());
+        assertEquals(SerialPortSettings.DEFAULT_READ_MIN_BATCH_BYTES, settings.getReadMinBatchBytes());
+        assertEquals(SerialPortSettings.DEFAULT_READ_MAX_WAIT_MILLIS, settings.getReadMaxWaitMillis());
+    }
+
+    @Test
+    public void testPollingSettings() throws Exception {
+        Properties props = props("settings-polling");
+        props.setProperty(SerialPortSettings.READ_MODE, "polling");
+        props.setProperty(SerialPortSettings.READ_MIN_BATCH_BYTES, "512");
+        props.setProperty(SerialPortSettings.READ_MAX_WAIT_MILLIS, "5");
+        SerialPortSettings settings = new SerialPortSettings(props);
+        assertEquals(SerialPortSettings.ReadMode.POLLING, settings.getReadMode());
+        assertEquals(512, settings.getReadMinBatchBytes());
+        assertEquals(5, settings.getReadMaxWaitMillis());
+
+        settings = new SerialPortSettings("settings-polling-2", "/dev/ttyUSB1", 921600, 8, 1, 0, 128, 1);
+        assertEquals(SerialPortSettings.ReadMode.POLLING, settings.getReadMode());
+        assertEquals(128, settings.getReadMinBatchBytes());
+    }
+}